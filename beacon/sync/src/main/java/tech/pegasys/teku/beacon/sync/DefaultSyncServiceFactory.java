@@ -159,6 +159,9 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
       final SyncStateProvider syncStateProvider) {
     final AsyncRunner asyncRunner =
         asyncRunnerFactory.create(HistoricalBlockSyncService.class.getSimpleName(), 1);
+    final AsyncRunner eraDecodeAsyncRunner =
+        asyncRunnerFactory.create(
+            "EraBlockDecoder", Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
     return HistoricalBlockSyncService.create(
         spec,
         blobSidecarManager,
@@ -166,12 +169,14 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
         metrics,
         storageUpdateChannel,
         asyncRunner,
+        eraDecodeAsyncRunner,
         p2pNetwork,
         combinedChainDataClient,
         signatureVerifier,
         syncStateProvider,
         syncConfig.isReconstructHistoricStatesEnabled(),
         genesisStateResource,
+        syncConfig.getHistoricalSyncEraDirectory(),
         syncConfig.fetchAllHistoricBlocks(),
         syncConfig.getHistoricalSyncBatchSize());
   }
@@ -203,6 +208,7 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
               syncConfig.getForwardSyncMaxBlocksPerMinute(),
               syncConfig.getForwardSyncMaxBlobSidecarsPerMinute(),
               syncConfig.getForwardSyncMaxDistanceFromHead(),
+              syncConfig.isForwardSyncBatchImportEnabled(),
               spec);
     } else {
       LOG.info("Using single peer sync");
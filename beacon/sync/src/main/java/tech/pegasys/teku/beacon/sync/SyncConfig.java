@@ -15,6 +15,8 @@ package tech.pegasys.teku.beacon.sync;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.OptionalInt;
 import tech.pegasys.teku.networking.eth2.P2PConfig;
 
@@ -23,6 +25,7 @@ public class SyncConfig {
   public static final boolean DEFAULT_MULTI_PEER_SYNC_ENABLED = true;
   public static final boolean DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED = false;
   public static final boolean DEFAULT_FETCH_ALL_HISTORIC_BLOCKS = true;
+  public static final boolean DEFAULT_FORWARD_SYNC_BATCH_IMPORT_ENABLED = false;
 
   public static final int DEFAULT_HISTORICAL_SYNC_BATCH_SIZE = 50;
   public static final int DEFAULT_FORWARD_SYNC_BATCH_SIZE = 25;
@@ -39,11 +42,13 @@ public class SyncConfig {
   private final boolean reconstructHistoricStatesEnabled;
   private final boolean fetchAllHistoricBlocks;
   private final int historicalSyncBatchSize;
+  private final Optional<Path> historicalSyncEraDirectory;
   private final int forwardSyncBatchSize;
   private final int forwardSyncMaxPendingBatches;
   private final int forwardSyncMaxBlocksPerMinute;
   private final int forwardSyncMaxBlobSidecarsPerMinute;
   private final OptionalInt forwardSyncMaxDistanceFromHead;
+  private final boolean forwardSyncBatchImportEnabled;
 
   private SyncConfig(
       final boolean isEnabled,
@@ -51,21 +56,25 @@ public class SyncConfig {
       final boolean reconstructHistoricStatesEnabled,
       final boolean fetchAllHistoricBlocks,
       final int historicalSyncBatchSize,
+      final Optional<Path> historicalSyncEraDirectory,
       final int forwardSyncBatchSize,
       final int forwardSyncMaxPendingBatches,
       final int forwardSyncMaxBlocksPerMinute,
       final int forwardSyncMaxBlobSidecarsPerMinute,
-      final OptionalInt forwardSyncMaxDistanceFromHead) {
+      final OptionalInt forwardSyncMaxDistanceFromHead,
+      final boolean forwardSyncBatchImportEnabled) {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
     this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
     this.fetchAllHistoricBlocks = fetchAllHistoricBlocks;
     this.historicalSyncBatchSize = historicalSyncBatchSize;
+    this.historicalSyncEraDirectory = historicalSyncEraDirectory;
     this.forwardSyncBatchSize = forwardSyncBatchSize;
     this.forwardSyncMaxPendingBatches = forwardSyncMaxPendingBatches;
     this.forwardSyncMaxBlocksPerMinute = forwardSyncMaxBlocksPerMinute;
     this.forwardSyncMaxBlobSidecarsPerMinute = forwardSyncMaxBlobSidecarsPerMinute;
     this.forwardSyncMaxDistanceFromHead = forwardSyncMaxDistanceFromHead;
+    this.forwardSyncBatchImportEnabled = forwardSyncBatchImportEnabled;
   }
 
   public static Builder builder() {
@@ -92,6 +101,10 @@ public class SyncConfig {
     return historicalSyncBatchSize;
   }
 
+  public Optional<Path> getHistoricalSyncEraDirectory() {
+    return historicalSyncEraDirectory;
+  }
+
   public int getForwardSyncBatchSize() {
     return forwardSyncBatchSize;
   }
@@ -112,18 +125,24 @@ public class SyncConfig {
     return forwardSyncMaxDistanceFromHead;
   }
 
+  public boolean isForwardSyncBatchImportEnabled() {
+    return forwardSyncBatchImportEnabled;
+  }
+
   public static class Builder {
     private Boolean isEnabled;
     private Boolean isMultiPeerSyncEnabled = DEFAULT_MULTI_PEER_SYNC_ENABLED;
     private Boolean reconstructHistoricStatesEnabled = DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED;
     private boolean fetchAllHistoricBlocks = DEFAULT_FETCH_ALL_HISTORIC_BLOCKS;
     private Integer historicalSyncBatchSize = DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
+    private Optional<Path> historicalSyncEraDirectory = Optional.empty();
     private Integer forwardSyncBatchSize = DEFAULT_FORWARD_SYNC_BATCH_SIZE;
     private Integer forwardSyncMaxPendingBatches = DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
     private Integer forwardSyncMaxBlocksPerMinute = DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE;
     private Integer forwardSyncMaxBlobSidecarsPerMinute =
         DEFAULT_FORWARD_SYNC_MAX_BLOB_SIDECARS_PER_MINUTE;
     private OptionalInt forwardSyncMaxDistanceFromHead = OptionalInt.empty();
+    private boolean forwardSyncBatchImportEnabled = DEFAULT_FORWARD_SYNC_BATCH_IMPORT_ENABLED;
 
     private Builder() {}
 
@@ -135,11 +154,13 @@ public class SyncConfig {
           reconstructHistoricStatesEnabled,
           fetchAllHistoricBlocks,
           historicalSyncBatchSize,
+          historicalSyncEraDirectory,
           forwardSyncBatchSize,
           forwardSyncMaxPendingBatches,
           forwardSyncMaxBlocksPerMinute,
           forwardSyncMaxBlobSidecarsPerMinute,
-          forwardSyncMaxDistanceFromHead);
+          forwardSyncMaxDistanceFromHead,
+          forwardSyncBatchImportEnabled);
     }
 
     private void initMissingDefaults() {
@@ -170,6 +191,12 @@ public class SyncConfig {
     public Builder historicalSyncBatchSize(final Integer historicalSyncBatchSize) {
       checkNotNull(historicalSyncBatchSize);
       this.historicalSyncBatchSize = historicalSyncBatchSize;
+    this.historicalSyncEraDirectory = historicalSyncEraDirectory;
+      return this;
+    }
+
+    public Builder historicalSyncEraDirectory(final Path historicalSyncEraDirectory) {
+      this.historicalSyncEraDirectory = Optional.ofNullable(historicalSyncEraDirectory);
       return this;
     }
 
@@ -207,6 +234,11 @@ public class SyncConfig {
       return this;
     }
 
+    public Builder forwardSyncBatchImportEnabled(final boolean forwardSyncBatchImportEnabled) {
+      this.forwardSyncBatchImportEnabled = forwardSyncBatchImportEnabled;
+      return this;
+    }
+
     public Builder reconstructHistoricStatesEnabled(
         final Boolean reconstructHistoricStatesEnabled) {
       checkNotNull(reconstructHistoricStatesEnabled);
@@ -39,14 +39,17 @@ public class BatchImporter {
   private final BlockImporter blockImporter;
   private final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool;
   private final AsyncRunner asyncRunner;
+  private final boolean batchImportEnabled;
 
   public BatchImporter(
       final BlockImporter blockImporter,
       final BlockBlobSidecarsTrackersPool blockBlobSidecarsTrackersPool,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final boolean batchImportEnabled) {
     this.blockImporter = blockImporter;
     this.blockBlobSidecarsTrackersPool = blockBlobSidecarsTrackersPool;
     this.asyncRunner = asyncRunner;
+    this.batchImportEnabled = batchImportEnabled;
   }
 
   /**
@@ -66,6 +69,10 @@ public class BatchImporter {
     final Optional<SyncSource> source = batch.getSource();
 
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
+    if (batchImportEnabled) {
+      return asyncRunner.runAsync(
+          () -> importBlocksAsBatch(batch, blocks, blobSidecarsByBlockRoot, source.orElseThrow()));
+    }
     return asyncRunner.runAsync(
         () -> {
           final SignedBeaconBlock firstBlock = blocks.get(0);
@@ -85,24 +92,53 @@ public class BatchImporter {
                     });
           }
           return importResult.thenApply(
-              lastBlockImportResult -> {
-                if (lastBlockImportResult.isSuccessful()) {
-                  return BatchImportResult.IMPORTED_ALL_BLOCKS;
-                } else if (lastBlockImportResult.hasFailedExecutingExecutionPayload()) {
-                  return BatchImportResult.EXECUTION_CLIENT_OFFLINE;
-                } else if (lastBlockImportResult.isDataNotAvailable()) {
-                  return BatchImportResult.DATA_NOT_AVAILABLE;
-                }
-                LOG.debug(
-                    "Failed to import batch {}: {}",
-                    batch,
-                    lastBlockImportResult.getFailureReason(),
-                    lastBlockImportResult.getFailureCause().orElse(null));
-                return BatchImportResult.IMPORT_FAILED;
-              });
+              lastBlockImportResult -> toBatchImportResult(batch, lastBlockImportResult));
         });
   }
 
+  /**
+   * Hands all blob sidecars of the batch to the pool up front and then imports the blocks together
+   * so their signatures are verified in a single batch and the head is only updated once.
+   */
+  private SafeFuture<BatchImportResult> importBlocksAsBatch(
+      final Batch batch,
+      final List<SignedBeaconBlock> blocks,
+      final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot,
+      final SyncSource source) {
+    blocks.forEach(
+        block -> {
+          final List<BlobSidecar> blobSidecars = blobSidecarsByBlockRoot.get(block.getRoot());
+          if (blobSidecars != null) {
+            blockBlobSidecarsTrackersPool.onCompletedBlockAndBlobSidecars(block, blobSidecars);
+          }
+        });
+    return blockImporter
+        .importBlocks(blocks)
+        .thenApply(
+            results -> {
+              final BlockImportResult lastBlockImportResult = results.getLast();
+              disconnectIfFailedWeakSubjectivityChecks(lastBlockImportResult, source);
+              return toBatchImportResult(batch, lastBlockImportResult);
+            });
+  }
+
+  private BatchImportResult toBatchImportResult(
+      final Batch batch, final BlockImportResult lastBlockImportResult) {
+    if (lastBlockImportResult.isSuccessful()) {
+      return BatchImportResult.IMPORTED_ALL_BLOCKS;
+    } else if (lastBlockImportResult.hasFailedExecutingExecutionPayload()) {
+      return BatchImportResult.EXECUTION_CLIENT_OFFLINE;
+    } else if (lastBlockImportResult.isDataNotAvailable()) {
+      return BatchImportResult.DATA_NOT_AVAILABLE;
+    }
+    LOG.debug(
+        "Failed to import batch {}: {}",
+        batch,
+        lastBlockImportResult.getFailureReason(),
+        lastBlockImportResult.getFailureCause().orElse(null));
+    return BatchImportResult.IMPORT_FAILED;
+  }
+
   private SafeFuture<BlockImportResult> importBlockAndBlobSidecars(
       final SignedBeaconBlock block,
       final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot,
@@ -128,18 +164,23 @@ public class BatchImporter {
         .importBlock(block)
         .thenApply(
             result -> {
-              if (result.getFailureReason()
-                  == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
-                LOG.warn(
-                    "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
-                    source,
-                    result);
-                source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).finishWarn(LOG);
-              }
+              disconnectIfFailedWeakSubjectivityChecks(result, source);
               return result;
             });
   }
 
+  private void disconnectIfFailedWeakSubjectivityChecks(
+      final BlockImportResult result, final SyncSource source) {
+    if (result.getFailureReason()
+        == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
+      LOG.warn(
+          "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
+          source,
+          result);
+      source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).finishWarn(LOG);
+    }
+  }
+
   public enum BatchImportResult {
     IMPORTED_ALL_BLOCKS,
     IMPORT_FAILED,
@@ -83,6 +83,7 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
       final int maxBlocksPerMinute,
       final int maxBlobSidecarsPerMinute,
       final OptionalInt maxDistanceFromHeadReached,
+      final boolean batchImportEnabled,
       final Spec spec) {
     final EventThread eventThread = new AsyncRunnerEventThread("sync", asyncRunnerFactory);
     final SettableLabelledGauge targetChainCountGauge =
@@ -100,7 +101,8 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             eventThread,
             asyncRunner,
             recentChainData,
-            new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner),
+            new BatchImporter(
+                blockImporter, blockBlobSidecarsTrackersPool, asyncRunner, batchImportEnabled),
             new BatchFactory(
                 eventThread, blobSidecarManager, new PeerScoringConflictResolutionStrategy()),
             batchSize,
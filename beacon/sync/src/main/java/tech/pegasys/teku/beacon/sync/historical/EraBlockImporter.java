@@ -0,0 +1,208 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.data.eraFileFormat.EraFile;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+
+/**
+ * Imports historical blocks from a directory of ERA files instead of requesting them from peers.
+ *
+ * <p>Each ERA file holds the blocks of one period of {@code SLOTS_PER_HISTORICAL_ROOT} slots.
+ * Blocks are only imported if they form an unbroken parent chain down from the earliest block
+ * already in the database, so they are trusted by hash without verifying signatures. Blocks inside
+ * the blob availability window are left for peers because ERA files don't contain blob sidecars.
+ */
+public class EraBlockImporter {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final BlobSidecarManager blobSidecarManager;
+  private final StorageUpdateChannel storageUpdateChannel;
+  private final AsyncRunner asyncRunner;
+  private final Executor decodeExecutor;
+  private final int batchSize;
+  private final Map<UInt64, Path> eraFilesByNumber;
+
+  private volatile boolean enabled = true;
+
+  EraBlockImporter(
+      final Spec spec,
+      final BlobSidecarManager blobSidecarManager,
+      final StorageUpdateChannel storageUpdateChannel,
+      final AsyncRunner asyncRunner,
+      final Executor decodeExecutor,
+      final int batchSize,
+      final Map<UInt64, Path> eraFilesByNumber) {
+    this.spec = spec;
+    this.blobSidecarManager = blobSidecarManager;
+    this.storageUpdateChannel = storageUpdateChannel;
+    this.asyncRunner = asyncRunner;
+    this.decodeExecutor = decodeExecutor;
+    this.batchSize = batchSize;
+    this.eraFilesByNumber = eraFilesByNumber;
+  }
+
+  public static EraBlockImporter create(
+      final Spec spec,
+      final BlobSidecarManager blobSidecarManager,
+      final StorageUpdateChannel storageUpdateChannel,
+      final AsyncRunner asyncRunner,
+      final AsyncRunner decodeAsyncRunner,
+      final int batchSize,
+      final Path eraDirectory) {
+    final Map<UInt64, Path> eraFilesByNumber = new HashMap<>();
+    try (final Stream<Path> files = Files.list(eraDirectory)) {
+      files.forEach(file -> parseEraNumber(file).ifPresent(era -> eraFilesByNumber.put(era, file)));
+    } catch (final IOException e) {
+      LOG.warn("Unable to list ERA files in {}", eraDirectory, e);
+    }
+    LOG.info("Found {} ERA files in {}", eraFilesByNumber.size(), eraDirectory);
+    return new EraBlockImporter(
+        spec,
+        blobSidecarManager,
+        storageUpdateChannel,
+        asyncRunner,
+        command -> decodeAsyncRunner.runAsync(command::run).finishStackTrace(),
+        batchSize,
+        eraFilesByNumber);
+  }
+
+  /**
+   * ERA files are named {@code <config-name>-<era-number>-<short-historical-root>.era}.
+   *
+   * @return the era number, or empty if the file isn't an ERA file
+   */
+  static Optional<UInt64> parseEraNumber(final Path file) {
+    final String filename = file.getFileName().toString();
+    if (!filename.endsWith(".era")) {
+      return Optional.empty();
+    }
+    final String[] parts = filename.split("-");
+    if (parts.length != 3) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(UInt64.valueOf(parts[1]));
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Imports the chain of blocks ending with the block {@code blockRoot} at or before {@code
+   * maxSlot}, down to {@code terminalSlot} or the start of the ERA file containing {@code maxSlot}.
+   *
+   * @return the earliest imported block, or empty if nothing could be imported from ERA files
+   */
+  public SafeFuture<Optional<SignedBeaconBlock>> importBlocks(
+      final Bytes32 blockRoot, final UInt64 maxSlot, final UInt64 terminalSlot) {
+    if (!enabled || blobSidecarManager.isAvailabilityRequiredAtSlot(maxSlot)) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    final Optional<Path> eraFile = Optional.ofNullable(eraFilesByNumber.get(getEraNumber(maxSlot)));
+    if (eraFile.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    return asyncRunner
+        .runAsync(() -> readChain(eraFile.get(), blockRoot, maxSlot, terminalSlot))
+        .thenCompose(this::storeChain)
+        .exceptionally(
+            error -> {
+              LOG.warn("Failed to import blocks from ERA file {}", eraFile.get(), error);
+              enabled = false;
+              return Optional.empty();
+            });
+  }
+
+  private UInt64 getEraNumber(final UInt64 slot) {
+    final int slotsPerHistoricalRoot =
+        spec.atSlot(slot).getConfig().getSlotsPerHistoricalRoot();
+    return slot.dividedBy(slotsPerHistoricalRoot).plus(1);
+  }
+
+  private List<SignedBeaconBlock> readChain(
+      final Path eraFile, final Bytes32 blockRoot, final UInt64 maxSlot, final UInt64 terminalSlot)
+      throws IOException {
+    final List<SignedBeaconBlock> blocks;
+    try (final EraFile era = new EraFile(eraFile, spec)) {
+      blocks = era.readBlocks(decodeExecutor);
+    }
+    final List<SignedBeaconBlock> chain = new ArrayList<>();
+    Bytes32 expectedRoot = blockRoot;
+    for (final SignedBeaconBlock block : blocks.reversed()) {
+      if (block.getSlot().isGreaterThan(maxSlot)) {
+        continue;
+      }
+      if (!block.getRoot().equals(expectedRoot)) {
+        throw new IllegalStateException(
+            "ERA file "
+                + eraFile
+                + " does not match the chain, expected block "
+                + expectedRoot
+                + " but found "
+                + block.getRoot()
+                + " at slot "
+                + block.getSlot());
+      }
+      chain.add(block);
+      expectedRoot = block.getParentRoot();
+      if (block.getSlot().isLessThanOrEqualTo(terminalSlot)) {
+        break;
+      }
+    }
+    Collections.reverse(chain);
+    return chain;
+  }
+
+  private SafeFuture<Optional<SignedBeaconBlock>> storeChain(final List<SignedBeaconBlock> chain) {
+    if (chain.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    LOG.debug(
+        "Importing {} historical blocks from slot {} to slot {} from ERA file",
+        chain.size(),
+        chain.getFirst().getSlot(),
+        chain.getLast().getSlot());
+    // Store the newest batch first so the stored chain is always contiguous
+    SafeFuture<Void> stored = SafeFuture.COMPLETE;
+    for (int end = chain.size(); end > 0; end -= batchSize) {
+      final List<SignedBeaconBlock> batch = chain.subList(Math.max(0, end - batchSize), end);
+      stored =
+          stored.thenCompose(
+              __ -> storageUpdateChannel.onFinalizedBlocks(batch, Map.of(), Optional.empty()));
+    }
+    return stored.thenApply(__ -> Optional.of(chain.getFirst()));
+  }
+}
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
@@ -75,6 +76,7 @@ public class HistoricalBlockSyncService extends Service {
   final Set<NodeId> badPeerCache;
 
   private final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService;
+  private final Optional<EraBlockImporter> eraBlockImporter;
   private final boolean fetchAllHistoricBlocks;
 
   @VisibleForTesting
@@ -90,6 +92,7 @@ public class HistoricalBlockSyncService extends Service {
       final AsyncBLSSignatureVerifier signatureVerifier,
       final UInt64 batchSize,
       final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService,
+      final Optional<EraBlockImporter> eraBlockImporter,
       final boolean fetchAllHistoricBlocks) {
     this.spec = spec;
     this.blobSidecarManager = blobSidecarManager;
@@ -101,6 +104,7 @@ public class HistoricalBlockSyncService extends Service {
     this.batchSize = batchSize;
     this.signatureVerifier = signatureVerifier;
     this.reconstructHistoricalStatesService = reconstructHistoricalStatesService;
+    this.eraBlockImporter = eraBlockImporter;
     this.fetchAllHistoricBlocks = fetchAllHistoricBlocks;
 
     this.badPeerCache =
@@ -127,12 +131,14 @@ public class HistoricalBlockSyncService extends Service {
       final MetricsSystem metricsSystem,
       final StorageUpdateChannel storageUpdateChannel,
       final AsyncRunner asyncRunner,
+      final AsyncRunner eraDecodeAsyncRunner,
       final P2PNetwork<Eth2Peer> network,
       final CombinedChainDataClient chainData,
       final AsyncBLSSignatureVerifier signatureVerifier,
       final SyncStateProvider syncStateProvider,
       final boolean reconstructHistoricStatesEnabled,
       final Optional<String> genesisStateResource,
+      final Optional<Path> eraDirectory,
       final boolean fetchAllHistoricBlocks,
       final int batchSize) {
     final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService =
@@ -146,6 +152,17 @@ public class HistoricalBlockSyncService extends Service {
                     metricsSystem,
                     genesisStateResource))
             : Optional.empty();
+    final Optional<EraBlockImporter> eraBlockImporter =
+        eraDirectory.map(
+            directory ->
+                EraBlockImporter.create(
+                    spec,
+                    blobSidecarManager,
+                    storageUpdateChannel,
+                    asyncRunner,
+                    eraDecodeAsyncRunner,
+                    batchSize,
+                    directory));
 
     return new HistoricalBlockSyncService(
         spec,
@@ -159,6 +176,7 @@ public class HistoricalBlockSyncService extends Service {
         signatureVerifier,
         UInt64.valueOf(batchSize),
         reconstructHistoricalStatesService,
+        eraBlockImporter,
         fetchAllHistoricBlocks);
   }
 
@@ -240,9 +258,14 @@ public class HistoricalBlockSyncService extends Service {
   private SafeFuture<Boolean> findPeerAndRequestBlocks() {
     final Optional<MaxMissingBlockParams> blockParams = getMaxMissingBlockParams();
     if (blockParams.isPresent() && isActive() && requestInProgress.compareAndSet(false, true)) {
-      return findPeer()
-          .map(peer -> requestBlocks(peer, blockParams.get()))
-          .orElseGet(this::waitToRetry)
+      return importFromEraFiles(blockParams.get())
+          .thenCompose(
+              imported ->
+                  imported
+                      ? SafeFuture.COMPLETE
+                      : findPeer()
+                          .map(peer -> requestBlocks(peer, blockParams.get()))
+                          .orElseGet(this::waitToRetry))
           .alwaysRun(() -> requestInProgress.set(false))
           .thenApply(__ -> true);
     } else {
@@ -254,6 +277,20 @@ public class HistoricalBlockSyncService extends Service {
     return isRunning() && syncStateProvider.getCurrentSyncState().isInSync();
   }
 
+  private SafeFuture<Boolean> importFromEraFiles(final MaxMissingBlockParams params) {
+    if (eraBlockImporter.isEmpty()) {
+      return SafeFuture.completedFuture(false);
+    }
+    return eraBlockImporter
+        .get()
+        .importBlocks(params.blockRoot(), params.maxSlot(), getTerminalSlot())
+        .thenApply(
+            maybeEarliestBlock -> {
+              maybeEarliestBlock.ifPresent(block -> onBlocksImported(block, params));
+              return maybeEarliestBlock.isPresent();
+            });
+  }
+
   private SafeFuture<Void> requestBlocks(final Eth2Peer peer, final MaxMissingBlockParams params) {
     return createFetcher(peer, params)
         .run()
@@ -272,17 +309,24 @@ public class HistoricalBlockSyncService extends Service {
             })
         .thenAccept(
             newValue -> {
-              if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.maxSlot())) {
-                LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
-                earliestBlock = newValue;
-                updateSyncMetrics();
-                if (isSyncDone()) {
-                  LOG.info("Historical block sync is complete");
-                }
+              if (newValue != null) {
+                onBlocksImported(newValue, params);
               }
             });
   }
 
+  private void onBlocksImported(
+      final BeaconBlockSummary newValue, final MaxMissingBlockParams params) {
+    if (newValue.getSlot().isLessThanOrEqualTo(params.maxSlot())) {
+      LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
+      earliestBlock = newValue;
+      updateSyncMetrics();
+      if (isSyncDone()) {
+        LOG.info("Historical block sync is complete");
+      }
+    }
+  }
+
   private HistoricalBatchFetcher createFetcher(
       final Eth2Peer peer, final MaxMissingBlockParams params) {
     return new HistoricalBatchFetcher(
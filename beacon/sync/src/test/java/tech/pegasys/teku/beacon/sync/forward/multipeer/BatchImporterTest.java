@@ -56,7 +56,7 @@ class BatchImporterTest {
   final SyncSource syncSource = mock(SyncSource.class);
 
   private final BatchImporter importer =
-      new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner);
+      new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner, false);
 
   @BeforeEach
   public void setup() {
@@ -249,6 +249,61 @@ class BatchImporterTest {
     verifyNoMoreInteractions(blockImporter);
   }
 
+  @Test
+  void shouldImportBlocksTogetherWhenBatchImportEnabled() {
+    final BatchImporter importer =
+        new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner, true);
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final List<BlobSidecar> blobSidecars2 = dataStructureUtil.randomBlobSidecarsForBlock(block2);
+    final SafeFuture<List<BlockImportResult>> importResults = new SafeFuture<>();
+    final List<SignedBeaconBlock> blocks = List.of(block1, block2);
+    when(batch.getBlocks()).thenReturn(blocks);
+    when(batch.getBlobSidecarsByBlockRoot()).thenReturn(Map.of(block2.getRoot(), blobSidecars2));
+    when(blockImporter.importBlocks(blocks)).thenReturn(importResults);
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+
+    // Should not be started on the calling thread
+    verifyNoInteractions(blockImporter);
+    verifyNoInteractions(blockBlobSidecarsTrackersPool);
+
+    asyncRunner.executeQueuedActions();
+
+    // Blob sidecars are made available before any block is imported
+    blobSidecarsImportedSuccessfully(block2, blobSidecars2);
+    ignoreFuture(verify(blockImporter).importBlocks(blocks));
+    verifyNoMoreInteractions(blockImporter);
+    assertThat(result).isNotDone();
+
+    importResults.complete(
+        List.of(BlockImportResult.successful(block1), BlockImportResult.successful(block2)));
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+  }
+
+  @Test
+  void shouldReportLastBlockFailureWhenBatchImportEnabled() {
+    when(syncSource.disconnectCleanly(any())).thenReturn(SafeFuture.COMPLETE);
+    final BatchImporter importer =
+        new BatchImporter(blockImporter, blockBlobSidecarsTrackersPool, asyncRunner, true);
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final List<SignedBeaconBlock> blocks = List.of(block1, block2);
+    when(batch.getBlocks()).thenReturn(blocks);
+    when(blockImporter.importBlocks(blocks))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                List.of(
+                    BlockImportResult.successful(block1),
+                    BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS)));
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
+    verify(syncSource).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+  }
+
   private void blobSidecarsImportedSuccessfully(
       final SignedBeaconBlock block, final List<BlobSidecar> blobSidecars) {
     verify(blockBlobSidecarsTrackersPool).onCompletedBlockAndBlobSidecars(block, blobSidecars);
@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+
+class EraBlockImporterTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final BlobSidecarManager blobSidecarManager = mock(BlobSidecarManager.class);
+  private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final int slotsPerHistoricalRoot =
+      spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+
+  private final EraBlockImporter importer =
+      new EraBlockImporter(
+          spec,
+          blobSidecarManager,
+          storageUpdateChannel,
+          asyncRunner,
+          Runnable::run,
+          10,
+          Map.of(UInt64.ONE, Path.of("minimal-00001-abcdef01.era")));
+
+  @Test
+  void shouldParseEraNumberFromFilename() {
+    assertThat(EraBlockImporter.parseEraNumber(Path.of("/era/mainnet-01234-abcdef01.era")))
+        .contains(UInt64.valueOf(1234));
+  }
+
+  @Test
+  void shouldIgnoreFilesThatAreNotEraFiles() {
+    assertThat(EraBlockImporter.parseEraNumber(Path.of("mainnet-01234-abcdef01.txt"))).isEmpty();
+    assertThat(EraBlockImporter.parseEraNumber(Path.of("mainnet-abcdef01.era"))).isEmpty();
+    assertThat(EraBlockImporter.parseEraNumber(Path.of("mainnet-latest-abcdef01.era"))).isEmpty();
+  }
+
+  @Test
+  void shouldNotImportWhenNoEraFileCoversSlot() {
+    final UInt64 maxSlot = UInt64.valueOf(slotsPerHistoricalRoot + 1);
+
+    assertThatSafeFuture(importer.importBlocks(Bytes32.ZERO, maxSlot, UInt64.ZERO))
+        .isCompletedWithEmptyOptional();
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(storageUpdateChannel);
+  }
+
+  @Test
+  void shouldLeaveBlocksInsideBlobAvailabilityWindowToPeers() {
+    when(blobSidecarManager.isAvailabilityRequiredAtSlot(any())).thenReturn(true);
+
+    assertThatSafeFuture(importer.importBlocks(Bytes32.ZERO, UInt64.ONE, UInt64.ZERO))
+        .isCompletedWithEmptyOptional();
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(storageUpdateChannel);
+  }
+
+  @Test
+  void shouldStopUsingEraFilesWhenReadFails() {
+    final SafeFuture<Optional<SignedBeaconBlock>> result =
+        importer.importBlocks(Bytes32.ZERO, UInt64.ONE, UInt64.ZERO);
+    assertThat(result).isNotDone();
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result).isCompletedWithEmptyOptional();
+
+    // The ERA file doesn't exist so the import falls back to peers from now on
+    assertThatSafeFuture(importer.importBlocks(Bytes32.ZERO, UInt64.ONE, UInt64.ZERO))
+        .isCompletedWithEmptyOptional();
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+}
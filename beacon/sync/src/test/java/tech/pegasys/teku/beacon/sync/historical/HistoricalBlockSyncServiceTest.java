@@ -97,6 +97,7 @@ public class HistoricalBlockSyncServiceTest {
           signatureVerificationService,
           batchSize,
           Optional.of(reconstructHistoricalStatesService),
+          Optional.empty(),
           false);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
       Subscribers.create(false);
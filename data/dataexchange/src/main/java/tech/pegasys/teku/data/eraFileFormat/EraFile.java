@@ -14,7 +14,7 @@
 package tech.pegasys.teku.data.eraFileFormat;
 
 import com.google.common.base.Preconditions;
-import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -22,10 +22,15 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.xerial.snappy.SnappyFramedInputStream;
@@ -35,7 +40,14 @@ import tech.pegasys.teku.spec.SpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
-public class EraFile {
+/**
+ * Reader for the ERA archive format. The file is memory mapped and entries are decompressed
+ * straight from slices of the mapped buffer, so the compressed data is never copied onto the heap.
+ *
+ * <p>{@link #readBlocks(Executor)} is the production read path, the remaining methods are used by
+ * the {@link #main(String[])} debug tool.
+ */
+public class EraFile implements Closeable {
   private final Spec spec;
   private final ByteBuffer byteBuffer;
   private final RandomAccessFile file;
@@ -68,6 +80,54 @@ public class EraFile {
     getBlockIndices();
   }
 
+  /**
+   * Returns the blocks in this era in slot order. Each block is decompressed and deserialized as a
+   * separate task on {@code executor}.
+   */
+  public List<SignedBeaconBlock> readBlocks(final Executor executor) throws IOException {
+    loadIndices();
+    if (blockIndices == null) {
+      return List.of();
+    }
+    final List<CompletableFuture<SignedBeaconBlock>> blocks = new ArrayList<>();
+    for (int i = 0; i < blockIndices.getCount(); i++) {
+      final int offset = blockIndices.getSlotOffsets().get(i);
+      final long position = blockIndices.getRecordStart() + offset;
+      if (offset == 0 || position == 0) {
+        // empty slot
+        continue;
+      }
+      Preconditions.checkArgument(
+          position > 0, "Offset for block goes beyond length of file at index %s", i);
+      final ReadEntry entry = new ReadEntry(byteBuffer, (int) position);
+      Preconditions.checkArgument(
+          entry.isBlockType(), "Block index %s doesn't point to block data.", i);
+      final UInt64 slot = blockIndices.getStartSlot().plus(i);
+      blocks.add(CompletableFuture.supplyAsync(() -> decodeBlock(slot, entry), executor));
+    }
+    try {
+      return blocks.stream().map(CompletableFuture::join).toList();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw e;
+    }
+  }
+
+  private void loadIndices() {
+    if (stateIndices == null) {
+      stateIndices = new ReadSlotIndex(byteBuffer, (int) fileLength);
+      Preconditions.checkArgument(
+          stateIndices.getEntry().isIndexType(),
+          "State e2store record type (i2) was not found in %s",
+          filename);
+      if (stateIndices.getStartSlot().isGreaterThan(UInt64.ZERO)) {
+        blockIndices = new ReadSlotIndex(byteBuffer, (int) stateIndices.getRecordStart());
+      }
+    }
+  }
+
   public void printStats() {
     int offset = 0;
     final Map<Bytes, Integer> entries = new HashMap<>();
@@ -108,26 +168,38 @@ public class EraFile {
   }
 
   private BeaconState getBeaconState(final ReadEntry entry) throws IOException {
-    final SnappyFramedInputStream is =
-        new SnappyFramedInputStream(new ByteArrayInputStream(entry.getData()));
-
     return spec.atSlot(stateIndices.getStartSlot())
         .getSchemaDefinitions()
         .getBeaconStateSchema()
-        .sszDeserialize(Bytes.of(is.readAllBytes()));
+        .sszDeserialize(decompress(entry));
   }
 
   private SignedBeaconBlock getBlock(final ReadEntry entry) throws IOException {
-    final SnappyFramedInputStream is =
-        new SnappyFramedInputStream(new ByteArrayInputStream(entry.getData()));
-
     if (currentSlot == null) {
       currentSlot = blockIndices.getStartSlot();
     }
     return spec.atSlot(currentSlot)
         .getSchemaDefinitions()
         .getSignedBeaconBlockSchema()
-        .sszDeserialize(Bytes.of(is.readAllBytes()));
+        .sszDeserialize(decompress(entry));
+  }
+
+  private SignedBeaconBlock decodeBlock(final UInt64 slot, final ReadEntry entry) {
+    try {
+      return spec.atSlot(slot)
+          .getSchemaDefinitions()
+          .getSignedBeaconBlockSchema()
+          .sszDeserialize(decompress(entry));
+    } catch (final IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static Bytes decompress(final ReadEntry entry) throws IOException {
+    try (final SnappyFramedInputStream is =
+        new SnappyFramedInputStream(new ByteBufferInputStream(entry.getDataBuffer()))) {
+      return Bytes.wrap(is.readAllBytes());
+    }
   }
 
   private BeaconState verifyStateInArchive() throws IOException {
@@ -234,7 +306,8 @@ public class EraFile {
     }
   }
 
-  final void close() throws IOException {
+  @Override
+  public void close() throws IOException {
     channel.close();
     file.close();
   }
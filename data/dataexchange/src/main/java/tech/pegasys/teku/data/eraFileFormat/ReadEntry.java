@@ -19,7 +19,7 @@ import java.util.Arrays;
 
 class ReadEntry {
   private final byte[] type;
-  private final byte[] data;
+  private final ByteBuffer data;
 
   static final byte[] INDEX_ENTRY_TYPE = {'i', '2'};
   static final byte[] BLOCK_ENTRY_TYPE = {1, 0};
@@ -42,9 +42,8 @@ class ReadEntry {
     };
     dataSize = Longs.fromByteArray(bsize);
 
-    data = new byte[(int) dataSize];
-    // read data from original position plus 8 into data
-    byteBuffer.slice(offset + 8, (int) dataSize).get(data);
+    // the data is a view of the original buffer starting after the header so no bytes are copied
+    data = byteBuffer.slice(offset + 8, (int) dataSize);
   }
 
   public byte[] getType() {
@@ -52,7 +51,14 @@ class ReadEntry {
   }
 
   public byte[] getData() {
-    return data;
+    final byte[] bytes = new byte[(int) dataSize];
+    data.get(0, bytes);
+    return bytes;
+  }
+
+  /** Returns a read only view of the entry data which shares the memory of the source buffer. */
+  public ByteBuffer getDataBuffer() {
+    return data.asReadOnlyBuffer();
   }
 
   public long getDataSize() {
@@ -0,0 +1,132 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data.eraFileFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xerial.snappy.SnappyFramedOutputStream;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class EraFileTest {
+  private static final int SLOT_COUNT = 4;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldReadBlocksInSlotOrderSkippingEmptySlots() throws IOException {
+    final SignedBeaconBlock block0 = dataStructureUtil.randomSignedBeaconBlock(0);
+    final SignedBeaconBlock block1 =
+        dataStructureUtil.randomSignedBeaconBlock(1, block0.getRoot());
+    final SignedBeaconBlock block3 =
+        dataStructureUtil.randomSignedBeaconBlock(3, block1.getRoot());
+    final BeaconState state = stateAtSlot(SLOT_COUNT);
+    final Path file = writeEraFile(new SignedBeaconBlock[] {block0, block1, null, block3}, state);
+
+    try (final EraFile eraFile = new EraFile(file, spec)) {
+      assertThat(eraFile.readBlocks(Runnable::run)).containsExactly(block0, block1, block3);
+    }
+  }
+
+  @Test
+  void shouldReadNoBlocksWhenAllSlotsAreEmpty() throws IOException {
+    final BeaconState state = stateAtSlot(SLOT_COUNT);
+    final Path file = writeEraFile(new SignedBeaconBlock[SLOT_COUNT], state);
+
+    try (final EraFile eraFile = new EraFile(file, spec)) {
+      assertThat(eraFile.readBlocks(Runnable::run)).isEmpty();
+    }
+  }
+
+  private BeaconState stateAtSlot(final int slot) {
+    return dataStructureUtil
+        .randomBeaconState()
+        .updated(mutableState -> mutableState.setSlot(UInt64.valueOf(slot)));
+  }
+
+  private Path writeEraFile(final SignedBeaconBlock[] blocks, final BeaconState state)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final List<Long> blockPositions = new ArrayList<>();
+    for (final SignedBeaconBlock block : blocks) {
+      if (block == null) {
+        blockPositions.add(null);
+      } else {
+        blockPositions.add((long) out.size());
+        writeEntry(out, ReadEntry.BLOCK_ENTRY_TYPE, compress(block.sszSerialize()));
+      }
+    }
+    final long statePosition = out.size();
+    writeEntry(out, ReadEntry.STATE_ENTRY_TYPE, compress(state.sszSerialize()));
+
+    final long blockIndexPosition = out.size();
+    final List<Long> blockOffsets = new ArrayList<>();
+    for (final Long position : blockPositions) {
+      blockOffsets.add(position == null ? -blockIndexPosition : position - blockIndexPosition);
+    }
+    writeIndex(out, 0, blockOffsets);
+
+    final long stateIndexPosition = out.size();
+    writeIndex(out, SLOT_COUNT, List.of(statePosition - stateIndexPosition));
+
+    final Path file = tempDir.resolve("minimal-00001-00000000.era");
+    Files.write(file, out.toByteArray());
+    return file;
+  }
+
+  private static void writeIndex(
+      final ByteArrayOutputStream out, final long startSlot, final List<Long> offsets) {
+    final ByteBuffer data =
+        ByteBuffer.allocate(8 * offsets.size() + 16).order(ByteOrder.LITTLE_ENDIAN);
+    data.putLong(startSlot);
+    offsets.forEach(data::putLong);
+    data.putLong(offsets.size());
+    writeEntry(out, ReadEntry.INDEX_ENTRY_TYPE, data.array());
+  }
+
+  private static void writeEntry(
+      final ByteArrayOutputStream out, final byte[] type, final byte[] data) {
+    final ByteBuffer header = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    header.put(type);
+    header.putInt(data.length);
+    out.writeBytes(header.array());
+    out.writeBytes(data);
+  }
+
+  private static byte[] compress(final Bytes data) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final SnappyFramedOutputStream snappy = new SnappyFramedOutputStream(out)) {
+      snappy.write(data.toArrayUnsafe());
+    }
+    return out.toByteArray();
+  }
+}
@@ -32,6 +32,17 @@ public class ReadEntryTest {
     assertThat(entry.getData()).isEqualTo(dataBytes);
   }
 
+  @Test
+  void shouldShareDataWithSourceBuffer() {
+    final byte[] bytes = encodeBytes(ReadEntry.BLOCK_ENTRY_TYPE, dataBytes);
+    final ReadEntry entry = new ReadEntry(ByteBuffer.wrap(bytes), 0);
+    bytes[8] = 42;
+    final ByteBuffer data = entry.getDataBuffer();
+    assertThat(data.remaining()).isEqualTo(dataBytes.length);
+    assertThat(data.get(0)).isEqualTo((byte) 42);
+    assertThat(data.isReadOnly()).isTrue();
+  }
+
   @Test
   void shouldDetectIncorrectType() {
     final byte[] type = {'z', 'z'};
@@ -95,6 +95,9 @@ public class EpochTransitionBenchmark {
   @Param({"400000"})
   int validatorsCount = 400000;
 
+  @Param({"false", "true"})
+  boolean parallelEpochProcessing = false;
+
   @Setup(Level.Trial)
   @SuppressWarnings("deprecation")
   public void init() throws Exception {
@@ -102,7 +105,9 @@ public class EpochTransitionBenchmark {
     spec =
         TestSpecFactory.createMainnetAltair(
             specConfigBuilder ->
-                specConfigBuilder.blsSignatureVerifier(BLSSignatureVerifier.NO_OP));
+                specConfigBuilder
+                    .blsSignatureVerifier(BLSSignatureVerifier.NO_OP)
+                    .parallelEpochProcessingEnabled(parallelEpochProcessing));
     asyncRunner = DelayedExecutorAsyncRunner.create();
     String blocksFile =
         "/blocks/blocks_epoch_"
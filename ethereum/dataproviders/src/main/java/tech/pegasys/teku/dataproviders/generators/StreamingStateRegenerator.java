@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.dataproviders.generators;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -44,8 +45,24 @@ public class StreamingStateRegenerator {
 
   public static BeaconState regenerate(
       final Spec spec, final BeaconState initialState, final Stream<SignedBeaconBlock> blocks) {
+    return regenerate(spec, initialState, blocks, state -> {});
+  }
+
+  /**
+   * Regenerates the state, notifying {@code intermediateStateConsumer} of the state after each
+   * block is applied, including the final state.
+   */
+  public static BeaconState regenerate(
+      final Spec spec,
+      final BeaconState initialState,
+      final Stream<SignedBeaconBlock> blocks,
+      final Consumer<BeaconState> intermediateStateConsumer) {
     final StreamingStateRegenerator regenerator = new StreamingStateRegenerator(spec, initialState);
-    blocks.forEach(regenerator::processBlock);
+    blocks.forEach(
+        block -> {
+          regenerator.processBlock(block);
+          intermediateStateConsumer.accept(regenerator.state);
+        });
     return regenerator.state;
   }
 }
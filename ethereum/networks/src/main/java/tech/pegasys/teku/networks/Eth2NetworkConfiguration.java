@@ -62,6 +62,10 @@ public class Eth2NetworkConfiguration {
 
   public static final boolean DEFAULT_PREPARE_BLOCK_PRODUCTION_ENABLED = false;
 
+  public static final boolean DEFAULT_NEXT_SLOT_STATE_ADVANCE_ENABLED = true;
+
+  public static final boolean DEFAULT_PARALLEL_EPOCH_PROCESSING_ENABLED = false;
+
   public static final boolean DEFAULT_AGGREGATING_ATTESTATION_POOL_PROFILING_ENABLED = false;
   public static final boolean DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_ENABLED = true;
   public static final int
@@ -140,6 +144,7 @@ public class Eth2NetworkConfiguration {
   private final int asyncP2pMaxQueue;
   private final boolean forkChoiceLateBlockReorgEnabled;
   private final boolean prepareBlockProductionEnabled;
+  private final boolean nextSlotStateAdvanceEnabled;
   private final boolean forkChoiceUpdatedAlwaysSendPayloadAttributes;
   private final int pendingAttestationsMaxQueue;
   private final boolean rustKzgEnabled;
@@ -179,6 +184,7 @@ public class Eth2NetworkConfiguration {
       final int asyncBeaconChainMaxQueue,
       final boolean forkChoiceLateBlockReorgEnabled,
       final boolean prepareBlockProductionEnabled,
+      final boolean nextSlotStateAdvanceEnabled,
       final boolean forkChoiceUpdatedAlwaysSendPayloadAttributes,
       final int pendingAttestationsMaxQueue,
       final boolean rustKzgEnabled,
@@ -219,6 +225,7 @@ public class Eth2NetworkConfiguration {
     this.asyncBeaconChainMaxQueue = asyncBeaconChainMaxQueue;
     this.forkChoiceLateBlockReorgEnabled = forkChoiceLateBlockReorgEnabled;
     this.prepareBlockProductionEnabled = prepareBlockProductionEnabled;
+    this.nextSlotStateAdvanceEnabled = nextSlotStateAdvanceEnabled;
     this.forkChoiceUpdatedAlwaysSendPayloadAttributes =
         forkChoiceUpdatedAlwaysSendPayloadAttributes;
     this.pendingAttestationsMaxQueue = pendingAttestationsMaxQueue;
@@ -357,6 +364,10 @@ public class Eth2NetworkConfiguration {
     return prepareBlockProductionEnabled;
   }
 
+  public boolean isNextSlotStateAdvanceEnabled() {
+    return nextSlotStateAdvanceEnabled;
+  }
+
   public boolean isAggregatingAttestationPoolV2Enabled() {
     return aggregatingAttestationPoolV2Enabled;
   }
@@ -415,6 +426,7 @@ public class Eth2NetworkConfiguration {
         && asyncP2pMaxQueue == that.asyncP2pMaxQueue
         && forkChoiceLateBlockReorgEnabled == that.forkChoiceLateBlockReorgEnabled
         && prepareBlockProductionEnabled == that.prepareBlockProductionEnabled
+        && nextSlotStateAdvanceEnabled == that.nextSlotStateAdvanceEnabled
         && aggregatingAttestationPoolV2Enabled == that.aggregatingAttestationPoolV2Enabled
         && aggregatingAttestationPoolProfilingEnabled
             == that.aggregatingAttestationPoolProfilingEnabled
@@ -476,6 +488,7 @@ public class Eth2NetworkConfiguration {
         asyncP2pMaxQueue,
         forkChoiceLateBlockReorgEnabled,
         prepareBlockProductionEnabled,
+        nextSlotStateAdvanceEnabled,
         forkChoiceUpdatedAlwaysSendPayloadAttributes,
         rustKzgEnabled);
   }
@@ -514,6 +527,8 @@ public class Eth2NetworkConfiguration {
     private Spec spec;
     private boolean forkChoiceLateBlockReorgEnabled = DEFAULT_FORK_CHOICE_LATE_BLOCK_REORG_ENABLED;
     private boolean prepareBlockProductionEnabled = DEFAULT_PREPARE_BLOCK_PRODUCTION_ENABLED;
+    private boolean nextSlotStateAdvanceEnabled = DEFAULT_NEXT_SLOT_STATE_ADVANCE_ENABLED;
+    private boolean parallelEpochProcessingEnabled = DEFAULT_PARALLEL_EPOCH_PROCESSING_ENABLED;
     private boolean forkChoiceUpdatedAlwaysSendPayloadAttributes =
         DEFAULT_FORK_CHOICE_UPDATED_ALWAYS_SEND_PAYLOAD_ATTRIBUTES;
     private OptionalInt pendingAttestationsMaxQueue = OptionalInt.empty();
@@ -554,6 +569,7 @@ public class Eth2NetworkConfiguration {
                   electraForkEpoch.ifPresent(builder::electraForkEpoch);
                   fuluForkEpoch.ifPresent(builder::fuluForkEpoch);
                   gloasForkEpoch.ifPresent(builder::gloasForkEpoch);
+                  builder.parallelEpochProcessingEnabled(parallelEpochProcessingEnabled);
                   builder.bellatrixBuilder(
                       bellatrixBuilder -> {
                         bellatrixBuilder.safeSlotsToImportOptimistically(
@@ -620,6 +636,7 @@ public class Eth2NetworkConfiguration {
           asyncBeaconChainMaxQueue.orElse(DEFAULT_ASYNC_BEACON_CHAIN_MAX_QUEUE),
           forkChoiceLateBlockReorgEnabled,
           prepareBlockProductionEnabled,
+          nextSlotStateAdvanceEnabled,
           forkChoiceUpdatedAlwaysSendPayloadAttributes,
           pendingAttestationsMaxQueue.orElse(DEFAULT_MAX_QUEUE_PENDING_ATTESTATIONS),
           rustKzgEnabled,
@@ -1233,6 +1250,16 @@ public class Eth2NetworkConfiguration {
       return this;
     }
 
+    public Builder nextSlotStateAdvanceEnabled(final boolean nextSlotStateAdvanceEnabled) {
+      this.nextSlotStateAdvanceEnabled = nextSlotStateAdvanceEnabled;
+      return this;
+    }
+
+    public Builder parallelEpochProcessingEnabled(final boolean parallelEpochProcessingEnabled) {
+      this.parallelEpochProcessingEnabled = parallelEpochProcessingEnabled;
+      return this;
+    }
+
     public Builder aggregatingAttestationPoolV2Enabled(
         final boolean aggregatingAttestationPoolV2Enabled) {
       this.aggregatingAttestationPoolV2Enabled = aggregatingAttestationPoolV2Enabled;
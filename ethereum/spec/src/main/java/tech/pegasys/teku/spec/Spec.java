@@ -97,6 +97,8 @@ import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContextCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.datastructures.util.ForkAndSpecMilestone;
@@ -162,6 +164,29 @@ public class Spec {
         blobSidecarAvailabilityCheckerFactory, dataColumnSidecarAvailabilityCheckerFactory, kzg);
   }
 
+  /**
+   * Shares attester shufflings between all states processed with this spec, rather than only
+   * between copies of the same state.
+   */
+  public void setShufflingCache(final ShufflingCache shufflingCache) {
+    specVersions
+        .values()
+        .forEach(
+            specVersion -> specVersion.beaconStateAccessors().setShufflingCache(shufflingCache));
+  }
+
+  /**
+   * Shares per-epoch values such as the total active balance and proposer indices between all
+   * states processed with this spec which follow the same block.
+   */
+  public void setEpochContextCache(final EpochContextCache epochContextCache) {
+    specVersions
+        .values()
+        .forEach(
+            specVersion ->
+                specVersion.beaconStateAccessors().setEpochContextCache(epochContextCache));
+  }
+
   @VisibleForTesting
   public synchronized void reinitializeForTesting(
       final AvailabilityCheckerFactory<BlobSidecar> blobSidecarAvailabilityCheckerFactory,
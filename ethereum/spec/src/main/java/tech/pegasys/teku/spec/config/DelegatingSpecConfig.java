@@ -483,4 +483,9 @@ public class DelegatingSpecConfig implements SpecConfig {
   public BatchSignatureVerifier createBatchSignatureVerifier() {
     return specConfig.createBatchSignatureVerifier();
   }
+
+  @Override
+  public boolean isParallelEpochProcessingEnabled() {
+    return specConfig.isParallelEpochProcessingEnabled();
+  }
 }
@@ -235,4 +235,6 @@ public interface SpecConfig extends NetworkingSpecConfig {
   BLSSignatureVerifier getBLSSignatureVerifier();
 
   BatchSignatureVerifier createBatchSignatureVerifier();
+
+  boolean isParallelEpochProcessingEnabled();
 }
@@ -128,6 +128,7 @@ public class SpecConfigPhase0 implements SpecConfig {
 
   private final BLSSignatureVerifier blsSignatureVerifier;
   private final Supplier<BatchSignatureVerifier> batchSignatureVerifierSupplier;
+  private final boolean parallelEpochProcessingEnabled;
 
   // altair fork
   private final Bytes4 altairForkVersion;
@@ -229,6 +230,7 @@ public class SpecConfigPhase0 implements SpecConfig {
       final int proposerReorgCutoffBps,
       final BLSSignatureVerifier blsSignatureVerifier,
       final Supplier<BatchSignatureVerifier> batchSignatureVerifierSupplier,
+      final boolean parallelEpochProcessingEnabled,
       final Bytes4 altairForkVersion,
       final UInt64 altairForkEpoch,
       final Bytes4 bellatrixForkVersion,
@@ -329,6 +331,7 @@ public class SpecConfigPhase0 implements SpecConfig {
     this.gloasForkEpoch = gloasForkEpoch;
     this.blsSignatureVerifier = blsSignatureVerifier;
     this.batchSignatureVerifierSupplier = batchSignatureVerifierSupplier;
+    this.parallelEpochProcessingEnabled = parallelEpochProcessingEnabled;
   }
 
   @Override
@@ -786,6 +789,11 @@ public class SpecConfigPhase0 implements SpecConfig {
     return batchSignatureVerifierSupplier.get();
   }
 
+  @Override
+  public boolean isParallelEpochProcessingEnabled() {
+    return parallelEpochProcessingEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
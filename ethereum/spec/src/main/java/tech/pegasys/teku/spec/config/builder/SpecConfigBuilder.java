@@ -166,6 +166,7 @@ public class SpecConfigBuilder {
   private BLSSignatureVerifier blsSignatureVerifier = BLSSignatureVerifier.SIMPLE;
   private Supplier<BatchSignatureVerifier> batchSignatureVerifierSupplier =
       BatchSignatureVerifierImpl::new;
+  private Boolean parallelEpochProcessingEnabled = false;
 
   private UInt64 maxPerEpochActivationExitChurnLimit = UInt64.valueOf(256000000000L);
   private final BuilderChain<SpecConfig, SpecConfigGloas> builderChain =
@@ -305,6 +306,7 @@ public class SpecConfigBuilder {
                 proposerReorgCutoffBps,
                 blsSignatureVerifier,
                 batchSignatureVerifierSupplier,
+                parallelEpochProcessingEnabled,
                 altairForkVersion,
                 altairForkEpoch,
                 bellatrixForkVersion,
@@ -981,6 +983,12 @@ public class SpecConfigBuilder {
     return this;
   }
 
+  public SpecConfigBuilder parallelEpochProcessingEnabled(
+      final Boolean parallelEpochProcessingEnabled) {
+    this.parallelEpochProcessingEnabled = parallelEpochProcessingEnabled;
+    return this;
+  }
+
   public SpecConfigBuilder altairBuilder(final Consumer<AltairBuilder> consumer) {
     builderChain.withBuilder(AltairBuilder.class, consumer);
     return this;
@@ -0,0 +1,155 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Values which are fixed for the whole of an epoch once the block before its first slot is known.
+ * Built once per (epoch, dependent root) and shared by all states in that epoch, see {@link
+ * EpochContextCache}.
+ */
+public class EpochContext {
+
+  private final UInt64 epoch;
+  private final UInt64 startSlot;
+  private final UInt64 totalActiveBalance;
+  private final IntList proposerIndices;
+  private final Optional<UInt64> baseRewardPerIncrement;
+  private final Optional<IntList> currentSyncCommitteeIndices;
+
+  private EpochContext(
+      final UInt64 epoch,
+      final UInt64 startSlot,
+      final UInt64 totalActiveBalance,
+      final IntList proposerIndices,
+      final Optional<UInt64> baseRewardPerIncrement,
+      final Optional<IntList> currentSyncCommitteeIndices) {
+    this.epoch = epoch;
+    this.startSlot = startSlot;
+    this.totalActiveBalance = totalActiveBalance;
+    this.proposerIndices = proposerIndices;
+    this.baseRewardPerIncrement = baseRewardPerIncrement;
+    this.currentSyncCommitteeIndices = currentSyncCommitteeIndices;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public UInt64 getEpoch() {
+    return epoch;
+  }
+
+  public UInt64 getTotalActiveBalance() {
+    return totalActiveBalance;
+  }
+
+  /** Returns the proposer index for {@code slot}, which must be in this epoch. */
+  public int getProposerIndex(final UInt64 slot) {
+    checkArgument(
+        slot.isGreaterThanOrEqualTo(startSlot)
+            && slot.minus(startSlot).isLessThan(proposerIndices.size()),
+        "Slot %s is not in epoch %s",
+        slot,
+        epoch);
+    return proposerIndices.getInt(slot.minus(startSlot).intValue());
+  }
+
+  /** Only available from Altair. */
+  public Optional<UInt64> getBaseRewardPerIncrement() {
+    return baseRewardPerIncrement;
+  }
+
+  /**
+   * The validator indices of the current sync committee members, in committee order. Only
+   * available from Altair.
+   */
+  public Optional<IntList> getCurrentSyncCommitteeIndices() {
+    return currentSyncCommitteeIndices;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("epoch", epoch)
+        .add("totalActiveBalance", totalActiveBalance)
+        .add("proposerIndices", proposerIndices)
+        .add("baseRewardPerIncrement", baseRewardPerIncrement)
+        .toString();
+  }
+
+  public static class Builder {
+    private UInt64 epoch;
+    private UInt64 startSlot;
+    private UInt64 totalActiveBalance;
+    private IntList proposerIndices;
+    private Optional<UInt64> baseRewardPerIncrement = Optional.empty();
+    private Optional<IntList> currentSyncCommitteeIndices = Optional.empty();
+
+    private Builder() {}
+
+    public Builder epoch(final UInt64 epoch) {
+      this.epoch = epoch;
+      return this;
+    }
+
+    public Builder startSlot(final UInt64 startSlot) {
+      this.startSlot = startSlot;
+      return this;
+    }
+
+    public Builder totalActiveBalance(final UInt64 totalActiveBalance) {
+      this.totalActiveBalance = totalActiveBalance;
+      return this;
+    }
+
+    /** The proposer index for each slot of the epoch, starting from its first slot. */
+    public Builder proposerIndices(final IntList proposerIndices) {
+      this.proposerIndices = IntList.of(proposerIndices.toIntArray());
+      return this;
+    }
+
+    public Builder baseRewardPerIncrement(final UInt64 baseRewardPerIncrement) {
+      this.baseRewardPerIncrement = Optional.of(baseRewardPerIncrement);
+      return this;
+    }
+
+    public Builder currentSyncCommitteeIndices(final IntList currentSyncCommitteeIndices) {
+      this.currentSyncCommitteeIndices =
+          Optional.of(IntList.of(currentSyncCommitteeIndices.toIntArray()));
+      return this;
+    }
+
+    public EpochContext build() {
+      checkNotNull(epoch, "epoch must be set");
+      checkNotNull(startSlot, "startSlot must be set");
+      checkNotNull(totalActiveBalance, "totalActiveBalance must be set");
+      checkNotNull(proposerIndices, "proposerIndices must be set");
+      return new EpochContext(
+          epoch,
+          startSlot,
+          totalActiveBalance,
+          proposerIndices,
+          baseRewardPerIncrement,
+          currentSyncCommitteeIndices);
+    }
+  }
+}
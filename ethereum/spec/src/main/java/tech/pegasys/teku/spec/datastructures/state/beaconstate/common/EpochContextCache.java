@@ -0,0 +1,74 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * (epoch, dependent root) -> {@link EpochContext} cache shared by all states.
+ *
+ * <p>The dependent root is the last block before the start of the epoch, so states on different
+ * forks within the epoch keep separate contexts while copies and regenerated states share one.
+ */
+public class EpochContextCache {
+
+  public static final int DEFAULT_MAX_EPOCH_CONTEXTS = 8;
+
+  private final Cache<EpochContextKey, EpochContext> epochContexts;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public EpochContextCache(final int maxEpochContexts) {
+    this.epochContexts = LRUCache.create(maxEpochContexts);
+  }
+
+  /**
+   * Returns the context for {@code epoch} following the block {@code dependentRoot}, creating it
+   * with {@code epochContextSupplier} outside the cache lock if it isn't cached.
+   */
+  public EpochContext get(
+      final UInt64 epoch,
+      final Bytes32 dependentRoot,
+      final Supplier<EpochContext> epochContextSupplier) {
+    final EpochContextKey key = new EpochContextKey(epoch, dependentRoot);
+    final Optional<EpochContext> cached = epochContexts.getCached(key);
+    if (cached.isPresent()) {
+      hitCount.incrementAndGet();
+      return cached.get();
+    }
+    missCount.incrementAndGet();
+    final EpochContext epochContext = epochContextSupplier.get();
+    return epochContexts.get(key, __ -> epochContext);
+  }
+
+  public int size() {
+    return epochContexts.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private record EpochContextKey(UInt64 epoch, Bytes32 dependentRoot) {}
+}
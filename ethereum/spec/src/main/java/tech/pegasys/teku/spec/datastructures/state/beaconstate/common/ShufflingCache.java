@@ -0,0 +1,79 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * (epoch, shuffling dependent root) -> (shuffled active validator indices) cache shared by all
+ * states.
+ *
+ * <p>Unlike the caches in {@link TransitionCaches}, which are copied along with a state, this cache
+ * lets states on different forks or regenerated from storage reuse a shuffling as long as they
+ * agree on the block which determined it.
+ */
+public class ShufflingCache {
+
+  public static final int DEFAULT_MAX_SHUFFLINGS = 8;
+
+  private final Cache<ShufflingKey, IntList> shufflings;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public ShufflingCache(final int maxShufflings) {
+    this.shufflings = LRUCache.create(maxShufflings);
+  }
+
+  /**
+   * Returns the shuffling for {@code epoch} determined by the block {@code dependentRoot},
+   * calculating it with {@code shufflingSupplier} if it isn't cached.
+   *
+   * <p>The shuffling is calculated without holding the cache lock, so lookups for other shufflings
+   * aren't blocked while a large validator set is shuffled.
+   */
+  public IntList get(
+      final UInt64 epoch, final Bytes32 dependentRoot, final Supplier<IntList> shufflingSupplier) {
+    final ShufflingKey key = new ShufflingKey(epoch, dependentRoot);
+    final Optional<IntList> cached = shufflings.getCached(key);
+    if (cached.isPresent()) {
+      hitCount.incrementAndGet();
+      return cached.get();
+    }
+    missCount.incrementAndGet();
+    final IntList shuffling = shufflingSupplier.get();
+    // Keep the first value stored if another thread calculated the same shuffling concurrently
+    return shufflings.get(key, __ -> shuffling);
+  }
+
+  public int size() {
+    return shufflings.size();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private record ShufflingKey(UInt64 epoch, Bytes32 dependentRoot) {}
+}
@@ -25,6 +25,8 @@ import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -56,7 +58,14 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ProgressiveTotalBalancesUpdates.NOOP) {
+          ProgressiveTotalBalancesUpdates.NOOP,
+          null) {
+
+        @Override
+        public Optional<ValidatorRegistryMirror> getValidatorRegistryMirror(
+            final BeaconState state) {
+          return Optional.empty();
+        }
 
         @Override
         public TransitionCaches copy() {
@@ -90,6 +99,7 @@ public class TransitionCaches {
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
+  private volatile ValidatorRegistryMirror validatorRegistryMirror;
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -120,7 +130,8 @@ public class TransitionCaches {
       final Cache<UInt64, List<UInt64>> effectiveBalances,
       final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       final Cache<UInt64, UInt64> baseRewardPerIncrement,
-      final ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
+      final ProgressiveTotalBalancesUpdates progressiveTotalBalances,
+      final ValidatorRegistryMirror validatorRegistryMirror) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -134,6 +145,7 @@ public class TransitionCaches {
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
+    this.validatorRegistryMirror = validatorRegistryMirror;
   }
 
   public void setLatestTotalBalances(final TotalBalances totalBalances) {
@@ -153,6 +165,25 @@ public class TransitionCaches {
     this.progressiveTotalBalances = progressiveTotalBalances;
   }
 
+  /**
+   * Returns a primitive mirror of the validator registry of {@code state}, updating the mirror held
+   * by these caches from the changed validators only.
+   *
+   * <p>Returns empty for mutable states, whose registry may still change under the mirror.
+   */
+  public Optional<ValidatorRegistryMirror> getValidatorRegistryMirror(final BeaconState state) {
+    if (state instanceof MutableBeaconState) {
+      return Optional.empty();
+    }
+    final ValidatorRegistryMirror currentMirror = validatorRegistryMirror;
+    final ValidatorRegistryMirror updatedMirror =
+        currentMirror == null
+            ? ValidatorRegistryMirror.create(state.getValidators())
+            : currentMirror.updatedTo(state.getValidators());
+    validatorRegistryMirror = updatedMirror;
+    return Optional.of(updatedMirror);
+  }
+
   /** (epoch) -> (active validators) cache */
   public Cache<UInt64, IntList> getActiveValidators() {
     return activeValidators;
@@ -242,6 +273,7 @@ public class TransitionCaches {
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
-        progressiveTotalBalances.copy());
+        progressiveTotalBalances.copy(),
+        validatorRegistryMirror);
   }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import java.util.Arrays;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * An immutable copy of the validator registry fields used by registry-wide helpers (effective
+ * balance, slashed flag and activation, exit and withdrawable epochs) held in primitive arrays, so
+ * they can be read without traversing the state tree or allocating {@link UInt64} instances.
+ *
+ * <p>Values are stored in pages which are shared between mirrors. Updating a mirror to a newer
+ * version of the registry compares the two backing trees and only reads validators whose subtree
+ * changed, copying just the pages they are in.
+ */
+public class ValidatorRegistryMirror {
+  private static final int PAGE_SHIFT = 10;
+  private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  private final TreeNode validatorsNode;
+  private final int size;
+  private final Page[] pages;
+
+  private ValidatorRegistryMirror(
+      final TreeNode validatorsNode, final int size, final Page[] pages) {
+    this.validatorsNode = validatorsNode;
+    this.size = size;
+    this.pages = pages;
+  }
+
+  public static ValidatorRegistryMirror create(final SszList<Validator> validators) {
+    return new Updater(validators, null, new Page[0]).update();
+  }
+
+  /**
+   * Returns a mirror of {@code validators}, reusing the values of validators which are unchanged
+   * since this mirror was created. Returns this instance if the registry is unchanged.
+   */
+  public ValidatorRegistryMirror updatedTo(final SszList<Validator> validators) {
+    final TreeNode newValidatorsNode = validators.getBackingNode();
+    if (newValidatorsNode == validatorsNode) {
+      return this;
+    }
+    if (validators.size() < size) {
+      // The registry never shrinks, so this isn't a later version of the same registry
+      return create(validators);
+    }
+    return new Updater(validators, validatorsNode, pages).update();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Returns the effective balance in Gwei. */
+  public long getEffectiveBalance(final int validatorIndex) {
+    return page(validatorIndex).effectiveBalances[validatorIndex & PAGE_MASK];
+  }
+
+  public boolean isSlashed(final int validatorIndex) {
+    return page(validatorIndex).slashed[validatorIndex & PAGE_MASK];
+  }
+
+  /** Returns the unsigned activation epoch, see {@link UInt64#fromLongBits(long)}. */
+  public long getActivationEpoch(final int validatorIndex) {
+    return page(validatorIndex).activationEpochs[validatorIndex & PAGE_MASK];
+  }
+
+  /** Returns the unsigned exit epoch, see {@link UInt64#fromLongBits(long)}. */
+  public long getExitEpoch(final int validatorIndex) {
+    return page(validatorIndex).exitEpochs[validatorIndex & PAGE_MASK];
+  }
+
+  /** Returns the unsigned withdrawable epoch, see {@link UInt64#fromLongBits(long)}. */
+  public long getWithdrawableEpoch(final int validatorIndex) {
+    return page(validatorIndex).withdrawableEpochs[validatorIndex & PAGE_MASK];
+  }
+
+  /** Equivalent to is_active_validator for the validator at {@code validatorIndex}. */
+  public boolean isActiveValidator(final int validatorIndex, final UInt64 epoch) {
+    final Page page = page(validatorIndex);
+    final int offset = validatorIndex & PAGE_MASK;
+    final long epochBits = epoch.longValue();
+    return Long.compareUnsigned(page.activationEpochs[offset], epochBits) <= 0
+        && Long.compareUnsigned(epochBits, page.exitEpochs[offset]) < 0;
+  }
+
+  /** Returns an unmodifiable list of the indices of validators active at {@code epoch}. */
+  public IntList getActiveValidatorIndices(final UInt64 epoch) {
+    final IntList activeValidatorIndices = new IntArrayList(size);
+    for (int i = 0; i < size; i++) {
+      if (isActiveValidator(i, epoch)) {
+        activeValidatorIndices.add(i);
+      }
+    }
+    return IntLists.unmodifiable(activeValidatorIndices);
+  }
+
+  private Page page(final int validatorIndex) {
+    if (validatorIndex < 0 || validatorIndex >= size) {
+      throw new IndexOutOfBoundsException(
+          "Validator index " + validatorIndex + " out of bounds for registry size " + size);
+    }
+    return pages[validatorIndex >>> PAGE_SHIFT];
+  }
+
+  private static int pageCount(final int size) {
+    return (size + PAGE_SIZE - 1) >>> PAGE_SHIFT;
+  }
+
+  private static final class Page {
+    private final long[] effectiveBalances;
+    private final long[] activationEpochs;
+    private final long[] exitEpochs;
+    private final long[] withdrawableEpochs;
+    private final boolean[] slashed;
+
+    private Page() {
+      this(
+          new long[PAGE_SIZE],
+          new long[PAGE_SIZE],
+          new long[PAGE_SIZE],
+          new long[PAGE_SIZE],
+          new boolean[PAGE_SIZE]);
+    }
+
+    private Page(
+        final long[] effectiveBalances,
+        final long[] activationEpochs,
+        final long[] exitEpochs,
+        final long[] withdrawableEpochs,
+        final boolean[] slashed) {
+      this.effectiveBalances = effectiveBalances;
+      this.activationEpochs = activationEpochs;
+      this.exitEpochs = exitEpochs;
+      this.withdrawableEpochs = withdrawableEpochs;
+      this.slashed = slashed;
+    }
+
+    private Page copy() {
+      return new Page(
+          effectiveBalances.clone(),
+          activationEpochs.clone(),
+          exitEpochs.clone(),
+          withdrawableEpochs.clone(),
+          slashed.clone());
+    }
+
+    private void set(final int offset, final Validator validator) {
+      effectiveBalances[offset] = validator.getEffectiveBalance().longValue();
+      activationEpochs[offset] = validator.getActivationEpoch().longValue();
+      exitEpochs[offset] = validator.getExitEpoch().longValue();
+      withdrawableEpochs[offset] = validator.getWithdrawableEpoch().longValue();
+      slashed[offset] = validator.isSlashed();
+    }
+  }
+
+  /** Builds a new mirror by walking the parts of the registry tree that differ from the old one. */
+  private static class Updater {
+    private final SszList<Validator> validators;
+    private final SszSchema<Validator> validatorSchema;
+    private final TreeNode oldValidatorsNode;
+    private final int size;
+    private final Page[] pages;
+    private final boolean[] ownedPages;
+
+    private Updater(
+        final SszList<Validator> validators,
+        final TreeNode oldValidatorsNode,
+        final Page[] oldPages) {
+      this.validators = validators;
+      this.validatorSchema = validators.getSchema().getElementSchema();
+      this.oldValidatorsNode = oldValidatorsNode;
+      this.size = validators.size();
+      this.pages = Arrays.copyOf(oldPages, pageCount(size));
+      this.ownedPages = new boolean[pages.length];
+    }
+
+    private ValidatorRegistryMirror update() {
+      final TreeNode validatorsNode = validators.getBackingNode();
+      // A list is backed by a branch with the elements on the left and the length on the right
+      updateSubtree(
+          getElementsNode(oldValidatorsNode),
+          getElementsNode(validatorsNode),
+          validators.getSchema().treeDepth(),
+          0);
+      return new ValidatorRegistryMirror(validatorsNode, size, pages);
+    }
+
+    private static TreeNode getElementsNode(final TreeNode listNode) {
+      return listNode instanceof BranchNode branchNode ? branchNode.left() : null;
+    }
+
+    private void updateSubtree(
+        final TreeNode oldNode, final TreeNode newNode, final int depth, final long firstIndex) {
+      if (firstIndex >= size || oldNode == newNode) {
+        return;
+      }
+      if (depth == 0) {
+        set((int) firstIndex, validatorSchema.createFromBackingNode(newNode));
+      } else if (newNode instanceof BranchNode newBranch) {
+        final BranchNode oldBranch = oldNode instanceof BranchNode branch ? branch : null;
+        final long rightFirstIndex = firstIndex + (1L << (depth - 1));
+        updateSubtree(
+            oldBranch == null ? null : oldBranch.left(), newBranch.left(), depth - 1, firstIndex);
+        updateSubtree(
+            oldBranch == null ? null : oldBranch.right(),
+            newBranch.right(),
+            depth - 1,
+            rightFirstIndex);
+      } else {
+        final long lastIndex = Math.min(firstIndex + (1L << depth), size);
+        for (long index = firstIndex; index < lastIndex; index++) {
+          set((int) index, validators.get((int) index));
+        }
+      }
+    }
+
+    private void set(final int validatorIndex, final Validator validator) {
+      final int pageIndex = validatorIndex >>> PAGE_SHIFT;
+      if (!ownedPages[pageIndex]) {
+        final Page page = pages[pageIndex];
+        pages[pageIndex] = page == null ? new Page() : page.copy();
+        ownedPages[pageIndex] = true;
+      }
+      pages[pageIndex].set(validatorIndex & PAGE_MASK, validator);
+    }
+  }
+}
@@ -38,11 +38,18 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContext;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContextCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistryMirror;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
   protected final Predicates predicates;
   protected final MiscHelpers miscHelpers;
+  private volatile Optional<ShufflingCache> shufflingCache = Optional.empty();
+  private volatile Optional<EpochContextCache> epochContextCache = Optional.empty();
 
   protected BeaconStateAccessors(
       final SpecConfig config, final Predicates predicates, final MiscHelpers miscHelpers) {
@@ -112,11 +119,17 @@ public abstract class BeaconStateAccessors {
         "Cannot get active validator indices from an epoch beyond the seed lookahead period. Requested epoch %s from state in epoch %s",
         epoch,
         stateEpoch);
-    return BeaconStateCache.getTransitionCaches(state)
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
+    return transitionCaches
         .getActiveValidators()
         .get(
             epoch,
             e -> {
+              final Optional<ValidatorRegistryMirror> maybeMirror =
+                  transitionCaches.getValidatorRegistryMirror(state);
+              if (maybeMirror.isPresent()) {
+                return maybeMirror.get().getActiveValidatorIndices(epoch);
+              }
               SszList<Validator> validators = state.getValidators();
               return IntList.of(
                   IntStream.range(0, validators.size())
@@ -134,6 +147,16 @@ public abstract class BeaconStateAccessors {
   }
 
   public UInt64 getTotalBalance(final BeaconState state, final Collection<Integer> indices) {
+    final Optional<ValidatorRegistryMirror> maybeMirror =
+        BeaconStateCache.getTransitionCaches(state).getValidatorRegistryMirror(state);
+    if (maybeMirror.isPresent()) {
+      final ValidatorRegistryMirror mirror = maybeMirror.get();
+      long sum = 0;
+      for (Integer index : indices) {
+        sum = Math.addExact(sum, mirror.getEffectiveBalance(index));
+      }
+      return UInt64.valueOf(sum).max(config.getEffectiveBalanceIncrement());
+    }
     UInt64 sum = UInt64.ZERO;
     SszList<Validator> validatorRegistry = state.getValidators();
     for (Integer index : indices) {
@@ -143,6 +166,12 @@ public abstract class BeaconStateAccessors {
   }
 
   public UInt64 getTotalActiveBalance(final BeaconState state) {
+    return getEpochContext(state)
+        .map(EpochContext::getTotalActiveBalance)
+        .orElseGet(() -> computeTotalActiveBalance(state));
+  }
+
+  protected UInt64 computeTotalActiveBalance(final BeaconState state) {
     return BeaconStateCache.getTransitionCaches(state)
         .getTotalActiveBalance()
         .get(
@@ -213,6 +242,12 @@ public abstract class BeaconStateAccessors {
 
   public int getBeaconProposerIndex(final BeaconState state, final UInt64 requestedSlot) {
     validateStateCanCalculateProposerIndexAtSlot(state, requestedSlot);
+    return getEpochContext(state)
+        .map(epochContext -> epochContext.getProposerIndex(requestedSlot))
+        .orElseGet(() -> computeBeaconProposerIndex(state, requestedSlot));
+  }
+
+  private int computeBeaconProposerIndex(final BeaconState state, final UInt64 requestedSlot) {
     return BeaconStateCache.getTransitionCaches(state)
         .getBeaconProposerIndex()
         .get(
@@ -306,6 +341,10 @@ public abstract class BeaconStateAccessors {
                       .plus(index)
                       .intValue();
               int count = committeesPerSlot.times(config.getSlotsPerEpoch()).intValue();
+              final Optional<IntList> sharedShuffling = getSharedAttesterShuffling(state, epoch);
+              if (sharedShuffling.isPresent()) {
+                return miscHelpers.computeCommittee(sharedShuffling.get(), committeeIndex, count);
+              }
               return miscHelpers.computeCommittee(
                   state,
                   getActiveValidatorIndices(state, epoch),
@@ -315,6 +354,92 @@ public abstract class BeaconStateAccessors {
             });
   }
 
+  public void setShufflingCache(final ShufflingCache shufflingCache) {
+    this.shufflingCache = Optional.of(shufflingCache);
+  }
+
+  public void setEpochContextCache(final EpochContextCache epochContextCache) {
+    this.epochContextCache = Optional.of(epochContextCache);
+  }
+
+  /**
+   * Returns the shared {@link EpochContext} for the current epoch of {@code state}, creating it if
+   * needed.
+   *
+   * <p>Returns empty if there is no shared cache or if the block the epoch depends on, the last
+   * block before its first slot, isn't available from {@code state}.
+   */
+  public Optional<EpochContext> getEpochContext(final BeaconState state) {
+    final Optional<EpochContextCache> maybeEpochContextCache = epochContextCache;
+    if (maybeEpochContextCache.isEmpty()) {
+      return Optional.empty();
+    }
+    final UInt64 epoch = getCurrentEpoch(state);
+    final UInt64 dependentSlot = miscHelpers.computeStartSlotAtEpoch(epoch).minusMinZero(1);
+    if (!isBlockRootAvailableFromState(state, dependentSlot)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        maybeEpochContextCache
+            .get()
+            .get(
+                epoch,
+                getBlockRootAtSlot(state, dependentSlot),
+                () -> createEpochContext(state, epoch).build()));
+  }
+
+  /**
+   * Creates the builder for the shared context of {@code epoch}, the current epoch of {@code
+   * state}. Values must be computed without consulting the shared context.
+   */
+  protected EpochContext.Builder createEpochContext(final BeaconState state, final UInt64 epoch) {
+    return EpochContext.builder()
+        .epoch(epoch)
+        .startSlot(miscHelpers.computeStartSlotAtEpoch(epoch))
+        .totalActiveBalance(computeTotalActiveBalance(state))
+        .proposerIndices(computeProposerIndices(state, epoch));
+  }
+
+  /** Returns the proposer index for each slot of {@code epoch}, the current epoch of the state. */
+  protected IntList computeProposerIndices(final BeaconState state, final UInt64 epoch) {
+    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
+    final int[] proposerIndices = new int[config.getSlotsPerEpoch()];
+    for (int i = 0; i < proposerIndices.length; i++) {
+      proposerIndices[i] = computeBeaconProposerIndex(state, startSlot.plus(i));
+    }
+    return IntList.of(proposerIndices);
+  }
+
+  /**
+   * Returns the attester shuffling for {@code epoch} from the shared {@link ShufflingCache},
+   * calculating it from {@code state} if needed.
+   *
+   * <p>Returns empty if there is no shared cache or if the block the shuffling depends on, the
+   * last block before the start of the previous epoch, isn't available from {@code state}.
+   */
+  private Optional<IntList> getSharedAttesterShuffling(
+      final BeaconState state, final UInt64 epoch) {
+    final Optional<ShufflingCache> maybeShufflingCache = shufflingCache;
+    if (maybeShufflingCache.isEmpty()) {
+      return Optional.empty();
+    }
+    final UInt64 dependentSlot =
+        miscHelpers.computeStartSlotAtEpoch(epoch.minusMinZero(1)).minusMinZero(1);
+    if (!isBlockRootAvailableFromState(state, dependentSlot)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        maybeShufflingCache
+            .get()
+            .get(
+                epoch,
+                getBlockRootAtSlot(state, dependentSlot),
+                () ->
+                    miscHelpers.shuffleList(
+                        getActiveValidatorIndices(state, epoch),
+                        getSeed(state, epoch, Domain.BEACON_ATTESTER))));
+  }
+
   public Int2IntMap getBeaconCommitteesSize(final BeaconState state, final UInt64 slot) {
     return BeaconStateCache.getTransitionCaches(state)
         .getBeaconCommitteesSize()
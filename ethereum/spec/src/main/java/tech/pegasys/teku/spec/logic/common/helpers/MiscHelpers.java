@@ -233,6 +233,17 @@ public class MiscHelpers {
     return computeCommitteeShuffle(state, indices, seed, start, end);
   }
 
+  /**
+   * Returns the committee at {@code index} out of {@code count} committees from the already
+   * shuffled active validator indices.
+   */
+  public IntList computeCommittee(final IntList shuffledIndices, final int index, final int count) {
+    final UInt64 indicesSize = UInt64.valueOf(shuffledIndices.size());
+    final int start = indicesSize.times(index).dividedBy(count).intValue();
+    final int end = indicesSize.times(index + 1).dividedBy(count).intValue();
+    return shuffledIndices.subList(start, end);
+  }
+
   private IntList computeCommitteeShuffle(
       final BeaconState state,
       final IntList indices,
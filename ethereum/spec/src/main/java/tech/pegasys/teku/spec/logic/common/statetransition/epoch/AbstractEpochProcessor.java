@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -67,6 +68,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
 
   private static final Logger LOG = LogManager.getLogger();
   protected final UInt64 maxEffectiveBalance;
+  private final boolean parallelEpochProcessingEnabled;
   // Used to log once per minute (throttlingPeriod = 60 seconds)
   private final Throttler<Logger> loggerThrottler = new Throttler<>(LOG, UInt64.valueOf(60));
   private final TimeProvider timeProvider;
@@ -90,6 +92,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     this.validatorStatusFactory = validatorStatusFactory;
     this.schemaDefinitions = schemaDefinitions;
     this.maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
+    this.parallelEpochProcessingEnabled = specConfig.isParallelEpochProcessingEnabled();
     this.timeProvider = timeProvider;
   }
 
@@ -330,6 +333,18 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
         return;
       }
 
+      if (parallelEpochProcessingEnabled) {
+        final Optional<RewardAndPenaltyRangeCalculator> rangeCalculator =
+            createRewardAndPenaltyRangeCalculator(state, validatorStatuses);
+        if (rangeCalculator.isPresent()) {
+          applyDeltas(
+              state,
+              PrimitiveRewardAndPenaltyDeltas.calculate(
+                  validatorStatuses.getValidatorCount(), rangeCalculator.get()));
+          return;
+        }
+      }
+
       RewardAndPenaltyDeltas attestationDeltas =
           getRewardAndPenaltyDeltas(state, validatorStatuses);
 
@@ -339,6 +354,33 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     }
   }
 
+  /**
+   * Creates a calculator which can produce the same deltas as {@link
+   * #getRewardAndPenaltyDeltas(BeaconState, ValidatorStatuses)} for independent ranges of
+   * validators, allowing them to be calculated in parallel.
+   *
+   * @return empty if rewards for one validator depend on others (e.g. phase0 proposer rewards) so
+   *     the deltas must be calculated sequentially
+   */
+  protected Optional<RewardAndPenaltyRangeCalculator> createRewardAndPenaltyRangeCalculator(
+      final BeaconState state, final ValidatorStatuses validatorStatuses) {
+    return Optional.empty();
+  }
+
+  private void applyDeltas(
+      final MutableBeaconState state, final PrimitiveRewardAndPenaltyDeltas deltas) {
+    final SszMutableUInt64List balances = state.getBalances();
+    final int validatorsCount = deltas.getValidatorCount();
+    for (int i = 0; i < validatorsCount; i++) {
+      final long reward = deltas.getReward(i);
+      final long penalty = deltas.getPenalty(i);
+      if (reward == 0 && penalty == 0) {
+        continue;
+      }
+      balances.setElement(i, balances.getElement(i).plus(reward).minusMinZero(penalty));
+    }
+  }
+
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
@@ -0,0 +1,61 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.stream.IntStream;
+
+/**
+ * Aggregated reward and penalty deltas held in primitive arrays, calculated in independent chunks
+ * on the fork-join common pool.
+ */
+public class PrimitiveRewardAndPenaltyDeltas {
+  @VisibleForTesting public static final int CHUNK_SIZE = 8192;
+
+  private final long[] rewards;
+  private final long[] penalties;
+
+  private PrimitiveRewardAndPenaltyDeltas(final long[] rewards, final long[] penalties) {
+    this.rewards = rewards;
+    this.penalties = penalties;
+  }
+
+  public static PrimitiveRewardAndPenaltyDeltas calculate(
+      final int validatorCount, final RewardAndPenaltyRangeCalculator calculator) {
+    final long[] rewards = new long[validatorCount];
+    final long[] penalties = new long[validatorCount];
+    final int chunkCount = (validatorCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    IntStream.range(0, chunkCount)
+        .parallel()
+        .forEach(
+            chunk -> {
+              final int fromIndex = chunk * CHUNK_SIZE;
+              final int toIndex = Math.min(fromIndex + CHUNK_SIZE, validatorCount);
+              calculator.calculateDeltas(fromIndex, toIndex, rewards, penalties);
+            });
+    return new PrimitiveRewardAndPenaltyDeltas(rewards, penalties);
+  }
+
+  public int getValidatorCount() {
+    return rewards.length;
+  }
+
+  public long getReward(final int validatorIndex) {
+    return rewards[validatorIndex];
+  }
+
+  public long getPenalty(final int validatorIndex) {
+    return penalties[validatorIndex];
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+/**
+ * Calculates aggregated reward and penalty deltas for a contiguous range of validators. Ranges are
+ * independent of each other so implementations must only read data that won't change while
+ * calculating and only write to the indices in the range they were given.
+ */
+@FunctionalInterface
+public interface RewardAndPenaltyRangeCalculator {
+
+  /**
+   * Adds the rewards and penalties for validators from {@code fromIndex} (inclusive) to {@code
+   * toIndex} (exclusive) to the supplied arrays.
+   */
+  void calculateDeltas(int fromIndex, int toIndex, long[] rewards, long[] penalties);
+}
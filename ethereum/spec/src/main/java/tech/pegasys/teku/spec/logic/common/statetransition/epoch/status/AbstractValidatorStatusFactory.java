@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.MAX_VALUE;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
@@ -25,6 +26,7 @@ import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistryMirror;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
@@ -58,13 +60,17 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
 
   @Override
   public ValidatorStatuses createValidatorStatuses(final BeaconState state) {
-    final SszList<Validator> validators = state.getValidators();
-
     final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
     final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
 
     final List<ValidatorStatus> statuses =
-        createInitialValidatorStatuses(validators, currentEpoch, previousEpoch);
+        BeaconStateCache.getTransitionCaches(state)
+            .getValidatorRegistryMirror(state)
+            .map(mirror -> createInitialValidatorStatuses(mirror, currentEpoch, previousEpoch))
+            .orElseGet(
+                () ->
+                    createInitialValidatorStatuses(
+                        state.getValidators(), currentEpoch, previousEpoch));
 
     processParticipation(statuses, state, previousEpoch, currentEpoch);
 
@@ -104,6 +110,29 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
         .toList();
   }
 
+  private List<ValidatorStatus> createInitialValidatorStatuses(
+      final ValidatorRegistryMirror mirror,
+      final UInt64 currentEpoch,
+      final UInt64 previousEpoch) {
+    final UInt64 nextEpoch = currentEpoch.plus(1);
+    return IntStream.range(0, mirror.size())
+        .parallel()
+        .mapToObj(
+            index -> {
+              final UInt64 withdrawableEpoch =
+                  UInt64.fromLongBits(mirror.getWithdrawableEpoch(index));
+              return new ValidatorStatus(
+                  mirror.isSlashed(index),
+                  withdrawableEpoch.isLessThanOrEqualTo(currentEpoch),
+                  UInt64.fromLongBits(mirror.getEffectiveBalance(index)),
+                  withdrawableEpoch,
+                  mirror.isActiveValidator(index, currentEpoch),
+                  mirror.isActiveValidator(index, previousEpoch),
+                  mirror.isActiveValidator(index, nextEpoch));
+            })
+        .toList();
+  }
+
   @Override
   public ValidatorStatus createValidatorStatus(
       final Validator validator, final UInt64 previousEpoch, final UInt64 currentEpoch) {
@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.logic.common.util;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
@@ -26,6 +27,8 @@ import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrate
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistryMirror;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
@@ -129,18 +132,38 @@ public class BeaconStateUtil {
   }
 
   public List<UInt64> getEffectiveActiveUnslashedBalances(final BeaconState state) {
-    return BeaconStateCache.getTransitionCaches(state)
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
+    return transitionCaches
         .getEffectiveBalances()
         .get(
             beaconStateAccessors.getCurrentEpoch(state),
             epoch ->
-                state.getValidators().stream()
-                    .map(
-                        validator ->
-                            predicates.isActiveValidator(validator, epoch) && !validator.isSlashed()
-                                ? validator.getEffectiveBalance()
-                                : UInt64.ZERO)
-                    .toList());
+                transitionCaches
+                    .getValidatorRegistryMirror(state)
+                    .map(mirror -> getEffectiveActiveUnslashedBalances(mirror, epoch))
+                    .orElseGet(() -> getEffectiveActiveUnslashedBalancesFromTree(state, epoch)));
+  }
+
+  private static List<UInt64> getEffectiveActiveUnslashedBalances(
+      final ValidatorRegistryMirror mirror, final UInt64 epoch) {
+    return IntStream.range(0, mirror.size())
+        .mapToObj(
+            index ->
+                mirror.isActiveValidator(index, epoch) && !mirror.isSlashed(index)
+                    ? UInt64.fromLongBits(mirror.getEffectiveBalance(index))
+                    : UInt64.ZERO)
+        .toList();
+  }
+
+  private List<UInt64> getEffectiveActiveUnslashedBalancesFromTree(
+      final BeaconState state, final UInt64 epoch) {
+    return state.getValidators().stream()
+        .map(
+            validator ->
+                predicates.isActiveValidator(validator, epoch) && !validator.isSlashed()
+                    ? validator.getEffectiveBalance()
+                    : UInt64.ZERO)
+        .toList();
   }
 
   public boolean all(final SszBitvector bitvector, final int start, final int end) {
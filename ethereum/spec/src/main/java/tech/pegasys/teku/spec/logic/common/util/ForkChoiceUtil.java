@@ -412,6 +412,22 @@ public class ForkChoiceUtil {
 
   public BlockImportResult checkOnBlockConditions(
       final SignedBeaconBlock block, final BeaconState blockSlotState, final ReadOnlyStore store) {
+    final BlockImportResult result = checkOnBatchedBlockConditions(block, blockSlotState, store);
+    if (result.isSuccessful()
+        && !blockDescendsFromLatestFinalizedBlock(
+            block.getSlot(), block.getParentRoot(), store, store.getForkChoiceStrategy())) {
+      return BlockImportResult.FAILED_INVALID_ANCESTRY;
+    }
+    return result;
+  }
+
+  /**
+   * Checks the conditions for importing a block whose parent is the previous block of the same
+   * batch and so is not yet in the store. The block descends from the latest finalized block
+   * because its parent does, which must have been checked with {@link #checkOnBlockConditions}.
+   */
+  public BlockImportResult checkOnBatchedBlockConditions(
+      final SignedBeaconBlock block, final BeaconState blockSlotState, final ReadOnlyStore store) {
     final UInt64 blockSlot = block.getSlot();
     if (blockSlotState == null) {
       return BlockImportResult.FAILED_UNKNOWN_PARENT;
@@ -429,10 +445,6 @@ public class ForkChoiceUtil {
     if (blockIsFromFuture(store, blockSlot)) {
       return BlockImportResult.FAILED_BLOCK_IS_FROM_FUTURE;
     }
-    if (!blockDescendsFromLatestFinalizedBlock(
-        block.getSlot(), block.getParentRoot(), store, store.getForkChoiceStrategy())) {
-      return BlockImportResult.FAILED_INVALID_ANCESTRY;
-    }
     // Successful so far
     return BlockImportResult.successful(block);
   }
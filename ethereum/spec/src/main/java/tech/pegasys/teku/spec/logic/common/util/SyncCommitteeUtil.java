@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLS;
@@ -51,6 +52,7 @@ import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContext;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
@@ -156,6 +158,13 @@ public class SyncCommitteeUtil {
 
   public int getCurrentSyncCommitteeParticipantValidatorIndex(
       final BeaconStateAltair state, final int committeeIndex) {
+    final Optional<IntList> currentSyncCommitteeIndices =
+        beaconStateAccessors
+            .getEpochContext(state)
+            .flatMap(EpochContext::getCurrentSyncCommitteeIndices);
+    if (currentSyncCommitteeIndices.isPresent()) {
+      return currentSyncCommitteeIndices.get().getInt(committeeIndex);
+    }
     final BLSPublicKey uncachedPubkey =
         state.getCurrentSyncCommittee().getPubkeys().get(committeeIndex).getBLSPublicKey();
     return validatorsUtil
@@ -21,10 +21,12 @@ import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uint64ToBy
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.crypto.Sha256;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.SszVector;
 import tech.pegasys.teku.infrastructure.unsigned.ByteUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
@@ -37,6 +39,8 @@ import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContext;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorIndexCache;
 import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
@@ -55,15 +59,58 @@ public class BeaconStateAccessorsAltair extends BeaconStateAccessors {
   }
 
   public UInt64 getBaseRewardPerIncrement(final BeaconState state) {
-    return BeaconStateCache.getTransitionCaches(state)
-        .getBaseRewardPerIncrement()
-        .get(
-            getCurrentEpoch(state),
-            __ ->
-                config
-                    .getEffectiveBalanceIncrement()
-                    .times(config.getBaseRewardFactor())
-                    .dividedBy(integerSquareRoot(getTotalActiveBalance(state))));
+    return getEpochContext(state)
+        .flatMap(EpochContext::getBaseRewardPerIncrement)
+        .orElseGet(
+            () ->
+                BeaconStateCache.getTransitionCaches(state)
+                    .getBaseRewardPerIncrement()
+                    .get(
+                        getCurrentEpoch(state),
+                        __ -> computeBaseRewardPerIncrement(getTotalActiveBalance(state))));
+  }
+
+  private UInt64 computeBaseRewardPerIncrement(final UInt64 totalActiveBalance) {
+    return config
+        .getEffectiveBalanceIncrement()
+        .times(config.getBaseRewardFactor())
+        .dividedBy(integerSquareRoot(totalActiveBalance));
+  }
+
+  @Override
+  protected EpochContext.Builder createEpochContext(final BeaconState state, final UInt64 epoch) {
+    final UInt64 baseRewardPerIncrement =
+        computeBaseRewardPerIncrement(computeTotalActiveBalance(state));
+    final EpochContext.Builder builder =
+        super.createEpochContext(state, epoch).baseRewardPerIncrement(baseRewardPerIncrement);
+    state
+        .toVersionAltair()
+        .flatMap(
+            altairState ->
+                computeSyncCommitteeIndices(state, altairState.getCurrentSyncCommittee()))
+        .ifPresent(builder::currentSyncCommitteeIndices);
+    return builder;
+  }
+
+  /**
+   * Returns the validator indices of the sync committee members, or empty if any member isn't in
+   * the registry, leaving lookups to report the unknown validator.
+   */
+  private Optional<IntList> computeSyncCommitteeIndices(
+      final BeaconState state, final SyncCommittee syncCommittee) {
+    final ValidatorIndexCache validatorIndexCache =
+        BeaconStateCache.getTransitionCaches(state).getValidatorIndexCache();
+    final SszVector<SszPublicKey> pubkeys = syncCommittee.getPubkeys();
+    final int[] indices = new int[pubkeys.size()];
+    for (int i = 0; i < indices.length; i++) {
+      final Optional<Integer> validatorIndex =
+          validatorIndexCache.getValidatorIndex(state, pubkeys.get(i).getBLSPublicKey());
+      if (validatorIndex.isEmpty()) {
+        return Optional.empty();
+      }
+      indices[i] = validatorIndex.get();
+    }
+    return Optional.of(IntList.of(indices));
   }
 
   /**
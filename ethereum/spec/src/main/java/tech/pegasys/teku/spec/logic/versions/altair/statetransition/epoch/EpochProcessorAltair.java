@@ -34,6 +34,7 @@ import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingDepos
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.AbstractEpochProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyRangeCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -97,6 +98,20 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
     return calculatorFunction.apply(calculator);
   }
 
+  @Override
+  protected Optional<RewardAndPenaltyRangeCalculator> createRewardAndPenaltyRangeCalculator(
+      final BeaconState genericState, final ValidatorStatuses validatorStatuses) {
+    final BeaconStateAltair state = BeaconStateAltair.required(genericState);
+    return Optional.of(
+        new RewardsAndPenaltiesCalculatorAltair(
+                specConfigAltair,
+                state,
+                validatorStatuses,
+                miscHelpersAltair,
+                beaconStateAccessorsAltair)
+            .createRangeCalculator());
+  }
+
   /**
    * Corresponds to process_participation_flag_updates in beacon-chain spec
    *
@@ -27,6 +27,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.B
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty.RewardComponent;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyRangeCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
@@ -80,6 +81,77 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     return deltas;
   }
 
+  /**
+   * Creates a calculator producing the same aggregated deltas as {@link #getDeltas()} for
+   * independent ranges of validators. All values needed from the state, including inactivity
+   * scores, are read up front so the returned calculator can safely be called from other threads.
+   */
+  public RewardAndPenaltyRangeCalculator createRangeCalculator() {
+    final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
+    final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
+    final int flagCount = PARTICIPATION_FLAG_WEIGHTS.size();
+
+    final long effectiveBalanceIncrement =
+        specConfigAltair.getEffectiveBalanceIncrement().longValue();
+    final long baseRewardPerIncrement =
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair).longValue();
+    final long rewardDenominator =
+        totalBalances
+            .getCurrentEpochActiveValidators()
+            .dividedBy(effectiveBalanceIncrement)
+            .times(WEIGHT_DENOMINATOR)
+            .longValue();
+    final long weightDenominator = WEIGHT_DENOMINATOR.longValue();
+    final long[] weights = new long[flagCount];
+    final long[] unslashedParticipatingIncrements = new long[flagCount];
+    for (int flagIndex = 0; flagIndex < flagCount; flagIndex++) {
+      weights[flagIndex] = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex).longValue();
+      unslashedParticipatingIncrements[flagIndex] =
+          getPrevEpochTotalParticipatingBalance(flagIndex)
+              .dividedBy(effectiveBalanceIncrement)
+              .longValue();
+    }
+    final boolean isInactivityLeak = isInactivityLeak();
+    final long inactivityPenaltyDenominator =
+        specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient()).longValue();
+    final long[] inactivityScores =
+        stateAltair.getInactivityScores().streamUnboxed().mapToLong(UInt64::longValue).toArray();
+
+    return (fromIndex, toIndex, rewards, penalties) -> {
+      for (int i = fromIndex; i < toIndex; i++) {
+        final ValidatorStatus validator = statusList.get(i);
+        if (!validator.isEligibleValidator()) {
+          continue;
+        }
+        final long effectiveBalance = validator.getCurrentEpochEffectiveBalance().longValue();
+        final long baseReward =
+            Math.multiplyExact(
+                effectiveBalance / effectiveBalanceIncrement, baseRewardPerIncrement);
+        for (int flagIndex = 0; flagIndex < flagCount; flagIndex++) {
+          if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
+            if (!isInactivityLeak) {
+              final long rewardNumerator =
+                  Math.multiplyExact(
+                      Math.multiplyExact(baseReward, weights[flagIndex]),
+                      unslashedParticipatingIncrements[flagIndex]);
+              rewards[i] = Math.addExact(rewards[i], rewardNumerator / rewardDenominator);
+            }
+          } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
+            penalties[i] =
+                Math.addExact(
+                    penalties[i],
+                    Math.multiplyExact(baseReward, weights[flagIndex]) / weightDenominator);
+          }
+        }
+        if (!validator.isPreviousEpochTargetAttester() || validator.isSlashed()) {
+          final long penaltyNumerator = Math.multiplyExact(effectiveBalance, inactivityScores[i]);
+          penalties[i] =
+              Math.addExact(penalties[i], penaltyNumerator / inactivityPenaltyDenominator);
+        }
+      }
+    };
+  }
+
   /**
    * Corresponds to altair beacon chain accessor get_flag_index_deltas
    *
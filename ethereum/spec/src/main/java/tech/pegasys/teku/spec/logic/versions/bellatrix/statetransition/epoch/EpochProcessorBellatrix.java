@@ -13,12 +13,14 @@
 
 package tech.pegasys.teku.spec.logic.versions.bellatrix.statetransition.epoch;
 
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.spec.config.SpecConfigBellatrix;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.BeaconStateBellatrix;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyRangeCalculator;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
@@ -70,6 +72,20 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
     return calculator.getDeltas();
   }
 
+  @Override
+  protected Optional<RewardAndPenaltyRangeCalculator> createRewardAndPenaltyRangeCalculator(
+      final BeaconState genericState, final ValidatorStatuses validatorStatuses) {
+    final BeaconStateBellatrix state = BeaconStateBellatrix.required(genericState);
+    return Optional.of(
+        new RewardsAndPenaltiesCalculatorBellatrix(
+                specConfigBellatrix,
+                state,
+                validatorStatuses,
+                miscHelpersAltair,
+                beaconStateAccessorsAltair)
+            .createRangeCalculator());
+  }
+
   @Override
   protected int getProportionalSlashingMultiplier() {
     return specConfigBellatrix.getProportionalSlashingMultiplierBellatrix();
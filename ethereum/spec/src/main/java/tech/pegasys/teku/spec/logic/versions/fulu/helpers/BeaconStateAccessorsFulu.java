@@ -69,6 +69,16 @@ public class BeaconStateAccessorsFulu extends BeaconStateAccessorsElectra {
     return proposerIndex;
   }
 
+  @Override
+  protected IntList computeProposerIndices(final BeaconState state, final UInt64 epoch) {
+    // The current epoch's proposers are at the start of the lookahead
+    final int[] proposerIndices = new int[config.getSlotsPerEpoch()];
+    for (int i = 0; i < proposerIndices.length; i++) {
+      proposerIndices[i] = getProposerLookaheadValue(state, i);
+    }
+    return IntList.of(proposerIndices);
+  }
+
   @Override
   protected void validateStateCanCalculateProposerIndexAtSlot(
       final BeaconState state, final UInt64 requestedSlot) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class ShufflingCacheTest {
+
+  private static final Bytes32 ROOT_A = Bytes32.fromHexString("0x01");
+  private static final Bytes32 ROOT_B = Bytes32.fromHexString("0x02");
+
+  private final ShufflingCache cache = new ShufflingCache(2);
+  private final AtomicInteger calculations = new AtomicInteger();
+
+  @Test
+  void shouldCalculateShufflingOnlyOnceForSameKey() {
+    final IntList first = cache.get(UInt64.ONE, ROOT_A, () -> shuffling(1, 2, 3));
+    final IntList second = cache.get(UInt64.ONE, ROOT_A, () -> shuffling(4, 5, 6));
+
+    assertThat(second).isSameAs(first);
+    assertThat(calculations).hasValue(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeyByEpochAndDependentRoot() {
+    cache.get(UInt64.ONE, ROOT_A, () -> shuffling(1));
+    assertThat(cache.get(UInt64.ONE, ROOT_B, () -> shuffling(2))).containsExactly(2);
+    assertThat(cache.get(UInt64.valueOf(2), ROOT_A, () -> shuffling(3))).containsExactly(3);
+
+    assertThat(calculations).hasValue(3);
+    assertThat(cache.getHitCount()).isZero();
+  }
+
+  @Test
+  void shouldEvictOldestShufflingWhenFull() {
+    cache.get(UInt64.ONE, ROOT_A, () -> shuffling(1));
+    cache.get(UInt64.ONE, ROOT_B, () -> shuffling(2));
+    cache.get(UInt64.valueOf(2), ROOT_A, () -> shuffling(3));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(UInt64.ONE, ROOT_A, () -> shuffling(4))).containsExactly(4);
+  }
+
+  private IntList shuffling(final int... indices) {
+    calculations.incrementAndGet();
+    return IntList.of(indices);
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorRegistryMirrorTest {
+
+  // Spans several pages with the last one partially filled
+  private static final int NUMBER_OF_VALIDATORS = 2500;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(NUMBER_OF_VALIDATORS);
+
+  @Test
+  public void create_shouldMirrorAllValidators() {
+    final ValidatorRegistryMirror mirror = ValidatorRegistryMirror.create(state.getValidators());
+
+    assertMirrors(mirror, state.getValidators());
+  }
+
+  @Test
+  public void updatedTo_shouldReturnSameInstanceWhenRegistryIsUnchanged() {
+    final ValidatorRegistryMirror mirror = ValidatorRegistryMirror.create(state.getValidators());
+    final BeaconState updatedState = state.updated(s -> s.setSlot(s.getSlot().plus(1)));
+
+    assertThat(mirror.updatedTo(updatedState.getValidators())).isSameAs(mirror);
+  }
+
+  @Test
+  public void updatedTo_shouldPickUpModifiedValidators() {
+    final ValidatorRegistryMirror mirror = ValidatorRegistryMirror.create(state.getValidators());
+    final BeaconState updatedState =
+        state.updated(
+            s -> {
+              s.getValidators()
+                  .update(0, validator -> validator.withEffectiveBalance(UInt64.valueOf(17)));
+              s.getValidators().update(1500, validator -> validator.withSlashed(true));
+              s.getValidators()
+                  .update(
+                      NUMBER_OF_VALIDATORS - 1,
+                      validator ->
+                          validator
+                              .withActivationEpoch(UInt64.valueOf(3))
+                              .withExitEpoch(UInt64.valueOf(5))
+                              .withWithdrawableEpoch(UInt64.MAX_VALUE));
+            });
+
+    final ValidatorRegistryMirror updatedMirror = mirror.updatedTo(updatedState.getValidators());
+
+    assertMirrors(updatedMirror, updatedState.getValidators());
+    assertThat(updatedMirror.getEffectiveBalance(0)).isEqualTo(17);
+    assertThat(updatedMirror.isSlashed(1500)).isTrue();
+    assertThat(updatedMirror.getWithdrawableEpoch(NUMBER_OF_VALIDATORS - 1)).isEqualTo(-1L);
+    // The original mirror is not modified
+    assertMirrors(mirror, state.getValidators());
+  }
+
+  @Test
+  public void updatedTo_shouldPickUpAppendedValidators() {
+    final ValidatorRegistryMirror mirror = ValidatorRegistryMirror.create(state.getValidators());
+    final BeaconState updatedState =
+        state.updated(
+            s -> {
+              for (int i = 0; i < 600; i++) {
+                s.getValidators().append(dataStructureUtil.randomValidator());
+              }
+            });
+
+    final ValidatorRegistryMirror updatedMirror = mirror.updatedTo(updatedState.getValidators());
+
+    assertThat(updatedMirror.size()).isEqualTo(NUMBER_OF_VALIDATORS + 600);
+    assertMirrors(updatedMirror, updatedState.getValidators());
+  }
+
+  @Test
+  public void updatedTo_shouldRecreateMirrorForSmallerRegistry() {
+    final ValidatorRegistryMirror mirror = ValidatorRegistryMirror.create(state.getValidators());
+    final BeaconState otherState = dataStructureUtil.randomBeaconState(10);
+
+    final ValidatorRegistryMirror updatedMirror = mirror.updatedTo(otherState.getValidators());
+
+    assertMirrors(updatedMirror, otherState.getValidators());
+  }
+
+  @Test
+  public void getActiveValidatorIndices_shouldMatchRegistry() {
+    final BeaconState activeState =
+        state.updated(
+            s -> {
+              s.getValidators()
+                  .update(
+                      5,
+                      validator ->
+                          validator
+                              .withActivationEpoch(UInt64.valueOf(2))
+                              .withExitEpoch(UInt64.valueOf(4)));
+              s.getValidators()
+                  .update(
+                      2000,
+                      validator ->
+                          validator
+                              .withActivationEpoch(UInt64.ZERO)
+                              .withExitEpoch(UInt64.MAX_VALUE));
+            });
+    final ValidatorRegistryMirror mirror =
+        ValidatorRegistryMirror.create(activeState.getValidators());
+
+    for (UInt64 epoch : UInt64.range(UInt64.ZERO, UInt64.valueOf(6)).toList()) {
+      final IntList expected = new IntArrayList();
+      for (int i = 0; i < activeState.getValidators().size(); i++) {
+        final Validator validator = activeState.getValidators().get(i);
+        if (validator.getActivationEpoch().isLessThanOrEqualTo(epoch)
+            && epoch.isLessThan(validator.getExitEpoch())) {
+          expected.add(i);
+        }
+      }
+      assertThat(mirror.getActiveValidatorIndices(epoch)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldRejectIndexOutOfBounds() {
+    final ValidatorRegistryMirror mirror = ValidatorRegistryMirror.create(state.getValidators());
+
+    assertThatThrownBy(() -> mirror.getEffectiveBalance(NUMBER_OF_VALIDATORS))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  public void transitionCaches_shouldNotMirrorMutableStates() {
+    final TransitionCaches transitionCaches = TransitionCaches.createNewEmpty();
+
+    state.updated(
+        mutableState ->
+            assertThat(transitionCaches.getValidatorRegistryMirror(mutableState)).isEmpty());
+  }
+
+  @Test
+  public void transitionCaches_shouldShareMirrorWithCopies() {
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
+    final ValidatorRegistryMirror mirror =
+        transitionCaches.getValidatorRegistryMirror(state).orElseThrow();
+
+    assertThat(transitionCaches.copy().getValidatorRegistryMirror(state)).containsSame(mirror);
+    assertThat(TransitionCaches.getNoOp().getValidatorRegistryMirror(state)).isEmpty();
+  }
+
+  private void assertMirrors(
+      final ValidatorRegistryMirror mirror, final SszList<Validator> validators) {
+    assertThat(mirror.size()).isEqualTo(validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      final Validator validator = validators.get(i);
+      assertThat(mirror.getEffectiveBalance(i))
+          .isEqualTo(validator.getEffectiveBalance().longValue());
+      assertThat(mirror.isSlashed(i)).isEqualTo(validator.isSlashed());
+      assertThat(mirror.getActivationEpoch(i))
+          .isEqualTo(validator.getActivationEpoch().longValue());
+      assertThat(mirror.getExitEpoch(i)).isEqualTo(validator.getExitEpoch().longValue());
+      assertThat(mirror.getWithdrawableEpoch(i))
+          .isEqualTo(validator.getWithdrawableEpoch().longValue());
+    }
+  }
+}
@@ -36,6 +36,9 @@ import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.BeaconStateTestBuilder;
 import tech.pegasys.teku.spec.datastructures.state.Committee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContext;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContextCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public class BeaconStateAccessorsTest {
@@ -186,6 +189,67 @@ public class BeaconStateAccessorsTest {
     assertThat(committeesSize).hasSize(committeeCount.intValue());
   }
 
+  @Test
+  public void getBeaconCommittee_sharesShufflingBetweenStatesWithSameDependentRoot() {
+    final Spec specWithSharedCache = TestSpecFactory.createMinimalPhase0();
+    final ShufflingCache shufflingCache = new ShufflingCache(ShufflingCache.DEFAULT_MAX_SHUFFLINGS);
+    specWithSharedCache.setShufflingCache(shufflingCache);
+    final BeaconStateAccessors sharedCacheAccessors =
+        specWithSharedCache.getGenesisSpec().beaconStateAccessors();
+    final BeaconState state =
+        new DataStructureUtil(specWithSharedCache)
+            .randomBeaconStateWithActiveValidators(256, UInt64.valueOf(20));
+    // Deserializing gives a state with the same history but empty transition caches
+    final BeaconState regeneratedState =
+        specWithSharedCache.deserializeBeaconState(state.sszSerialize());
+
+    final IntList committee =
+        sharedCacheAccessors.getBeaconCommittee(state, state.getSlot(), UInt64.ZERO);
+    final IntList regeneratedCommittee =
+        sharedCacheAccessors.getBeaconCommittee(regeneratedState, state.getSlot(), UInt64.ZERO);
+
+    assertThat(regeneratedCommittee).isEqualTo(committee);
+    assertThat(shufflingCache.getMissCount()).isEqualTo(1);
+    assertThat(shufflingCache.getHitCount()).isEqualTo(1);
+
+    // Matches the committee calculated without the shared cache
+    final BeaconState unsharedState = spec.deserializeBeaconState(state.sszSerialize());
+    assertThat(beaconStateAccessors.getBeaconCommittee(unsharedState, state.getSlot(), UInt64.ZERO))
+        .isEqualTo(committee);
+  }
+
+  @Test
+  public void getEpochContext_sharedBetweenStatesWithSameDependentRoot() {
+    final Spec specWithSharedCache = TestSpecFactory.createMinimalPhase0();
+    final EpochContextCache epochContextCache =
+        new EpochContextCache(EpochContextCache.DEFAULT_MAX_EPOCH_CONTEXTS);
+    specWithSharedCache.setEpochContextCache(epochContextCache);
+    final BeaconStateAccessors sharedCacheAccessors =
+        specWithSharedCache.getGenesisSpec().beaconStateAccessors();
+    final BeaconState state =
+        new DataStructureUtil(specWithSharedCache)
+            .randomBeaconStateWithActiveValidators(256, UInt64.valueOf(20));
+    final BeaconState regeneratedState =
+        specWithSharedCache.deserializeBeaconState(state.sszSerialize());
+
+    final EpochContext epochContext = sharedCacheAccessors.getEpochContext(state).orElseThrow();
+
+    assertThat(sharedCacheAccessors.getEpochContext(regeneratedState)).containsSame(epochContext);
+    assertThat(epochContextCache.getMissCount()).isEqualTo(1);
+
+    // Matches the values calculated without the shared cache
+    final BeaconState unsharedState = spec.deserializeBeaconState(state.sszSerialize());
+    assertThat(beaconStateAccessors.getEpochContext(unsharedState)).isEmpty();
+    assertThat(epochContext.getTotalActiveBalance())
+        .isEqualTo(beaconStateAccessors.getTotalActiveBalance(unsharedState));
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epochContext.getEpoch());
+    for (int i = 0; i < specConfig.getSlotsPerEpoch(); i++) {
+      final UInt64 slot = epochStartSlot.plus(i);
+      assertThat(epochContext.getProposerIndex(slot))
+          .isEqualTo(beaconStateAccessors.getBeaconProposerIndex(unsharedState, slot));
+    }
+  }
+
   @Test
   void calculateCommitteeFraction_full() {
     final BeaconState state = dataStructureUtil.randomBeaconState(1024);
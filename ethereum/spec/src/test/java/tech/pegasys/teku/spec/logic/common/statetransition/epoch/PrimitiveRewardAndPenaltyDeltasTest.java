@@ -0,0 +1,59 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.logic.common.statetransition.epoch.PrimitiveRewardAndPenaltyDeltas.CHUNK_SIZE;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveRewardAndPenaltyDeltasTest {
+
+  @Test
+  public void shouldCalculateEachValidatorExactlyOnce() {
+    final int validatorCount = 2 * CHUNK_SIZE + 7;
+    final AtomicIntegerArray calculationCounts = new AtomicIntegerArray(validatorCount);
+
+    final PrimitiveRewardAndPenaltyDeltas deltas =
+        PrimitiveRewardAndPenaltyDeltas.calculate(
+            validatorCount,
+            (fromIndex, toIndex, rewards, penalties) -> {
+              for (int i = fromIndex; i < toIndex; i++) {
+                calculationCounts.incrementAndGet(i);
+                rewards[i] += i;
+                penalties[i] += 2L * i;
+              }
+            });
+
+    assertThat(deltas.getValidatorCount()).isEqualTo(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      assertThat(calculationCounts.get(i)).isEqualTo(1);
+      assertThat(deltas.getReward(i)).isEqualTo(i);
+      assertThat(deltas.getPenalty(i)).isEqualTo(2L * i);
+    }
+  }
+
+  @Test
+  public void shouldHandleNoValidators() {
+    final PrimitiveRewardAndPenaltyDeltas deltas =
+        PrimitiveRewardAndPenaltyDeltas.calculate(
+            0,
+            (fromIndex, toIndex, rewards, penalties) -> {
+              throw new IllegalStateException("Should not calculate any ranges");
+            });
+
+    assertThat(deltas.getValidatorCount()).isZero();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.versions.altair.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContext;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContextCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class BeaconStateAccessorsAltairTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconStateAccessorsAltair beaconStateAccessors =
+      BeaconStateAccessorsAltair.required(spec.getGenesisSpec().beaconStateAccessors());
+  private final SyncCommitteeUtil syncCommitteeUtil =
+      spec.getSyncCommitteeUtilRequired(UInt64.ZERO);
+
+  @Test
+  void getEpochContext_shouldIncludeBaseRewardAndSyncCommitteeIndices() {
+    final BeaconStateAltair state =
+        BeaconStateAltair.required(
+            dataStructureUtil
+                .randomBeaconStateWithActiveValidators(64, UInt64.valueOf(20))
+                .updated(
+                    mutableState ->
+                        MutableBeaconStateAltair.required(mutableState)
+                            .setCurrentSyncCommittee(
+                                dataStructureUtil.randomSyncCommittee(
+                                    mutableState.getValidators()))));
+    final UInt64 expectedBaseRewardPerIncrement =
+        beaconStateAccessors.getBaseRewardPerIncrement(state);
+    final int expectedMemberIndex =
+        syncCommitteeUtil.getCurrentSyncCommitteeParticipantValidatorIndex(state, 3);
+
+    spec.setEpochContextCache(new EpochContextCache(EpochContextCache.DEFAULT_MAX_EPOCH_CONTEXTS));
+    final BeaconStateAltair regeneratedState =
+        BeaconStateAltair.required(spec.deserializeBeaconState(state.sszSerialize()));
+    final EpochContext epochContext =
+        beaconStateAccessors.getEpochContext(regeneratedState).orElseThrow();
+
+    assertThat(epochContext.getBaseRewardPerIncrement()).contains(expectedBaseRewardPerIncrement);
+    assertThat(epochContext.getCurrentSyncCommitteeIndices()).isPresent();
+    assertThat(beaconStateAccessors.getBaseRewardPerIncrement(regeneratedState))
+        .isEqualTo(expectedBaseRewardPerIncrement);
+    assertThat(
+            syncCommitteeUtil.getCurrentSyncCommitteeParticipantValidatorIndex(regeneratedState, 3))
+        .isEqualTo(expectedMemberIndex);
+  }
+
+  @Test
+  void getEpochContext_shouldOmitSyncCommitteeIndicesWhenMemberIsUnknown() {
+    // Random sync committee members aren't in the registry
+    final BeaconState state =
+        dataStructureUtil.randomBeaconStateWithActiveValidators(64, UInt64.valueOf(20));
+    spec.setEpochContextCache(new EpochContextCache(EpochContextCache.DEFAULT_MAX_EPOCH_CONTEXTS));
+
+    final EpochContext epochContext = beaconStateAccessors.getEpochContext(state).orElseThrow();
+
+    assertThat(epochContext.getCurrentSyncCommitteeIndices()).isEmpty();
+    assertThat(epochContext.getBaseRewardPerIncrement()).isPresent();
+  }
+}
@@ -14,13 +14,26 @@
 package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateSchemaAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.PrimitiveRewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
+import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public class EpochProcessorAltairTest {
@@ -50,6 +63,74 @@ public class EpochProcessorAltairTest {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {8, 2})
+  public void processRewardsAndPenalties_shouldMatchSequentialResultsWhenCalculatedInParallel(
+      final int finalizedEpoch) throws Exception {
+    final Spec parallelSpec =
+        TestSpecFactory.create(
+            SpecMilestone.ALTAIR,
+            Eth2Network.MINIMAL,
+            builder -> builder.parallelEpochProcessingEnabled(true));
+    final EpochProcessor parallelEpochProcessor = parallelSpec.getGenesisSpec().getEpochProcessor();
+    // Spread over several chunks, with the last one only partially filled
+    final BeaconStateAltair state =
+        generateStateWithActiveValidators(
+            3 * PrimitiveRewardAndPenaltyDeltas.CHUNK_SIZE + 123, UInt64.valueOf(finalizedEpoch));
+    final ValidatorStatuses validatorStatuses =
+        spec.getGenesisSpec().getValidatorStatusFactory().createValidatorStatuses(state);
+
+    final BeaconState sequentialResult =
+        state.updated(
+            mutableState ->
+                epochProcessor.processRewardsAndPenalties(mutableState, validatorStatuses));
+    final BeaconState parallelResult =
+        state.updated(
+            mutableState ->
+                parallelEpochProcessor.processRewardsAndPenalties(mutableState, validatorStatuses));
+
+    assertThat(sequentialResult.getBalances()).isNotEqualTo(state.getBalances());
+    assertThat(parallelResult.getBalances()).isEqualTo(sequentialResult.getBalances());
+  }
+
+  private BeaconStateAltair generateStateWithActiveValidators(
+      final int validatorCount, final UInt64 finalizedEpoch) {
+    // Generating a distinct key for every validator is slow and irrelevant to epoch processing
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    final DataStructureUtil util = new DataStructureUtil(spec).withPubKeyGenerator(() -> publicKey);
+    final BeaconStateSchemaAltair schema =
+        BeaconStateSchemaAltair.required(util.getBeaconStateSchema());
+    final UInt64 maxEffectiveBalance = spec.getGenesisSpec().getConfig().getMaxEffectiveBalance();
+    final UInt64 increment = spec.getGenesisSpec().getConfig().getEffectiveBalanceIncrement();
+    final SszList<Validator> validators =
+        util.randomSszList(
+            schema.getValidatorsSchema(),
+            validatorCount,
+            () ->
+                util.validatorBuilder()
+                    .effectiveBalance(
+                        maxEffectiveBalance.minusMinZero(increment.times(util.randomUInt64(8))))
+                    .slashed(util.randomUInt64(20).isZero())
+                    .activationEligibilityEpoch(UInt64.ZERO)
+                    .activationEpoch(UInt64.ZERO)
+                    .exitEpoch(
+                        util.randomUInt64(20).isZero() ? UInt64.valueOf(3) : FAR_FUTURE_EPOCH)
+                    .build());
+    return util.stateBuilderAltair(validatorCount, 10)
+        .setSlotToStartOfEpoch(UInt64.valueOf(10))
+        .setFinalizedCheckpointToEpoch(finalizedEpoch)
+        .validators(validators)
+        .balances(
+            util.randomSszUInt64List(
+                schema.getBalancesSchema(),
+                validatorCount,
+                () -> maxEffectiveBalance.minusMinZero(util.randomUInt64(1_000_000_000))))
+        .inactivityScores(
+            util.randomSszUInt64List(
+                schema.getInactivityScoresSchema(), validatorCount, () -> util.randomUInt64(100)))
+        .build();
+  }
+
   private BeaconStateAltair generateRandomState() {
     return dataStructureUtil.stateBuilderAltair().build();
   }
@@ -0,0 +1,122 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Generates checkpoint states ahead of time so gossip validation finds them in the checkpoint
+ * state cache rather than regenerating them on demand.
+ *
+ * <p>At each epoch boundary the heaviest viable chain heads are advanced into the new epoch.
+ * Attestation targets are prefetched the first time they are seen in gossip, which covers forks
+ * that were not heavy enough to be selected. Each checkpoint is only requested once, concurrent
+ * requests for a checkpoint that is still being generated are merged by the store.
+ */
+public class CheckpointStatePrefetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final int DEFAULT_MAX_PREFETCHED_HEADS = 4;
+  static final int MAX_TRACKED_CHECKPOINTS = 64;
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final AsyncRunner asyncRunner;
+  private final int maxPrefetchedHeads;
+  private final Set<Checkpoint> requestedCheckpoints =
+      LimitedSet.createSynchronized(MAX_TRACKED_CHECKPOINTS);
+  private final LabelledMetric<Counter> prefetchCounter;
+
+  public CheckpointStatePrefetcher(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final int maxPrefetchedHeads) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.asyncRunner = asyncRunner;
+    this.maxPrefetchedHeads = maxPrefetchedHeads;
+    this.prefetchCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "checkpoint_state_prefetch_total",
+            "Number of checkpoint states requested ahead of time",
+            "source");
+  }
+
+  /**
+   * Advances the heaviest chain heads from the previous epoch to the first slot of {@code epoch}.
+   * Heads more than an epoch behind are skipped as the node most likely needs to sync.
+   */
+  public void prefetchChainHeads(final UInt64 epoch) {
+    final UInt64 firstSlot = spec.computeStartSlotAtEpoch(epoch);
+    final UInt64 slotsPerEpoch = UInt64.valueOf(spec.getSlotsPerEpoch(firstSlot));
+    recentChainData.getChainHeads().stream()
+        .filter(
+            head ->
+                head.getSlot().isLessThan(firstSlot)
+                    && head.getSlot().plus(slotsPerEpoch).isGreaterThanOrEqualTo(firstSlot))
+        .sorted(Comparator.comparing(ProtoNodeData::getWeight).reversed())
+        .limit(maxPrefetchedHeads)
+        .forEach(head -> prefetch(new Checkpoint(epoch, head.getRoot()), "chain_head"));
+  }
+
+  /**
+   * Prefetches the target of a gossiped attestation if it is for the current or previous epoch
+   * and has not been requested before. Only call this once the attestation has been accepted, as
+   * otherwise any peer could trigger state regeneration with made up targets.
+   */
+  public void onAttestationTarget(final Checkpoint target) {
+    final Optional<UInt64> maybeCurrentEpoch = recentChainData.getCurrentEpoch();
+    if (maybeCurrentEpoch.isEmpty()
+        || target.getEpoch().isGreaterThan(maybeCurrentEpoch.get())
+        || target.getEpoch().plus(1).isLessThan(maybeCurrentEpoch.get())
+        || requestedCheckpoints.contains(target)
+        || !recentChainData.containsBlock(target.getRoot())) {
+      return;
+    }
+    prefetch(target, "attestation_target");
+  }
+
+  private void prefetch(final Checkpoint checkpoint, final String source) {
+    if (!requestedCheckpoints.add(checkpoint)
+        || recentChainData.getStore().getCheckpointStateIfAvailable(checkpoint).isPresent()) {
+      return;
+    }
+    prefetchCounter.labels(source).inc();
+    asyncRunner
+        .runAsync(() -> recentChainData.retrieveCheckpointState(checkpoint))
+        .finish(
+            error -> {
+              requestedCheckpoints.remove(checkpoint);
+              LOG.debug("Failed to prefetch checkpoint state for {}", checkpoint, error);
+            });
+  }
+}
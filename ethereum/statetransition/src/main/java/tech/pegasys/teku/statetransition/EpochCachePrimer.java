@@ -31,15 +31,22 @@ public class EpochCachePrimer {
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncRunner asyncRunner;
+  private final CheckpointStatePrefetcher checkpointStatePrefetcher;
 
   public EpochCachePrimer(
-      final Spec spec, final RecentChainData recentChainData, final AsyncRunner asyncRunner) {
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final CheckpointStatePrefetcher checkpointStatePrefetcher) {
     this.spec = spec;
     this.recentChainData = recentChainData;
     this.asyncRunner = asyncRunner;
+    this.checkpointStatePrefetcher = checkpointStatePrefetcher;
   }
 
   public void primeCacheForEpoch(final UInt64 epoch) {
+    // Competing forks need their checkpoint states too, the head is shared with the priming below
+    checkpointStatePrefetcher.prefetchChainHeads(epoch);
     final UInt64 firstSlot = spec.computeStartSlotAtEpoch(epoch);
     recentChainData
         .getHeadBlock()
@@ -0,0 +1,178 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.ChainHead;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Advances the head state into the next slot during the idle time at the end of the current slot,
+ * so block production, duties and gossip validation at the start of the next slot find it in the
+ * store's state cache rather than processing slots on demand.
+ *
+ * <p>The head is advanced once the advance is due for a slot and again whenever the head changes
+ * after that point. Only the most recently requested advance is kept: queued work for a head that
+ * has since changed is skipped and its result is not primed. The first slot of an epoch is left
+ * to {@link EpochCachePrimer}, which also runs the epoch transition.
+ */
+public class NextSlotStateAdvancer implements ChainHeadChannel {
+  public static final NextSlotStateAdvancer NOOP =
+      new NextSlotStateAdvancer(null, null, null, new NoOpMetricsSystem()) {
+        @Override
+        public void onNextSlotStateAdvanceDue(final UInt64 slot) {}
+
+        @Override
+        public void chainHeadUpdated(
+            final UInt64 slot,
+            final Bytes32 stateRoot,
+            final Bytes32 bestBlockRoot,
+            final boolean epochTransition,
+            final boolean executionOptimistic,
+            final Bytes32 previousDutyDependentRoot,
+            final Bytes32 currentDutyDependentRoot,
+            final Optional<ReorgContext> optionalReorgContext) {}
+      };
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final AsyncRunner asyncRunner;
+  private final LabelledMetric<Counter> advanceCounter;
+  private final AtomicReference<SlotAndBlockRoot> latestTarget = new AtomicReference<>();
+
+  private volatile boolean inSync;
+  private volatile UInt64 advanceDueSlot;
+
+  public NextSlotStateAdvancer(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.asyncRunner = asyncRunner;
+    this.advanceCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "next_slot_state_advance_total",
+            "Number of head states advanced into the next slot ahead of time",
+            "result");
+  }
+
+  /** Called once the advance into the slot after {@code slot} is due. */
+  public void onNextSlotStateAdvanceDue(final UInt64 slot) {
+    advanceDueSlot = slot;
+    recentChainData
+        .getChainHead()
+        .ifPresent(head -> maybeAdvance(slot.increment(), head.getSlot(), head.getRoot()));
+  }
+
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    final UInt64 dueSlot = advanceDueSlot;
+    if (dueSlot != null) {
+      // Head changed after the advance for the current slot so the advanced state is stale
+      maybeAdvance(dueSlot.increment(), slot, bestBlockRoot);
+    }
+  }
+
+  public void onSyncingStatusChanged(final boolean inSync) {
+    this.inSync = inSync;
+  }
+
+  private void maybeAdvance(final UInt64 targetSlot, final UInt64 headSlot, final Bytes32 root) {
+    if (!inSync
+        || headSlot.isGreaterThanOrEqualTo(targetSlot)
+        || isFirstSlotOfEpoch(targetSlot)
+        || headSlot.plus(spec.getSlotsPerEpoch(targetSlot)).isLessThan(targetSlot)) {
+      return;
+    }
+    final SlotAndBlockRoot target = new SlotAndBlockRoot(targetSlot, root);
+    if (target.equals(latestTarget.getAndSet(target))) {
+      return;
+    }
+    asyncRunner
+        .runAsync(() -> advance(target))
+        .finish(error -> LOG.debug("Failed to advance head state to {}", target, error));
+  }
+
+  private SafeFuture<Void> advance(final SlotAndBlockRoot target) {
+    if (isStale(target)) {
+      advanceCounter.labels("skipped").inc();
+      return SafeFuture.COMPLETE;
+    }
+    return recentChainData
+        .retrieveStateAtSlot(target)
+        .thenAccept(
+            maybeState -> {
+              if (maybeState.isEmpty()) {
+                advanceCounter.labels("unavailable").inc();
+              } else if (isStale(target)) {
+                // Leave the state cached, a reorg may switch back, but don't spend time priming it
+                advanceCounter.labels("stale").inc();
+              } else {
+                primeSlotCaches(maybeState.get());
+                advanceCounter.labels("advanced").inc();
+              }
+            });
+  }
+
+  private boolean isStale(final SlotAndBlockRoot target) {
+    return !target.equals(latestTarget.get())
+        || !recentChainData
+            .getChainHead()
+            .map(ChainHead::getRoot)
+            .map(target.getBlockRoot()::equals)
+            .orElse(false);
+  }
+
+  private boolean isFirstSlotOfEpoch(final UInt64 slot) {
+    return spec.computeStartSlotAtEpoch(spec.computeEpochAtSlot(slot)).equals(slot);
+  }
+
+  private void primeSlotCaches(final BeaconState state) {
+    final UInt64 slot = state.getSlot();
+    spec.getBeaconProposerIndex(state, slot);
+    // Note: calculating the committees size for a slot also calculates the committees
+    spec.getBeaconCommitteesSize(state, slot);
+    spec.getBeaconStateUtil(slot).getAttestersTotalEffectiveBalance(state, slot);
+  }
+}
@@ -143,28 +143,7 @@ public class BlockImporter {
                             blockImportPerformance,
                             blockBroadcastValidator,
                             executionLayer)))
-        .thenApply(
-            result -> {
-              if (!result.isSuccessful()) {
-                LOG.debug(
-                    "Failed to import block for reason {}: {}",
-                    result::getFailureReason,
-                    block::toLogString);
-                return result;
-              }
-              LOG.debug("Successfully imported block {}", block::toLogString);
-
-              receivedBlockEventsChannelPublisher.onBlockImported(
-                  block, result.isImportedOptimistically());
-
-              // Notify operation pools to remove operations only
-              // if the block is on our canonical chain
-              if (result.isBlockOnCanonicalChain()) {
-                notifyBlockOperationSubscribers(block);
-              }
-
-              return result;
-            })
+        .thenApply(result -> onBlockImportResult(block, result))
         .exceptionally(
             (e) -> {
               final String internalErrorMessage =
@@ -176,6 +155,108 @@ public class BlockImporter {
             });
   }
 
+  /**
+   * Import a chain of blocks from sync, where each block is the child of the previous one, with
+   * {@link ForkChoice#onBlocks}. Leading blocks that are already known are skipped. If any other
+   * block needs special handling, the blocks are imported one at a time instead.
+   *
+   * @return the import results in block order, ending at the first block that failed to import
+   */
+  @CheckReturnValue
+  public SafeFuture<List<BlockImportResult>> importBlocks(final List<SignedBeaconBlock> blocks) {
+    final List<BlockImportResult> results = new ArrayList<>();
+    int firstUnknownBlock = 0;
+    while (firstUnknownBlock < blocks.size()) {
+      final SignedBeaconBlock block = blocks.get(firstUnknownBlock);
+      final Optional<Boolean> knownOptimistic = recentChainData.isBlockOptimistic(block.getRoot());
+      if (knownOptimistic.isEmpty()) {
+        break;
+      }
+      results.add(BlockImportResult.knownBlock(block, knownOptimistic.get()));
+      firstUnknownBlock++;
+    }
+    final List<SignedBeaconBlock> blocksToImport =
+        blocks.subList(firstUnknownBlock, blocks.size());
+    if (blocksToImport.isEmpty()) {
+      return SafeFuture.completedFuture(results);
+    }
+    if (!canImportAsBatch(blocksToImport)) {
+      return importBlocksSequentially(blocksToImport, results);
+    }
+
+    return validateWeakSubjectivityPeriod()
+        .thenCompose(
+            __ -> asyncRunner.runAsync(() -> forkChoice.onBlocks(blocksToImport, executionLayer)))
+        .thenApply(
+            batchResults -> {
+              for (int i = 0; i < batchResults.size(); i++) {
+                results.add(onBlockImportResult(blocksToImport.get(i), batchResults.get(i)));
+              }
+              return results;
+            })
+        .exceptionally(
+            (e) -> {
+              LOG.error(
+                  "Internal error while importing blocks {} to {}",
+                  blocksToImport.getFirst().toLogString(),
+                  blocksToImport.getLast().toLogString(),
+                  e);
+              results.add(BlockImportResult.internalError(e));
+              return results;
+            });
+  }
+
+  private boolean canImportAsBatch(final List<SignedBeaconBlock> blocks) {
+    final ReadOnlyForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+    return blocks.stream()
+        .allMatch(
+            block ->
+                !BAD_BLOCKS.contains(block.getRoot())
+                    && recentChainData.isBlockOptimistic(block.getRoot()).isEmpty()
+                    && weakSubjectivityValidator.isBlockValid(block, forkChoiceStrategy));
+  }
+
+  private SafeFuture<List<BlockImportResult>> importBlocksSequentially(
+      final List<SignedBeaconBlock> blocks, final List<BlockImportResult> results) {
+    SafeFuture<Boolean> importedSoFar = SafeFuture.completedFuture(true);
+    for (final SignedBeaconBlock block : blocks) {
+      importedSoFar =
+          importedSoFar.thenCompose(
+              previousImported -> {
+                if (!previousImported) {
+                  return SafeFuture.completedFuture(false);
+                }
+                return importBlock(block)
+                    .thenApply(
+                        result -> {
+                          results.add(result);
+                          return result.isSuccessful();
+                        });
+              });
+    }
+    return importedSoFar.thenApply(__ -> results);
+  }
+
+  private BlockImportResult onBlockImportResult(
+      final SignedBeaconBlock block, final BlockImportResult result) {
+    if (!result.isSuccessful()) {
+      LOG.debug(
+          "Failed to import block for reason {}: {}", result::getFailureReason, block::toLogString);
+      return result;
+    }
+    LOG.debug("Successfully imported block {}", block::toLogString);
+
+    receivedBlockEventsChannelPublisher.onBlockImported(block, result.isImportedOptimistically());
+
+    // Notify operation pools to remove operations only
+    // if the block is on our canonical chain
+    if (result.isBlockOnCanonicalChain()) {
+      notifyBlockOperationSubscribers(block);
+    }
+
+    return result;
+  }
+
   private SafeFuture<Void> validateWeakSubjectivityPeriod() {
     return getLatestCheckpointState()
         .thenCombine(
@@ -21,6 +21,7 @@ import static tech.pegasys.teku.statetransition.forkchoice.StateRootCollector.ad
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.net.ConnectException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +43,7 @@ import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.cache.CapturingIndexedAttestationCache;
 import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
@@ -67,6 +69,9 @@ import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.availability.AvailabilityChecker;
 import tech.pegasys.teku.spec.logic.common.statetransition.availability.DataAndValidationResult;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -225,6 +230,209 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                     executionLayer));
   }
 
+  /**
+   * Import a chain of blocks to the store, where each block is the child of the previous one, as
+   * received from sync.
+   *
+   * <p>The state transitions run back-to-back, each on the post-state of the previous block, and
+   * the signatures of the whole batch are checked in a single batch verification. Execution
+   * payloads are sent to the execution layer in order as soon as each transition has produced them.
+   * The blocks are then imported in order and the head is only recomputed once at the end.
+   *
+   * <p>If any block fails its state transition or the batch signature check fails, the blocks are
+   * imported one at a time instead so the invalid block is identified and its ancestors imported.
+   *
+   * @return the import results in block order, ending at the first block that failed to import
+   */
+  public SafeFuture<List<BlockImportResult>> onBlocks(
+      final List<SignedBeaconBlock> blocks, final ExecutionLayerChannel executionLayer) {
+    if (!canImportAsBatch(blocks)) {
+      return onBlocksSequentially(blocks, executionLayer);
+    }
+    blocks.forEach(recentChainData::setBlockTimelinessIfEmpty);
+    final SignedBeaconBlock firstBlock = blocks.getFirst();
+    return recentChainData
+        .retrieveStateAtSlot(new SlotAndBlockRoot(firstBlock.getSlot(), firstBlock.getParentRoot()))
+        .thenCompose(
+            blockSlotState -> {
+              if (blockSlotState.isEmpty()) {
+                return SafeFuture.completedFuture(List.of(BlockImportResult.FAILED_UNKNOWN_PARENT));
+              }
+              return processBatch(blocks, blockSlotState.get(), executionLayer)
+                  .map(this::importProcessedBatch)
+                  .orElseGet(() -> onBlocksSequentially(blocks, executionLayer));
+            });
+  }
+
+  private boolean canImportAsBatch(final List<SignedBeaconBlock> blocks) {
+    if (blocks.size() < 2) {
+      return false;
+    }
+    final SpecMilestone milestone = spec.atSlot(blocks.getLast().getSlot()).getMilestone();
+    // Execution payloads are imported separately from Gloas, and the batch can't check the merge
+    // transition block against ancestors that aren't in the store yet
+    return milestone.isLessThan(SpecMilestone.GLOAS)
+        && (milestone.isLessThan(SpecMilestone.BELLATRIX)
+            || transitionBlockValidator.isTransitionBlockFinalized());
+  }
+
+  private SafeFuture<List<BlockImportResult>> onBlocksSequentially(
+      final List<SignedBeaconBlock> blocks, final ExecutionLayerChannel executionLayer) {
+    final List<BlockImportResult> results = new ArrayList<>();
+    SafeFuture<Boolean> importedSoFar = SafeFuture.completedFuture(true);
+    for (final SignedBeaconBlock block : blocks) {
+      importedSoFar =
+          importedSoFar.thenCompose(
+              previousImported -> {
+                if (!previousImported) {
+                  return SafeFuture.completedFuture(false);
+                }
+                return onBlock(
+                        block, Optional.empty(), BlockBroadcastValidator.NOOP, executionLayer)
+                    .thenApply(
+                        result -> {
+                          results.add(result);
+                          return result.isSuccessful();
+                        });
+              });
+    }
+    return importedSoFar.thenApply(__ -> results);
+  }
+
+  /**
+   * Runs the state transitions of the batch and verifies all of their signatures at once.
+   *
+   * @return the processed blocks, or empty if any block is invalid
+   */
+  private Optional<List<ProcessedBlock>> processBatch(
+      final List<SignedBeaconBlock> blocks,
+      final BeaconState firstBlockSlotState,
+      final ExecutionLayerChannel executionLayer) {
+    final BatchSignatureVerifier signatureVerifier =
+        spec.atSlot(blocks.getLast().getSlot()).getConfig().createBatchSignatureVerifier();
+    final List<ProcessedBlock> processedBlocks = new ArrayList<>();
+    for (final SignedBeaconBlock block : blocks) {
+      try {
+        final ForkChoiceUtil forkChoiceUtil = spec.atSlot(block.getSlot()).getForkChoiceUtil();
+        final BeaconState blockSlotState;
+        final BlockImportResult preconditionCheckResult;
+        final ForkChoicePayloadExecutor payloadExecutor;
+        if (processedBlocks.isEmpty()) {
+          blockSlotState = firstBlockSlotState;
+          preconditionCheckResult =
+              forkChoiceUtil.checkOnBlockConditions(
+                  block, blockSlotState, recentChainData.getStore());
+          payloadExecutor =
+              ForkChoicePayloadExecutor.create(spec, recentChainData, block, executionLayer);
+        } else {
+          final ProcessedBlock parent = processedBlocks.getLast();
+          blockSlotState = spec.processSlots(parent.postState(), block.getSlot());
+          preconditionCheckResult =
+              forkChoiceUtil.checkOnBatchedBlockConditions(
+                  block, blockSlotState, recentChainData.getStore());
+          payloadExecutor =
+              ForkChoicePayloadExecutor.createForBatchedBlock(
+                  spec, recentChainData, block, executionLayer, parent.payloadExecutor());
+        }
+        if (!preconditionCheckResult.isSuccessful()) {
+          LOG.debug(
+              "Batched block {} failed import preconditions: {}",
+              block::toLogString,
+              preconditionCheckResult::getFailureReason);
+          return Optional.empty();
+        }
+
+        final CapturingIndexedAttestationCache indexedAttestationCache =
+            IndexedAttestationCache.capturing();
+        final BeaconState postState =
+            spec.getBlockProcessor(block.getSlot())
+                .processAndValidateBlock(
+                    block,
+                    blockSlotState,
+                    indexedAttestationCache,
+                    signatureVerifier,
+                    Optional.of(payloadExecutor));
+        processedBlocks.add(
+            new ProcessedBlock(
+                block,
+                blockSlotState,
+                postState,
+                forkChoiceUtil,
+                indexedAttestationCache,
+                payloadExecutor));
+      } catch (final SlotProcessingException
+          | EpochProcessingException
+          | StateTransitionException e) {
+        LOG.debug("Failed to process batched block {}", block.toLogString(), e);
+        return Optional.empty();
+      }
+    }
+
+    if (!signatureVerifier.batchVerify()) {
+      LOG.debug(
+          "Batch signature verification failed for blocks {} to {}",
+          blocks.getFirst().toLogString(),
+          blocks.getLast().toLogString());
+      return Optional.empty();
+    }
+    return Optional.of(processedBlocks);
+  }
+
+  private SafeFuture<List<BlockImportResult>> importProcessedBatch(
+      final List<ProcessedBlock> processedBlocks) {
+    // Start all the data availability checks up front so they run alongside the imports
+    final List<SafeFuture<? extends DataAndValidationResult<?>>> availabilityResults =
+        new ArrayList<>();
+    for (final ProcessedBlock processedBlock : processedBlocks) {
+      final AvailabilityChecker<?> availabilityChecker =
+          processedBlock.forkChoiceUtil().createAvailabilityChecker(processedBlock.block());
+      availabilityChecker.initiateDataAvailabilityCheck();
+      availabilityResults.add(availabilityChecker.getAvailabilityCheckResult());
+    }
+
+    final List<BlockImportResult> results = new ArrayList<>();
+    SafeFuture<Boolean> importedSoFar = SafeFuture.completedFuture(true);
+    for (int i = 0; i < processedBlocks.size(); i++) {
+      final ProcessedBlock processedBlock = processedBlocks.get(i);
+      final SafeFuture<? extends DataAndValidationResult<?>> availabilityResult =
+          availabilityResults.get(i);
+      importedSoFar =
+          importedSoFar.thenCompose(
+              previousImported -> {
+                if (!previousImported) {
+                  return SafeFuture.completedFuture(false);
+                }
+                return processedBlock
+                    .payloadExecutor()
+                    .getExecutionResult()
+                    .thenCombineAsync(
+                        availabilityResult,
+                        (payloadResult, dataAndValidationResult) -> {
+                          final BlockImportResult result =
+                              importBlockAndState(
+                                  processedBlock.block(),
+                                  processedBlock.blockSlotState(),
+                                  Optional.empty(),
+                                  processedBlock.forkChoiceUtil(),
+                                  processedBlock.indexedAttestationCache(),
+                                  processedBlock.postState(),
+                                  payloadResult,
+                                  dataAndValidationResult,
+                                  false);
+                          results.add(result);
+                          return result.isSuccessful();
+                        },
+                        forkChoiceExecutor);
+              });
+    }
+    return importedSoFar.thenApplyAsync(
+        __ -> {
+          updateForkChoiceForImportedBatch(results);
+          return results;
+        },
+        forkChoiceExecutor);
+  }
+
   /** Import an execution payload to the store. */
   public SafeFuture<ExecutionPayloadImportResult> onExecutionPayload(
       final SignedExecutionPayloadEnvelope signedEnvelope,
@@ -514,7 +722,8 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
                           indexedAttestationCache,
                           postState,
                           payloadResult,
-                          dataAndValidationResult),
+                          dataAndValidationResult,
+                          true),
                   forkChoiceExecutor);
             });
   }
@@ -590,7 +799,8 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final CapturingIndexedAttestationCache indexedAttestationCache,
       final BeaconState postState,
       final PayloadValidationResult payloadValidationResult,
-      final DataAndValidationResult<?> dataAndValidationResult) {
+      final DataAndValidationResult<?> dataAndValidationResult,
+      final boolean updateHead) {
     blockImportPerformance.ifPresent(BlockImportPerformance::beginImporting);
     final PayloadStatus payloadResult = payloadValidationResult.getStatus();
     if (payloadResult.hasInvalidStatus()) {
@@ -694,8 +904,10 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     } else {
       result = BlockImportResult.optimisticallySuccessful(block);
     }
-    updateForkChoiceForImportedBlock(block, shouldApplyProposerBoost, result, forkChoiceStrategy);
-    notifyForkChoiceUpdatedAndOptimisticSyncingChanged(Optional.empty());
+    if (updateHead) {
+      updateForkChoiceForImportedBlock(block, shouldApplyProposerBoost, result, forkChoiceStrategy);
+      notifyForkChoiceUpdatedAndOptimisticSyncingChanged(Optional.empty());
+    }
     return result;
   }
 
@@ -889,6 +1101,29 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     }
   }
 
+  private void updateForkChoiceForImportedBatch(final List<BlockImportResult> results) {
+    if (results.stream().noneMatch(BlockImportResult::isSuccessful)) {
+      return;
+    }
+    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+    final ChainHead currentHead = recentChainData.getChainHead().orElseThrow();
+
+    final SlotAndBlockRoot bestHeadBlock = findNewChainHead(forkChoiceStrategy);
+    if (!bestHeadBlock.getBlockRoot().equals(currentHead.getRoot())) {
+      recentChainData.updateHead(bestHeadBlock.getBlockRoot(), bestHeadBlock.getSlot());
+      results.stream()
+          .filter(BlockImportResult::isSuccessful)
+          .filter(
+              result ->
+                  forkChoiceStrategy
+                      .getAncestor(bestHeadBlock.getBlockRoot(), result.getBlock().getSlot())
+                      .map(result.getBlock().getRoot()::equals)
+                      .orElse(false))
+          .forEach(BlockImportResult::markAsCanonical);
+    }
+    notifyForkChoiceUpdatedAndOptimisticSyncingChanged(Optional.empty());
+  }
+
   private SlotAndBlockRoot findNewChainHead(final ForkChoiceStrategy forkChoiceStrategy) {
     // use fork choice to find the new chain head as if this block is on time the proposer weighting
     // may cause us to reorg.
@@ -1074,4 +1309,12 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   public interface OptimisticHeadSubscriber {
     void onOptimisticHeadChanged(boolean isHeadOptimistic);
   }
+
+  private record ProcessedBlock(
+      SignedBeaconBlock block,
+      BeaconState blockSlotState,
+      BeaconState postState,
+      ForkChoiceUtil forkChoiceUtil,
+      CapturingIndexedAttestationCache indexedAttestationCache,
+      ForkChoicePayloadExecutor payloadExecutor) {}
 }
@@ -33,6 +33,7 @@ class ForkChoicePayloadExecutor implements OptimisticExecutionPayloadExecutor {
   private final ExecutionLayerChannel executionLayer;
   private final SignedBeaconBlock block;
   private final MergeTransitionBlockValidator transitionBlockValidator;
+  private final SafeFuture<?> previousExecution;
 
   private Optional<SafeFuture<PayloadValidationResult>> result = Optional.empty();
 
@@ -40,9 +41,18 @@ class ForkChoicePayloadExecutor implements OptimisticExecutionPayloadExecutor {
       final SignedBeaconBlock block,
       final ExecutionLayerChannel executionLayer,
       final MergeTransitionBlockValidator transitionBlockValidator) {
+    this(block, executionLayer, transitionBlockValidator, SafeFuture.COMPLETE);
+  }
+
+  private ForkChoicePayloadExecutor(
+      final SignedBeaconBlock block,
+      final ExecutionLayerChannel executionLayer,
+      final MergeTransitionBlockValidator transitionBlockValidator,
+      final SafeFuture<?> previousExecution) {
     this.block = block;
     this.transitionBlockValidator = transitionBlockValidator;
     this.executionLayer = executionLayer;
+    this.previousExecution = previousExecution;
   }
 
   public static ForkChoicePayloadExecutor create(
@@ -54,6 +64,24 @@ class ForkChoicePayloadExecutor implements OptimisticExecutionPayloadExecutor {
         block, executionLayer, new MergeTransitionBlockValidator(spec, recentChainData));
   }
 
+  /**
+   * Creates an executor for a block whose parent is being imported in the same batch. The payload
+   * is only sent to the execution layer once the parent's payload has been executed, so the
+   * execution layer receives the payloads of the batch in order.
+   */
+  public static ForkChoicePayloadExecutor createForBatchedBlock(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final SignedBeaconBlock block,
+      final ExecutionLayerChannel executionLayer,
+      final ForkChoicePayloadExecutor parentPayloadExecutor) {
+    return new ForkChoicePayloadExecutor(
+        block,
+        executionLayer,
+        new MergeTransitionBlockValidator(spec, recentChainData),
+        parentPayloadExecutor.getExecutionResult());
+  }
+
   public SafeFuture<PayloadValidationResult> getExecutionResult() {
     return result.orElse(
         SafeFuture.completedFuture(new PayloadValidationResult(PayloadStatus.VALID)));
@@ -72,8 +100,9 @@ class ForkChoicePayloadExecutor implements OptimisticExecutionPayloadExecutor {
     }
     result =
         Optional.of(
-            executionLayer
-                .engineNewPayload(payloadToExecute, block.getSlot())
+            previousExecution
+                .thenCompose(
+                    __ -> executionLayer.engineNewPayload(payloadToExecute, block.getSlot()))
                 .thenCompose(
                     result -> {
                       if (result.hasValidStatus()) {
@@ -108,6 +108,10 @@ public class MergeTransitionBlockValidator {
     return SafeFuture.completedFuture(PayloadValidationResult.VALID);
   }
 
+  public boolean isTransitionBlockFinalized() {
+    return !transitionBlockNotFinalized();
+  }
+
   private boolean transitionBlockNotFinalized() {
     final BeaconState state = recentChainData.getStore().getLatestFinalized().getState();
     return !spec.atSlot(state.getSlot()).miscHelpers().isMergeTransitionComplete(state);
@@ -154,6 +154,15 @@ public class AttestationStateSelector {
       return completedFuture(Optional.empty());
     }
 
+    // The target checkpoint state covers the committees of the target epoch, use it if it has
+    // already been generated (usually by CheckpointStatePrefetcher) rather than regenerating
+    final Optional<BeaconState> maybeTargetState =
+        recentChainData.getStore().getCheckpointStateIfAvailable(attestationData.getTarget());
+    if (maybeTargetState.isPresent()) {
+      appliedSelectorRule.labels("target_checkpoint_state_in_cache").inc();
+      return completedFuture(maybeTargetState);
+    }
+
     final Checkpoint requiredCheckpoint;
     if (targetBlockSlot.get().isLessThan(earliestSlot)) {
       // Target block is from before the earliest slot so just roll it forward.
@@ -17,11 +17,16 @@ import static java.util.Collections.singletonList;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -31,6 +36,7 @@ import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.BatchSemiAggregate;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -48,6 +54,8 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   private final int maxBatchSize;
   private final int minBatchSizeToSplit;
   private final boolean strictThreadLimitEnabled;
+  private final boolean sameMessageBatchingEnabled;
+  private final long maxBatchDelayNanos;
 
   @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
   private final AsyncRunner asyncRunner;
@@ -65,6 +73,31 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final int maxBatchSize,
       final int minBatchSizeToSplit,
       final boolean strictThreadLimitEnabled) {
+    this(
+        metricsSystem,
+        asyncRunnerFactory,
+        completionRunner,
+        numThreads,
+        queueCapacity,
+        maxBatchSize,
+        minBatchSizeToSplit,
+        strictThreadLimitEnabled,
+        false,
+        Duration.ZERO);
+  }
+
+  @VisibleForTesting
+  AggregatingSignatureVerificationService(
+      final MetricsSystem metricsSystem,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final AsyncRunner completionRunner,
+      final int numThreads,
+      final int queueCapacity,
+      final int maxBatchSize,
+      final int minBatchSizeToSplit,
+      final boolean strictThreadLimitEnabled,
+      final boolean sameMessageBatchingEnabled,
+      final Duration maxBatchDelay) {
     this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
     this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
     this.completionRunner = completionRunner;
@@ -73,6 +106,8 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
     this.minBatchSizeToSplit = minBatchSizeToSplit;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
+    this.sameMessageBatchingEnabled = sameMessageBatchingEnabled;
+    this.maxBatchDelayNanos = maxBatchDelay.toNanos();
     metricsSystem.createGauge(
         TekuMetricCategory.EXECUTOR,
         "signature_verifications_queue_size",
@@ -106,6 +141,34 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final int queueCapacity,
       final int maxBatchSize,
       final boolean strictThreadLimitEnabled) {
+    this(
+        metricsSystem,
+        asyncRunnerFactory,
+        completionRunner,
+        maxThreads,
+        queueCapacity,
+        maxBatchSize,
+        strictThreadLimitEnabled,
+        false,
+        Duration.ZERO);
+  }
+
+  /**
+   * @param sameMessageBatchingEnabled verify signatures over the same message, such as unaggregated
+   *     attestations with the same attestation data, with a single pairing
+   * @param maxBatchDelay when same message batching is enabled, how long the oldest task in a batch
+   *     may wait for further tasks to arrive before the batch is verified
+   */
+  public AggregatingSignatureVerificationService(
+      final MetricsSystem metricsSystem,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final AsyncRunner completionRunner,
+      final int maxThreads,
+      final int queueCapacity,
+      final int maxBatchSize,
+      final boolean strictThreadLimitEnabled,
+      final boolean sameMessageBatchingEnabled,
+      final Duration maxBatchDelay) {
     this(
         metricsSystem,
         asyncRunnerFactory,
@@ -114,7 +177,9 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         queueCapacity,
         maxBatchSize,
         DEFAULT_MIN_BATCH_SIZE_TO_SPLIT,
-        strictThreadLimitEnabled);
+        strictThreadLimitEnabled,
+        sameMessageBatchingEnabled,
+        maxBatchDelay);
   }
 
   @Override
@@ -178,31 +243,42 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         batchSize -= 1;
       }
       batchSignatureTasks.drainTo(tasks, batchSize);
+      if (firstTask != null && sameMessageBatchingEnabled && maxBatchDelayNanos > 0) {
+        waitForMoreTasks(tasks, firstTask.queuedAtNanos + maxBatchDelayNanos);
+      }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
     return tasks;
   }
 
+  /**
+   * Keeps adding tasks to the batch until it is full or the deadline of its oldest task passes.
+   * Waiting a little gives more signatures over the same message a chance to share a pairing.
+   */
+  private void waitForMoreTasks(final List<SignatureTask> tasks, final long deadlineNanos)
+      throws InterruptedException {
+    while (tasks.size() < maxBatchSize) {
+      final long remainingNanos = deadlineNanos - System.nanoTime();
+      if (remainingNanos <= 0) {
+        return;
+      }
+      final SignatureTask task = batchSignatureTasks.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (task == null) {
+        return;
+      }
+      tasks.add(task);
+      batchSignatureTasks.drainTo(tasks, maxBatchSize - tasks.size());
+    }
+  }
+
   @VisibleForTesting
   void batchVerifySignatures(final List<SignatureTask> tasks) {
     batchCounter.inc();
     taskCounter.inc(tasks.size());
     batchSizeHistogram.recordValue(tasks.size());
-    final List<List<BLSPublicKey>> allKeys = new ArrayList<>();
-    final List<Bytes> allMessages = new ArrayList<>();
-    final List<BLSSignature> allSignatures = new ArrayList<>();
-
-    for (SignatureTask task : tasks) {
-      allKeys.addAll(task.publicKeys);
-      allMessages.addAll(task.messages);
-      allSignatures.addAll(task.signatures);
-    }
-
     final boolean batchIsValid =
-        strictThreadLimitEnabled
-            ? BLS.batchVerify(allKeys, allMessages, allSignatures, allKeys.size() > 1, false)
-            : BLS.batchVerify(allKeys, allMessages, allSignatures);
+        sameMessageBatchingEnabled ? batchVerifyBySameMessage(tasks) : batchVerify(tasks);
     if (batchIsValid) {
       for (SignatureTask task : tasks) {
         task.completeAsync(true);
@@ -226,6 +302,58 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     }
   }
 
+  private boolean batchVerify(final List<SignatureTask> tasks) {
+    final List<List<BLSPublicKey>> allKeys = new ArrayList<>();
+    final List<Bytes> allMessages = new ArrayList<>();
+    final List<BLSSignature> allSignatures = new ArrayList<>();
+
+    for (SignatureTask task : tasks) {
+      allKeys.addAll(task.publicKeys);
+      allMessages.addAll(task.messages);
+      allSignatures.addAll(task.signatures);
+    }
+
+    return strictThreadLimitEnabled
+        ? BLS.batchVerify(allKeys, allMessages, allSignatures, allKeys.size() > 1, false)
+        : BLS.batchVerify(allKeys, allMessages, allSignatures);
+  }
+
+  private boolean batchVerifyBySameMessage(final List<SignatureTask> tasks) {
+    // Tasks with a single signature, e.g. unaggregated attestations, are grouped by signing root
+    final Map<Bytes, List<SignatureTask>> singleSignatureTasksByMessage = new LinkedHashMap<>();
+    final List<Supplier<BatchSemiAggregate>> preparations = new ArrayList<>();
+    for (SignatureTask task : tasks) {
+      if (task.messages.size() == 1) {
+        singleSignatureTasksByMessage
+            .computeIfAbsent(task.messages.get(0), __ -> new ArrayList<>())
+            .add(task);
+      } else {
+        for (int i = 0; i < task.messages.size(); i++) {
+          final int index = i;
+          preparations.add(
+              () ->
+                  BLS.prepareBatchVerify(
+                      -1,
+                      task.publicKeys.get(index),
+                      task.messages.get(index),
+                      task.signatures.get(index)));
+        }
+      }
+    }
+    singleSignatureTasksByMessage.forEach(
+        (message, messageTasks) ->
+            preparations.add(
+                () ->
+                    BLS.prepareBatchVerifySameMessage(
+                        messageTasks.stream().map(task -> task.publicKeys.get(0)).toList(),
+                        message,
+                        messageTasks.stream().map(task -> task.signatures.get(0)).toList())));
+
+    final Stream<Supplier<BatchSemiAggregate>> preparationStream =
+        strictThreadLimitEnabled ? preparations.stream() : preparations.parallelStream();
+    return BLS.completeBatchVerify(preparationStream.map(Supplier::get).toList());
+  }
+
   @VisibleForTesting
   List<List<SignatureTask>> splitTasks(final List<SignatureTask> tasks) {
     final int splitListSize = Math.toIntExact((long) Math.ceil(tasks.size() / 2.0));
@@ -239,6 +367,7 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   @VisibleForTesting
   static class SignatureTask {
     final SafeFuture<Boolean> result = new SafeFuture<>();
+    final long queuedAtNanos = System.nanoTime();
     private final AsyncRunner asyncRunner;
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
@@ -0,0 +1,184 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.store.UpdatableStore;
+
+class CheckpointStatePrefetcherTest {
+  private static final UInt64 EPOCH = UInt64.valueOf(3);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final UpdatableStore store = mock(UpdatableStore.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final CheckpointStatePrefetcher prefetcher =
+      new CheckpointStatePrefetcher(spec, recentChainData, asyncRunner, metricsSystem, 2);
+
+  private final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(EPOCH);
+
+  @BeforeEach
+  void setUp() {
+    when(recentChainData.getStore()).thenReturn(store);
+    when(recentChainData.getCurrentEpoch()).thenReturn(Optional.of(EPOCH));
+    when(recentChainData.containsBlock(any())).thenReturn(true);
+    when(recentChainData.retrieveCheckpointState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(mock(BeaconState.class))));
+    when(store.getCheckpointStateIfAvailable(any())).thenReturn(Optional.empty());
+  }
+
+  @Test
+  void shouldPrefetchHeaviestChainHeads() {
+    final ProtoNodeData light = chainHead(epochStartSlot.minus(1), 10);
+    final ProtoNodeData heaviest = chainHead(epochStartSlot.minus(2), 30);
+    final ProtoNodeData heavy = chainHead(epochStartSlot.minus(3), 20);
+    when(recentChainData.getChainHeads()).thenReturn(List.of(light, heaviest, heavy));
+
+    prefetcher.prefetchChainHeads(EPOCH);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveCheckpointState(new Checkpoint(EPOCH, heaviest.getRoot()));
+    verify(recentChainData).retrieveCheckpointState(new Checkpoint(EPOCH, heavy.getRoot()));
+    verify(recentChainData, never())
+        .retrieveCheckpointState(new Checkpoint(EPOCH, light.getRoot()));
+    assertThat(getPrefetchCount("chain_head")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotPrefetchHeadsMoreThanOneEpochBehind() {
+    final int slotsPerEpoch = spec.getSlotsPerEpoch(epochStartSlot);
+    final ProtoNodeData head = chainHead(epochStartSlot.minus(slotsPerEpoch + 1), 1);
+    when(recentChainData.getChainHeads()).thenReturn(List.of(head));
+
+    prefetcher.prefetchChainHeads(EPOCH);
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldNotPrefetchHeadsAlreadyInEpoch() {
+    final ProtoNodeData head = chainHead(epochStartSlot, 1);
+    when(recentChainData.getChainHeads()).thenReturn(List.of(head));
+
+    prefetcher.prefetchChainHeads(EPOCH);
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldPrefetchAttestationTargetOnlyOnce() {
+    final Checkpoint target = new Checkpoint(EPOCH, dataStructureUtil.randomBytes32());
+
+    prefetcher.onAttestationTarget(target);
+    prefetcher.onAttestationTarget(target);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, times(1)).retrieveCheckpointState(target);
+    assertThat(getPrefetchCount("attestation_target")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRetryAttestationTargetWhenPrefetchFails() {
+    final Checkpoint target = new Checkpoint(EPOCH, dataStructureUtil.randomBytes32());
+    when(recentChainData.retrieveCheckpointState(target))
+        .thenReturn(SafeFuture.failedFuture(new IllegalStateException("failed")));
+
+    prefetcher.onAttestationTarget(target);
+    asyncRunner.executeQueuedActions();
+    prefetcher.onAttestationTarget(target);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, times(2)).retrieveCheckpointState(target);
+  }
+
+  @Test
+  void shouldNotPrefetchAttestationTargetAlreadyInCache() {
+    final Checkpoint target = new Checkpoint(EPOCH, dataStructureUtil.randomBytes32());
+    when(store.getCheckpointStateIfAvailable(target))
+        .thenReturn(Optional.of(mock(BeaconState.class)));
+
+    prefetcher.onAttestationTarget(target);
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldNotPrefetchAttestationTargetForUnknownBlock() {
+    final Checkpoint target = new Checkpoint(EPOCH, dataStructureUtil.randomBytes32());
+    when(recentChainData.containsBlock(target.getRoot())).thenReturn(false);
+
+    prefetcher.onAttestationTarget(target);
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldNotPrefetchAttestationTargetOutsideCurrentAndPreviousEpoch() {
+    prefetcher.onAttestationTarget(
+        new Checkpoint(EPOCH.plus(1), dataStructureUtil.randomBytes32()));
+    prefetcher.onAttestationTarget(
+        new Checkpoint(EPOCH.minus(2), dataStructureUtil.randomBytes32()));
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void shouldPrefetchAttestationTargetFromPreviousEpoch() {
+    final Checkpoint target = new Checkpoint(EPOCH.minus(1), dataStructureUtil.randomBytes32());
+
+    prefetcher.onAttestationTarget(target);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveCheckpointState(target);
+  }
+
+  private ProtoNodeData chainHead(final UInt64 slot, final long weight) {
+    final ProtoNodeData head = mock(ProtoNodeData.class);
+    when(head.getSlot()).thenReturn(slot);
+    when(head.getRoot()).thenReturn(dataStructureUtil.randomBytes32());
+    when(head.getWeight()).thenReturn(UInt64.valueOf(weight));
+    return head;
+  }
+
+  private long getPrefetchCount(final String source) {
+    return metricsSystem.getLabelledCounterValue(
+        TekuMetricCategory.BEACON, "checkpoint_state_prefetch_total", source);
+  }
+}
@@ -49,8 +49,11 @@ class EpochCachePrimerTest {
   private final RecentChainData recentChainData = storageSystem.recentChainData();
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
 
+  private final CheckpointStatePrefetcher checkpointStatePrefetcher =
+      mock(CheckpointStatePrefetcher.class);
+
   private final EpochCachePrimer primer =
-      new EpochCachePrimer(mockSpec, recentChainData, asyncRunner);
+      new EpochCachePrimer(mockSpec, recentChainData, asyncRunner, checkpointStatePrefetcher);
 
   @BeforeEach
   void setUp() {
@@ -96,6 +99,13 @@ class EpochCachePrimerTest {
     verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
   }
 
+  @Test
+  void shouldPrefetchChainHeadCheckpointStates() {
+    primer.primeCacheForEpoch(UInt64.ONE);
+
+    verify(checkpointStatePrefetcher).prefetchChainHeads(UInt64.ONE);
+  }
+
   @Test
   void shouldPrecomputeProposersForEpoch() {
     final UInt64 epoch = UInt64.ONE;
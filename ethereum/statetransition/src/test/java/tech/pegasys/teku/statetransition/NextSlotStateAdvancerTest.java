@@ -0,0 +1,175 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.ChainHead;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class NextSlotStateAdvancerTest {
+
+  private final Spec realSpec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(realSpec);
+  private final Spec mockSpec = mock(Spec.class);
+  private final BeaconStateUtil beaconStateUtil = mock(BeaconStateUtil.class);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  private final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+  private final UInt64 headSlot = UInt64.valueOf(5);
+  private final UInt64 targetSlot = headSlot.increment();
+  private final BeaconState advancedState = mock(BeaconState.class);
+
+  private final NextSlotStateAdvancer advancer =
+      new NextSlotStateAdvancer(mockSpec, recentChainData, asyncRunner, new NoOpMetricsSystem());
+
+  @BeforeEach
+  void setUp() {
+    when(mockSpec.getSlotsPerEpoch(any())).thenReturn(realSpec.getSlotsPerEpoch(UInt64.ZERO));
+    when(mockSpec.computeStartSlotAtEpoch(any()))
+        .thenAnswer(invocation -> realSpec.computeStartSlotAtEpoch(invocation.getArgument(0)));
+    when(mockSpec.computeEpochAtSlot(any()))
+        .thenAnswer(invocation -> realSpec.computeEpochAtSlot(invocation.getArgument(0)));
+    when(mockSpec.getBeaconStateUtil(any())).thenReturn(beaconStateUtil);
+
+    when(advancedState.getSlot()).thenReturn(targetSlot);
+    when(recentChainData.retrieveStateAtSlot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(advancedState)));
+    setChainHead(headSlot, headRoot);
+
+    advancer.onSyncingStatusChanged(true);
+  }
+
+  @Test
+  void shouldAdvanceHeadStateIntoNextSlotWhenDue() {
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+    verifyNoInteractions(beaconStateUtil);
+
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveStateAtSlot(new SlotAndBlockRoot(targetSlot, headRoot));
+    verify(mockSpec).getBeaconProposerIndex(advancedState, targetSlot);
+    verify(mockSpec).getBeaconCommitteesSize(advancedState, targetSlot);
+    verify(beaconStateUtil).getAttestersTotalEffectiveBalance(advancedState, targetSlot);
+  }
+
+  @Test
+  void shouldNotAdvanceWhenNotInSync() {
+    advancer.onSyncingStatusChanged(false);
+
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, never()).retrieveStateAtSlot(any());
+  }
+
+  @Test
+  void shouldLeaveFirstSlotOfEpochToEpochCachePrimer() {
+    final UInt64 lastSlotOfEpoch = realSpec.computeStartSlotAtEpoch(UInt64.ONE).decrement();
+    setChainHead(lastSlotOfEpoch, headRoot);
+
+    advancer.onNextSlotStateAdvanceDue(lastSlotOfEpoch);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, never()).retrieveStateAtSlot(any());
+  }
+
+  @Test
+  void shouldNotAdvanceTheSameTargetTwice() {
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveStateAtSlot(any());
+  }
+
+  @Test
+  void shouldAdvanceAgainWhenHeadChangesAfterAdvanceIsDue() {
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+    asyncRunner.executeQueuedActions();
+
+    final Bytes32 newHeadRoot = dataStructureUtil.randomBytes32();
+    setChainHead(headSlot, newHeadRoot);
+    notifyChainHeadUpdated(headSlot, newHeadRoot);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData).retrieveStateAtSlot(new SlotAndBlockRoot(targetSlot, newHeadRoot));
+  }
+
+  @Test
+  void shouldNotAdvanceOnHeadChangeBeforeAdvanceIsDue() {
+    notifyChainHeadUpdated(headSlot, headRoot);
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, never()).retrieveStateAtSlot(any());
+  }
+
+  @Test
+  void shouldSkipQueuedAdvanceWhenHeadChangedBeforeItRuns() {
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+    setChainHead(headSlot, dataStructureUtil.randomBytes32());
+
+    asyncRunner.executeQueuedActions();
+
+    verify(recentChainData, never()).retrieveStateAtSlot(any());
+  }
+
+  @Test
+  void shouldNotPrimeCachesWhenHeadChangedDuringAdvance() {
+    final SafeFuture<Optional<BeaconState>> stateFuture = new SafeFuture<>();
+    when(recentChainData.retrieveStateAtSlot(any())).thenReturn(stateFuture);
+
+    advancer.onNextSlotStateAdvanceDue(headSlot);
+    asyncRunner.executeQueuedActions();
+
+    setChainHead(headSlot, dataStructureUtil.randomBytes32());
+    stateFuture.complete(Optional.of(advancedState));
+
+    verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
+    verifyNoInteractions(beaconStateUtil);
+  }
+
+  private void setChainHead(final UInt64 slot, final Bytes32 root) {
+    final ChainHead chainHead = mock(ChainHead.class);
+    when(chainHead.getSlot()).thenReturn(slot);
+    when(chainHead.getRoot()).thenReturn(root);
+    when(recentChainData.getChainHead()).thenReturn(Optional.of(chainHead));
+  }
+
+  private void notifyChainHeadUpdated(final UInt64 slot, final Bytes32 root) {
+    advancer.chainHeadUpdated(
+        slot, Bytes32.ZERO, root, false, false, Bytes32.ZERO, Bytes32.ZERO, Optional.empty());
+  }
+}
@@ -385,6 +385,43 @@ public class BlockImporterTest {
     assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
   }
 
+  @Test
+  public void importBlocks_shouldSkipKnownBlocksAndImportTheRestTogether() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(2);
+    final SignedBeaconBlock block3 = otherChain.createAndImportBlockAtSlot(3);
+    localChain.setSlot(block3.getSlot());
+    assertThat(blockImporter.importBlock(block1).get().isSuccessful()).isTrue();
+
+    final List<BlockImportResult> results =
+        blockImporter.importBlocks(List.of(block1, block2, block3)).get();
+
+    assertThat(results).hasSize(3);
+    assertThat(results).allMatch(BlockImportResult::isSuccessful);
+    assertThat(recentChainData.getBestBlockRoot()).contains(block3.getRoot());
+    verify(receivedBlockEventsChannelPublisher).onBlockImported(block2, false);
+    verify(receivedBlockEventsChannelPublisher).onBlockImported(block3, false);
+  }
+
+  @Test
+  public void importBlocks_shouldStopAtFirstFailure() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(2);
+    final SignedBeaconBlock block3 = otherChain.createAndImportBlockAtSlot(3);
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(
+            spec, block2.getMessage().withStateRoot(Bytes32.ZERO), block2.getSignature());
+    localChain.setSlot(block3.getSlot());
+
+    final List<BlockImportResult> results =
+        blockImporter.importBlocks(List.of(block1, invalidBlock2, block3)).get();
+
+    assertThat(results).hasSize(2);
+    assertSuccessfulResult(results.get(0));
+    assertImportFailed(results.get(1), FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.getBestBlockRoot()).contains(block1.getRoot());
+  }
+
   @Test
   public void importBlock_weakSubjectivityFailure_wrongAncestor() throws Exception {
     final UInt64 wsEpoch = UInt64.valueOf(10);
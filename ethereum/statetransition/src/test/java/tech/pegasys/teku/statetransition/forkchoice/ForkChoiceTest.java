@@ -68,6 +68,7 @@ import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
@@ -216,6 +217,48 @@ class ForkChoiceTest {
     assertThat(reorgEvents).isEmpty();
   }
 
+  @Test
+  void onBlocks_shouldImportBatchAndUpdateHeadOnce() {
+    when(transitionBlockValidator.isTransitionBlockFinalized()).thenReturn(true);
+    final List<SignedBeaconBlock> blocks =
+        chainBuilder.generateBlocksUpToSlot(3).stream()
+            .map(SignedBlockAndState::getBlock)
+            .toList();
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(blocks.getLast().getSlot());
+
+    final SafeFuture<List<BlockImportResult>> result = forkChoice.onBlocks(blocks, executionLayer);
+
+    assertThat(result).isCompleted();
+    final List<BlockImportResult> results = safeJoin(result);
+    assertThat(results).hasSize(blocks.size());
+    assertThat(results).allMatch(BlockImportResult::isSuccessful);
+    assertThat(results).allMatch(BlockImportResult::isBlockOnCanonicalChain);
+    assertThat(recentChainData.getBestBlockRoot()).contains(blocks.getLast().getRoot());
+    verify(forkChoiceNotifier, times(1)).onForkChoiceUpdated(any(), any());
+  }
+
+  @Test
+  void onBlocks_shouldImportOneAtATimeWhenBatchSignatureCheckFails() {
+    when(transitionBlockValidator.isTransitionBlockFinalized()).thenReturn(true);
+    final List<SignedBlockAndState> chain = chainBuilder.generateBlocksUpToSlot(3);
+    final SignedBeaconBlock invalidBlock =
+        SignedBeaconBlock.create(
+            spec, chain.get(1).getBlock().getMessage(), dataStructureUtil.randomSignature());
+    final List<SignedBeaconBlock> blocks =
+        List.of(chain.get(0).getBlock(), invalidBlock, chain.get(2).getBlock());
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(blocks.getLast().getSlot());
+
+    final SafeFuture<List<BlockImportResult>> result = forkChoice.onBlocks(blocks, executionLayer);
+
+    assertThat(result).isCompleted();
+    final List<BlockImportResult> results = safeJoin(result);
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).isSuccessful()).isTrue();
+    assertThat(results.get(1).getFailureReason())
+        .isEqualTo(FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.getBestBlockRoot()).contains(blocks.getFirst().getRoot());
+  }
+
   @Test
   void onBlock_shouldCheckBlobsAvailability() {
     setupWithSpec(TestSpecFactory.createMinimalDeneb());
@@ -238,6 +238,72 @@ public class AggregatingSignatureVerificationServiceTest {
     }
   }
 
+  @Test
+  public void verify_sameMessageBatching_mixedSignatures() {
+    service = createSameMessageBatchingService(Duration.ZERO);
+    startService();
+
+    final List<SafeFuture<Boolean>> futures = new ArrayList<>();
+    for (int j = 0; j < queueCapacity - 1; j++) {
+      // Several signers per message so that signatures are grouped
+      if (j % 7 == 0) {
+        futures.add(executeInvalidVerify(j, j % 3));
+      } else {
+        futures.add(executeValidVerify(j, j % 3));
+      }
+    }
+    final SafeFuture<Boolean> listFuture =
+        executeListVerify(
+            IntArrayList.wrap(new int[] {1, 2}),
+            IntArrayList.wrap(new int[] {0, 5}),
+            BooleanArrayList.wrap(new boolean[] {true, true}));
+    runPendingTasks();
+
+    for (int j = 0; j < queueCapacity - 1; j++) {
+      assertThat(futures.get(j)).isCompletedWithValue(j % 7 != 0);
+    }
+    assertThat(listFuture).isCompletedWithValue(true);
+  }
+
+  @Test
+  public void testRealServiceWithSameMessageBatching() throws Exception {
+    final MetricsSystem metrics = new StubMetricsSystem();
+    final AsyncRunnerFactory realRunnerFactory =
+        AsyncRunnerFactory.createDefault(new MetricTrackingExecutorFactory(metrics));
+    service =
+        new AggregatingSignatureVerificationService(
+            metrics,
+            realRunnerFactory,
+            realRunnerFactory.create("completion", 1),
+            1,
+            queueCapacity,
+            batchSize,
+            minBatchSizeToSplit,
+            strictThreadLimitEnabled,
+            true,
+            Duration.ofMillis(20));
+    startService();
+
+    final List<SafeFuture<Boolean>> validFutures = new ArrayList<>();
+    final List<SafeFuture<Boolean>> invalidFutures = new ArrayList<>();
+    for (int j = 0; j < queueCapacity; j++) {
+      if (j % 5 == 0) {
+        invalidFutures.add(executeInvalidVerify(j, j % 4));
+      } else {
+        validFutures.add(executeValidVerify(j, j % 4));
+      }
+    }
+
+    final List<SafeFuture<Boolean>> allFutures = new ArrayList<>();
+    allFutures.addAll(validFutures);
+    allFutures.addAll(invalidFutures);
+    Waiter.waitFor(
+        SafeFuture.allOf(allFutures.toArray(SafeFuture<?>[]::new)), Duration.ofSeconds(5));
+
+    validFutures.forEach(f -> assertThat(f).isCompletedWithValue(true));
+    invalidFutures.forEach(f -> assertThat(f).isCompletedWithValue(false));
+  }
+
   @Test
   public void testRealServiceWithThreads() throws Exception {
     final MetricsSystem metrics = new StubMetricsSystem();
@@ -333,6 +399,21 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThat(split.get(0).size()).isEqualTo(1);
   }
 
+  private AggregatingSignatureVerificationService createSameMessageBatchingService(
+      final Duration maxBatchDelay) {
+    return new AggregatingSignatureVerificationService(
+        new StubMetricsSystem(),
+        asyncRunnerFactory,
+        completionRunner,
+        numThreads,
+        queueCapacity,
+        batchSize,
+        minBatchSizeToSplit,
+        strictThreadLimitEnabled,
+        true,
+        maxBatchDelay);
+  }
+
   private void startService() {
     try {
       service.start().get(500, TimeUnit.MILLISECONDS);
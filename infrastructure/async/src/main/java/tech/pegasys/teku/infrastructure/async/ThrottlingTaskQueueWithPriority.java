@@ -22,7 +22,7 @@ import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 public class ThrottlingTaskQueueWithPriority extends ThrottlingTaskQueue {
-  private final Queue<Runnable> queuedPrioritizedTasks;
+  protected final Queue<Runnable> queuedPrioritizedTasks;
 
   private final AtomicLong rejectedPrioritizedTaskCount = new AtomicLong(0);
 
@@ -0,0 +1,258 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A {@link ThrottlingTaskQueueWithPriority} with additional named queues which share the
+ * concurrency limit using smooth weighted round-robin. Prioritized tasks are always started first,
+ * then tasks from the weighted queues, then any tasks queued without a key.
+ *
+ * <p>Each weighted queue may specify a maximum age. Tasks which have waited longer than that
+ * before being started are dropped and their result completed with a {@link
+ * TaskExpiredException}.
+ */
+public class WeightedThrottlingTaskQueue<K extends Enum<K>>
+    extends ThrottlingTaskQueueWithPriority {
+  private static final double[] WAIT_TIME_BUCKETS =
+      new double[] {0.001, 0.005, 0.01, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0};
+
+  private final Map<K, WeightedQueue> weightedQueues;
+  private final TimeProvider timeProvider;
+  private final Object selectionLock = new Object();
+
+  public record QueueConfig(int weight, int maximumQueueSize, Optional<Duration> maximumAge) {
+    public QueueConfig {
+      if (weight < 1) {
+        throw new IllegalArgumentException("Queue weight must be positive: " + weight);
+      }
+    }
+  }
+
+  public static class TaskExpiredException extends RejectedExecutionException {
+    public TaskExpiredException() {
+      super("Task expired before it could be started");
+    }
+  }
+
+  public static <K extends Enum<K>> WeightedThrottlingTaskQueue<K> create(
+      final Class<K> keyType,
+      final Map<K, QueueConfig> queueConfigs,
+      final int maximumConcurrentTasks,
+      final int maximumQueueSize,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final TekuMetricCategory metricCategory,
+      final String metricPrefix) {
+    final LabelledMetric<Histogram> waitTimeHistogram =
+        metricsSystem.createLabelledHistogram(
+            metricCategory,
+            metricPrefix + "_wait_time_seconds",
+            "Time tasks spent queued before being started",
+            WAIT_TIME_BUCKETS,
+            "queue");
+    final Map<K, WeightedQueue> weightedQueues = new EnumMap<>(keyType);
+    queueConfigs.forEach(
+        (key, config) ->
+            weightedQueues.put(
+                key, new WeightedQueue(config, waitTimeHistogram.labels(getLabel(key)))));
+
+    final WeightedThrottlingTaskQueue<K> taskQueue =
+        new WeightedThrottlingTaskQueue<>(
+            maximumConcurrentTasks, maximumQueueSize, weightedQueues, timeProvider);
+
+    final LabelledSuppliedMetric queuedGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            metricCategory, metricPrefix + "_queued_tasks", "Number of tasks queued", "queue");
+    final LabelledSuppliedMetric rejectedCounter =
+        metricsSystem.createLabelledSuppliedCounter(
+            metricCategory,
+            metricPrefix + "_rejected_tasks_total",
+            "Number of tasks rejected by the queue",
+            "queue");
+    final LabelledSuppliedMetric expiredCounter =
+        metricsSystem.createLabelledSuppliedCounter(
+            metricCategory,
+            metricPrefix + "_expired_tasks_total",
+            "Number of tasks dropped because they waited longer than the queue's maximum age",
+            "queue");
+    queuedGauge.labels(taskQueue.queuedPrioritizedTasks::size, "priority");
+    queuedGauge.labels(taskQueue.queuedTasks::size, "default");
+    rejectedCounter.labels(taskQueue.rejectedTaskCount::get, "default");
+    weightedQueues.forEach(
+        (key, queue) -> {
+          final String label = getLabel(key);
+          queuedGauge.labels(queue.tasks::size, label);
+          rejectedCounter.labels(queue.rejectedCount::get, label);
+          expiredCounter.labels(queue.expiredCount::get, label);
+        });
+    return taskQueue;
+  }
+
+  private WeightedThrottlingTaskQueue(
+      final int maximumConcurrentTasks,
+      final int maximumQueueSize,
+      final Map<K, WeightedQueue> weightedQueues,
+      final TimeProvider timeProvider) {
+    super(maximumConcurrentTasks, maximumQueueSize);
+    this.weightedQueues = weightedQueues;
+    this.timeProvider = timeProvider;
+  }
+
+  private static String getLabel(final Enum<?> key) {
+    return key.name().toLowerCase(Locale.ROOT);
+  }
+
+  /** Queues a task in the weighted queue for {@code key}, or the default queue if it has none. */
+  public <T> SafeFuture<T> queueTask(final K key, final Supplier<SafeFuture<T>> request) {
+    final WeightedQueue queue = weightedQueues.get(key);
+    if (queue == null) {
+      return queueTask(request);
+    }
+    final SafeFuture<T> target = new SafeFuture<>();
+    final QueuedTask task =
+        new QueuedTask(getTaskToQueue(request, target), target, timeProvider.getTimeInMillis());
+    if (!queue.tasks.offer(task)) {
+      queue.rejectedCount.incrementAndGet();
+      target.completeExceptionally(new QueueIsFullException());
+      return target;
+    }
+    processQueuedTasks();
+    return target;
+  }
+
+  @Override
+  protected Runnable getTaskToRun() {
+    final Runnable prioritizedTask = queuedPrioritizedTasks.poll();
+    if (prioritizedTask != null) {
+      return prioritizedTask;
+    }
+    final Runnable weightedTask = pollWeightedQueues();
+    if (weightedTask != null) {
+      return weightedTask;
+    }
+    return queuedTasks.poll();
+  }
+
+  private Runnable pollWeightedQueues() {
+    final UInt64 now = timeProvider.getTimeInMillis();
+    final List<QueuedTask> expiredTasks = new ArrayList<>();
+    final QueuedTask selectedTask;
+    synchronized (selectionLock) {
+      weightedQueues.values().forEach(queue -> queue.removeExpiredTasks(now, expiredTasks));
+      selectedTask = selectNextTask(weightedQueues.values(), now);
+    }
+    // Complete outside the lock as completion runs the caller's callbacks
+    expiredTasks.forEach(
+        expiredTask -> expiredTask.target.completeExceptionally(new TaskExpiredException()));
+    return selectedTask != null ? selectedTask.task : null;
+  }
+
+  private static QueuedTask selectNextTask(
+      final Collection<WeightedQueue> queues, final UInt64 now) {
+    WeightedQueue selectedQueue = null;
+    int totalWeight = 0;
+    for (WeightedQueue queue : queues) {
+      if (queue.tasks.isEmpty()) {
+        continue;
+      }
+      queue.currentWeight += queue.config.weight();
+      totalWeight += queue.config.weight();
+      if (selectedQueue == null || queue.currentWeight > selectedQueue.currentWeight) {
+        selectedQueue = queue;
+      }
+    }
+    if (selectedQueue == null) {
+      return null;
+    }
+    selectedQueue.currentWeight -= totalWeight;
+    return selectedQueue.poll(now);
+  }
+
+  @Override
+  public int getQueuedTasksCount() {
+    int queuedTasksCount = super.getQueuedTasksCount();
+    for (WeightedQueue queue : weightedQueues.values()) {
+      queuedTasksCount += queue.tasks.size();
+    }
+    return queuedTasksCount;
+  }
+
+  public int getQueuedTasksCount(final K key) {
+    final WeightedQueue queue = weightedQueues.get(key);
+    return queue == null ? 0 : queue.tasks.size();
+  }
+
+  private record QueuedTask(Runnable task, SafeFuture<?> target, UInt64 queuedAtMillis) {}
+
+  private static class WeightedQueue {
+    private final QueueConfig config;
+    private final Histogram waitTimeHistogram;
+    private final Queue<QueuedTask> tasks;
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    private final AtomicLong expiredCount = new AtomicLong(0);
+    private final Optional<UInt64> maximumAgeMillis;
+    private int currentWeight = 0;
+
+    private WeightedQueue(final QueueConfig config, final Histogram waitTimeHistogram) {
+      this.config = config;
+      this.waitTimeHistogram = waitTimeHistogram;
+      this.tasks = new LinkedBlockingQueue<>(config.maximumQueueSize());
+      this.maximumAgeMillis = config.maximumAge().map(age -> UInt64.valueOf(age.toMillis()));
+    }
+
+    private void removeExpiredTasks(final UInt64 now, final List<QueuedTask> expiredTasks) {
+      if (maximumAgeMillis.isEmpty()) {
+        return;
+      }
+      // Tasks are queued in order, so only the head can be older than the ones behind it
+      QueuedTask head = tasks.peek();
+      while (head != null
+          && now.minusMinZero(head.queuedAtMillis).isGreaterThan(maximumAgeMillis.get())) {
+        tasks.poll();
+        expiredCount.incrementAndGet();
+        expiredTasks.add(head);
+        head = tasks.peek();
+      }
+    }
+
+    private QueuedTask poll(final UInt64 now) {
+      final QueuedTask task = tasks.poll();
+      if (task != null) {
+        waitTimeHistogram.observe(now.minusMinZero(task.queuedAtMillis).doubleValue() / 1000);
+      }
+      return task;
+    }
+  }
+}
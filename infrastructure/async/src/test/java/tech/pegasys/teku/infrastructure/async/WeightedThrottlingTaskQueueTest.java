@@ -0,0 +1,173 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue.QueueIsFullException;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue.QueueConfig;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue.TaskExpiredException;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+public class WeightedThrottlingTaskQueueTest {
+
+  private enum TestQueue {
+    HEAVY,
+    LIGHT,
+    UNCONFIGURED
+  }
+
+  private static final int MAXIMUM_QUEUE_SIZE = 3;
+
+  private final StubMetricsSystem stubMetricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1_000);
+
+  private final WeightedThrottlingTaskQueue<TestQueue> taskQueue =
+      WeightedThrottlingTaskQueue.create(
+          TestQueue.class,
+          Map.of(
+              TestQueue.HEAVY,
+              new QueueConfig(2, MAXIMUM_QUEUE_SIZE, Optional.empty()),
+              TestQueue.LIGHT,
+              new QueueConfig(1, MAXIMUM_QUEUE_SIZE, Optional.of(Duration.ofSeconds(1)))),
+          1,
+          MAXIMUM_QUEUE_SIZE,
+          timeProvider,
+          stubMetricsSystem,
+          TekuMetricCategory.BEACON,
+          "test_queue");
+
+  private final SafeFuture<Void> blockingRequest = new SafeFuture<>();
+
+  @Test
+  void shouldDequeueUsingSmoothWeightedRoundRobin() {
+    final List<TestQueue> startedTasks = new ArrayList<>();
+    blockQueue();
+    for (int i = 0; i < 3; i++) {
+      queueRecordingTask(TestQueue.HEAVY, startedTasks);
+      queueRecordingTask(TestQueue.LIGHT, startedTasks);
+    }
+    assertThat(getQueuedTasksGaugeValue("heavy")).isEqualTo(3);
+    assertThat(getQueuedTasksGaugeValue("light")).isEqualTo(3);
+
+    blockingRequest.complete(null);
+
+    assertThat(startedTasks)
+        .containsExactly(
+            TestQueue.HEAVY,
+            TestQueue.LIGHT,
+            TestQueue.HEAVY,
+            TestQueue.HEAVY,
+            TestQueue.LIGHT,
+            TestQueue.LIGHT);
+    assertThat(taskQueue.getQueuedTasksCount()).isZero();
+    assertThat(taskQueue.getInflightTaskCount()).isZero();
+  }
+
+  @Test
+  void shouldStartPrioritizedTasksBeforeWeightedAndDefaultTasks() {
+    final List<String> startedTasks = new ArrayList<>();
+    blockQueue();
+    final SafeFuture<Void> defaultTask =
+        taskQueue.queueTask(() -> recordTask(startedTasks, "default"));
+    final SafeFuture<Void> weightedTask =
+        taskQueue.queueTask(TestQueue.LIGHT, () -> recordTask(startedTasks, "light"));
+    final SafeFuture<Void> prioritizedTask =
+        taskQueue.queueTask(() -> recordTask(startedTasks, "priority"), true);
+
+    blockingRequest.complete(null);
+
+    assertThat(startedTasks).containsExactly("priority", "light", "default");
+    assertThat(defaultTask).isCompleted();
+    assertThat(weightedTask).isCompleted();
+    assertThat(prioritizedTask).isCompleted();
+  }
+
+  @Test
+  void shouldUseDefaultQueueForKeysWithoutWeightedQueue() {
+    blockQueue();
+    final SafeFuture<Void> task =
+        taskQueue.queueTask(TestQueue.UNCONFIGURED, () -> SafeFuture.COMPLETE);
+
+    assertThat(getQueuedTasksGaugeValue("default")).isEqualTo(1);
+    assertThat(taskQueue.getQueuedTasksCount(TestQueue.UNCONFIGURED)).isZero();
+
+    blockingRequest.complete(null);
+    assertThat(task).isCompleted();
+  }
+
+  @Test
+  void shouldDropTasksOlderThanMaximumAge() {
+    final List<TestQueue> startedTasks = new ArrayList<>();
+    blockQueue();
+    final SafeFuture<Void> staleTask = queueRecordingTask(TestQueue.LIGHT, startedTasks);
+    final SafeFuture<Void> heavyTask = queueRecordingTask(TestQueue.HEAVY, startedTasks);
+    timeProvider.advanceTimeBy(Duration.ofMillis(1_500));
+    final SafeFuture<Void> freshTask = queueRecordingTask(TestQueue.LIGHT, startedTasks);
+
+    blockingRequest.complete(null);
+
+    assertThatSafeFuture(staleTask).isCompletedExceptionallyWith(TaskExpiredException.class);
+    assertThat(heavyTask).isCompleted();
+    assertThat(freshTask).isCompleted();
+    assertThat(startedTasks).containsExactly(TestQueue.HEAVY, TestQueue.LIGHT);
+  }
+
+  @Test
+  @SuppressWarnings("FutureReturnValueIgnored")
+  void shouldRejectTasksWhenWeightedQueueIsFull() {
+    blockQueue();
+    for (int i = 0; i < MAXIMUM_QUEUE_SIZE; i++) {
+      taskQueue.queueTask(TestQueue.HEAVY, () -> SafeFuture.COMPLETE);
+    }
+
+    assertThatSafeFuture(taskQueue.queueTask(TestQueue.HEAVY, () -> SafeFuture.COMPLETE))
+        .isCompletedExceptionallyWith(QueueIsFullException.class);
+    // Other queues are unaffected
+    assertThat(taskQueue.queueTask(TestQueue.LIGHT, () -> SafeFuture.COMPLETE)).isNotDone();
+    assertThat(taskQueue.getQueuedTasksCount(TestQueue.HEAVY)).isEqualTo(MAXIMUM_QUEUE_SIZE);
+  }
+
+  @SuppressWarnings("FutureReturnValueIgnored")
+  private void blockQueue() {
+    taskQueue.queueTask(() -> blockingRequest);
+    assertThat(taskQueue.getInflightTaskCount()).isEqualTo(1);
+  }
+
+  private SafeFuture<Void> queueRecordingTask(
+      final TestQueue queue, final List<TestQueue> startedTasks) {
+    return taskQueue.queueTask(queue, () -> recordTask(startedTasks, queue));
+  }
+
+  private <T> SafeFuture<Void> recordTask(final List<T> startedTasks, final T task) {
+    startedTasks.add(task);
+    return SafeFuture.COMPLETE;
+  }
+
+  private double getQueuedTasksGaugeValue(final String queue) {
+    return stubMetricsSystem
+        .getLabelledGauge(TekuMetricCategory.BEACON, "test_queue_queued_tasks")
+        .getValue(queue)
+        .orElseThrow();
+  }
+}
@@ -397,6 +397,35 @@ public class BLS {
     }
   }
 
+  /**
+   * Prepares several signatures over the same message for batch verification as a single semi
+   * aggregate, so the message only needs to be hashed and paired once. The result can be mixed with
+   * the instances returned by {@link #prepareBatchVerify(int, List, Bytes, BLSSignature)} in
+   * {@link #completeBatchVerify(List)}.
+   *
+   * @param publicKeys The list of signers' public keys for each signature, not null
+   * @param message The message data signed by every signature, not null
+   * @param signatures The signatures, not null
+   * @return An opaque instance which should be passed to the final step: {@link
+   *     #completeBatchVerify(List)}
+   */
+  public static BatchSemiAggregate prepareBatchVerifySameMessage(
+      final List<List<BLSPublicKey>> publicKeys,
+      final Bytes message,
+      final List<BLSSignature> signatures) {
+    try {
+      return getBlsImpl()
+          .prepareBatchVerifySameMessage(
+              publicKeys.stream()
+                  .map(keys -> keys.stream().map(BLSPublicKey::getPublicKey).toList())
+                  .toList(),
+              message,
+              signatures.stream().map(BLSSignature::getSignature).toList());
+    } catch (BlsException e) {
+      return new InvalidBatchSemiAggregate();
+    }
+  }
+
   /**
    * The final step to verify semi aggregated signatures produced by {@link #prepareBatchVerify(int,
    * List, Bytes, BLSSignature)} or {@link #prepareBatchVerify2(int, List, Bytes, BLSSignature,
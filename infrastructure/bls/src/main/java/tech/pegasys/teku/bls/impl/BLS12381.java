@@ -136,6 +136,21 @@ public interface BLS12381 {
       Bytes message2,
       Signature signature2);
 
+  /**
+   * https://ethresear.ch/t/fast-verification-of-multiple-bls-signatures/5407
+   *
+   * <p>Variant of {@link #prepareBatchVerify(int, List, Bytes, Signature)} for several signatures
+   * over the same message. Each signature and its public keys are weighted by an independent random
+   * multiplier before being summed, so the message is hashed and paired only once: <code>
+   * S1 * r1 + S2 * r2</code> and <code>e(M, P1 * r1 + P2 * r2)</code>
+   *
+   * @return the pair of values above in an opaque instance
+   */
+  BatchSemiAggregate prepareBatchVerifySameMessage(
+      List<? extends List<? extends PublicKey>> publicKeys,
+      Bytes message,
+      List<? extends Signature> signatures);
+
   /**
    * https://ethresear.ch/t/fast-verification-of-multiple-bls-signatures/5407
    *
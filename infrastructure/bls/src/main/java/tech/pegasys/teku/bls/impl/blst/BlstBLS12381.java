@@ -23,6 +23,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
 import supranational.blst.BLST_ERROR;
+import supranational.blst.P1;
 import supranational.blst.P2;
 import supranational.blst.P2_Affine;
 import supranational.blst.Pairing;
@@ -158,6 +159,47 @@ public class BlstBLS12381 implements BLS12381 {
     return aggregate1;
   }
 
+  @Override
+  public BatchSemiAggregate prepareBatchVerifySameMessage(
+      final List<? extends List<? extends PublicKey>> publicKeys,
+      final Bytes message,
+      final List<? extends Signature> signatures) {
+    if (publicKeys.isEmpty() || publicKeys.size() != signatures.size()) {
+      throw new BlsException("Different or empty collection sizes");
+    }
+
+    P1 publicKeySum = new P1();
+    P2 signatureSum = new P2();
+    for (int i = 0; i < publicKeys.size(); i++) {
+      BlstPublicKey publicKey = aggregatePublicKeys(publicKeys.get(i));
+      BlstSignature signature = BlstSignature.fromSignature(signatures.get(i));
+      if (publicKey.isInfinity() || !signature.isInGroup()) {
+        return BlstSemiAggregate.createInvalid();
+      }
+      // Independent multipliers stop invalid signatures from cancelling each other out in the sum
+      BigInteger multiplier = nextBatchRandomMultiplier();
+      publicKeySum.add(new P1(publicKey.ecPoint).mult(multiplier));
+      signatureSum.add(new P2(signature.ec2Point).mult(multiplier));
+    }
+
+    Pairing ctx = new Pairing(true, ETH2_DST);
+    BLST_ERROR ret =
+        ctx.aggregate(
+            publicKeySum.to_affine(), signatureSum.to_affine(), message.toArray(), new byte[0]);
+
+    if (ret != BLST_ERROR.BLST_SUCCESS) {
+      if (ret == BLST_ERROR.BLST_PK_IS_INFINITY) {
+        return BlstSemiAggregate.createInvalid();
+      } else {
+        throw new BlsException("Error in Blst, error code: " + ret);
+      }
+    }
+
+    ctx.commit();
+
+    return new BlstSemiAggregate(ctx);
+  }
+
   @Override
   public boolean completeBatchVerify(final List<? extends BatchSemiAggregate> preparedList) {
     if (preparedList.isEmpty()) {
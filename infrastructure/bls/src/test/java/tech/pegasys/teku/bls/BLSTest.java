@@ -339,6 +339,65 @@ public abstract class BLSTest {
             pubKeys, messages, List.of(signature1, signature2, signature3), true, false));
   }
 
+  @Test
+  void batchVerifySameMessage() {
+    BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
+    BLSKeyPair keyPair2 = BLSTestUtil.randomKeyPair(2);
+    BLSKeyPair keyPair3 = BLSTestUtil.randomKeyPair(3);
+    Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    Bytes otherMessage = Bytes.wrap("Hello, other!".getBytes(UTF_8));
+
+    final List<List<BLSPublicKey>> pubKeys =
+        List.of(
+            List.of(keyPair1.getPublicKey()),
+            List.of(keyPair2.getPublicKey()),
+            List.of(keyPair3.getPublicKey()));
+    final List<BLSSignature> signatures =
+        List.of(
+            BLS.sign(keyPair1.getSecretKey(), message),
+            BLS.sign(keyPair2.getSecretKey(), message),
+            BLS.sign(keyPair3.getSecretKey(), message));
+    final BatchSemiAggregate otherSemiAggregate =
+        BLS.prepareBatchVerify(
+            0,
+            List.of(keyPair1.getPublicKey()),
+            otherMessage,
+            BLS.sign(keyPair1.getSecretKey(), otherMessage));
+
+    assertTrue(
+        BLS.completeBatchVerify(
+            List.of(
+                BLS.prepareBatchVerifySameMessage(pubKeys, message, signatures),
+                otherSemiAggregate)));
+
+    final List<BLSSignature> invalidSignatures =
+        List.of(
+            signatures.get(0),
+            BLS.sign(keyPair2.getSecretKey(), otherMessage),
+            signatures.get(2));
+    assertFalse(
+        BLS.completeBatchVerify(
+            List.of(BLS.prepareBatchVerifySameMessage(pubKeys, message, invalidSignatures))));
+  }
+
+  @Test
+  void batchVerifySameMessageShouldNotAcceptSignaturesWhichOnlyCancelOutWhenSummed() {
+    BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
+    BLSKeyPair keyPair2 = BLSTestUtil.randomKeyPair(2);
+    Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    BLSSignature sig1 = BLS.sign(keyPair1.getSecretKey(), message);
+    BLSSignature sig2 = BLS.sign(keyPair2.getSecretKey(), message);
+
+    // Neither signature is valid on its own but their plain sum is a valid aggregate
+    final BatchSemiAggregate semiAggregate =
+        BLS.prepareBatchVerifySameMessage(
+            List.of(List.of(keyPair1.getPublicKey()), List.of(keyPair2.getPublicKey())),
+            message,
+            List.of(BLS.aggregate(List.of(sig1, sig2)), infinityG2()));
+
+    assertFalse(BLS.completeBatchVerify(List.of(semiAggregate)));
+  }
+
   @Test
   void batchVerifyInfinitePublicKeyAndSignature() {
     BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
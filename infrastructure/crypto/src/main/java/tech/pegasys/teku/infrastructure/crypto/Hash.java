@@ -52,6 +52,15 @@ public class Hash {
     return Bytes32.wrap(digest.digest());
   }
 
+  public static Bytes32 sha256(final Bytes a, final Bytes b, final Bytes c, final Bytes d) {
+    final MessageDigest digest = SHA256_MESSAGE_DIGEST_THREAD_LOCAL.get();
+    a.update(digest);
+    b.update(digest);
+    c.update(digest);
+    d.update(digest);
+    return Bytes32.wrap(digest.digest());
+  }
+
   public static Bytes32 keccak256(final Bytes input) {
     final MessageDigest digest = KECCAK_256_MESSAGE_DIGEST_THREAD_LOCAL.get();
     input.update(digest);
@@ -28,6 +28,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -51,6 +52,8 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.NodeIdToDataColumnSideca
 import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.topics.Eth2GossipTopicFilter;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipDecodingPool;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.ProcessedAttestationSubscriptionProvider;
 import tech.pegasys.teku.networking.eth2.peers.DiscoveryNodeIdExtractor;
@@ -141,6 +144,7 @@ public class Eth2P2PNetworkBuilder {
   protected final List<PeerHandler> peerHandlers = new ArrayList<>();
   protected TimeProvider timeProvider;
   protected AsyncRunner asyncRunner;
+  protected AsyncRunnerFactory asyncRunnerFactory;
   protected KeyValueStore<String, Bytes> keyValueStore;
   protected Duration eth2RpcPingInterval = DEFAULT_ETH2_RPC_PING_INTERVAL;
   protected int eth2RpcOutstandingPingThreshold = DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD;
@@ -206,7 +210,9 @@ public class Eth2P2PNetworkBuilder {
             config.getPeerRequestLimit(),
             spec,
             discoveryNodeIdExtractor,
-            dasReqRespLogger);
+            dasReqRespLogger,
+            config.isEncodedBlockServingEnabled(),
+            config.getEncodedBlockCacheSize());
     final Collection<RpcMethod<?, ?, ?>> eth2RpcMethods =
         eth2PeerManager.getBeaconChainMethods().all();
     rpcMethods.addAll(eth2RpcMethods);
@@ -243,10 +249,12 @@ public class Eth2P2PNetworkBuilder {
         GossipForkManager.builder()
             .spec(spec)
             .recentChainData(combinedChainDataClient.getRecentChainData());
+    final AsyncRunner gossipAsyncRunner = createGossipAsyncRunner();
     spec.getEnabledMilestones().stream()
         .map(
             forkAndSpecMilestone ->
-                createSubscriptions(forkAndSpecMilestone, network, gossipEncoding))
+                createSubscriptions(
+                    forkAndSpecMilestone, network, gossipEncoding, gossipAsyncRunner))
         .forEach(gossipForkManagerBuilder::fork);
     // BPO
     spec.getBpoForks().stream()
@@ -257,23 +265,45 @@ public class Eth2P2PNetworkBuilder {
                   spec.getForkSchedule().getSpecMilestoneAtEpoch(bpo.epoch());
               final ForkAndSpecMilestone forkAndSpecMilestone =
                   new ForkAndSpecMilestone(fork, milestone);
-              return createBpoSubscriptions(forkAndSpecMilestone, network, gossipEncoding, bpo);
+              return createBpoSubscriptions(
+                  forkAndSpecMilestone, network, gossipEncoding, gossipAsyncRunner, bpo);
             })
         .forEach(gossipForkManagerBuilder::bpoFork);
 
     return gossipForkManagerBuilder.build();
   }
 
+  private AsyncRunner createGossipAsyncRunner() {
+    final AsyncRunner validationRunner =
+        config.isGossipValidationSchedulerEnabled()
+            ? GossipValidationScheduler.create(
+                asyncRunner,
+                metricsSystem,
+                timeProvider,
+                config.getGossipValidationMaxConcurrentTasks(),
+                Duration.ofMillis(config.getGossipValidationStaleMessageAgeMs()))
+            : asyncRunner;
+    if (!config.isGossipDecodingPoolEnabled()) {
+      return validationRunner;
+    }
+    return GossipDecodingPool.create(
+        validationRunner,
+        asyncRunnerFactory,
+        config.getGossipDecodingThreads(),
+        config.getGossipDecodingLargeMessageThreshold());
+  }
+
   private GossipForkSubscriptions createSubscriptions(
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
-      final GossipEncoding gossipEncoding) {
+      final GossipEncoding gossipEncoding,
+      final AsyncRunner gossipAsyncRunner) {
     return switch (forkAndSpecMilestone.getSpecMilestone()) {
       case PHASE0 ->
           new GossipForkSubscriptionsPhase0(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -289,7 +319,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsAltair(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -307,7 +337,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsBellatrix(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -325,7 +355,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsCapella(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -344,7 +374,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsDeneb(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -364,7 +394,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsElectra(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -386,7 +416,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsFulu(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -410,7 +440,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsGloas(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -440,13 +470,14 @@ public class Eth2P2PNetworkBuilder {
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
       final GossipEncoding gossipEncoding,
+      final AsyncRunner gossipAsyncRunner,
       final BlobParameters bpo) {
     return switch (forkAndSpecMilestone.getSpecMilestone()) {
       case FULU ->
           new GossipForkSubscriptionsFuluBpo(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -471,7 +502,7 @@ public class Eth2P2PNetworkBuilder {
           new GossipForkSubscriptionsGloasBpo(
               forkAndSpecMilestone.getFork(),
               spec,
-              asyncRunner,
+              gossipAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -613,6 +644,9 @@ public class Eth2P2PNetworkBuilder {
     assertNotNull("metadataMessagesFactory", metadataMessagesFactory);
     assertNotNull("keyValueStore", keyValueStore);
     assertNotNull("timeProvider", timeProvider);
+    if (config.isGossipDecodingPoolEnabled()) {
+      assertNotNull("asyncRunnerFactory", asyncRunnerFactory);
+    }
     assertNotNull("gossipedBlockProcessor", gossipedBlockProcessor);
     assertNotNull("gossipedBlobSidecarProcessor", gossipedBlobSidecarProcessor);
     assertNotNull("gossipedAttestationProcessor", gossipedAttestationConsumer);
@@ -828,6 +862,12 @@ public class Eth2P2PNetworkBuilder {
     return this;
   }
 
+  public Eth2P2PNetworkBuilder asyncRunnerFactory(final AsyncRunnerFactory asyncRunnerFactory) {
+    checkNotNull(asyncRunnerFactory);
+    this.asyncRunnerFactory = asyncRunnerFactory;
+    return this;
+  }
+
   public Eth2P2PNetworkBuilder eth2RpcPingInterval(final Duration eth2RpcPingInterval) {
     checkNotNull(eth2RpcPingInterval);
     this.eth2RpcPingInterval = eth2RpcPingInterval;
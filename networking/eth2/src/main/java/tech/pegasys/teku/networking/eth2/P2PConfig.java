@@ -49,6 +49,8 @@ public class P2PConfig {
   public static final int DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY = 30_000;
   public static final int DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE = 250;
   public static final boolean DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED = false;
+  public static final boolean DEFAULT_BATCH_VERIFY_SAME_MESSAGE_ENABLED = false;
+  public static final int DEFAULT_BATCH_VERIFY_MAX_DELAY_MS = 20;
   // it's not allowed to set less than requirement which is > 0, so it's safe value
   public static final int DEFAULT_CUSTODY_GROUP_COUNT_OVERRIDE = 0;
   public static final int DEFAULT_RECOVERY_TIMEOUT_MS = 180_000;
@@ -61,6 +63,16 @@ public class P2PConfig {
   public static final int DEFAULT_HISTORICAL_DATA_MAX_CONCURRENT_QUERIES = 3;
   public static final int DEFAULT_HISTORICAL_MAX_QUERY_QUEUE_SIZE = 500;
   public static final boolean DEFAULT_EXECUTION_PROOF_GOSSIP_ENABLED = false;
+  public static final boolean DEFAULT_ENCODED_BLOCK_SERVING_ENABLED = false;
+  public static final int DEFAULT_ENCODED_BLOCK_CACHE_SIZE = 128;
+  public static final boolean DEFAULT_GOSSIP_VALIDATION_SCHEDULER_ENABLED = false;
+  // matches the default number of p2p async runner threads
+  public static final int DEFAULT_GOSSIP_VALIDATION_MAX_CONCURRENT_TASKS = 10;
+  public static final int DEFAULT_GOSSIP_VALIDATION_STALE_MESSAGE_AGE_MS = 4_000;
+  public static final boolean DEFAULT_GOSSIP_DECODING_POOL_ENABLED = false;
+  public static final int DEFAULT_GOSSIP_DECODING_THREADS = 2;
+  // compressed size, comfortably above any attestation and below any post-Fulu block
+  public static final int DEFAULT_GOSSIP_DECODING_LARGE_MESSAGE_THRESHOLD = 16 * 1024;
 
   private final Spec spec;
   private final NetworkConfig networkConfig;
@@ -87,6 +99,16 @@ public class P2PConfig {
   private final int reworkedSidecarDownloadTimeout;
   private final boolean reworkedSidecarRecoveryEnabled;
   private final boolean executionProofTopicEnabled;
+  private final boolean encodedBlockServingEnabled;
+  private final int encodedBlockCacheSize;
+  private final boolean gossipValidationSchedulerEnabled;
+  private final int gossipValidationMaxConcurrentTasks;
+  private final int gossipValidationStaleMessageAgeMs;
+  private final boolean batchVerifySameMessageEnabled;
+  private final int batchVerifyMaxDelayMs;
+  private final boolean gossipDecodingPoolEnabled;
+  private final int gossipDecodingThreads;
+  private final int gossipDecodingLargeMessageThreshold;
 
   private P2PConfig(
       final Spec spec,
@@ -111,7 +133,17 @@ public class P2PConfig {
       final boolean reworkedSidecarRecoveryEnabled,
       final int reworkedSidecarRecoveryTimeout,
       final int reworkedSidecarDownloadTimeout,
-      final boolean executionProofTopicEnabled) {
+      final boolean executionProofTopicEnabled,
+      final boolean encodedBlockServingEnabled,
+      final int encodedBlockCacheSize,
+      final boolean gossipValidationSchedulerEnabled,
+      final int gossipValidationMaxConcurrentTasks,
+      final int gossipValidationStaleMessageAgeMs,
+      final boolean batchVerifySameMessageEnabled,
+      final int batchVerifyMaxDelayMs,
+      final boolean gossipDecodingPoolEnabled,
+      final int gossipDecodingThreads,
+      final int gossipDecodingLargeMessageThreshold) {
     this.spec = spec;
     this.networkConfig = networkConfig;
     this.discoveryConfig = discoveryConfig;
@@ -136,6 +168,16 @@ public class P2PConfig {
     this.reworkedSidecarDownloadTimeout = reworkedSidecarDownloadTimeout;
     this.reworkedSidecarRecoveryTimeout = reworkedSidecarRecoveryTimeout;
     this.executionProofTopicEnabled = executionProofTopicEnabled;
+    this.encodedBlockServingEnabled = encodedBlockServingEnabled;
+    this.encodedBlockCacheSize = encodedBlockCacheSize;
+    this.gossipValidationSchedulerEnabled = gossipValidationSchedulerEnabled;
+    this.gossipValidationMaxConcurrentTasks = gossipValidationMaxConcurrentTasks;
+    this.gossipValidationStaleMessageAgeMs = gossipValidationStaleMessageAgeMs;
+    this.batchVerifySameMessageEnabled = batchVerifySameMessageEnabled;
+    this.batchVerifyMaxDelayMs = batchVerifyMaxDelayMs;
+    this.gossipDecodingPoolEnabled = gossipDecodingPoolEnabled;
+    this.gossipDecodingThreads = gossipDecodingThreads;
+    this.gossipDecodingLargeMessageThreshold = gossipDecodingLargeMessageThreshold;
   }
 
   public static Builder builder() {
@@ -214,6 +256,14 @@ public class P2PConfig {
     return batchVerifyStrictThreadLimitEnabled;
   }
 
+  public boolean isBatchVerifySameMessageEnabled() {
+    return batchVerifySameMessageEnabled;
+  }
+
+  public int getBatchVerifyMaxDelayMs() {
+    return batchVerifyMaxDelayMs;
+  }
+
   public NetworkingSpecConfig getNetworkingSpecConfig() {
     return networkingSpecConfig;
   }
@@ -242,6 +292,38 @@ public class P2PConfig {
     return reworkedSidecarDownloadTimeout;
   }
 
+  public boolean isEncodedBlockServingEnabled() {
+    return encodedBlockServingEnabled;
+  }
+
+  public int getEncodedBlockCacheSize() {
+    return encodedBlockCacheSize;
+  }
+
+  public boolean isGossipValidationSchedulerEnabled() {
+    return gossipValidationSchedulerEnabled;
+  }
+
+  public int getGossipValidationMaxConcurrentTasks() {
+    return gossipValidationMaxConcurrentTasks;
+  }
+
+  public int getGossipValidationStaleMessageAgeMs() {
+    return gossipValidationStaleMessageAgeMs;
+  }
+
+  public boolean isGossipDecodingPoolEnabled() {
+    return gossipDecodingPoolEnabled;
+  }
+
+  public int getGossipDecodingThreads() {
+    return gossipDecodingThreads;
+  }
+
+  public int getGossipDecodingLargeMessageThreshold() {
+    return gossipDecodingLargeMessageThreshold;
+  }
+
   public static class Builder {
     private final NetworkConfig.Builder networkConfig = NetworkConfig.builder();
     private final DiscoveryConfig.Builder discoveryConfig = DiscoveryConfig.builder();
@@ -263,6 +345,8 @@ public class P2PConfig {
     private int batchVerifyMaxBatchSize = DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE;
     private boolean batchVerifyStrictThreadLimitEnabled =
         DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
+    private boolean batchVerifySameMessageEnabled = DEFAULT_BATCH_VERIFY_SAME_MESSAGE_ENABLED;
+    private int batchVerifyMaxDelayMs = DEFAULT_BATCH_VERIFY_MAX_DELAY_MS;
     private boolean allTopicsFilterEnabled = DEFAULT_PEER_ALL_TOPIC_FILTER_ENABLED;
     private int floodPublishMaxMessageSizeThreshold =
         DEFAULT_FLOOD_PUBLISH_MAX_MESSAGE_SIZE_THRESHOLD;
@@ -271,6 +355,15 @@ public class P2PConfig {
     private boolean reworkedSidecarRecoveryEnabled = false;
     private Integer reworkedSidecarRecoveryTimeout = DEFAULT_RECOVERY_TIMEOUT_MS;
     private Integer reworkedSidecarDownloadTimeout = DEFAULT_DOWNLOAD_TIMEOUT_MS;
+    private boolean encodedBlockServingEnabled = DEFAULT_ENCODED_BLOCK_SERVING_ENABLED;
+    private int encodedBlockCacheSize = DEFAULT_ENCODED_BLOCK_CACHE_SIZE;
+    private boolean gossipValidationSchedulerEnabled = DEFAULT_GOSSIP_VALIDATION_SCHEDULER_ENABLED;
+    private int gossipValidationMaxConcurrentTasks = DEFAULT_GOSSIP_VALIDATION_MAX_CONCURRENT_TASKS;
+    private int gossipValidationStaleMessageAgeMs = DEFAULT_GOSSIP_VALIDATION_STALE_MESSAGE_AGE_MS;
+    private boolean gossipDecodingPoolEnabled = DEFAULT_GOSSIP_DECODING_POOL_ENABLED;
+    private int gossipDecodingThreads = DEFAULT_GOSSIP_DECODING_THREADS;
+    private int gossipDecodingLargeMessageThreshold =
+        DEFAULT_GOSSIP_DECODING_LARGE_MESSAGE_THRESHOLD;
 
     private Builder() {}
 
@@ -330,7 +423,17 @@ public class P2PConfig {
           reworkedSidecarRecoveryEnabled,
           reworkedSidecarRecoveryTimeout,
           reworkedSidecarDownloadTimeout,
-          executionProofTopicEnabled);
+          executionProofTopicEnabled,
+          encodedBlockServingEnabled,
+          encodedBlockCacheSize,
+          gossipValidationSchedulerEnabled,
+          gossipValidationMaxConcurrentTasks,
+          gossipValidationStaleMessageAgeMs,
+          batchVerifySameMessageEnabled,
+          batchVerifyMaxDelayMs,
+          gossipDecodingPoolEnabled,
+          gossipDecodingThreads,
+          gossipDecodingLargeMessageThreshold);
     }
 
     private void validate() {
@@ -479,6 +582,20 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder batchVerifySameMessageEnabled(final boolean batchVerifySameMessageEnabled) {
+      this.batchVerifySameMessageEnabled = batchVerifySameMessageEnabled;
+      return this;
+    }
+
+    public Builder batchVerifyMaxDelayMs(final int batchVerifyMaxDelayMs) {
+      if (batchVerifyMaxDelayMs < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid batchVerifyMaxDelayMs: %d", batchVerifyMaxDelayMs));
+      }
+      this.batchVerifyMaxDelayMs = batchVerifyMaxDelayMs;
+      return this;
+    }
+
     public Builder allTopicsFilterEnabled(final boolean allTopicsFilterEnabled) {
       this.allTopicsFilterEnabled = allTopicsFilterEnabled;
       return this;
@@ -503,5 +620,74 @@ public class P2PConfig {
       this.reworkedSidecarRecoveryEnabled = reworkedSidecarRecoveryEnabled;
       return this;
     }
+
+    public Builder encodedBlockServingEnabled(final boolean encodedBlockServingEnabled) {
+      this.encodedBlockServingEnabled = encodedBlockServingEnabled;
+      return this;
+    }
+
+    public Builder encodedBlockCacheSize(final int encodedBlockCacheSize) {
+      if (encodedBlockCacheSize < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid encodedBlockCacheSize: %d", encodedBlockCacheSize));
+      }
+      this.encodedBlockCacheSize = encodedBlockCacheSize;
+      return this;
+    }
+
+    public Builder gossipValidationSchedulerEnabled(
+        final boolean gossipValidationSchedulerEnabled) {
+      this.gossipValidationSchedulerEnabled = gossipValidationSchedulerEnabled;
+      return this;
+    }
+
+    public Builder gossipValidationMaxConcurrentTasks(
+        final int gossipValidationMaxConcurrentTasks) {
+      if (gossipValidationMaxConcurrentTasks < 1) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid gossipValidationMaxConcurrentTasks: %d",
+                gossipValidationMaxConcurrentTasks));
+      }
+      this.gossipValidationMaxConcurrentTasks = gossipValidationMaxConcurrentTasks;
+      return this;
+    }
+
+    public Builder gossipValidationStaleMessageAgeMs(final int gossipValidationStaleMessageAgeMs) {
+      if (gossipValidationStaleMessageAgeMs < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid gossipValidationStaleMessageAgeMs: %d",
+                gossipValidationStaleMessageAgeMs));
+      }
+      this.gossipValidationStaleMessageAgeMs = gossipValidationStaleMessageAgeMs;
+      return this;
+    }
+
+    public Builder gossipDecodingPoolEnabled(final boolean gossipDecodingPoolEnabled) {
+      this.gossipDecodingPoolEnabled = gossipDecodingPoolEnabled;
+      return this;
+    }
+
+    public Builder gossipDecodingThreads(final int gossipDecodingThreads) {
+      if (gossipDecodingThreads < 1) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid gossipDecodingThreads: %d", gossipDecodingThreads));
+      }
+      this.gossipDecodingThreads = gossipDecodingThreads;
+      return this;
+    }
+
+    public Builder gossipDecodingLargeMessageThreshold(
+        final int gossipDecodingLargeMessageThreshold) {
+      if (gossipDecodingLargeMessageThreshold < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid gossipDecodingLargeMessageThreshold: %d",
+                gossipDecodingLargeMessageThreshold));
+      }
+      this.gossipDecodingLargeMessageThreshold = gossipDecodingLargeMessageThreshold;
+      return this;
+    }
   }
 }
@@ -14,23 +14,53 @@
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
 import org.apache.tuweni.bytes.Bytes;
-import tech.pegasys.teku.infrastructure.crypto.Hash;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
 
+/**
+ * Calculates the 'message-id' of gossip messages received on a single topic. Instances hold no
+ * per-message state so they can be shared by all messages on the topic.
+ */
 abstract class MessageIdCalculator {
+  private static final int MESSAGE_ID_SIZE = 20;
 
-  protected abstract Bytes validMessageIdData(final Bytes uncompressedData);
-
-  protected abstract Bytes invalidMessageIdData();
+  static MessageIdCalculator create(
+      final String topic,
+      final ForkDigestToMilestone forkDigestToMilestone,
+      final NetworkingSpecConfig networkingConfig) {
+    final Bytes4 forkDigest = GossipTopics.extractForkDigest(topic);
+    final SpecMilestone milestone =
+        forkDigestToMilestone
+            .getMilestone(forkDigest)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Failed to associate a milestone with the forkDigest in topic: " + topic));
 
-  protected Bytes hashMessageIdData(final Bytes idData) {
-    return Hash.sha256(idData).slice(0, 20);
+    switch (milestone) {
+      case PHASE0:
+        return new MessageIdCalculatorPhase0(networkingConfig);
+      case ALTAIR:
+      default:
+        return new MessageIdCalculatorAltair(topic, networkingConfig);
+    }
   }
 
+  // Implementations hash the message-id components one after another with a reused digest rather
+  // than concatenating them first, as this is done for every gossip message received
+  protected abstract Bytes32 hashValidMessageIdData(final Bytes uncompressedData);
+
+  protected abstract Bytes32 hashInvalidMessageIdData(final Bytes rawMessageData);
+
   public Bytes getValidMessageId(final Bytes uncompressedData) {
-    return hashMessageIdData(validMessageIdData(uncompressedData));
+    return hashValidMessageIdData(uncompressedData).slice(0, MESSAGE_ID_SIZE);
   }
 
-  public Bytes getInvalidMessageId() {
-    return hashMessageIdData(invalidMessageIdData());
+  public Bytes getInvalidMessageId(final Bytes rawMessageData) {
+    return hashInvalidMessageIdData(rawMessageData).slice(0, MESSAGE_ID_SIZE);
   }
 }
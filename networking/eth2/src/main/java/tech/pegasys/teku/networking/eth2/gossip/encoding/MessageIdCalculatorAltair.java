@@ -15,26 +15,26 @@ package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
 import java.nio.charset.StandardCharsets;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
 import tech.pegasys.teku.spec.logic.common.helpers.MathHelpers;
 
 class MessageIdCalculatorAltair extends MessageIdCalculator {
-  private final Bytes rawMessageData;
-  private final String topic;
+  private final Bytes topicBytes;
+  private final Bytes topicBytesLength;
   private final NetworkingSpecConfig networkingConfig;
 
   public MessageIdCalculatorAltair(
-      final Bytes rawMessageData, final String topic, final NetworkingSpecConfig networkingConfig) {
-    this.rawMessageData = rawMessageData;
-    this.topic = topic;
+      final String topic, final NetworkingSpecConfig networkingConfig) {
+    this.topicBytes = Bytes.of(topic.getBytes(StandardCharsets.UTF_8));
+    this.topicBytesLength = MathHelpers.uint64ToBytes(topicBytes.size());
     this.networkingConfig = networkingConfig;
   }
 
   @Override
-  protected Bytes validMessageIdData(final Bytes uncompressedData) {
-    final Bytes topicBytes = getTopicBytes();
-    final Bytes topicBytesLength = encodeTopicLength(topicBytes);
-    return Bytes.wrap(
+  protected Bytes32 hashValidMessageIdData(final Bytes uncompressedData) {
+    return Hash.sha256(
         networkingConfig.getMessageDomainValidSnappy().getWrappedBytes(),
         topicBytesLength,
         topicBytes,
@@ -42,21 +42,11 @@ class MessageIdCalculatorAltair extends MessageIdCalculator {
   }
 
   @Override
-  protected Bytes invalidMessageIdData() {
-    final Bytes topicBytes = getTopicBytes();
-    final Bytes topicBytesLength = encodeTopicLength(topicBytes);
-    return Bytes.wrap(
+  protected Bytes32 hashInvalidMessageIdData(final Bytes rawMessageData) {
+    return Hash.sha256(
         networkingConfig.getMessageDomainInvalidSnappy().getWrappedBytes(),
         topicBytesLength,
         topicBytes,
         rawMessageData);
   }
-
-  private Bytes getTopicBytes() {
-    return Bytes.of(topic.getBytes(StandardCharsets.UTF_8));
-  }
-
-  private Bytes encodeTopicLength(final Bytes topicBytes) {
-    return MathHelpers.uint64ToBytes(topicBytes.size());
-  }
 }
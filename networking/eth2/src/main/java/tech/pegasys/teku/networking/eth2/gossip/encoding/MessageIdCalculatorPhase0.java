@@ -14,27 +14,26 @@
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
 
 class MessageIdCalculatorPhase0 extends MessageIdCalculator {
-  private final Bytes rawMessageData;
   private final NetworkingSpecConfig networkingConfig;
 
-  public MessageIdCalculatorPhase0(
-      final Bytes rawMessageData, final NetworkingSpecConfig networkingConfig) {
-    this.rawMessageData = rawMessageData;
+  public MessageIdCalculatorPhase0(final NetworkingSpecConfig networkingConfig) {
     this.networkingConfig = networkingConfig;
   }
 
   @Override
-  protected Bytes validMessageIdData(final Bytes uncompressedData) {
-    return Bytes.wrap(
+  protected Bytes32 hashValidMessageIdData(final Bytes uncompressedData) {
+    return Hash.sha256(
         networkingConfig.getMessageDomainValidSnappy().getWrappedBytes(), uncompressedData);
   }
 
   @Override
-  protected Bytes invalidMessageIdData() {
-    return Bytes.wrap(
+  protected Bytes32 hashInvalidMessageIdData(final Bytes rawMessageData) {
+    return Hash.sha256(
         networkingConfig.getMessageDomainInvalidSnappy().getWrappedBytes(), rawMessageData);
   }
 }
@@ -17,14 +17,10 @@ import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
-import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
-import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
-import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
-import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
 
 /**
@@ -43,83 +39,54 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   private final Optional<UInt64> arrivalTimestamp;
 
   private final Supplier<DecodedMessageResult> decodedResult =
-      Suppliers.memoize(this::getDecodedMessage);
+      Suppliers.memoize(this::decodeMessage);
 
   static SnappyPreparedGossipMessage createUnknown(
-      final String topic,
       final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone,
+      final MessageIdCalculator messageIdCalculator,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
     return new SnappyPreparedGossipMessage(
-        topic,
-        compressedData,
-        forkDigestToMilestone,
-        null,
-        null,
-        networkingConfig,
-        arrivalTimestamp);
+        compressedData, null, null, messageIdCalculator, networkingConfig, arrivalTimestamp);
   }
 
   static SnappyPreparedGossipMessage create(
-      final String topic,
       final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone,
       final SszSchema<?> valueType,
       final Uncompressor snappyCompressor,
+      final MessageIdCalculator messageIdCalculator,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
     return new SnappyPreparedGossipMessage(
-        topic,
         compressedData,
-        forkDigestToMilestone,
         valueType,
         snappyCompressor,
+        messageIdCalculator,
         networkingConfig,
         arrivalTimestamp);
   }
 
   private SnappyPreparedGossipMessage(
-      final String topic,
       final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone,
       final SszSchema<?> valueType,
       final Uncompressor snappyCompressor,
+      final MessageIdCalculator messageIdCalculator,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
     this.compressedData = compressedData;
     this.valueType = valueType;
     this.snappyCompressor = snappyCompressor;
+    this.messageIdCalculator = messageIdCalculator;
     this.networkingConfig = networkingConfig;
-    this.messageIdCalculator =
-        createMessageIdCalculator(topic, compressedData, forkDigestToMilestone);
     this.arrivalTimestamp = arrivalTimestamp;
   }
 
-  private MessageIdCalculator createMessageIdCalculator(
-      final String topic,
-      final Bytes compressedData,
-      final ForkDigestToMilestone forkDigestToMilestone) {
-    final Bytes4 forkDigest = GossipTopics.extractForkDigest(topic);
-    final SpecMilestone milestone =
-        forkDigestToMilestone
-            .getMilestone(forkDigest)
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Failed to associate a milestone with the forkDigest in topic: " + topic));
-
-    switch (milestone) {
-      case PHASE0:
-        return new MessageIdCalculatorPhase0(compressedData, networkingConfig);
-      case ALTAIR:
-      default:
-        return new MessageIdCalculatorAltair(compressedData, topic, networkingConfig);
-    }
-  }
-
   @Override
   public DecodedMessageResult getDecodedMessage() {
+    return decodedResult.get();
+  }
+
+  private DecodedMessageResult decodeMessage() {
     try {
       if (valueType == null) {
         return DecodedMessageResult.failed();
@@ -150,7 +117,7 @@ class SnappyPreparedGossipMessage implements PreparedGossipMessage {
   public Bytes getMessageId() {
     return getUncompressed()
         .map(messageIdCalculator::getValidMessageId)
-        .orElseGet(messageIdCalculator::getInvalidMessageId);
+        .orElseGet(() -> messageIdCalculator.getInvalidMessageId(compressedData));
   }
 
   @Override
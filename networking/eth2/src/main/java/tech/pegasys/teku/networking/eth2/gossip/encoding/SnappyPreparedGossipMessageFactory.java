@@ -13,7 +13,9 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
@@ -26,6 +28,8 @@ public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMes
 
   private final SnappyBlockCompressor snappyCompressor;
   private final ForkDigestToMilestone forkDigestToMilestone;
+  // Each topic handler has its own factory, so this only ever holds the handler's topic
+  private final Map<String, MessageIdCalculator> messageIdCalculators = new ConcurrentHashMap<>();
 
   public SnappyPreparedGossipMessageFactory(
       final SnappyBlockCompressor snappyCompressor,
@@ -41,12 +45,15 @@ public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMes
       final SszSchema<T> valueType,
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
+    final MessageIdCalculator messageIdCalculator =
+        messageIdCalculators.computeIfAbsent(
+            topic,
+            __ -> MessageIdCalculator.create(topic, forkDigestToMilestone, networkingConfig));
     return SnappyPreparedGossipMessage.create(
-        topic,
         data,
-        forkDigestToMilestone,
         valueType,
         snappyCompressor::uncompress,
+        messageIdCalculator,
         networkingConfig,
         arrivalTimestamp);
   }
@@ -58,6 +65,9 @@ public class SnappyPreparedGossipMessageFactory implements Eth2PreparedGossipMes
       final NetworkingSpecConfig networkingConfig,
       final Optional<UInt64> arrivalTimestamp) {
     return SnappyPreparedGossipMessage.createUnknown(
-        topic, data, forkDigestToMilestone, networkingConfig, arrivalTimestamp);
+        data,
+        MessageIdCalculator.create(topic, forkDigestToMilestone, networkingConfig),
+        networkingConfig,
+        arrivalTimestamp);
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
+
+/**
+ * Decodes gossip messages on dedicated bounded runners instead of the libp2p event loop thread
+ * which received them, so building a large block or data column sidecar doesn't hold up traffic
+ * from other peers sharing that thread. Messages at or above the size threshold are decoded by
+ * separate workers from smaller ones, so a burst of large messages can't delay attestations.
+ *
+ * <p>Only SSZ decoding runs on these runners. Snappy decompression runs once, on the libp2p event
+ * loop thread when the message is received, because the message-id is calculated from the
+ * uncompressed payload. The decompressed payload is kept with the message for decoding.
+ *
+ * <p>Topic handlers obtain the runner for validation via {@link #getValidationRunner()}. All other
+ * operations are passed straight through to that runner.
+ */
+public class GossipDecodingPool implements AsyncRunner {
+  static final int LARGE_MESSAGE_QUEUE_SIZE = 1_000;
+  static final int SMALL_MESSAGE_QUEUE_SIZE = 20_000;
+
+  private final AsyncRunner delegate;
+  private final AsyncRunner largeMessageRunner;
+  private final AsyncRunner smallMessageRunner;
+  private final int largeMessageThreshold;
+
+  @VisibleForTesting
+  GossipDecodingPool(
+      final AsyncRunner delegate,
+      final AsyncRunner largeMessageRunner,
+      final AsyncRunner smallMessageRunner,
+      final int largeMessageThreshold) {
+    this.delegate = delegate;
+    this.largeMessageRunner = largeMessageRunner;
+    this.smallMessageRunner = smallMessageRunner;
+    this.largeMessageThreshold = largeMessageThreshold;
+  }
+
+  public static GossipDecodingPool create(
+      final AsyncRunner delegate,
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final int threadsPerRunner,
+      final int largeMessageThreshold) {
+    return new GossipDecodingPool(
+        delegate,
+        asyncRunnerFactory.create(
+            "gossip_decode_large", threadsPerRunner, LARGE_MESSAGE_QUEUE_SIZE),
+        asyncRunnerFactory.create(
+            "gossip_decode_small", threadsPerRunner, SMALL_MESSAGE_QUEUE_SIZE),
+        largeMessageThreshold);
+  }
+
+  public AsyncRunner getValidationRunner() {
+    return delegate;
+  }
+
+  /**
+   * Runs the decoder for the message on the runner for its size. The returned future completes
+   * exceptionally with a {@link java.util.concurrent.RejectedExecutionException} if that runner's
+   * queue is full.
+   */
+  public <T> SafeFuture<T> decode(
+      final PreparedGossipMessage message, final ExceptionThrowingSupplier<T> decoder) {
+    return selectRunner(message).runAsync(decoder);
+  }
+
+  private AsyncRunner selectRunner(final PreparedGossipMessage message) {
+    return message.getOriginalMessage().size() >= largeMessageThreshold
+        ? largeMessageRunner
+        : smallMessageRunner;
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+    return delegate.runAsync(action);
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAfterDelay(
+      final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+    return delegate.runAfterDelay(action, delay);
+  }
+
+  @Override
+  public void shutdown() {
+    largeMessageRunner.shutdown();
+    smallMessageRunner.shutdown();
+    delegate.shutdown();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+/**
+ * Groups gossip topics by how urgently their messages need validating. Declared in priority
+ * order, with the weight giving each class's share of validation slots when several are backlogged.
+ */
+public enum GossipTopicClass {
+  BLOCK(32, 1_000, false),
+  SIDECAR(16, 5_000, false),
+  AGGREGATE(8, 5_000, false),
+  ATTESTATION(4, 20_000, true),
+  SYNC_COMMITTEE(2, 5_000, true),
+  OPERATION(1, 2_000, false);
+
+  private final int weight;
+  private final int maximumQueueSize;
+  private final boolean droppedWhenStale;
+
+  GossipTopicClass(final int weight, final int maximumQueueSize, final boolean droppedWhenStale) {
+    this.weight = weight;
+    this.maximumQueueSize = maximumQueueSize;
+    this.droppedWhenStale = droppedWhenStale;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  public int getMaximumQueueSize() {
+    return maximumQueueSize;
+  }
+
+  /** Messages which are only useful for a short time after they are sent, such as attestations. */
+  public boolean isDroppedWhenStale() {
+    return droppedWhenStale;
+  }
+
+  public static GossipTopicClass fromTopicName(final String topicName) {
+    if (topicName.equals(GossipTopicName.BEACON_BLOCK.toString())
+        || topicName.equals(GossipTopicName.EXECUTION_PAYLOAD.toString())) {
+      return BLOCK;
+    }
+    if (topicName.startsWith("blob_sidecar_")
+        || topicName.startsWith("data_column_sidecar_")
+        || topicName.startsWith("execution_proof_")) {
+      return SIDECAR;
+    }
+    if (topicName.equals(GossipTopicName.BEACON_AGGREGATE_AND_PROOF.toString())
+        || topicName.equals(GossipTopicName.SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF.toString())
+        || topicName.equals(GossipTopicName.EXECUTION_PAYLOAD_BID.toString())) {
+      return AGGREGATE;
+    }
+    if (topicName.startsWith("beacon_attestation_")
+        || topicName.equals(GossipTopicName.PAYLOAD_ATTESTATION_MESSAGE.toString())) {
+      return ATTESTATION;
+    }
+    if (topicName.startsWith("sync_committee_")) {
+      return SYNC_COMMITTEE;
+    }
+    return OPERATION;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue.QueueConfig;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * Schedules gossip validation in per-{@link GossipTopicClass} queues instead of submitting every
+ * message straight to the shared executor, so a backlog of attestations can't delay block
+ * validation. Validation of stale attestations and sync committee messages is skipped entirely.
+ *
+ * <p>Topic handlers obtain a runner for their topic via {@link #forTopic(String)}. All other
+ * operations are passed straight through to the underlying runner.
+ */
+public class GossipValidationScheduler implements AsyncRunner {
+  private final AsyncRunner delegate;
+  private final WeightedThrottlingTaskQueue<GossipTopicClass> taskQueue;
+
+  GossipValidationScheduler(
+      final AsyncRunner delegate, final WeightedThrottlingTaskQueue<GossipTopicClass> taskQueue) {
+    this.delegate = delegate;
+    this.taskQueue = taskQueue;
+  }
+
+  public static GossipValidationScheduler create(
+      final AsyncRunner delegate,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final int maximumConcurrentTasks,
+      final Duration staleMessageAge) {
+    final Map<GossipTopicClass, QueueConfig> queueConfigs = new EnumMap<>(GossipTopicClass.class);
+    for (GossipTopicClass topicClass : GossipTopicClass.values()) {
+      queueConfigs.put(
+          topicClass,
+          new QueueConfig(
+              topicClass.getWeight(),
+              topicClass.getMaximumQueueSize(),
+              topicClass.isDroppedWhenStale() ? Optional.of(staleMessageAge) : Optional.empty()));
+    }
+    return new GossipValidationScheduler(
+        delegate,
+        WeightedThrottlingTaskQueue.create(
+            GossipTopicClass.class,
+            queueConfigs,
+            maximumConcurrentTasks,
+            GossipTopicClass.OPERATION.getMaximumQueueSize(),
+            timeProvider,
+            metricsSystem,
+            TekuMetricCategory.NETWORK,
+            "gossip_validation"));
+  }
+
+  public AsyncRunner forTopic(final String topicName) {
+    return new TopicValidationRunner(GossipTopicClass.fromTopicName(topicName));
+  }
+
+  private <U> SafeFuture<U> scheduleValidation(
+      final GossipTopicClass topicClass, final ExceptionThrowingFutureSupplier<U> action) {
+    // Only the synchronous part of validation holds a slot. Messages waiting for batched
+    // signature verification must not stop further messages being started.
+    final ExceptionThrowingSupplier<SafeFuture<U>> startValidation =
+        () -> SafeFuture.of(action.get());
+    return taskQueue
+        .queueTask(topicClass, () -> delegate.runAsync(startValidation))
+        .thenCompose(Function.identity());
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+    return delegate.runAsync(action);
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAfterDelay(
+      final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+    return delegate.runAfterDelay(action, delay);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  private class TopicValidationRunner implements AsyncRunner {
+    private final GossipTopicClass topicClass;
+
+    private TopicValidationRunner(final GossipTopicClass topicClass) {
+      this.topicClass = topicClass;
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+      return scheduleValidation(topicClass, action);
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAfterDelay(
+        final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+      return delegate.runAfterDelay(action, delay);
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+  }
+}
@@ -23,6 +23,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue.TaskExpiredException;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
@@ -33,9 +34,11 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.Eth2PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipDecodingPool;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipSubValidationUtil;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipValidationScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationValidator;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
@@ -49,6 +52,7 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler {
   private static final Logger LOG = LogManager.getLogger();
   private final AsyncRunner asyncRunner;
+  private final Optional<GossipDecodingPool> decodingPool;
   private final OperationProcessor<MessageT> processor;
   private final GossipEncoding gossipEncoding;
   private final Bytes4 forkDigest;
@@ -74,7 +78,18 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
       final SszSchema<MessageT> messageType,
       final NetworkingSpecConfig networkingConfig,
       final DebugDataDumper debugDataDumper) {
-    this.asyncRunner = asyncRunner;
+    final AsyncRunner validationRunner;
+    if (asyncRunner instanceof GossipDecodingPool pool) {
+      this.decodingPool = Optional.of(pool);
+      validationRunner = pool.getValidationRunner();
+    } else {
+      this.decodingPool = Optional.empty();
+      validationRunner = asyncRunner;
+    }
+    this.asyncRunner =
+        validationRunner instanceof GossipValidationScheduler scheduler
+            ? scheduler.forTopic(topicName)
+            : validationRunner;
     this.processor = processor;
     this.gossipEncoding = gossipEncoding;
     this.forkDigest = forkDigest;
@@ -115,7 +130,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
 
   @Override
   public SafeFuture<ValidationResult> handleMessage(final PreparedGossipMessage message) {
-    return SafeFuture.of(() -> deserialize(message))
+    return decode(message)
         .thenCompose(
             deserialized -> {
               if (!forkValidator.isValid(deserialized)) {
@@ -174,6 +189,11 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
           getTopic(), message.getArrivalTimestamp(), message::getOriginalMessage, err);
       P2P_LOG.onGossipMessageDecodingError(getTopic(), message.getOriginalMessage(), err);
       response = ValidationResult.Invalid;
+    } else if (ExceptionUtil.hasCause(err, TaskExpiredException.class)) {
+      LOG.debug(
+          "Discarding gossip message for topic {} because it waited too long to be validated",
+          getTopic());
+      response = ValidationResult.Ignore;
     } else if (ExceptionUtil.hasCause(err, RejectedExecutionException.class)) {
       loggerThrottler.invoke(
           timeProvider.getTimeInSeconds(),
@@ -207,6 +227,12 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
     return networkingConfig.getMaxPayloadSize();
   }
 
+  private SafeFuture<MessageT> decode(final PreparedGossipMessage message) {
+    return decodingPool
+        .map(pool -> pool.decode(message, () -> deserialize(message)))
+        .orElseGet(() -> SafeFuture.of(() -> deserialize(message)));
+  }
+
   protected MessageT deserialize(final PreparedGossipMessage message) throws DecodingException {
     return getGossipEncoding().decodeMessage(message, getMessageType());
   }
@@ -86,7 +86,9 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final Duration eth2RpcPingInterval,
       final int eth2RpcOutstandingPingThreshold,
       final Duration eth2StatusUpdateInterval,
-      final DasReqRespLogger dasLogger) {
+      final DasReqRespLogger dasLogger,
+      final boolean encodedBlockServingEnabled,
+      final int encodedBlockCacheSize) {
     this.asyncRunner = asyncRunner;
     this.recentChainData = recentChainData;
     this.eth2PeerFactory = eth2PeerFactory;
@@ -104,7 +106,9 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
             statusMessageFactory,
             metadataMessagesFactory,
             rpcEncoding,
-            dasLogger);
+            dasLogger,
+            encodedBlockServingEnabled,
+            encodedBlockCacheSize);
     this.eth2RpcPingInterval = eth2RpcPingInterval;
     this.eth2RpcOutstandingPingThreshold = eth2RpcOutstandingPingThreshold;
     this.eth2StatusUpdateInterval = eth2StatusUpdateInterval;
@@ -131,7 +135,9 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final int peerRequestLimit,
       final Spec spec,
       final DiscoveryNodeIdExtractor discoveryNodeIdExtractor,
-      final DasReqRespLogger dasLogger) {
+      final DasReqRespLogger dasLogger,
+      final boolean encodedBlockServingEnabled,
+      final int encodedBlockCacheSize) {
     attestationSubnetService.subscribeToUpdates(
         metadataMessagesFactory::updateAttestationSubnetIds);
     syncCommitteeSubnetService.subscribeToUpdates(
@@ -163,7 +169,9 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
         eth2RpcPingInterval,
         eth2RpcOutstandingPingThreshold,
         eth2StatusUpdateInterval,
-        dasLogger);
+        dasLogger,
+        encodedBlockServingEnabled,
+        encodedBlockCacheSize);
   }
 
   public MetadataMessage getMetadataMessage() {
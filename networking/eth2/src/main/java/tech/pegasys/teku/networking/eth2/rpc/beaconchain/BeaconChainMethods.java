@@ -30,6 +30,7 @@ import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BlobSidecarsByR
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BlobSidecarsByRootMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.DataColumnSidecarsByRangeMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.DataColumnSidecarsByRootMessageHandler;
+import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.EncodedFinalizedBlockLoader;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.ExecutionPayloadEnvelopesByRangeMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.ExecutionPayloadEnvelopesByRootMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.GoodbyeMessageHandler;
@@ -171,7 +172,9 @@ public class BeaconChainMethods {
       final StatusMessageFactory statusMessageFactory,
       final MetadataMessagesFactory metadataMessagesFactory,
       final RpcEncoding rpcEncoding,
-      final DasReqRespLogger dasLogger) {
+      final DasReqRespLogger dasLogger,
+      final boolean encodedBlockServingEnabled,
+      final int encodedBlockCacheSize) {
     return new BeaconChainMethods(
         createStatus(spec, asyncRunner, statusMessageFactory, peerLookup, rpcEncoding),
         createGoodBye(asyncRunner, metricsSystem, peerLookup, rpcEncoding),
@@ -184,7 +187,9 @@ public class BeaconChainMethods {
             recentChainData,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding),
+            rpcEncoding,
+            encodedBlockServingEnabled,
+            encodedBlockCacheSize),
         createBlobSidecarsByRoot(
             spec,
             metricsSystem,
@@ -356,9 +361,18 @@ public class BeaconChainMethods {
           final RecentChainData recentChainData,
           final CombinedChainDataClient combinedChainDataClient,
           final PeerLookup peerLookup,
-          final RpcEncoding rpcEncoding) {
+          final RpcEncoding rpcEncoding,
+          final boolean encodedBlockServingEnabled,
+          final int encodedBlockCacheSize) {
+    final Optional<EncodedFinalizedBlockLoader> encodedFinalizedBlockLoader =
+        encodedBlockServingEnabled
+            ? Optional.of(
+                new EncodedFinalizedBlockLoader(
+                    metricsSystem, combinedChainDataClient, rpcEncoding, encodedBlockCacheSize))
+            : Optional.empty();
     final BeaconBlocksByRangeMessageHandler beaconBlocksByRangeHandler =
-        new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+        new BeaconBlocksByRangeMessageHandler(
+            spec, metricsSystem, combinedChainDataClient, encodedFinalizedBlockLoader);
 
     final BeaconBlocksByRangeRequestMessageSchema requestType =
         BeaconBlocksByRangeRequestMessage.SSZ_SCHEMA;
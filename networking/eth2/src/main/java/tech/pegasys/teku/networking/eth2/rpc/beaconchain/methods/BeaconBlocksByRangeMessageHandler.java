@@ -24,6 +24,7 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -51,6 +52,7 @@ public class BeaconBlocksByRangeMessageHandler
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
+  private final Optional<EncodedFinalizedBlockLoader> encodedFinalizedBlockLoader;
   private final LabelledMetric<Counter> requestCounter;
   private final Counter totalBlocksRequestedCounter;
 
@@ -58,8 +60,17 @@ public class BeaconBlocksByRangeMessageHandler
       final Spec spec,
       final MetricsSystem metricsSystem,
       final CombinedChainDataClient combinedChainDataClient) {
+    this(spec, metricsSystem, combinedChainDataClient, Optional.empty());
+  }
+
+  public BeaconBlocksByRangeMessageHandler(
+      final Spec spec,
+      final MetricsSystem metricsSystem,
+      final CombinedChainDataClient combinedChainDataClient,
+      final Optional<EncodedFinalizedBlockLoader> encodedFinalizedBlockLoader) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
+    this.encodedFinalizedBlockLoader = encodedFinalizedBlockLoader;
     requestCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.NETWORK,
@@ -217,20 +228,33 @@ public class BeaconBlocksByRangeMessageHandler
 
   private SafeFuture<Boolean> processNextBlock(final RequestState requestState) {
     // Ensure blocks are loaded off of the event thread
+    if (encodedFinalizedBlockLoader.isPresent() && requestState.isFinalizedSlotLookup()) {
+      // Finalized blocks are sent exactly as stored without deserializing them
+      final UInt64 slot = requestState.currentSlot;
+      return encodedFinalizedBlockLoader
+          .get()
+          .loadEncodedBlockAtSlot(slot)
+          .thenCompose(
+              encodedBlock -> {
+                requestState.decrementRemainingBlocks();
+                return handleLoadedBlock(
+                    requestState,
+                    encodedBlock.map(payload -> requestState.sendEncodedBlock(slot, payload)));
+              });
+    }
     return requestState
         .loadNextBlock()
         .thenCompose(
             block -> {
               requestState.decrementRemainingBlocks();
-              return handleLoadedBlock(requestState, block);
+              return handleLoadedBlock(requestState, block.map(requestState::sendBlock));
             });
   }
 
-  /** Sends the block and returns true if the request is now complete. */
+  /** Waits for the block, if any, to be sent and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
-    return block
-        .map(requestState::sendBlock)
+      final RequestState requestState, final Optional<SafeFuture<Void>> sendResult) {
+    return sendResult
         .orElse(SafeFuture.COMPLETE)
         .thenApply(
             __ -> {
@@ -282,12 +306,21 @@ public class BeaconBlocksByRangeMessageHandler
     }
 
     SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+      applyDeprecatedStep();
+      return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
+    }
+
+    SafeFuture<Void> sendEncodedBlock(final UInt64 slot, final Bytes encodedBlock) {
+      applyDeprecatedStep();
+      return callback.respondEncoded(slot, encodedBlock).thenRun(sentBlocks::incrementAndGet);
+    }
+
+    private void applyDeprecatedStep() {
       // request step is deprecated, if a step greater than 1 is requested, only return the first
       // block
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
     }
 
     void decrementRemainingBlocks() {
@@ -298,6 +331,21 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
+    /**
+     * Returns true if the block at the current slot can only be a finalized block, which is looked
+     * up by slot rather than by a known root.
+     */
+    boolean isFinalizedSlotLookup() {
+      return !knownBlockRoots.containsKey(currentSlot)
+          && !isEmptyHotSlot(currentSlot)
+          && combinedChainDataClient.isFinalized(currentSlot);
+    }
+
+    private boolean isEmptyHotSlot(final UInt64 slot) {
+      return (!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
+          || slot.compareTo(headSlot) > 0;
+    }
+
     SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
@@ -306,8 +354,7 @@ public class BeaconBlocksByRangeMessageHandler
         return combinedChainDataClient
             .getBlockByBlockRoot(knownBlockRoot)
             .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
-      } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
-          || slot.compareTo(headSlot) > 0) {
+      } else if (isEmptyHotSlot(slot)) {
         // Unknown root but not finalized means this is an empty slot
         // Could also be because the first block requested is above our head slot
         return SafeFuture.completedFuture(Optional.empty());
@@ -0,0 +1,93 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Loads finalized blocks as wire encoded response payloads straight from the SSZ bytes in storage,
+ * so serving them never deserializes a block just to serialize and compress it again.
+ *
+ * <p>Finalized blocks can't change, so the encoded payloads for recently served slots can
+ * optionally be cached. Syncing peers tend to request the same ranges, which then skip both the
+ * database read and the compression.
+ */
+public class EncodedFinalizedBlockLoader {
+
+  private final CombinedChainDataClient combinedChainDataClient;
+  private final RpcEncoding encoding;
+  private final Optional<LRUCache<UInt64, Bytes>> encodedBlockCache;
+  private final Counter cacheHitCounter;
+  private final Counter cacheMissCounter;
+
+  public EncodedFinalizedBlockLoader(
+      final MetricsSystem metricsSystem,
+      final CombinedChainDataClient combinedChainDataClient,
+      final RpcEncoding encoding,
+      final int encodedBlockCacheSize) {
+    this.combinedChainDataClient = combinedChainDataClient;
+    this.encoding = encoding;
+    this.encodedBlockCache =
+        encodedBlockCacheSize > 0
+            ? Optional.of(LRUCache.create(encodedBlockCacheSize))
+            : Optional.empty();
+    final LabelledMetric<Counter> cacheRequestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_encoded_block_cache_requests_total",
+            "Total number of encoded finalized block lookups served to peers",
+            "result");
+    this.cacheHitCounter = cacheRequestCounter.labels("hit");
+    this.cacheMissCounter = cacheRequestCounter.labels("miss");
+  }
+
+  /**
+   * Loads the encoded payload of the finalized block at the slot, as produced by {@link
+   * RpcEncoding#encodeSszPayload(Bytes)}.
+   *
+   * @param slot the finalized slot to load the block for
+   * @return the encoded block payload or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> loadEncodedBlockAtSlot(final UInt64 slot) {
+    if (encodedBlockCache.isPresent()) {
+      final Optional<Bytes> cachedPayload = encodedBlockCache.get().getCached(slot);
+      if (cachedPayload.isPresent()) {
+        cacheHitCounter.inc();
+        return SafeFuture.completedFuture(cachedPayload);
+      }
+      cacheMissCounter.inc();
+    }
+    // Empty slots aren't cached as their blocks may still be filled in by historic sync
+    return combinedChainDataClient
+        .getFinalizedBlockAtSlotExactAsSsz(slot)
+        .thenApply(maybeSsz -> maybeSsz.map(ssz -> encodeAndCache(slot, ssz)));
+  }
+
+  private Bytes encodeAndCache(final UInt64 slot, final Bytes ssz) {
+    final Bytes encodedPayload = encoding.encodeSszPayload(ssz);
+    return encodedBlockCache
+        .map(cache -> cache.get(slot, __ -> encodedPayload))
+        .orElse(encodedPayload);
+  }
+}
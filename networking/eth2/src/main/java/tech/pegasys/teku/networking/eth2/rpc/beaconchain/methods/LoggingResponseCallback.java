@@ -13,7 +13,9 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.statetransition.datacolumns.log.rpc.ReqRespResponseLogger;
@@ -27,6 +29,12 @@ public record LoggingResponseCallback<T>(
     return callback.respond(data);
   }
 
+  @Override
+  public SafeFuture<Void> respondEncoded(final UInt64 slot, final Bytes encodedPayload) {
+    // Encoded payloads aren't deserialized so there is no item to log
+    return callback.respondEncoded(slot, encodedPayload);
+  }
+
   @Override
   public void respondAndCompleteSuccessfully(final T data) {
     logger.onNextItem(data);
@@ -13,11 +13,23 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Responds with a payload that has already been serialized and encoded for the wire, so it
+   * doesn't need to be deserialized just to be encoded again.
+   *
+   * @param slot the slot of the payload, used to derive the response context
+   * @param encodedPayload the payload as produced by {@link
+   *     tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding#encodeSszPayload}
+   */
+  SafeFuture<Void> respondEncoded(UInt64 slot, Bytes encodedPayload);
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCE
 
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 
@@ -36,6 +37,15 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  /**
+   * Encodes a successful response chunk from a payload that has already been encoded with {@link
+   * RpcEncoding#encodeSszPayload(Bytes)}, deriving the context from the payload's slot.
+   */
+  public Bytes encodeSuccessfulResponse(final UInt64 slot, final Bytes encodedPayload) {
+    final Bytes context = contextCodec.encodeContextForSlot(slot);
+    return Bytes.concatenate(Bytes.of(SUCCESS_RESPONSE_CODE), context, encodedPayload);
+  }
+
   public Bytes encodeErrorResponse(final RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
@@ -48,8 +48,12 @@ class ForkDigestRpcContextCodec<TPayload extends SszData>
 
   @Override
   public Bytes encodeContext(final TPayload responsePayload) {
-    final UInt64 epoch =
-        spec.computeEpochAtSlot(payloadContext.getSlotFromPayload(responsePayload));
+    return encodeContextForSlot(payloadContext.getSlotFromPayload(responsePayload));
+  }
+
+  @Override
+  public Bytes encodeContextForSlot(final UInt64 slot) {
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
     final SpecMilestone milestone = spec.getForkSchedule().getSpecMilestoneAtEpoch(epoch);
     final Optional<BlobParameters> maybeBpoFork = spec.getBpoFork(epoch);
     return recentChainData.getForkDigest(milestone, maybeBpoFork).getWrappedBytes();
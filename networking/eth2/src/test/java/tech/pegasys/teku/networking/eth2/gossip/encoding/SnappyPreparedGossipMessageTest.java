@@ -22,6 +22,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,7 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.SnappyPreparedGossipMessage.Uncompressor;
@@ -80,7 +83,7 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorPhase0(messageBytes, spec.getNetworkingConfig());
+        new MessageIdCalculatorPhase0(spec.getNetworkingConfig());
     final Bytes expected = expectedMessageIdCalculator.getValidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
@@ -94,8 +97,8 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorPhase0(messageBytes, spec.getNetworkingConfig());
-    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId();
+        new MessageIdCalculatorPhase0(spec.getNetworkingConfig());
+    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
   }
@@ -108,7 +111,7 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorAltair(messageBytes, topic, spec.getNetworkingConfig());
+        new MessageIdCalculatorAltair(topic, spec.getNetworkingConfig());
     final Bytes expected = expectedMessageIdCalculator.getValidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
@@ -122,12 +125,30 @@ public class SnappyPreparedGossipMessageTest {
 
     final Bytes actual = message.getMessageId();
     final MessageIdCalculator expectedMessageIdCalculator =
-        new MessageIdCalculatorAltair(messageBytes, topic, spec.getNetworkingConfig());
-    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId();
+        new MessageIdCalculatorAltair(topic, spec.getNetworkingConfig());
+    final Bytes expected = expectedMessageIdCalculator.getInvalidMessageId(messageBytes);
     assertThat(actual).isEqualTo(expected);
     assertThat(actual.size()).isEqualTo(20);
   }
 
+  @Test
+  public void getMessageId_altairValidMatchesSpecDefinition() {
+    final String topic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final SnappyPreparedGossipMessage message =
+        getAltairMessage(messageBytes, topic, validUncompressor);
+
+    final Bytes topicBytes = Bytes.wrap(topic.getBytes(StandardCharsets.UTF_8));
+    final Bytes expected =
+        Hash.sha256(
+                Bytes.concatenate(
+                    spec.getNetworkingConfig().getMessageDomainValidSnappy().getWrappedBytes(),
+                    Bytes.ofUnsignedLong(topicBytes.size(), ByteOrder.LITTLE_ENDIAN),
+                    topicBytes,
+                    messageBytes))
+            .slice(0, 20);
+    assertThat(message.getMessageId()).isEqualTo(expected);
+  }
+
   @Test
   public void getMessageId_altair_createUniqueIdsWhenTopicsDiffer() {
     final String topic1 = GossipTopics.getTopic(altairForkDigest, "test1", gossipEncoding);
@@ -178,14 +199,29 @@ public class SnappyPreparedGossipMessageTest {
         .uncompress(eq(messageBytes), eq(schema.getSszLengthBounds()), eq(gossipMaxSize));
   }
 
+  @Test
+  public void getDecodedMessage_ShouldUncompressPayloadOnce() throws DecodingException {
+    final Uncompressor uncompressor = mock(Uncompressor.class);
+    when(uncompressor.uncompress(any(), any(), anyLong())).thenReturn(messageBytes);
+
+    final String altairTopic = GossipTopics.getTopic(altairForkDigest, "test", gossipEncoding);
+    final SnappyPreparedGossipMessage message =
+        getAltairMessage(messageBytes, altairTopic, uncompressor);
+
+    message.getMessageId();
+    assertThat(message.getDecodedMessage().getDecodedMessage()).contains(messageBytes);
+    assertThat(message.getDecodedMessage().getDecodedMessage()).contains(messageBytes);
+
+    verify(uncompressor).uncompress(any(), any(), anyLong());
+  }
+
   private SnappyPreparedGossipMessage getPhase0Message(
       final Bytes rawMessage, final String topic, final Uncompressor uncompressor) {
     return SnappyPreparedGossipMessage.create(
-        topic,
         rawMessage,
-        forkDigestToMilestone,
         schema,
         uncompressor,
+        MessageIdCalculator.create(topic, forkDigestToMilestone, spec.getNetworkingConfig()),
         spec.getNetworkingConfig(),
         Optional.empty());
   }
@@ -193,11 +229,10 @@ public class SnappyPreparedGossipMessageTest {
   private SnappyPreparedGossipMessage getAltairMessage(
       final Bytes rawMessage, final String topic, final Uncompressor uncompressor) {
     return SnappyPreparedGossipMessage.create(
-        topic,
         rawMessage,
-        forkDigestToMilestone,
         schema,
         uncompressor,
+        MessageIdCalculator.create(topic, forkDigestToMilestone, spec.getNetworkingConfig()),
         spec.getNetworkingConfig(),
         Optional.empty());
   }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue.TaskExpiredException;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
@@ -78,6 +80,29 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Valid);
   }
 
+  @Test
+  public void handleMessage_decodedOnDecodingPool() {
+    final StubAsyncRunner decodingRunner = new StubAsyncRunner();
+    final GossipDecodingPool decodingPool =
+        new GossipDecodingPool(asyncRunner, decodingRunner, decodingRunner, 0);
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            decodingPool,
+            (b, __) -> SafeFuture.completedFuture(InternalValidationResult.ACCEPT),
+            debugDataDumper);
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes, Optional.empty()));
+    assertThat(decodingRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+
+    decodingRunner.executeQueuedActions();
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Valid);
+  }
+
   @Test
   public void handleMessage_invalid() {
     MockEth2TopicHandler topicHandler =
@@ -219,6 +244,25 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
   }
 
+  @Test
+  public void handleMessage_errorWhileProcessing_taskExpired() {
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b, __) -> {
+              throw new TaskExpiredException();
+            },
+            debugDataDumper);
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes, Optional.empty()));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
+  }
+
   @Test
   public void handleMessage_errorWhileProcessing_wrappedRejectedExecution() {
     MockEth2TopicHandler topicHandler =
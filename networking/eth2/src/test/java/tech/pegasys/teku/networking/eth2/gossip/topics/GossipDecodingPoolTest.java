@@ -0,0 +1,76 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
+
+class GossipDecodingPoolTest {
+  private static final int THRESHOLD = 1024;
+
+  private final StubAsyncRunner validationRunner = new StubAsyncRunner();
+  private final StubAsyncRunner largeMessageRunner = new StubAsyncRunner();
+  private final StubAsyncRunner smallMessageRunner = new StubAsyncRunner();
+
+  private final GossipDecodingPool pool =
+      new GossipDecodingPool(validationRunner, largeMessageRunner, smallMessageRunner, THRESHOLD);
+
+  @Test
+  void shouldDecodeSmallMessagesOnSmallMessageRunner() {
+    final SafeFuture<String> result = pool.decode(messageOfSize(THRESHOLD - 1), () -> "small");
+
+    assertThat(smallMessageRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(largeMessageRunner.hasDelayedActions()).isFalse();
+    assertThat(validationRunner.hasDelayedActions()).isFalse();
+
+    smallMessageRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("small");
+  }
+
+  @Test
+  void shouldDecodeLargeMessagesOnLargeMessageRunner() {
+    final SafeFuture<String> result = pool.decode(messageOfSize(THRESHOLD), () -> "large");
+
+    assertThat(largeMessageRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(smallMessageRunner.hasDelayedActions()).isFalse();
+    assertThat(validationRunner.hasDelayedActions()).isFalse();
+
+    largeMessageRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("large");
+  }
+
+  @Test
+  void shouldPassOtherTasksStraightToValidationRunner() {
+    final SafeFuture<String> result = pool.runAsync(() -> SafeFuture.completedFuture("other"));
+
+    assertThat(pool.getValidationRunner()).isSameAs(validationRunner);
+    assertThat(validationRunner.countDelayedActions()).isEqualTo(1);
+
+    validationRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("other");
+  }
+
+  private PreparedGossipMessage messageOfSize(final int size) {
+    final PreparedGossipMessage message = mock(PreparedGossipMessage.class);
+    when(message.getOriginalMessage()).thenReturn(Bytes.wrap(new byte[size]));
+    return message;
+  }
+}
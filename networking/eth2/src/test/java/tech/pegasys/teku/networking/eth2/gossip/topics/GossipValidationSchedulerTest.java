@@ -0,0 +1,122 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.WeightedThrottlingTaskQueue.TaskExpiredException;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+class GossipValidationSchedulerTest {
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final StubAsyncRunner delegate = new StubAsyncRunner(timeProvider);
+  private final GossipValidationScheduler scheduler =
+      GossipValidationScheduler.create(
+          delegate, new StubMetricsSystem(), timeProvider, 1, Duration.ofSeconds(4));
+
+  private final AsyncRunner blockRunner = scheduler.forTopic("beacon_block");
+  private final AsyncRunner attestationRunner = scheduler.forTopic("beacon_attestation_3");
+  private final List<String> validated = new ArrayList<>();
+
+  @Test
+  void shouldValidateBlocksBeforeQueuedAttestations() {
+    final SafeFuture<String> firstAttestation = attestationRunner.runAsync(() -> validate("att1"));
+    final SafeFuture<String> secondAttestation = attestationRunner.runAsync(() -> validate("att2"));
+    final SafeFuture<String> block = blockRunner.runAsync(() -> validate("block"));
+
+    delegate.executeQueuedActions();
+    delegate.executeQueuedActions();
+    delegate.executeQueuedActions();
+
+    assertThat(validated).containsExactly("att1", "block", "att2");
+    assertThat(firstAttestation).isCompletedWithValue("att1");
+    assertThat(secondAttestation).isCompletedWithValue("att2");
+    assertThat(block).isCompletedWithValue("block");
+  }
+
+  @Test
+  void shouldReleaseSlotOnceSynchronousValidationHasRun() {
+    final SafeFuture<String> pendingSignatureCheck = new SafeFuture<>();
+    final SafeFuture<String> first = attestationRunner.runAsync(() -> pendingSignatureCheck);
+    final SafeFuture<String> second = attestationRunner.runAsync(() -> validate("att2"));
+
+    delegate.executeQueuedActions();
+    assertThat(first).isNotDone();
+
+    delegate.executeQueuedActions();
+    assertThat(second).isCompletedWithValue("att2");
+
+    pendingSignatureCheck.complete("att1");
+    assertThat(first).isCompletedWithValue("att1");
+  }
+
+  @Test
+  void shouldDropStaleAttestationsWithoutValidatingThem() {
+    final SafeFuture<String> firstAttestation = attestationRunner.runAsync(() -> validate("att1"));
+    final SafeFuture<String> staleAttestation = attestationRunner.runAsync(() -> validate("att2"));
+    timeProvider.advanceTimeBySeconds(5);
+    final SafeFuture<String> block = blockRunner.runAsync(() -> validate("block"));
+
+    delegate.executeQueuedActions();
+    delegate.executeQueuedActions();
+
+    assertThat(firstAttestation).isCompleted();
+    assertThatSafeFuture(staleAttestation).isCompletedExceptionallyWith(TaskExpiredException.class);
+    assertThat(block).isCompleted();
+    assertThat(validated).containsExactly("att1", "block");
+  }
+
+  @Test
+  void shouldPassOtherTasksStraightToDelegate() {
+    final SafeFuture<String> result = scheduler.runAsync(() -> validate("other"));
+    assertThat(delegate.countDelayedActions()).isEqualTo(1);
+
+    delegate.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("other");
+  }
+
+  @Test
+  void shouldClassifyTopics() {
+    assertThat(GossipTopicClass.fromTopicName("beacon_block")).isEqualTo(GossipTopicClass.BLOCK);
+    assertThat(GossipTopicClass.fromTopicName("data_column_sidecar_12"))
+        .isEqualTo(GossipTopicClass.SIDECAR);
+    assertThat(GossipTopicClass.fromTopicName("blob_sidecar_2"))
+        .isEqualTo(GossipTopicClass.SIDECAR);
+    assertThat(GossipTopicClass.fromTopicName("beacon_aggregate_and_proof"))
+        .isEqualTo(GossipTopicClass.AGGREGATE);
+    assertThat(GossipTopicClass.fromTopicName("sync_committee_contribution_and_proof"))
+        .isEqualTo(GossipTopicClass.AGGREGATE);
+    assertThat(GossipTopicClass.fromTopicName("beacon_attestation_63"))
+        .isEqualTo(GossipTopicClass.ATTESTATION);
+    assertThat(GossipTopicClass.fromTopicName("sync_committee_1"))
+        .isEqualTo(GossipTopicClass.SYNC_COMMITTEE);
+    assertThat(GossipTopicClass.fromTopicName("voluntary_exit"))
+        .isEqualTo(GossipTopicClass.OPERATION);
+  }
+
+  private SafeFuture<String> validate(final String message) {
+    validated.add(message);
+    return SafeFuture.completedFuture(message);
+  }
+}
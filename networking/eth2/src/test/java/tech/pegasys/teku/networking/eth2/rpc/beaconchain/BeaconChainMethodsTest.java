@@ -28,6 +28,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.P2PConfig;
 import tech.pegasys.teku.networking.eth2.peers.PeerLookup;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessagesFactory;
@@ -218,6 +219,8 @@ public class BeaconChainMethodsTest {
         statusMessageFactory,
         metadataMessagesFactory,
         RpcEncoding.createSszSnappyEncoding(spec.getNetworkingConfig().getMaxPayloadSize()),
-        DasReqRespLogger.NOOP);
+        DasReqRespLogger.NOOP,
+        P2PConfig.DEFAULT_ENCODED_BLOCK_SERVING_ENABLED,
+        P2PConfig.DEFAULT_ENCODED_BLOCK_CACHE_SIZE);
   }
 }
@@ -480,6 +480,46 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyBlocksReturned(1, 2, 3, 4, 5);
   }
 
+  @Test
+  void shouldSendFinalizedBlocksAsEncodedPayloadsWhenEnabled() {
+    final BeaconBlocksByRangeMessageHandler handler =
+        new BeaconBlocksByRangeMessageHandler(
+            spec,
+            metricsSystem,
+            combinedChainDataClient,
+            Optional.of(
+                new EncodedFinalizedBlockLoader(
+                    metricsSystem, combinedChainDataClient, RPC_ENCODING, 0)));
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withAncestorRoots(startBlock, count, skip, hotBlocks(4, 5, 6));
+    withFinalizedBlocks(0, 1, 2, 3);
+    when(listener.respondEncoded(any(), any())).thenReturn(SafeFuture.COMPLETE);
+
+    handler.onIncomingMessage(
+        protocolId,
+        peer,
+        new BeaconBlocksByRangeRequestMessage(
+            UInt64.valueOf(startBlock), UInt64.valueOf(count), UInt64.valueOf(skip)),
+        listener);
+
+    verify(peer, never()).adjustBlocksRequest(any(), anyLong());
+    final InOrder inOrder = Mockito.inOrder(listener);
+    for (int slot : List.of(1, 2, 3)) {
+      final SignedBeaconBlock block = blocks.get(slot);
+      inOrder
+          .verify(listener)
+          .respondEncoded(block.getSlot(), RPC_ENCODING.encodeSszPayload(block.sszSerialize()));
+    }
+    inOrder.verify(listener).respond(blocks.get(4));
+    inOrder.verify(listener).respond(blocks.get(5));
+    inOrder.verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(listener);
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
+  }
+
   private void requestBlocks(final int startBlock, final long count, final int skip) {
 
     handler.onIncomingMessage(
@@ -539,6 +579,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
                   completedFuture(Optional.of(block));
               when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
               when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
+              when(combinedChainDataClient.getFinalizedBlockAtSlotExactAsSsz(block.getSlot()))
+                  .thenReturn(completedFuture(Optional.of(block.sszSerialize())));
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
             });
   }
@@ -0,0 +1,99 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+class EncodedFinalizedBlockLoaderTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final RpcEncoding encoding =
+      RpcEncoding.createSszSnappyEncoding(spec.getNetworkingConfig().getMaxPayloadSize());
+  private final CombinedChainDataClient combinedChainDataClient =
+      mock(CombinedChainDataClient.class);
+
+  private final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(5);
+  private final Bytes expectedPayload = encoding.encodeSszPayload(block.sszSerialize());
+
+  @Test
+  void shouldEncodeStoredBlockBytes() {
+    withStoredBlock(block);
+    final EncodedFinalizedBlockLoader loader = createLoader(0);
+
+    assertThat(safeJoin(loader.loadEncodedBlockAtSlot(block.getSlot()))).contains(expectedPayload);
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCache() {
+    withStoredBlock(block);
+    final EncodedFinalizedBlockLoader loader = createLoader(4);
+
+    assertThat(safeJoin(loader.loadEncodedBlockAtSlot(block.getSlot()))).contains(expectedPayload);
+    assertThat(safeJoin(loader.loadEncodedBlockAtSlot(block.getSlot()))).contains(expectedPayload);
+
+    verify(combinedChainDataClient, times(1)).getFinalizedBlockAtSlotExactAsSsz(block.getSlot());
+  }
+
+  @Test
+  void shouldNotCacheLookupsWhenCacheIsDisabled() {
+    withStoredBlock(block);
+    final EncodedFinalizedBlockLoader loader = createLoader(0);
+
+    safeJoin(loader.loadEncodedBlockAtSlot(block.getSlot()));
+    safeJoin(loader.loadEncodedBlockAtSlot(block.getSlot()));
+
+    verify(combinedChainDataClient, times(2)).getFinalizedBlockAtSlotExactAsSsz(block.getSlot());
+  }
+
+  @Test
+  void shouldNotCacheEmptySlots() {
+    final UInt64 slot = UInt64.valueOf(3);
+    when(combinedChainDataClient.getFinalizedBlockAtSlotExactAsSsz(slot))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    final EncodedFinalizedBlockLoader loader = createLoader(4);
+
+    assertThat(safeJoin(loader.loadEncodedBlockAtSlot(slot))).isEmpty();
+    assertThat(safeJoin(loader.loadEncodedBlockAtSlot(slot))).isEmpty();
+
+    verify(combinedChainDataClient, times(2)).getFinalizedBlockAtSlotExactAsSsz(slot);
+  }
+
+  private void withStoredBlock(final SignedBeaconBlock block) {
+    when(combinedChainDataClient.getFinalizedBlockAtSlotExactAsSsz(block.getSlot()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(block.sszSerialize())));
+  }
+
+  private EncodedFinalizedBlockLoader createLoader(final int cacheSize) {
+    return new EncodedFinalizedBlockLoader(
+        new NoOpMetricsSystem(), combinedChainDataClient, encoding, cacheSize);
+  }
+}
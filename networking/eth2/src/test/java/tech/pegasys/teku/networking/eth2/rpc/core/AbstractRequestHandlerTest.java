@@ -24,6 +24,7 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.networking.eth2.P2PConfig;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.PeerLookup;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
@@ -76,7 +77,9 @@ abstract class AbstractRequestHandlerTest<T extends RpcRequestHandler> {
             new StatusMessageFactory(spec, combinedChainDataClient),
             new MetadataMessagesFactory(),
             getRpcEncoding(),
-            DasReqRespLogger.NOOP);
+            DasReqRespLogger.NOOP,
+            P2PConfig.DEFAULT_ENCODED_BLOCK_SERVING_ENABLED,
+            P2PConfig.DEFAULT_ENCODED_BLOCK_CACHE_SIZE);
 
     reqHandler = createRequestHandler(beaconChainMethods);
 
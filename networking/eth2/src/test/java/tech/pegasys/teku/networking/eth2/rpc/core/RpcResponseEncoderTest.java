@@ -42,15 +42,23 @@ final class RpcResponseEncoderTest {
 
   private final RpcContextCodec<?, StatusMessagePhase0> contextCodec =
       RpcContextCodec.noop(new StatusMessageSchemaPhase0());
+  private final RpcEncoding encoding =
+      RpcEncoding.createSszSnappyEncoding(
+          TestSpecFactory.createDefault().getNetworkingConfig().getMaxPayloadSize());
   private final RpcResponseEncoder<StatusMessagePhase0, ?> responseEncoder =
-      new RpcResponseEncoder<>(
-          RpcEncoding.createSszSnappyEncoding(
-              TestSpecFactory.createDefault().getNetworkingConfig().getMaxPayloadSize()),
-          contextCodec);
+      new RpcResponseEncoder<>(encoding, contextCodec);
 
   @Test
   public void shouldEncodeSuccessfulResponse() {
     final Bytes actual = responseEncoder.encodeSuccessfulResponse(RECORDED_STATUS_MESSAGE_DATA);
     assertThat(actual).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
   }
+
+  @Test
+  public void shouldEncodeSuccessfulResponseFromEncodedPayload() {
+    final Bytes encodedPayload =
+        encoding.encodeSszPayload(RECORDED_STATUS_MESSAGE_DATA.sszSerialize());
+    final Bytes actual = responseEncoder.encodeSuccessfulResponse(UInt64.ZERO, encodedPayload);
+    assertThat(actual).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
+  }
 }
@@ -269,7 +269,9 @@ public class Eth2P2PNetworkFactory {
                 P2PConfig.DEFAULT_PEER_REQUEST_LIMIT,
                 spec,
                 __ -> Optional.of(discoveryNodeId),
-                DasReqRespLogger.NOOP);
+                DasReqRespLogger.NOOP,
+                P2PConfig.DEFAULT_ENCODED_BLOCK_SERVING_ENABLED,
+                P2PConfig.DEFAULT_ENCODED_BLOCK_CACHE_SIZE);
 
         List<RpcMethod<?, ?, ?>> rpcMethods =
             eth2PeerManager.getBeaconChainMethods().all().stream()
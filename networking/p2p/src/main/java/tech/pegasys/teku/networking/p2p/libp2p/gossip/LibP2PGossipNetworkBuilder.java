@@ -146,9 +146,10 @@ public class LibP2PGossipNetworkBuilder {
               topicHandlers
                   .getHandlerForTopic(topic)
                   .map(handler -> handler.prepareMessage(payload, arrivalTimestamp))
-                  .orElse(
-                      defaultMessageFactory.create(
-                          topic, payload, this.networkingSpecConfig, arrivalTimestamp));
+                  .orElseGet(
+                      () ->
+                          defaultMessageFactory.create(
+                              topic, payload, this.networkingSpecConfig, arrivalTimestamp));
 
           return new PreparedPubsubMessage(msg, preparedMessage);
         });
@@ -47,6 +47,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ExecutionClientDataProvider;
 import tech.pegasys.teku.api.RewardCalculator;
@@ -125,7 +126,10 @@ import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChange;
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.EpochContextCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerBlockProductionManager;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.logic.common.statetransition.availability.AvailabilityCheckerFactory;
@@ -136,10 +140,12 @@ import tech.pegasys.teku.spec.logic.versions.fulu.helpers.MiscHelpersFulu;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsFulu;
+import tech.pegasys.teku.statetransition.CheckpointStatePrefetcher;
 import tech.pegasys.teku.statetransition.CustodyGroupCountChannel;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
 import tech.pegasys.teku.statetransition.LocalOperationAcceptedFilter;
 import tech.pegasys.teku.statetransition.MappedOperationPool;
+import tech.pegasys.teku.statetransition.NextSlotStateAdvancer;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.OperationsReOrgManager;
 import tech.pegasys.teku.statetransition.SimpleOperationPool;
@@ -336,6 +342,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
       new AtomicReference<>(DataColumnSidecarRecoveringCustody.NOOP);
 
   protected volatile ForkChoice forkChoice;
+  protected volatile CheckpointStatePrefetcher checkpointStatePrefetcher;
   protected volatile ForkChoiceTrigger forkChoiceTrigger;
   protected volatile BlockImporter blockImporter;
   protected volatile DataProvider dataProvider;
@@ -555,6 +562,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   protected SafeFuture<?> initialize() {
     final StoreConfig storeConfig = beaconConfig.storeConfig();
+    initSharedEpochCaches();
     coalescingChainHeadChannel =
         new CoalescingChainHeadChannel(
             eventChannels.getPublisher(ChainHeadChannel.class), EVENT_LOG);
@@ -619,6 +627,42 @@ public class BeaconChainController extends Service implements BeaconChainControl
         .thenCompose(__ -> timerService.start());
   }
 
+  protected void initSharedEpochCaches() {
+    LOG.debug("BeaconChainController.initSharedEpochCaches()");
+    final ShufflingCache shufflingCache = new ShufflingCache(ShufflingCache.DEFAULT_MAX_SHUFFLINGS);
+    metricsSystem.createGauge(
+        BEACON,
+        "shuffling_cache_size",
+        "Number of attester shufflings held in the shared shuffling cache",
+        shufflingCache::size);
+    final LabelledSuppliedMetric shufflingRequestCounter =
+        metricsSystem.createLabelledSuppliedCounter(
+            BEACON,
+            "shuffling_cache_requests_total",
+            "Number of attester shuffling lookups in the shared shuffling cache",
+            "result");
+    shufflingRequestCounter.labels(shufflingCache::getHitCount, "hit");
+    shufflingRequestCounter.labels(shufflingCache::getMissCount, "miss");
+    spec.setShufflingCache(shufflingCache);
+
+    final EpochContextCache epochContextCache =
+        new EpochContextCache(EpochContextCache.DEFAULT_MAX_EPOCH_CONTEXTS);
+    metricsSystem.createGauge(
+        BEACON,
+        "epoch_context_cache_size",
+        "Number of epoch contexts held in the shared epoch context cache",
+        epochContextCache::size);
+    final LabelledSuppliedMetric epochContextRequestCounter =
+        metricsSystem.createLabelledSuppliedCounter(
+            BEACON,
+            "epoch_context_cache_requests_total",
+            "Number of epoch context lookups in the shared epoch context cache",
+            "result");
+    epochContextRequestCounter.labels(epochContextCache::getHitCount, "hit");
+    epochContextRequestCounter.labels(epochContextCache::getMissCount, "miss");
+    spec.setEpochContextCache(epochContextCache);
+  }
+
   private boolean isUsingCustomInitialState() {
     return beaconConfig.eth2NetworkConfig().getNetworkBoostrapConfig().isUsingCustomInitialState();
   }
@@ -656,6 +700,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
     initForkChoiceNotifier();
     initMergeMonitors();
     initForkChoice();
+    initCheckpointStatePrefetcher();
     initBlockImporter();
     initCombinedChainDataClient();
     initSignatureVerificationService();
@@ -1436,6 +1481,17 @@ public class BeaconChainController extends Service implements BeaconChainControl
             timeProvider);
   }
 
+  protected void initCheckpointStatePrefetcher() {
+    LOG.debug("BeaconChainController.initCheckpointStatePrefetcher()");
+    checkpointStatePrefetcher =
+        new CheckpointStatePrefetcher(
+            spec,
+            recentChainData,
+            beaconAsyncRunner,
+            metricsSystem,
+            CheckpointStatePrefetcher.DEFAULT_MAX_PREFETCHED_HEADS);
+  }
+
   public void initMetrics() {
     LOG.debug("BeaconChainController.initMetrics()");
     final SyncCommitteeMetrics syncCommitteeMetrics =
@@ -1709,7 +1765,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
             p2PConfig.getBatchVerifyMaxThreads(),
             p2PConfig.getBatchVerifyQueueCapacity(),
             p2PConfig.getBatchVerifyMaxBatchSize(),
-            p2PConfig.isBatchVerifyStrictThreadLimitEnabled());
+            p2PConfig.isBatchVerifyStrictThreadLimitEnabled(),
+            p2PConfig.isBatchVerifySameMessageEnabled(),
+            Duration.ofMillis(p2PConfig.getBatchVerifyMaxDelayMs()));
   }
 
   protected void initAttestationManager() {
@@ -1825,8 +1883,22 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 dataColumnSidecarManager::onDataColumnSidecarGossip)
             .gossipedExecutionProofOperationProcessor(
                 executionProofManager::onReceivedExecutionProofGossip)
-            .gossipedAttestationProcessor(attestationManager::addAttestation)
-            .gossipedAggregateProcessor(attestationManager::addAggregate)
+            .gossipedAttestationProcessor(
+                (attestation, arrivalTime) ->
+                    attestationManager
+                        .addAttestation(attestation, arrivalTime)
+                        .thenPeek(
+                            result ->
+                                prefetchAcceptedAttestationTarget(
+                                    result, attestation.getData().getTarget())))
+            .gossipedAggregateProcessor(
+                (aggregate, arrivalTime) ->
+                    attestationManager
+                        .addAggregate(aggregate, arrivalTime)
+                        .thenPeek(
+                            result ->
+                                prefetchAcceptedAttestationTarget(
+                                    result, aggregate.getData().getTarget())))
             .gossipedAttesterSlashingProcessor(attesterSlashingPool::addRemote)
             .gossipedProposerSlashingProcessor(proposerSlashingPool::addRemote)
             .gossipedVoluntaryExitProcessor(voluntaryExitPool::addRemote)
@@ -1846,6 +1918,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             .metricsSystem(metricsSystem)
             .timeProvider(timeProvider)
             .asyncRunner(networkAsyncRunner)
+            .asyncRunnerFactory(asyncRunnerFactory)
             .keyValueStore(keyValueStore)
             .requiredCheckpoint(weakSubjectivityValidator.getWSCheckpoint())
             .specProvider(spec)
@@ -1887,6 +1960,13 @@ public class BeaconChainController extends Service implements BeaconChainControl
                         "Failed to get NodeId from Discovery System"));
   }
 
+  private void prefetchAcceptedAttestationTarget(
+      final InternalValidationResult result, final Checkpoint target) {
+    if (result.isAccept()) {
+      checkpointStatePrefetcher.onAttestationTarget(target);
+    }
+  }
+
   protected Eth2P2PNetworkBuilder createEth2P2PNetworkBuilder() {
     return Eth2P2PNetworkBuilder.create();
   }
@@ -1908,6 +1988,19 @@ public class BeaconChainController extends Service implements BeaconChainControl
       futureBlockProductionPreparationTrigger = FutureBlockProductionPreparationTrigger.NOOP;
     }
 
+    final NextSlotStateAdvancer nextSlotStateAdvancer;
+
+    if (beaconConfig.eth2NetworkConfig().isNextSlotStateAdvanceEnabled()) {
+      nextSlotStateAdvancer =
+          new NextSlotStateAdvancer(spec, recentChainData, beaconAsyncRunner, metricsSystem);
+
+      eventChannels.subscribe(ChainHeadChannel.class, nextSlotStateAdvancer);
+      syncService.subscribeToSyncStateChangesAndUpdate(
+          event -> nextSlotStateAdvancer.onSyncingStatusChanged(event.isInSync()));
+    } else {
+      nextSlotStateAdvancer = NextSlotStateAdvancer.NOOP;
+    }
+
     slotProcessor =
         new SlotProcessor(
             spec,
@@ -1918,7 +2011,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData, beaconAsyncRunner));
+            new EpochCachePrimer(
+                spec, recentChainData, beaconAsyncRunner, checkpointStatePrefetcher),
+            nextSlotStateAdvancer);
   }
 
   public void initAttestationPool() {
@@ -32,6 +32,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.NodeSlot;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.NextSlotStateAdvancer;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifier;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceTrigger;
 import tech.pegasys.teku.statetransition.forkchoice.TickProcessingPerformance;
@@ -51,12 +52,14 @@ public class SlotProcessor {
   private final SlotEventsChannel slotEventsChannelPublisher;
   private final NodeSlot nodeSlot = new NodeSlot(ZERO);
   private final EpochCachePrimer epochCachePrimer;
+  private final NextSlotStateAdvancer nextSlotStateAdvancer;
   private final EventLogger eventLog;
 
   private volatile UInt64 onTickSlotStart;
   private volatile UInt64 onTickSlotAttestation;
   private volatile UInt64 onTickEpochPrecompute;
   private volatile UInt64 onTickFutureBlockProductionPreparation;
+  private volatile UInt64 onTickNextSlotStateAdvance;
 
   @VisibleForTesting
   SlotProcessor(
@@ -69,6 +72,7 @@ public class SlotProcessor {
       final Eth2P2PNetwork p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
       final EpochCachePrimer epochCachePrimer,
+      final NextSlotStateAdvancer nextSlotStateAdvancer,
       final EventLogger eventLogger) {
     this.spec = spec;
     this.recentChainData = recentChainData;
@@ -79,6 +83,7 @@ public class SlotProcessor {
     this.p2pNetwork = p2pNetwork;
     this.slotEventsChannelPublisher = slotEventsChannelPublisher;
     this.epochCachePrimer = epochCachePrimer;
+    this.nextSlotStateAdvancer = nextSlotStateAdvancer;
     this.eventLog = eventLogger;
   }
 
@@ -91,7 +96,8 @@ public class SlotProcessor {
       final ForkChoiceNotifier forkChoiceNotifier,
       final Eth2P2PNetwork p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
-      final EpochCachePrimer epochCachePrimer) {
+      final EpochCachePrimer epochCachePrimer,
+      final NextSlotStateAdvancer nextSlotStateAdvancer) {
     this(
         spec,
         recentChainData,
@@ -102,6 +108,7 @@ public class SlotProcessor {
         p2pNetwork,
         slotEventsChannelPublisher,
         epochCachePrimer,
+        nextSlotStateAdvancer,
         EventLogger.EVENT_LOG);
   }
 
@@ -161,6 +168,11 @@ public class SlotProcessor {
       onTickFutureBlockProductionPreparation = calculatedSlot;
       futureBlockProductionPreparationTrigger.onFutureBlockProductionPreparationDue(calculatedSlot);
     }
+
+    if (isNextSlotStateAdvanceDue(calculatedSlot, currentTimeMillis, genesisTimeMillis)) {
+      onTickNextSlotStateAdvance = calculatedSlot;
+      nextSlotStateAdvancer.onNextSlotStateAdvanceDue(calculatedSlot);
+    }
   }
 
   private void processEpochPrecompute(final UInt64 epoch) {
@@ -278,6 +290,19 @@ public class SlotProcessor {
     return isTimeReached(currentTimeMillis, earliestTimeInMillis);
   }
 
+  // Advance the head state into the next slot 2/3 of the way through the slot
+  boolean isNextSlotStateAdvanceDue(
+      final UInt64 calculatedSlot, final UInt64 currentTimeMillis, final UInt64 genesisTimeMillis) {
+    if (!isProcessingDueForSlot(calculatedSlot, onTickNextSlotStateAdvance)) {
+      return false;
+    }
+    final UInt64 nextSlot = calculatedSlot.increment();
+    final UInt64 earliestTimeInMillis =
+        spec.computeTimeMillisAtSlot(nextSlot, genesisTimeMillis)
+            .minusMinZero(spec.getAttestationDueMillis(nextSlot));
+    return isTimeReached(currentTimeMillis, earliestTimeInMillis);
+  }
+
   boolean isTimeReached(final UInt64 currentTime, final UInt64 earliestTime) {
     return currentTime.isGreaterThanOrEqualTo(earliestTime);
   }
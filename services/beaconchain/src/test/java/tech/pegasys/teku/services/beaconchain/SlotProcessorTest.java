@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.time.TimeUtilities.millisToSeconds;
@@ -51,6 +52,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.NextSlotStateAdvancer;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifier;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceTrigger;
 import tech.pegasys.teku.statetransition.forkchoice.NoopForkChoiceNotifier;
@@ -83,6 +85,7 @@ public class SlotProcessorTest {
   private final Eth2P2PNetwork p2pNetwork = mock(Eth2P2PNetwork.class);
   private final SlotEventsChannel slotEventsChannel = mock(SlotEventsChannel.class);
   private final EpochCachePrimer epochCachePrimer = mock(EpochCachePrimer.class);
+  private final NextSlotStateAdvancer nextSlotStateAdvancer = mock(NextSlotStateAdvancer.class);
   private final SlotProcessor slotProcessor = createSlotProcessor(spec);
   private final UInt64 genesisTime = beaconState.getGenesisTime();
   private final UInt64 genesisTimeMillis = secondsToMillis(genesisTime);
@@ -99,6 +102,7 @@ public class SlotProcessorTest {
         p2pNetwork,
         slotEventsChannel,
         epochCachePrimer,
+        nextSlotStateAdvancer,
         eventLogger);
   }
 
@@ -396,6 +400,37 @@ public class SlotProcessorTest {
     verify(blockProductionPreparationTrigger).onFutureBlockProductionPreparationDue(ONE);
   }
 
+  @ParameterizedTest
+  @EnumSource(
+      value = Eth2Network.class,
+      names = {"MAINNET", "MINIMAL", "GNOSIS"})
+  void shouldAdvanceNextSlotStateTwoThirdsThroughSlot(final Eth2Network eth2Network) {
+    when(syncService.getCurrentSyncState()).thenReturn(SyncState.IN_SYNC);
+    when(p2pNetwork.getPeerCount()).thenReturn(1);
+
+    final Spec spec = TestSpecFactory.create(SpecMilestone.PHASE0, eth2Network);
+    final int millisPerSlot = spec.getGenesisSpecConfig().getSlotDurationMillis();
+
+    final SlotProcessor slotProcessor = createSlotProcessor(spec);
+
+    slotProcessor.onTick(genesisTimeMillis, Optional.empty());
+    slotProcessor.onTick(genesisTimeMillis.plus(oneThirdMillis(millisPerSlot)), Optional.empty());
+    verify(nextSlotStateAdvancer, never()).onNextSlotStateAdvanceDue(any());
+
+    final UInt64 advanceDue =
+        genesisTimeMillis.plus(millisPerSlot - spec.getAttestationDueMillis(ONE));
+    slotProcessor.onTick(advanceDue.minus(1), Optional.empty());
+    verify(nextSlotStateAdvancer, never()).onNextSlotStateAdvanceDue(any());
+
+    slotProcessor.onTick(advanceDue, Optional.empty());
+    verify(nextSlotStateAdvancer).onNextSlotStateAdvanceDue(ZERO);
+
+    // Should only be due once per slot
+    slotProcessor.onTick(
+        genesisTimeMillis.plus(millisPerSlot - BLOCK_CREATION_TOLERANCE_MS), Optional.empty());
+    verify(nextSlotStateAdvancer, times(1)).onNextSlotStateAdvanceDue(ZERO);
+  }
+
   @ParameterizedTest
   @EnumSource(
       value = Eth2Network.class,
@@ -424,6 +459,7 @@ public class SlotProcessorTest {
             p2pNetwork,
             slotEventsChannel,
             epochCachePrimer,
+            nextSlotStateAdvancer,
             eventLogger);
 
     final int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
@@ -46,6 +46,7 @@ import tech.pegasys.teku.storage.server.CombinedStorageChannelSplitter;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.DepositStorage;
+import tech.pegasys.teku.storage.server.GroupCommitStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.RetryingStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
@@ -53,6 +54,8 @@ import tech.pegasys.teku.storage.server.network.EphemeryException;
 import tech.pegasys.teku.storage.server.pruner.BlobSidecarPruner;
 import tech.pegasys.teku.storage.server.pruner.BlockPruner;
 import tech.pegasys.teku.storage.server.pruner.DataColumnSidecarPruner;
+import tech.pegasys.teku.storage.server.pruner.PruningScheduler;
+import tech.pegasys.teku.storage.server.pruner.SlotBoundaryPruningGate;
 import tech.pegasys.teku.storage.server.pruner.StatePruner;
 
 public class StorageService extends Service implements StorageServiceFacade {
@@ -112,6 +115,13 @@ public class StorageService extends Service implements StorageServiceFacade {
                 database = ephemeryDatabaseReset.resetDatabaseAndCreate(serviceConfig, dbFactory);
               }
 
+              final PruningScheduler pruningScheduler =
+                  new PruningScheduler(
+                      storagePrunerAsyncRunner,
+                      new SlotBoundaryPruningGate(
+                          config.getSpec(), database, serviceConfig.getTimeProvider()),
+                      serviceConfig.getMetricsSystem());
+
               final SettableLabelledGauge pruningTimingsLabelledGauge =
                   SettableLabelledGauge.create(
                       serviceConfig.getMetricsSystem(),
@@ -134,7 +144,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                         new BlockPruner(
                             config.getSpec(),
                             database,
-                            storagePrunerAsyncRunner,
+                            pruningScheduler,
                             config.getBlockPruningInterval(),
                             config.getBlockPruningLimit(),
                             "block",
@@ -145,7 +155,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                   && config.getRetainedSlots() > 0) {
                 configureStatePruner(
                     config.getRetainedSlots(),
-                    storagePrunerAsyncRunner,
+                    pruningScheduler,
                     config.getStatePruningInterval(),
                     pruningTimingsLabelledGauge,
                     pruningActiveLabelledGauge);
@@ -158,7 +168,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                         : config.getStatePruningInterval();
                 configureStatePruner(
                     StorageConfiguration.DEFAULT_STORAGE_RETAINED_SLOTS,
-                    storagePrunerAsyncRunner,
+                    pruningScheduler,
                     statePruningInterval,
                     pruningTimingsLabelledGauge,
                     pruningActiveLabelledGauge);
@@ -180,7 +190,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                             database,
                             blobSidecarsArchiver,
                             serviceConfig.getMetricsSystem(),
-                            storagePrunerAsyncRunner,
+                            pruningScheduler,
                             serviceConfig.getTimeProvider(),
                             config.getBlobsPruningInterval(),
                             config.getBlobsPruningLimit(),
@@ -197,7 +207,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                             config.getSpec(),
                             database,
                             serviceConfig.getMetricsSystem(),
-                            storagePrunerAsyncRunner,
+                            pruningScheduler,
                             serviceConfig.getTimeProvider(),
                             config.getDataColumnPruningInterval(),
                             config.getDataColumnPruningLimit(),
@@ -228,14 +238,31 @@ public class StorageService extends Service implements StorageServiceFacade {
                       new AsyncRunnerEventThread(
                           "batch-vote-updater", serviceConfig.getAsyncRunnerFactory()));
 
-              eventChannels.subscribe(
-                  CombinedStorageChannel.class,
-                  new CombinedStorageChannelSplitter(
-                      serviceConfig.createAsyncRunner(
-                          "storage_query", STORAGE_QUERY_CHANNEL_PARALLELISM),
-                      new RetryingStorageUpdateChannel(
-                          chainStorage, serviceConfig.getTimeProvider()),
-                      chainStorage));
+              final AsyncRunner storageQueryAsyncRunner =
+                  serviceConfig.createAsyncRunner(
+                      "storage_query", STORAGE_QUERY_CHANNEL_PARALLELISM);
+              final RetryingStorageUpdateChannel retryingStorageUpdateChannel =
+                  new RetryingStorageUpdateChannel(chainStorage, serviceConfig.getTimeProvider());
+              final Duration groupCommitWindow = config.getStorageUpdateGroupCommitWindow();
+              if (groupCommitWindow.isZero()) {
+                eventChannels.subscribe(
+                    CombinedStorageChannel.class,
+                    new CombinedStorageChannelSplitter(
+                        storageQueryAsyncRunner, retryingStorageUpdateChannel, chainStorage));
+              } else {
+                final GroupCommitStorageUpdateChannel groupCommitStorageUpdateChannel =
+                    new GroupCommitStorageUpdateChannel(
+                        retryingStorageUpdateChannel,
+                        serviceConfig.createAsyncRunner("storage_group_commit", 1),
+                        groupCommitWindow);
+                eventChannels.subscribe(
+                    CombinedStorageChannel.class,
+                    new CombinedStorageChannelSplitter(
+                        storageQueryAsyncRunner,
+                        groupCommitStorageUpdateChannel,
+                        chainStorage,
+                        groupCommitStorageUpdateChannel::whenQueuedUpdatesCommitted));
+              }
 
               eventChannels
                   .subscribe(Eth1DepositStorageChannel.class, depositStorage)
@@ -267,7 +294,7 @@ public class StorageService extends Service implements StorageServiceFacade {
 
   void configureStatePruner(
       final long slotsToRetain,
-      final AsyncRunner storagePrunerAsyncRunner,
+      final PruningScheduler pruningScheduler,
       final Duration pruningInterval,
       final SettableLabelledGauge pruningTimingsLabelledGauge,
       final SettableLabelledGauge pruningActiveLabelledGauge) {
@@ -287,7 +314,7 @@ public class StorageService extends Service implements StorageServiceFacade {
             new StatePruner(
                 config.getSpec(),
                 database,
-                storagePrunerAsyncRunner,
+                pruningScheduler,
                 pruningInterval,
                 slotsToRetain,
                 config.getStatePruningLimit(),
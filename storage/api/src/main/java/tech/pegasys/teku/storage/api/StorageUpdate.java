@@ -20,9 +20,11 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
@@ -109,6 +111,80 @@ public class StorageUpdate {
     return isEmpty;
   }
 
+  /**
+   * @return true if this update only adds or replaces hot data, and so can be merged with other hot
+   *     only updates
+   */
+  public boolean isHotOnly() {
+    return finalizedChainData.isEmpty()
+        && deletedHotBlocks.isEmpty()
+        && !optimisticTransitionBlockRootSet;
+  }
+
+  /**
+   * Merges consecutive hot only updates into a single update which has the same effect as applying
+   * them in order.
+   */
+  public static StorageUpdate mergeHotOnly(final List<StorageUpdate> updates) {
+    checkArgument(!updates.isEmpty(), "Must have at least one update to merge");
+    checkArgument(
+        updates.stream().allMatch(StorageUpdate::isHotOnly), "Can only merge hot only updates");
+    if (updates.size() == 1) {
+      return updates.getFirst();
+    }
+    Optional<UInt64> genesisTime = Optional.empty();
+    Optional<Checkpoint> justifiedCheckpoint = Optional.empty();
+    Optional<Checkpoint> bestJustifiedCheckpoint = Optional.empty();
+    Optional<UInt64> earliestBlobSidecarSlot = Optional.empty();
+    Optional<Bytes32> latestCanonicalBlockRoot = Optional.empty();
+    Optional<UInt64> custodyGroupCount = Optional.empty();
+    final Map<Bytes32, BlockAndCheckpoints> hotBlocks = new HashMap<>();
+    final Map<Bytes32, BeaconState> hotStates = new HashMap<>();
+    final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars = new HashMap<>();
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots = new HashMap<>();
+    for (final StorageUpdate update : updates) {
+      genesisTime = latest(genesisTime, update.genesisTime);
+      justifiedCheckpoint = latest(justifiedCheckpoint, update.justifiedCheckpoint);
+      bestJustifiedCheckpoint = latest(bestJustifiedCheckpoint, update.bestJustifiedCheckpoint);
+      // The earliest blob sidecar slot is only stored if not already set so the first one wins
+      earliestBlobSidecarSlot =
+          latest(update.maybeEarliestBlobSidecarSlot, earliestBlobSidecarSlot);
+      latestCanonicalBlockRoot = latest(latestCanonicalBlockRoot, update.latestCanonicalBlockRoot);
+      custodyGroupCount = latest(custodyGroupCount, update.custodyGroupCount);
+      hotBlocks.putAll(update.hotBlocks);
+      hotStates.putAll(update.hotStates);
+      update.blobSidecars.forEach(
+          (key, sidecars) ->
+              blobSidecars.merge(
+                  key,
+                  sidecars,
+                  (existing, added) -> Stream.concat(existing.stream(), added.stream()).toList()));
+      stateRoots.putAll(update.stateRoots);
+    }
+    final StorageUpdate lastUpdate = updates.getLast();
+    return new StorageUpdate(
+        genesisTime,
+        Optional.empty(),
+        justifiedCheckpoint,
+        bestJustifiedCheckpoint,
+        hotBlocks,
+        hotStates,
+        blobSidecars,
+        earliestBlobSidecarSlot,
+        Collections.emptyMap(),
+        stateRoots,
+        false,
+        Optional.empty(),
+        latestCanonicalBlockRoot,
+        custodyGroupCount,
+        lastUpdate.blobSidecarsEnabled,
+        lastUpdate.sidecarsEnabled);
+  }
+
+  private static <T> Optional<T> latest(final Optional<T> current, final Optional<T> update) {
+    return update.isPresent() ? update : current;
+  }
+
   public Optional<UInt64> getGenesisTime() {
     return genesisTime;
   }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
@@ -83,6 +84,11 @@ public class ThrottlingStorageQueryChannel implements StorageQueryChannel {
     return taskQueue.queueTask(() -> delegate.getFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return taskQueue.queueTask(() -> delegate.getFinalizedBlockAtSlotAsSsz(slot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return taskQueue.queueTask(() -> delegate.getLatestFinalizedBlockAtSlot(slot));
@@ -14,17 +14,23 @@
 package tech.pegasys.teku.storage.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.storage.api.StorageUpdate.NonUpdating;
 
 class StorageUpdateTest {
@@ -85,6 +91,80 @@ class StorageUpdateTest {
         .isEqualTo(1);
   }
 
+  @Test
+  void mergeHotOnly_shouldApplyUpdatesInOrder() {
+    final Checkpoint justified1 = new Checkpoint(UInt64.ONE, Bytes32.random());
+    final Checkpoint justified2 = new Checkpoint(UInt64.valueOf(2), Bytes32.random());
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots1 =
+        Map.of(Bytes32.random(), new SlotAndBlockRoot(UInt64.ONE, Bytes32.random()));
+    final Map<Bytes32, SlotAndBlockRoot> stateRoots2 =
+        Map.of(Bytes32.random(), new SlotAndBlockRoot(UInt64.valueOf(2), Bytes32.random()));
+
+    final StorageUpdate merged =
+        StorageUpdate.mergeHotOnly(
+            List.of(
+                createHotUpdate(Optional.of(justified1), Optional.of(UInt64.ONE), stateRoots1),
+                createHotUpdate(
+                    Optional.of(justified2), Optional.of(UInt64.valueOf(2)), stateRoots2),
+                createHotUpdate(Optional.empty(), Optional.empty(), Collections.emptyMap())));
+
+    assertThat(merged.isHotOnly()).isTrue();
+    assertThat(merged.getJustifiedCheckpoint()).contains(justified2);
+    // Earliest blob sidecar slot is only written if not already set so the first value is kept
+    assertThat(merged.getEarliestBlobSidecarSlot()).contains(UInt64.ONE);
+    assertThat(merged.getStateRoots())
+        .containsAllEntriesOf(stateRoots1)
+        .containsAllEntriesOf(stateRoots2);
+  }
+
+  @Test
+  void mergeHotOnly_shouldRejectUpdatesThatAreNotHotOnly() {
+    final StorageUpdate update =
+        new StorageUpdate(
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Optional.empty(),
+            Map.of(Bytes32.random(), UInt64.ONE),
+            Collections.emptyMap(),
+            false,
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            false,
+            false);
+    assertThat(update.isHotOnly()).isFalse();
+    assertThatThrownBy(() -> StorageUpdate.mergeHotOnly(List.of(update)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private StorageUpdate createHotUpdate(
+      final Optional<Checkpoint> justifiedCheckpoint,
+      final Optional<UInt64> earliestBlobSidecarSlot,
+      final Map<Bytes32, SlotAndBlockRoot> stateRoots) {
+    return new StorageUpdate(
+        Optional.empty(),
+        Optional.empty(),
+        justifiedCheckpoint,
+        Optional.empty(),
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        earliestBlobSidecarSlot,
+        Collections.emptyMap(),
+        stateRoots,
+        false,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        false,
+        false);
+  }
+
   private boolean isNonUpdatingParameter(final Parameter parameter) {
     return parameter.getAnnotationsByType(NonUpdating.class).length > 0;
   }
@@ -2213,6 +2213,23 @@ public class DatabaseTest {
     assertThat(database.getFinalizedDepositSnapshot()).contains(depositTreeSnapshot);
   }
 
+  @TestTemplate
+  public void getFinalizedBlockAtSlotAsSsz_shouldReturnStoredBlockBytes(
+      final DatabaseContext context) throws Exception {
+    initialize(context, StateStorageMode.ARCHIVE);
+    final List<SignedBlockAndState> blockAndStates = chainBuilder.generateBlocksUpToSlot(3);
+    addBlocks(blockAndStates);
+    final SignedBlockAndState finalizedBlock = chainBuilder.generateBlockAtSlot(5);
+    addBlocks(finalizedBlock);
+    justifyAndFinalizeEpoch(
+        spec.computeEpochAtSlot(finalizedBlock.getSlot()).plus(1), finalizedBlock);
+
+    final SignedBeaconBlock block = chainBuilder.getBlockAtSlot(2);
+    assertThat(database.getFinalizedBlockAtSlotAsSsz(UInt64.valueOf(2)))
+        .contains(block.sszSerialize());
+    assertThat(database.getFinalizedBlockAtSlotAsSsz(UInt64.valueOf(4))).isEmpty();
+  }
+
   @TestTemplate
   public void pruneFinalizedBlocks_shouldRemoveFinalizedBlocks(final DatabaseContext context)
       throws Exception {
@@ -0,0 +1,217 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.StubVoteUpdater;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * Measures the fork choice operations run on every head update, against proto-arrays with
+ * competing forks and a slot's worth of vote churn per operation.
+ *
+ * <p>Run with the GC profiler to also report the allocation rate per operation:
+ *
+ * <pre>./gradlew :storage:jmh --args="ForkChoiceBenchmark -prof gc"</pre>
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ForkChoiceBenchmark {
+
+  @Param({"2", "8"})
+  int forkWidth;
+
+  @Param({"64", "2048"})
+  int forkDepth;
+
+  @Param({"100000", "500000", "2000000"})
+  int validatorCount;
+
+  @Param({"3125", "62500"})
+  int votesPerSlot;
+
+  private ForkChoiceBenchmarkChain chain;
+  private UInt64 currentEpoch;
+  private Checkpoint checkpoint;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    chain = new ForkChoiceBenchmarkChain(forkWidth, forkDepth, validatorCount);
+    currentEpoch = chain.getCurrentEpoch();
+    checkpoint = chain.getCheckpoint();
+  }
+
+  /** Votes held in the fork choice strategy's columnar vote store. */
+  @State(Scope.Thread)
+  public static class ColumnarVotes {
+    private ForkChoiceStrategy forkChoiceStrategy;
+    private Map<UInt64, VoteTracker> pendingVotes;
+
+    @Setup(Level.Trial)
+    public void setup(final ForkChoiceBenchmark benchmark) {
+      forkChoiceStrategy =
+          ForkChoiceStrategy.initialize(
+              benchmark.chain.getSpec(), benchmark.chain.createProtoArray(Integer.MAX_VALUE));
+      forkChoiceStrategy.putVotes(benchmark.chain.createInitialVotes());
+      benchmark.applyVotes(forkChoiceStrategy);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation(final ForkChoiceBenchmark benchmark) {
+      pendingVotes =
+          benchmark.chain.createVoteChurn(benchmark.votesPerSlot, forkChoiceStrategy::getVote);
+    }
+  }
+
+  /** Votes held in a {@link StubVoteUpdater}, as used by the generic delta computation. */
+  @State(Scope.Thread)
+  public static class GenericVotes {
+    private ForkChoiceStrategy forkChoiceStrategy;
+    private StubVoteUpdater voteUpdater;
+    private Map<UInt64, VoteTracker> pendingVotes;
+
+    @Setup(Level.Trial)
+    public void setup(final ForkChoiceBenchmark benchmark) {
+      forkChoiceStrategy =
+          ForkChoiceStrategy.initialize(
+              benchmark.chain.getSpec(), benchmark.chain.createProtoArray(Integer.MAX_VALUE));
+      voteUpdater = new StubVoteUpdater();
+      benchmark.chain.createInitialVotes().forEach(voteUpdater::putVote);
+      benchmark.applyPendingVotes(forkChoiceStrategy, voteUpdater);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation(final ForkChoiceBenchmark benchmark) {
+      pendingVotes = benchmark.chain.createVoteChurn(benchmark.votesPerSlot, voteUpdater::getVote);
+    }
+  }
+
+  /** A proto-array with precomputed deltas for a slot's worth of vote churn. */
+  @State(Scope.Thread)
+  public static class ScoreChanges {
+    private ProtoArray protoArray;
+    private LongList deltas;
+    private LongList pendingDeltas;
+
+    @Setup(Level.Trial)
+    public void setup(final ForkChoiceBenchmark benchmark) {
+      protoArray = benchmark.chain.createProtoArray(Integer.MAX_VALUE);
+      final StubVoteUpdater voteUpdater = new StubVoteUpdater();
+      benchmark
+          .chain
+          .createVoteChurn(benchmark.votesPerSlot, voteUpdater::getVote)
+          .forEach(voteUpdater::putVote);
+      deltas =
+          ProtoArrayScoreCalculator.computeDeltas(
+              voteUpdater,
+              protoArray.getTotalTrackedNodeCount(),
+              protoArray::getIndexByRoot,
+              benchmark.chain.getBalances(),
+              benchmark.chain.getBalances(),
+              Optional.empty(),
+              Optional.empty(),
+              UInt64.ZERO,
+              UInt64.ZERO);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation() {
+      // applyScoreChanges consumes the deltas as it back-propagates them to parents
+      pendingDeltas = new LongArrayList(deltas);
+    }
+  }
+
+  /** A freshly built proto-array with votes for every validator, ready to be pruned. */
+  @State(Scope.Thread)
+  public static class Prunable {
+    private ProtoArray protoArray;
+
+    @Setup(Level.Invocation)
+    public void prepareInvocation(final ForkChoiceBenchmark benchmark) {
+      protoArray = benchmark.chain.createProtoArray(0);
+      benchmark.chain.putInitialVotes(protoArray.getVotes());
+    }
+  }
+
+  @Benchmark
+  public Bytes32 applyVotes(final ColumnarVotes state) {
+    state.forkChoiceStrategy.putVotes(state.pendingVotes);
+    return applyVotes(state.forkChoiceStrategy);
+  }
+
+  @Benchmark
+  public Bytes32 applyPendingVotes(final GenericVotes state) {
+    state.pendingVotes.forEach(state.voteUpdater::putVote);
+    return applyPendingVotes(state.forkChoiceStrategy, state.voteUpdater);
+  }
+
+  @Benchmark
+  public ProtoNode applyScoreChangesAndFindHead(final ScoreChanges state) {
+    state.protoArray.applyScoreChanges(state.pendingDeltas, currentEpoch, checkpoint, checkpoint);
+    return state.protoArray.findOptimisticHead(currentEpoch, checkpoint, checkpoint);
+  }
+
+  @Benchmark
+  public ProtoArray maybePrune(final Prunable state) {
+    state.protoArray.maybePrune(chain.getTrunkRoot(chain.getTrunkLength()));
+    return state.protoArray;
+  }
+
+  private Bytes32 applyVotes(final ForkChoiceStrategy forkChoiceStrategy) {
+    return forkChoiceStrategy.applyVotes(
+        UInt64.valueOf(validatorCount - 1),
+        Optional.empty(),
+        currentEpoch,
+        checkpoint,
+        checkpoint,
+        chain.getBalances(),
+        UInt64.ZERO,
+        __ -> {});
+  }
+
+  private Bytes32 applyPendingVotes(
+      final ForkChoiceStrategy forkChoiceStrategy, final StubVoteUpdater voteUpdater) {
+    return forkChoiceStrategy.applyPendingVotes(
+        voteUpdater,
+        Optional.empty(),
+        currentEpoch,
+        checkpoint,
+        checkpoint,
+        chain.getBalances(),
+        UInt64.ZERO);
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * Builds proto-arrays shaped like a chain during non-finality: a short trunk from the finalized
+ * block followed by {@code forkWidth} competing branches of {@code forkDepth} blocks each, with
+ * validators voting for blocks near the branch tips.
+ */
+class ForkChoiceBenchmarkChain {
+  static final UInt64 EFFECTIVE_BALANCE = UInt64.valueOf(32_000_000_000L);
+
+  private static final int TRUNK_LENGTH = 32;
+  private static final int VOTE_WINDOW = 8;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final Random random = new Random(1);
+  private final int forkWidth;
+  private final int forkDepth;
+  private final int validatorCount;
+
+  private final Bytes32 genesisRoot = Bytes32.random(random);
+  private final Checkpoint genesisCheckpoint = new Checkpoint(UInt64.ZERO, genesisRoot);
+  private final List<Bytes32> trunkRoots = new ArrayList<>();
+  private final Bytes32[][] branchRoots;
+  private final List<UInt64> balances;
+
+  private UInt64 voteEpoch = UInt64.ONE;
+
+  ForkChoiceBenchmarkChain(final int forkWidth, final int forkDepth, final int validatorCount) {
+    this.forkWidth = forkWidth;
+    this.forkDepth = forkDepth;
+    this.validatorCount = validatorCount;
+    this.branchRoots = new Bytes32[forkWidth][forkDepth];
+    this.balances = Collections.nCopies(validatorCount, EFFECTIVE_BALANCE);
+    trunkRoots.add(genesisRoot);
+    for (int i = 0; i < TRUNK_LENGTH; i++) {
+      trunkRoots.add(Bytes32.random(random));
+    }
+    for (int branch = 0; branch < forkWidth; branch++) {
+      for (int depth = 0; depth < forkDepth; depth++) {
+        branchRoots[branch][depth] = Bytes32.random(random);
+      }
+    }
+  }
+
+  Spec getSpec() {
+    return spec;
+  }
+
+  Checkpoint getCheckpoint() {
+    return genesisCheckpoint;
+  }
+
+  List<UInt64> getBalances() {
+    return balances;
+  }
+
+  int getValidatorCount() {
+    return validatorCount;
+  }
+
+  UInt64 getCurrentEpoch() {
+    return spec.computeEpochAtSlot(UInt64.valueOf(TRUNK_LENGTH + forkDepth));
+  }
+
+  Bytes32 getTrunkRoot(final int index) {
+    return trunkRoots.get(index);
+  }
+
+  int getTrunkLength() {
+    return TRUNK_LENGTH;
+  }
+
+  ProtoArray createProtoArray(final int pruneThreshold) {
+    final ProtoArray protoArray =
+        ProtoArray.builder()
+            .spec(spec)
+            .pruneThreshold(pruneThreshold)
+            .currentEpoch(getCurrentEpoch())
+            .justifiedCheckpoint(genesisCheckpoint)
+            .finalizedCheckpoint(genesisCheckpoint)
+            .build();
+    addBlock(protoArray, 0, genesisRoot, Bytes32.ZERO);
+    for (int i = 1; i < trunkRoots.size(); i++) {
+      addBlock(protoArray, i, trunkRoots.get(i), trunkRoots.get(i - 1));
+    }
+    for (int depth = 0; depth < forkDepth; depth++) {
+      for (int branch = 0; branch < forkWidth; branch++) {
+        final Bytes32 parentRoot =
+            depth == 0 ? trunkRoots.get(TRUNK_LENGTH) : branchRoots[branch][depth - 1];
+        addBlock(protoArray, TRUNK_LENGTH + depth + 1, branchRoots[branch][depth], parentRoot);
+      }
+    }
+    return protoArray;
+  }
+
+  /** Creates votes for every validator, spread over the blocks near the branch tips. */
+  Map<UInt64, VoteTracker> createInitialVotes() {
+    final Map<UInt64, VoteTracker> votes = new HashMap<>();
+    for (int i = 0; i < validatorCount; i++) {
+      votes.put(UInt64.valueOf(i), new VoteTracker(Bytes32.ZERO, randomVoteTarget(), voteEpoch));
+    }
+    return votes;
+  }
+
+  /** Sets the vote of every validator directly, without building a map of votes. */
+  void putInitialVotes(final ProtoArrayVotes votes) {
+    final VoteTracker[] settledVotes = new VoteTracker[forkWidth * VOTE_WINDOW];
+    for (int i = 0; i < settledVotes.length; i++) {
+      final Bytes32 target = randomVoteTarget();
+      settledVotes[i] = new VoteTracker(target, target, voteEpoch);
+    }
+    for (int i = 0; i < validatorCount; i++) {
+      votes.putVote(i, settledVotes[random.nextInt(settledVotes.length)]);
+    }
+  }
+
+  /**
+   * Moves the next vote of {@code churn} random validators to a new block near the branch tips, as
+   * happens when a slot's worth of attestations is processed.
+   *
+   * @param currentVotes supplies the existing vote of a validator
+   */
+  Map<UInt64, VoteTracker> createVoteChurn(
+      final int churn, final Function<UInt64, VoteTracker> currentVotes) {
+    voteEpoch = voteEpoch.increment();
+    final Map<UInt64, VoteTracker> votes = new HashMap<>();
+    for (int i = 0; i < churn; i++) {
+      final UInt64 validatorIndex = UInt64.valueOf(random.nextInt(validatorCount));
+      final VoteTracker vote = currentVotes.apply(validatorIndex);
+      votes.put(
+          validatorIndex, new VoteTracker(vote.getCurrentRoot(), randomVoteTarget(), voteEpoch));
+    }
+    return votes;
+  }
+
+  private Bytes32 randomVoteTarget() {
+    final Bytes32[] branch = branchRoots[random.nextInt(forkWidth)];
+    return branch[forkDepth - 1 - random.nextInt(Math.min(VOTE_WINDOW, forkDepth))];
+  }
+
+  private void addBlock(
+      final ProtoArray protoArray, final long slot, final Bytes32 root, final Bytes32 parentRoot) {
+    protoArray.onBlock(
+        UInt64.valueOf(slot),
+        root,
+        parentRoot,
+        root,
+        new BlockCheckpoints(
+            genesisCheckpoint, genesisCheckpoint, genesisCheckpoint, genesisCheckpoint),
+        ProtoNode.NO_EXECUTION_BLOCK_NUMBER,
+        ProtoNode.NO_EXECUTION_BLOCK_HASH,
+        false);
+  }
+}
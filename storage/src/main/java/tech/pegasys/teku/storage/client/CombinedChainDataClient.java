@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
@@ -146,6 +147,17 @@ public class CombinedChainDataClient {
     return historicalChainData.getFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the SSZ serialized finalized block proposed at the requested slot, without
+   * deserializing it. If the slot was empty, nothing is returned.
+   *
+   * @param slot the finalized slot to get the block for
+   * @return the SSZ bytes of the block at the requested slot or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotExactAsSsz(final UInt64 slot) {
+    return historicalChainData.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockInEffectAtSlot(
       final UInt64 slot) {
     return historicalChainData.getLatestFinalizedBlockAtSlot(slot);
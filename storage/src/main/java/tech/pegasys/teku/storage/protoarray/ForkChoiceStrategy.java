@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -136,7 +137,103 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     }
   }
 
+  /**
+   * Applies the weighting changes from the votes held by this fork choice strategy (see {@link
+   * #putVotes(Map)}) then finds and returns the best chain head.
+   *
+   * <p>Any pending votes must have been added with {@link #putVotes(Map)} first. Unless the
+   * balances changed, only the votes put since the last call are recomputed.
+   *
+   * @param highestVotedValidatorIndex the highest validator index that has voted
+   * @param proposerBoostRoot the block root to apply proposer boost to
+   * @param currentEpoch the current epoch based on Store time.
+   * @param finalizedCheckpoint the current finalized checkpoint
+   * @param justifiedCheckpoint the current justified checkpoint
+   * @param justifiedStateEffectiveBalances the effective validator balances at the justified
+   *     checkpoint
+   * @param onVoteUpdated called with the index of each validator whose vote was updated
+   * @return the best chain head block root
+   */
+  public Bytes32 applyVotes(
+      final UInt64 highestVotedValidatorIndex,
+      final Optional<Bytes32> proposerBoostRoot,
+      final UInt64 currentEpoch,
+      final Checkpoint finalizedCheckpoint,
+      final Checkpoint justifiedCheckpoint,
+      final List<UInt64> justifiedStateEffectiveBalances,
+      final UInt64 proposerBoostAmount,
+      final IntConsumer onVoteUpdated) {
+    protoArrayLock.writeLock().lock();
+    votesLock.writeLock().lock();
+    balancesLock.writeLock().lock();
+    try {
+      LongList deltas =
+          ProtoArrayScoreCalculator.computeDeltas(
+              protoArray.getVotes(),
+              highestVotedValidatorIndex.intValue(),
+              getTotalTrackedNodeCount(),
+              protoArray::getIndexByRoot,
+              balances,
+              justifiedStateEffectiveBalances,
+              // Balances lists are cached per justified state so this is usually an identity check
+              !balances.equals(justifiedStateEffectiveBalances),
+              this.proposerBoostRoot,
+              proposerBoostRoot,
+              this.proposerBoostAmount,
+              proposerBoostAmount,
+              onVoteUpdated);
+
+      protoArray.applyScoreChanges(deltas, currentEpoch, justifiedCheckpoint, finalizedCheckpoint);
+      balances = justifiedStateEffectiveBalances;
+      this.proposerBoostRoot = proposerBoostRoot;
+      this.proposerBoostAmount = proposerBoostAmount;
+
+      return findHeadImpl(currentEpoch, justifiedCheckpoint, finalizedCheckpoint).getBlockRoot();
+    } finally {
+      protoArrayLock.writeLock().unlock();
+      votesLock.writeLock().unlock();
+      balancesLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the vote held by this fork choice strategy for a validator.
+   *
+   * @param validatorIndex the validator index
+   * @return the vote, or {@link VoteTracker#DEFAULT} if the validator hasn't voted
+   */
+  public VoteTracker getVote(final UInt64 validatorIndex) {
+    protoArrayLock.readLock().lock();
+    votesLock.readLock().lock();
+    try {
+      return protoArray.getVotes().getVote(validatorIndex.intValue());
+    } finally {
+      protoArrayLock.readLock().unlock();
+      votesLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Updates the votes held by this fork choice strategy.
+   *
+   * @param votes the new votes by validator index
+   */
+  public void putVotes(final Map<UInt64, VoteTracker> votes) {
+    protoArrayLock.readLock().lock();
+    votesLock.writeLock().lock();
+    try {
+      final ProtoArrayVotes protoArrayVotes = protoArray.getVotes();
+      votes.forEach(
+          (validatorIndex, vote) -> protoArrayVotes.putVote(validatorIndex.intValue(), vote));
+    } finally {
+      protoArrayLock.readLock().unlock();
+      votesLock.writeLock().unlock();
+    }
+  }
+
   public void onAttestation(final VoteUpdater voteUpdater, final IndexedAttestation attestation) {
+    // Reading votes requires the proto-array lock so take it first to keep the lock order
+    protoArrayLock.readLock().lock();
     votesLock.writeLock().lock();
     try {
       attestation
@@ -150,18 +247,21 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
                       attestation.getData().getBeaconBlockRoot(),
                       attestation.getData().getTarget().getEpoch()));
     } finally {
+      protoArrayLock.readLock().unlock();
       votesLock.writeLock().unlock();
     }
   }
 
   public void applyDeferredAttestations(final VoteUpdater voteUpdater, final DeferredVotes votes) {
     final UInt64 targetEpoch = spec.computeEpochAtSlot(votes.getSlot());
+    protoArrayLock.readLock().lock();
     votesLock.writeLock().lock();
     try {
       votes.forEachDeferredVote(
           (blockRoot, validatorIndex) ->
               processAttestation(voteUpdater, validatorIndex, blockRoot, targetEpoch));
     } finally {
+      protoArrayLock.readLock().unlock();
       votesLock.writeLock().unlock();
     }
   }
@@ -485,7 +585,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
                       block.getBlockCheckpoints(),
                       block.getExecutionBlockNumber().orElse(ProtoNode.NO_EXECUTION_BLOCK_NUMBER),
                       block.getExecutionBlockHash().orElse(ProtoNode.NO_EXECUTION_BLOCK_HASH)));
-      removedBlockRoots.forEach((root, uInt64) -> protoArray.removeBlockRoot(root));
+      protoArray.removeBlockRoots(removedBlockRoots.keySet());
       pulledUpBlocks.forEach(protoArray::pullUpBlockCheckpoints);
       protoArray.maybePrune(finalizedCheckpoint.getRoot());
     } finally {
@@ -15,7 +15,6 @@ package tech.pegasys.teku.storage.protoarray;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.INVALID;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.OPTIMISTIC;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.VALID;
@@ -26,9 +25,11 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -64,6 +65,13 @@ public class ProtoArray {
    */
   private final List<ProtoNode> nodes = new ArrayList<>();
 
+  /**
+   * The weights, links, checkpoint epochs and validation status of each node, in parallel primitive
+   * arrays using the same indices as the nodes list. The {@link ProtoNode} instances are views onto
+   * these columns and act as the side table for block roots and checkpoints.
+   */
+  private final ProtoNodeColumns columns = new ProtoNodeColumns();
+
   /**
    * protoArrayIndices allows root lookup to retrieve indices of protoNodes without looking through
    * the nodes list
@@ -72,6 +80,9 @@ public class ProtoArray {
    */
   private final ProtoArrayIndices indices = new ProtoArrayIndices();
 
+  /** The latest validator votes, referring to blocks by their index in the nodes list. */
+  private final ProtoArrayVotes votes = new ProtoArrayVotes(nodes, indices);
+
   ProtoArray(
       final Spec spec,
       final int pruneThreshold,
@@ -138,27 +149,33 @@ public class ProtoArray {
       return;
     }
 
-    int nodeIndex = getTotalTrackedNodeCount();
+    final int nodeIndex =
+        columns.add(
+            blockSlot.longValue(),
+            0,
+            indices.getRootIndices().getOrDefault(parentRoot, ProtoNodeColumns.NONE),
+            ProtoNodeColumns.NONE,
+            ProtoNodeColumns.NONE,
+            checkpoints.getJustifiedCheckpoint().getEpoch().longValue(),
+            checkpoints.getFinalizedCheckpoint().getEpoch().longValue(),
+            optimisticallyProcessed && !executionBlockHash.isZero() ? OPTIMISTIC : VALID);
 
-    ProtoNode node =
+    final ProtoNode node =
         new ProtoNode(
             blockSlot,
             stateRoot,
             blockRoot,
             parentRoot,
-            indices.get(parentRoot),
             checkpoints,
             executionBlockNumber,
             executionBlockHash,
-            UInt64.ZERO,
-            Optional.empty(),
-            Optional.empty(),
-            optimisticallyProcessed && !executionBlockHash.isZero() ? OPTIMISTIC : VALID);
+            columns,
+            nodeIndex);
 
     indices.add(blockRoot, nodeIndex);
     nodes.add(node);
 
-    updateBestDescendantOfParent(node, nodeIndex);
+    updateBestDescendantOfParent(nodeIndex);
   }
 
   public void setInitialCanonicalBlockRoot(final Bytes32 initialCanonicalBlockRoot) {
@@ -171,7 +188,7 @@ public class ProtoArray {
     applyToNodes(this::updateBestDescendantOfParent);
 
     // let's peak the best descendant of the initial canonical block root
-    ProtoNode node =
+    final ProtoNode node =
         initialCanonicalProtoNode
             .get()
             .getBestDescendantIndex()
@@ -179,11 +196,10 @@ public class ProtoArray {
             .orElse(initialCanonicalProtoNode.get());
 
     // add a single weight to from the best descendant up to the root
-    node.adjustWeight(1);
-    while (node.getParentIndex().isPresent()) {
-      final ProtoNode parent = getNodeByIndex(node.getParentIndex().get());
-      parent.adjustWeight(1);
-      node = parent;
+    for (int nodeIndex = node.getIndex();
+        nodeIndex != ProtoNodeColumns.NONE;
+        nodeIndex = columns.getParentIndex(nodeIndex)) {
+      adjustWeight(nodeIndex, 1);
     }
 
     applyToNodes(this::updateBestDescendantOfParent);
@@ -254,37 +270,33 @@ public class ProtoArray {
                 fatalException(
                     "Invalid or unknown justified root: " + justifiedCheckpoint.getRoot()));
 
-    ProtoNode justifiedNode = getNodeByIndex(justifiedIndex);
-
-    if (justifiedNode.isInvalid()) {
+    if (columns.isInvalid(justifiedIndex)) {
       return Optional.empty();
     }
 
-    int bestDescendantIndex = justifiedNode.getBestDescendantIndex().orElse(justifiedIndex);
-    ProtoNode bestNode = getNodeByIndex(bestDescendantIndex);
+    int bestIndex = justifiedIndex;
 
     // Normally the best descendant index would point straight to chain head, but onBlock only
     // updates the parent, not all the ancestors. When applyScoreChanges runs it propagates the
     // change back up and everything works, but we run findHead to determine if the new block should
     // become the best head so need to follow down the chain.
-    while (bestNode.getBestDescendantIndex().isPresent() && !bestNode.isInvalid()) {
-      bestDescendantIndex = bestNode.getBestDescendantIndex().get();
-      bestNode = getNodeByIndex(bestDescendantIndex);
+    while (columns.getBestDescendantIndex(bestIndex) != ProtoNodeColumns.NONE
+        && !columns.isInvalid(bestIndex)) {
+      bestIndex = columns.getBestDescendantIndex(bestIndex);
     }
 
     // Walk backwards to find the last valid node in the chain
-    while (bestNode.isInvalid()) {
-      final Optional<Integer> maybeParentIndex = bestNode.getParentIndex();
-      if (maybeParentIndex.isEmpty()) {
+    while (columns.isInvalid(bestIndex)) {
+      bestIndex = columns.getParentIndex(bestIndex);
+      if (bestIndex == ProtoNodeColumns.NONE) {
         // No node on this chain with sufficient validity.
         return Optional.empty();
       }
-      final int parentIndex = maybeParentIndex.get();
-      bestNode = getNodeByIndex(parentIndex);
     }
 
+    final ProtoNode bestNode = getNodeByIndex(bestIndex);
     // Perform a sanity check that the node is indeed valid to be the head.
-    if (!nodeIsViableForHead(bestNode) && !bestNode.equals(justifiedNode)) {
+    if (!nodeIsViableForHead(bestIndex) && bestIndex != justifiedIndex) {
       throw new IllegalStateException(
           "ProtoArray: Best node " + bestNode.toLogString() + " is not viable for head");
     }
@@ -374,8 +386,10 @@ public class ProtoArray {
     }
 
     node.setValidationStatus(INVALID);
-    removeBlockRoot(node.getBlockRoot());
-    markDescendantsAsInvalid(index);
+    final List<Bytes32> invalidRoots = new ArrayList<>();
+    invalidRoots.add(node.getBlockRoot());
+    markDescendantsAsInvalid(index, invalidRoots);
+    removeBlockRoots(invalidRoots);
     // Applying zero deltas causes the newly marked INVALID nodes to have their weight set to 0
     applyDeltas(new LongArrayList(Collections.nCopies(getTotalTrackedNodeCount(), 0L)));
   }
@@ -403,19 +417,20 @@ public class ProtoArray {
     return Optional.empty();
   }
 
-  private void markDescendantsAsInvalid(final int index) {
+  private void markDescendantsAsInvalid(final int index, final List<Bytes32> invalidRoots) {
     final IntSet invalidParents = new IntOpenHashSet();
     invalidParents.add(index);
     // Need to mark all nodes extending from this one as invalid
     // Descendant nodes must be later in the array so can start from next index
     for (int i = index + 1; i < nodes.size(); i++) {
-      final ProtoNode possibleDescendant = getNodeByIndex(i);
-      if (possibleDescendant.getParentIndex().isEmpty()) {
+      final int parentIndex = columns.getParentIndex(i);
+      if (parentIndex == ProtoNodeColumns.NONE) {
         continue;
       }
-      if (invalidParents.contains((int) possibleDescendant.getParentIndex().get())) {
+      if (invalidParents.contains(parentIndex)) {
+        final ProtoNode possibleDescendant = getNodeByIndex(i);
         possibleDescendant.setValidationStatus(INVALID);
-        removeBlockRoot(possibleDescendant.getBlockRoot());
+        invalidRoots.add(possibleDescendant.getBlockRoot());
         invalidParents.add(i);
       }
     }
@@ -488,10 +503,17 @@ public class ProtoArray {
       return;
     }
 
-    // Remove the `indices` key/values for all the to-be-deleted nodes.
+    votes.remapNodeReferences(
+        getTotalTrackedNodeCount(),
+        nodeIndex ->
+            nodeIndex < finalizedIndex ? ProtoArrayVotes.NO_NODE : nodeIndex - finalizedIndex);
+
+    // Remove the `indices` key/values for all the to-be-deleted nodes and detach them from the
+    // columns so any references still held remain readable.
     for (int nodeIndex = 0; nodeIndex < finalizedIndex; nodeIndex++) {
-      Bytes32 root = getNodeByIndex(nodeIndex).getBlockRoot();
-      indices.remove(root);
+      final ProtoNode node = getNodeByIndex(nodeIndex);
+      indices.remove(node.getBlockRoot());
+      node.detach();
     }
 
     // Drop all the nodes prior to finalization.
@@ -499,38 +521,10 @@ public class ProtoArray {
 
     indices.offsetIndices(finalizedIndex);
 
-    // Iterate through all the existing nodes and adjust their indices to match the
-    // new layout of nodes.
-    for (ProtoNode node : nodes) {
-      node.getParentIndex()
-          .ifPresent(
-              parentIndex -> {
-                // If node.parentIndex is less than finalizedIndex, set is to None.
-                if (parentIndex < finalizedIndex) {
-                  node.setParentIndex(Optional.empty());
-                } else {
-                  node.setParentIndex(Optional.of(parentIndex - finalizedIndex));
-                }
-              });
-
-      node.getBestChildIndex()
-          .ifPresent(
-              bestChildIndex -> {
-                int newBestChildIndex = bestChildIndex - finalizedIndex;
-                checkState(
-                    newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
-                node.setBestChildIndex(Optional.of(newBestChildIndex));
-              });
-
-      node.getBestDescendantIndex()
-          .ifPresent(
-              bestDescendantIndex -> {
-                int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
-                checkState(
-                    newBestDescendantIndex >= 0,
-                    "ProtoArray: New best descendant index is less than 0");
-                node.setBestDescendantIndex(Optional.of(newBestDescendantIndex));
-              });
+    // Shift the columns and adjust the indices they hold to match the new layout of nodes.
+    columns.removeFirst(finalizedIndex);
+    for (int nodeIndex = 0; nodeIndex < nodes.size(); nodeIndex++) {
+      getNodeByIndex(nodeIndex).setIndex(nodeIndex);
     }
   }
 
@@ -553,92 +547,95 @@ public class ProtoArray {
    */
   @SuppressWarnings("StatementWithEmptyBody")
   private void maybeUpdateBestChildAndDescendant(final int parentIndex, final int childIndex) {
-    ProtoNode child = getNodeByIndex(childIndex);
-    ProtoNode parent = getNodeByIndex(parentIndex);
-
-    boolean childLeadsToViableHead = nodeLeadsToViableHead(child);
-
-    parent
-        .getBestChildIndex()
-        .ifPresentOrElse(
-            bestChildIndex -> {
-              if (bestChildIndex.equals(childIndex) && !childLeadsToViableHead) {
-                // If the child is already the best-child of the parent but it's not viable for
-                // the head, remove it.
-                changeToNone(parent);
-              } else if (bestChildIndex.equals(childIndex)) {
-                // If the child is the best-child already, set it again to ensure that the
-                // best-descendant of the parent is updated.
-                changeToChild(parent, childIndex);
-              } else {
-                ProtoNode bestChild = getNodeByIndex(bestChildIndex);
-
-                boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
-
-                if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
-                  // The child leads to a viable head, but the current best-child doesn't.
-                  changeToChild(parent, childIndex);
-                } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
-                  // The best child leads to a viable head, but the child doesn't.
-                  // No change.
-                } else if (child.getWeight().equals(bestChild.getWeight())) {
-                  // Tie-breaker of equal weights by root.
-                  if (child
-                          .getBlockRoot()
-                          .toHexString()
-                          .compareTo(bestChild.getBlockRoot().toHexString())
-                      >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                } else {
-                  // Choose the winner by weight.
-                  if (child.getWeight().compareTo(bestChild.getWeight()) >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                }
-              }
-            },
-            () -> {
-              if (childLeadsToViableHead) {
-                // There is no current best-child and the child is viable.
-                changeToChild(parent, childIndex);
-              } else {
-                // There is no current best-child but the child is not not viable.
-                // No change.
-              }
-            });
+    final boolean childLeadsToViableHead = nodeLeadsToViableHead(childIndex);
+    final int bestChildIndex = columns.getBestChildIndex(parentIndex);
+
+    if (bestChildIndex == ProtoNodeColumns.NONE) {
+      if (childLeadsToViableHead) {
+        // There is no current best-child and the child is viable.
+        changeToChild(parentIndex, childIndex);
+      } else {
+        // There is no current best-child but the child is not not viable.
+        // No change.
+      }
+    } else if (bestChildIndex == childIndex && !childLeadsToViableHead) {
+      // If the child is already the best-child of the parent but it's not viable for
+      // the head, remove it.
+      changeToNone(parentIndex);
+    } else if (bestChildIndex == childIndex) {
+      // If the child is the best-child already, set it again to ensure that the
+      // best-descendant of the parent is updated.
+      changeToChild(parentIndex, childIndex);
+    } else {
+      final boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChildIndex);
+      final int weightComparison =
+          Long.compareUnsigned(columns.getWeight(childIndex), columns.getWeight(bestChildIndex));
+
+      if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
+        // The child leads to a viable head, but the current best-child doesn't.
+        changeToChild(parentIndex, childIndex);
+      } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
+        // The best child leads to a viable head, but the child doesn't.
+        // No change.
+      } else if (weightComparison == 0) {
+        // Tie-breaker of equal weights by root.
+        if (compareRoots(childIndex, bestChildIndex) >= 0) {
+          changeToChild(parentIndex, childIndex);
+        } else {
+          // No change.
+        }
+      } else {
+        // Choose the winner by weight.
+        if (weightComparison > 0) {
+          changeToChild(parentIndex, childIndex);
+        } else {
+          // No change.
+        }
+      }
+    }
+  }
+
+  /**
+   * Compares the block roots of two nodes as unsigned big-endian numbers, which orders them the
+   * same way as comparing their hex strings.
+   */
+  private int compareRoots(final int nodeIndex1, final int nodeIndex2) {
+    final Bytes32 root1 = getNodeByIndex(nodeIndex1).getBlockRoot();
+    final Bytes32 root2 = getNodeByIndex(nodeIndex2).getBlockRoot();
+    for (int offset = 0; offset < Bytes32.SIZE; offset += Long.BYTES) {
+      final int result = Long.compareUnsigned(root1.getLong(offset), root2.getLong(offset));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
   }
 
   /** Helper for maybeUpdateBestChildAndDescendant */
-  private void changeToChild(final ProtoNode parent, final int childIndex) {
-    ProtoNode child = getNodeByIndex(childIndex);
-    parent.setBestChildIndex(Optional.of(childIndex));
-    parent.setBestDescendantIndex(Optional.of(child.getBestDescendantIndex().orElse(childIndex)));
+  private void changeToChild(final int parentIndex, final int childIndex) {
+    final int childBestDescendantIndex = columns.getBestDescendantIndex(childIndex);
+    columns.setBestChildAndDescendant(
+        parentIndex,
+        childIndex,
+        childBestDescendantIndex == ProtoNodeColumns.NONE ? childIndex : childBestDescendantIndex);
   }
 
   /** Helper for maybeUpdateBestChildAndDescendant */
-  private void changeToNone(final ProtoNode parent) {
-    parent.setBestChildIndex(Optional.empty());
-    parent.setBestDescendantIndex(Optional.empty());
+  private void changeToNone(final int parentIndex) {
+    columns.setBestChildAndDescendant(parentIndex, ProtoNodeColumns.NONE, ProtoNodeColumns.NONE);
   }
 
   /**
    * Indicates if the node itself is viable for the head, or if it's best descendant is viable for
    * the head.
    */
-  private boolean nodeLeadsToViableHead(final ProtoNode node) {
-    if (nodeIsViableForHead(node)) {
+  private boolean nodeLeadsToViableHead(final int nodeIndex) {
+    if (nodeIsViableForHead(nodeIndex)) {
       return true;
     }
 
-    return node.getBestDescendantIndex()
-        .map(this::getNodeByIndex)
-        .map(this::nodeIsViableForHead)
-        .orElse(false);
+    final int bestDescendantIndex = columns.getBestDescendantIndex(nodeIndex);
+    return bestDescendantIndex != ProtoNodeColumns.NONE && nodeIsViableForHead(bestDescendantIndex);
   }
 
   /**
@@ -650,24 +647,29 @@ public class ProtoArray {
    * head.
    */
   public boolean nodeIsViableForHead(final ProtoNode node) {
-    if (node.isInvalid()) {
+    return nodeIsViableForHead(node.getIndex());
+  }
+
+  private boolean nodeIsViableForHead(final int nodeIndex) {
+    if (columns.isInvalid(nodeIndex)) {
       return false;
     }
 
     // The voting source should be either at the same height as the store's justified checkpoint or
     // not more than two epochs ago
     if (!isVotingSourceWithinAcceptableRange(
-        node.getJustifiedCheckpoint().getEpoch(), justifiedCheckpoint.getEpoch())) {
+        columns.getJustifiedEpoch(nodeIndex), justifiedCheckpoint.getEpoch().longValue())) {
       return false;
     }
 
-    return node.getFinalizedCheckpoint().getEpoch().equals(initialEpoch)
-        || isFinalizedRootOrDescendant(node);
+    return columns.getFinalizedEpoch(nodeIndex) == initialEpoch.longValue()
+        || isFinalizedRootOrDescendant(nodeIndex);
   }
 
-  private boolean isFinalizedRootOrDescendant(final ProtoNode node) {
+  private boolean isFinalizedRootOrDescendant(final int nodeIndex) {
     final UInt64 finalizedEpoch = finalizedCheckpoint.getEpoch();
     final Bytes32 finalizedRoot = finalizedCheckpoint.getRoot();
+    final ProtoNode node = getNodeByIndex(nodeIndex);
 
     final Checkpoint nodeFinalizedCheckpoint = node.getFinalizedCheckpoint();
     if (nodeFinalizedCheckpoint.getEpoch().equals(finalizedEpoch)
@@ -694,7 +696,7 @@ public class ProtoArray {
     }
 
     final UInt64 finalizedSlot = spec.computeStartSlotAtEpoch(finalizedCheckpoint.getEpoch());
-    return hasAncestorAtSlot(node, finalizedSlot, finalizedRoot);
+    return hasAncestorAtSlot(nodeIndex, finalizedSlot.longValue(), finalizedRoot);
   }
 
   /**
@@ -705,19 +707,20 @@ public class ProtoArray {
    * <p>The difference is that this is checking if the ancestor at slot is the required one.
    */
   private boolean hasAncestorAtSlot(
-      final ProtoNode start, final UInt64 finalizedSlot, final Bytes32 requiredRoot) {
-    ProtoNode node = start;
-    while (node != null && node.getBlockSlot().isGreaterThan(finalizedSlot)) {
-      node = node.getParentIndex().map(this::getNodeByIndex).orElse(null);
+      final int startIndex, final long finalizedSlot, final Bytes32 requiredRoot) {
+    int nodeIndex = startIndex;
+    while (nodeIndex != ProtoNodeColumns.NONE && columns.getSlot(nodeIndex) > finalizedSlot) {
+      nodeIndex = columns.getParentIndex(nodeIndex);
     }
-    return node != null && requiredRoot.equals(node.getBlockRoot());
+    return nodeIndex != ProtoNodeColumns.NONE
+        && requiredRoot.equals(getNodeByIndex(nodeIndex).getBlockRoot());
   }
 
   private boolean isVotingSourceWithinAcceptableRange(
-      final UInt64 nodeJustifiedEpoch, final UInt64 currentJustifiedEpoch) {
-    return currentJustifiedEpoch.equals(initialEpoch)
-        || nodeJustifiedEpoch.equals(currentJustifiedEpoch)
-        || nodeJustifiedEpoch.plus(2).isGreaterThanOrEqualTo(currentEpoch);
+      final long nodeJustifiedEpoch, final long currentJustifiedEpoch) {
+    return currentJustifiedEpoch == initialEpoch.longValue()
+        || nodeJustifiedEpoch == currentJustifiedEpoch
+        || nodeJustifiedEpoch + 2 >= currentEpoch.longValue();
   }
 
   public Checkpoint getJustifiedCheckpoint() {
@@ -737,7 +740,23 @@ public class ProtoArray {
    * @param blockRoot the block root to remove from the lookup map.
    */
   public void removeBlockRoot(final Bytes32 blockRoot) {
-    indices.remove(blockRoot);
+    removeBlockRoots(List.of(blockRoot));
+  }
+
+  /**
+   * Removes block roots from the lookup map, see {@link #removeBlockRoot(Bytes32)}.
+   *
+   * @param blockRoots the block roots to remove from the lookup map.
+   */
+  public void removeBlockRoots(final Collection<Bytes32> blockRoots) {
+    final IntSet removedIndices = new IntOpenHashSet();
+    blockRoots.forEach(blockRoot -> indices.get(blockRoot).ifPresent(removedIndices::add));
+    if (!removedIndices.isEmpty()) {
+      votes.remapNodeReferences(
+          getTotalTrackedNodeCount(),
+          nodeIndex -> removedIndices.contains(nodeIndex) ? ProtoArrayVotes.NO_NODE : nodeIndex);
+    }
+    blockRoots.forEach(indices::remove);
   }
 
   public void pullUpBlockCheckpoints(final Bytes32 blockRoot) {
@@ -745,35 +764,50 @@ public class ProtoArray {
   }
 
   private void applyDeltas(final LongList deltas) {
-    applyToNodes((node, nodeIndex) -> applyDelta(deltas, node, nodeIndex));
+    applyToNodes(nodeIndex -> applyDelta(deltas, nodeIndex));
     applyToNodes(this::updateBestDescendantOfParent);
   }
 
-  private void updateBestDescendantOfParent(final ProtoNode node, final int nodeIndex) {
-    node.getParentIndex()
-        .ifPresent(parentIndex -> maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex));
+  private void updateBestDescendantOfParent(final int nodeIndex) {
+    final int parentIndex = columns.getParentIndex(nodeIndex);
+    if (parentIndex != ProtoNodeColumns.NONE) {
+      maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
+    }
   }
 
-  private void applyDelta(final LongList deltas, final ProtoNode node, final int nodeIndex) {
+  private void applyDelta(final LongList deltas, final int nodeIndex) {
     // If the node is invalid, remove any existing weight.
-    long nodeDelta = node.isInvalid() ? -node.getWeight().longValue() : deltas.getLong(nodeIndex);
-    node.adjustWeight(nodeDelta);
+    final long nodeDelta =
+        columns.isInvalid(nodeIndex) ? -columns.getWeight(nodeIndex) : deltas.getLong(nodeIndex);
+    adjustWeight(nodeIndex, nodeDelta);
 
-    if (node.getParentIndex().isPresent()) {
-      int parentIndex = node.getParentIndex().get();
+    final int parentIndex = columns.getParentIndex(nodeIndex);
+    if (parentIndex != ProtoNodeColumns.NONE) {
       deltas.set(parentIndex, deltas.getLong(parentIndex) + nodeDelta);
     }
   }
 
-  private void applyToNodes(final NodeVisitor action) {
-    for (int nodeIndex = getTotalTrackedNodeCount() - 1; nodeIndex >= 0; nodeIndex--) {
+  private void adjustWeight(final int nodeIndex, final long delta) {
+    final long previousWeight = columns.getWeight(nodeIndex);
+    if (!columns.adjustWeight(nodeIndex, delta)) {
       final ProtoNode node = getNodeByIndex(nodeIndex);
+      LOG.error(
+          "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta {} causes uint64 {} for block {} ({}). Weight was {}",
+          delta,
+          delta < 0 ? "underflow" : "overflow",
+          node.getBlockRoot(),
+          node.getBlockSlot(),
+          UInt64.fromLongBits(previousWeight));
+    }
+  }
 
+  private void applyToNodes(final IntConsumer action) {
+    for (int nodeIndex = getTotalTrackedNodeCount() - 1; nodeIndex >= 0; nodeIndex--) {
       // No point processing the genesis block.
-      if (node.getBlockRoot().equals(Bytes32.ZERO)) {
+      if (getNodeByIndex(nodeIndex).getBlockRoot().equals(Bytes32.ZERO)) {
         continue;
       }
-      action.onNode(node, nodeIndex);
+      action.accept(nodeIndex);
     }
   }
 
@@ -781,11 +815,11 @@ public class ProtoArray {
     return indices.getRootIndices();
   }
 
-  ProtoNode getNodeByIndex(final int index) {
-    return checkNotNull(nodes.get(index), "Missing node %s", index);
+  ProtoArrayVotes getVotes() {
+    return votes;
   }
 
-  private interface NodeVisitor {
-    void onNode(ProtoNode node, int nodeIndex);
+  ProtoNode getNodeByIndex(final int index) {
+    return checkNotNull(nodes.get(index), "Missing node %s", index);
   }
 }
@@ -17,12 +17,16 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
@@ -30,6 +34,9 @@ import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 
 class ProtoArrayScoreCalculator {
 
+  /** Full recomputations are only split across threads when each task has this many validators */
+  static final int MIN_VALIDATORS_PER_TASK = 16_384;
+
   /**
    * Returns a list of `deltas`, where there is one delta for each of the indices in
    * `0..indices.size()`.
@@ -70,6 +77,154 @@ class ProtoArrayScoreCalculator {
     return deltas;
   }
 
+  /**
+   * Computes the same deltas as {@link #computeDeltas(VoteUpdater, int, Function, List, List,
+   * Optional, Optional, UInt64, UInt64)} but directly from the votes held by the proto-array,
+   * avoiding the creation of a {@link VoteTracker} and root lookups for every validator.
+   *
+   * <p>When the balances haven't changed since the last computation, only validators whose vote
+   * was updated since then can have a delta so the rest of the validator set is skipped. Otherwise
+   * every vote is recomputed, split across the common fork-join pool for large validator sets.
+   *
+   * <p>Votes whose weight moves are updated in place and reported to {@code onVoteUpdated} so they
+   * can be persisted.
+   */
+  static LongList computeDeltas(
+      final ProtoArrayVotes votes,
+      final int highestVotedValidatorIndex,
+      final int protoArraySize,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final List<UInt64> oldBalances,
+      final List<UInt64> newBalances,
+      final boolean balancesChanged,
+      final Optional<Bytes32> previousProposerBoostRoot,
+      final Optional<Bytes32> newProposerBoostRoot,
+      final UInt64 previousBoostAmount,
+      final UInt64 newBoostAmount,
+      final IntConsumer onVoteUpdated) {
+    final int validatorCount = Math.min(highestVotedValidatorIndex + 1, votes.getCapacity());
+    final long[] deltas;
+    if (balancesChanged) {
+      deltas =
+          computeAllDeltas(
+              votes, validatorCount, protoArraySize, oldBalances, newBalances, onVoteUpdated);
+    } else {
+      deltas = new long[protoArraySize];
+      votes.forEachUpdatedValidator(
+          validatorIndex -> {
+            if (validatorIndex < validatorCount) {
+              computeDelta(votes, oldBalances, newBalances, deltas, validatorIndex, onVoteUpdated);
+            }
+          });
+    }
+    votes.clearUpdatedValidators();
+
+    final LongList deltaList = LongArrayList.wrap(deltas);
+    previousProposerBoostRoot.ifPresent(
+        root -> subtractBalance(getIndexByRoot, deltaList, root, previousBoostAmount));
+    newProposerBoostRoot.ifPresent(
+        root -> addBalance(getIndexByRoot, deltaList, root, newBoostAmount));
+    return deltaList;
+  }
+
+  private static long[] computeAllDeltas(
+      final ProtoArrayVotes votes,
+      final int validatorCount,
+      final int protoArraySize,
+      final List<UInt64> oldBalances,
+      final List<UInt64> newBalances,
+      final IntConsumer onVoteUpdated) {
+    final int taskCount =
+        Math.min(
+            Runtime.getRuntime().availableProcessors(),
+            Math.ceilDiv(validatorCount, MIN_VALIDATORS_PER_TASK));
+    if (taskCount <= 1) {
+      final long[] deltas = new long[protoArraySize];
+      for (int validatorIndex = 0; validatorIndex < validatorCount; validatorIndex++) {
+        computeDelta(votes, oldBalances, newBalances, deltas, validatorIndex, onVoteUpdated);
+      }
+      return deltas;
+    }
+
+    // Each task only updates the votes of its own range of validators and sums into its own
+    // deltas, the results are then merged on the calling thread.
+    final int validatorsPerTask = Math.ceilDiv(validatorCount, taskCount);
+    final List<PartialDeltas> partialDeltas =
+        IntStream.range(0, taskCount)
+            .parallel()
+            .mapToObj(
+                task -> {
+                  final PartialDeltas result = new PartialDeltas(protoArraySize);
+                  final int end = Math.min(validatorCount, (task + 1) * validatorsPerTask);
+                  for (int validatorIndex = task * validatorsPerTask;
+                      validatorIndex < end;
+                      validatorIndex++) {
+                    computeDelta(
+                        votes,
+                        oldBalances,
+                        newBalances,
+                        result.deltas,
+                        validatorIndex,
+                        result.updatedValidators::add);
+                  }
+                  return result;
+                })
+            .toList();
+
+    final long[] deltas = new long[protoArraySize];
+    for (PartialDeltas partial : partialDeltas) {
+      for (int nodeIndex = 0; nodeIndex < protoArraySize; nodeIndex++) {
+        deltas[nodeIndex] = addExact(deltas[nodeIndex], partial.deltas[nodeIndex]);
+      }
+      partial.updatedValidators.forEach(onVoteUpdated);
+    }
+    return deltas;
+  }
+
+  private static void computeDelta(
+      final ProtoArrayVotes votes,
+      final List<UInt64> oldBalances,
+      final List<UInt64> newBalances,
+      final long[] deltas,
+      final int validatorIndex,
+      final IntConsumer onVoteUpdated) {
+    final int currentRef = votes.getCurrentRef(validatorIndex);
+    final int nextRef = votes.getNextRef(validatorIndex);
+    // There is no need to create a score change if the validator has never voted
+    // or both their votes are for the zero hash (alias to the genesis block).
+    if (currentRef == ProtoArrayVotes.NO_VOTE && nextRef == ProtoArrayVotes.NO_VOTE) {
+      return;
+    }
+    // If vote is already count as equivocated, we don't need to do anything more
+    if (votes.isCurrentEquivocating(validatorIndex)) {
+      return;
+    }
+
+    final long oldBalance =
+        oldBalances.size() > validatorIndex ? oldBalances.get(validatorIndex).longValue() : 0;
+    final long newBalance =
+        newBalances.size() > validatorIndex && !votes.isNextEquivocating(validatorIndex)
+            ? newBalances.get(validatorIndex).longValue()
+            : 0;
+
+    if (currentRef != nextRef || oldBalance != newBalance) {
+      adjustDelta(deltas, votes.getNodeIndex(currentRef), -oldBalance);
+      adjustDelta(deltas, votes.getNodeIndex(nextRef), newBalance);
+      votes.moveNextToCurrent(validatorIndex);
+      onVoteUpdated.accept(validatorIndex);
+    }
+  }
+
+  private static void adjustDelta(final long[] deltas, final int nodeIndex, final long change) {
+    // We ignore the change if the vote is not for a node in the proto-array. We assume that it is
+    // outside of our tree (i.e. pre-finalization) and therefore not interesting.
+    if (nodeIndex == ProtoArrayVotes.NO_NODE) {
+      return;
+    }
+    checkState(nodeIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nodeIndex] = addExact(deltas[nodeIndex], change);
+  }
+
   private static void computeDelta(
       final VoteUpdater store,
       final Function<Bytes32, Optional<Integer>> getIndexByRoot,
@@ -156,4 +311,13 @@ class ProtoArrayScoreCalculator {
               deltas.set(currentDeltaIndex.intValue(), delta);
             });
   }
+
+  private static class PartialDeltas {
+    private final long[] deltas;
+    private final IntList updatedValidators = new IntArrayList();
+
+    private PartialDeltas(final int protoArraySize) {
+      this.deltas = new long[protoArraySize];
+    }
+  }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+
+/**
+ * Holds the latest vote of every validator in parallel primitive arrays indexed by validator
+ * index, with votes referring to blocks by their proto-array node index rather than by root.
+ *
+ * <p>A vote reference is either:
+ *
+ * <ul>
+ *   <li>{@code >= 0}: the index of the voted node in the proto-array nodes list
+ *   <li>{@link #NO_VOTE}: the zero root, which is used when the validator hasn't voted
+ *   <li>{@code <= -2}: a root that isn't tracked by the proto-array (e.g. pruned or removed
+ *       blocks), interned so the original root can still be reported
+ * </ul>
+ *
+ * <p>{@link VoteTracker} instances are only created when a vote is read, which happens when it is
+ * updated or persisted. Node references must be remapped whenever nodes are pruned or removed from
+ * the indices, see {@link #remapNodeReferences(int, IntUnaryOperator)}.
+ *
+ * <p>Not thread safe, access is guarded by the owning {@link ProtoArray}.
+ */
+class ProtoArrayVotes {
+  static final int NO_VOTE = -1;
+  static final int NO_NODE = -1;
+
+  private static final int SPARE_CAPACITY = 1000;
+  private static final int UNMAPPED = Integer.MIN_VALUE;
+  private static final byte NEXT_EQUIVOCATING = 1;
+  private static final byte CURRENT_EQUIVOCATING = 2;
+
+  private final List<ProtoNode> nodes;
+  private final ProtoArrayIndices indices;
+
+  private int[] currentRefs = new int[0];
+  private int[] nextRefs = new int[0];
+  private long[] nextEpochs = new long[0];
+  private byte[] flags = new byte[0];
+
+  // Validators whose vote was put since the last delta computation
+  private final BitSet updatedValidators = new BitSet();
+
+  private List<Bytes32> untrackedRoots = new ArrayList<>();
+  private Object2IntMap<Bytes32> untrackedRootRefs = createUntrackedRootRefs();
+
+  ProtoArrayVotes(final List<ProtoNode> nodes, final ProtoArrayIndices indices) {
+    this.nodes = nodes;
+    this.indices = indices;
+  }
+
+  int getCapacity() {
+    return currentRefs.length;
+  }
+
+  VoteTracker getVote(final int validatorIndex) {
+    if (validatorIndex >= getCapacity()) {
+      return VoteTracker.DEFAULT;
+    }
+    final byte voteFlags = flags[validatorIndex];
+    return new VoteTracker(
+        toRoot(currentRefs[validatorIndex]),
+        toRoot(nextRefs[validatorIndex]),
+        UInt64.fromLongBits(nextEpochs[validatorIndex]),
+        (voteFlags & NEXT_EQUIVOCATING) != 0,
+        (voteFlags & CURRENT_EQUIVOCATING) != 0);
+  }
+
+  void putVote(final int validatorIndex, final VoteTracker vote) {
+    ensureCapacity(validatorIndex);
+    currentRefs[validatorIndex] = toRef(vote.getCurrentRoot());
+    nextRefs[validatorIndex] = toRef(vote.getNextRoot());
+    nextEpochs[validatorIndex] = vote.getNextEpoch().longValue();
+    flags[validatorIndex] =
+        (byte)
+            ((vote.isNextEquivocating() ? NEXT_EQUIVOCATING : 0)
+                | (vote.isCurrentEquivocating() ? CURRENT_EQUIVOCATING : 0));
+    updatedValidators.set(validatorIndex);
+  }
+
+  void forEachUpdatedValidator(final IntConsumer action) {
+    for (int validatorIndex = updatedValidators.nextSetBit(0);
+        validatorIndex >= 0;
+        validatorIndex = updatedValidators.nextSetBit(validatorIndex + 1)) {
+      action.accept(validatorIndex);
+    }
+  }
+
+  void clearUpdatedValidators() {
+    updatedValidators.clear();
+  }
+
+  int getCurrentRef(final int validatorIndex) {
+    return currentRefs[validatorIndex];
+  }
+
+  int getNextRef(final int validatorIndex) {
+    return nextRefs[validatorIndex];
+  }
+
+  boolean isCurrentEquivocating(final int validatorIndex) {
+    return (flags[validatorIndex] & CURRENT_EQUIVOCATING) != 0;
+  }
+
+  boolean isNextEquivocating(final int validatorIndex) {
+    return (flags[validatorIndex] & NEXT_EQUIVOCATING) != 0;
+  }
+
+  /** Makes the next vote of the validator its current vote, once its weight has been applied. */
+  void moveNextToCurrent(final int validatorIndex) {
+    currentRefs[validatorIndex] = nextRefs[validatorIndex];
+    flags[validatorIndex] =
+        isNextEquivocating(validatorIndex) ? (byte) (NEXT_EQUIVOCATING | CURRENT_EQUIVOCATING) : 0;
+  }
+
+  /**
+   * Returns the current node index a vote reference applies to, or {@link #NO_NODE} if it doesn't
+   * apply to any node in the proto-array.
+   */
+  int getNodeIndex(final int ref) {
+    if (ref >= 0) {
+      return ref;
+    }
+    if (ref == NO_VOTE) {
+      return NO_NODE;
+    }
+    // The block may have been added since the vote was recorded
+    final Bytes32 root = untrackedRoots.get(toUntrackedIndex(ref));
+    return indices.getRootIndices().getOrDefault(root, NO_NODE);
+  }
+
+  /**
+   * Updates node references after nodes have been pruned or removed from the indices. Must be
+   * called before the nodes list itself is modified.
+   *
+   * @param nodeCount the number of nodes before the change
+   * @param nodeIndexMapping maps each existing node index to its new index, or {@link #NO_NODE}
+   *     if the node is no longer tracked
+   */
+  void remapNodeReferences(final int nodeCount, final IntUnaryOperator nodeIndexMapping) {
+    final int[] nodeRefs = new int[nodeCount];
+    Arrays.fill(nodeRefs, UNMAPPED);
+    final int[] untrackedRefs = new int[untrackedRoots.size()];
+    Arrays.fill(untrackedRefs, UNMAPPED);
+    final List<Bytes32> oldUntrackedRoots = untrackedRoots;
+    // Rebuild the untracked roots so roots that are no longer voted for are dropped
+    untrackedRoots = new ArrayList<>();
+    untrackedRootRefs = createUntrackedRootRefs();
+
+    final IntUnaryOperator remapper =
+        ref -> {
+          if (ref >= 0) {
+            if (nodeRefs[ref] == UNMAPPED) {
+              final int newIndex = nodeIndexMapping.applyAsInt(ref);
+              nodeRefs[ref] =
+                  newIndex == NO_NODE
+                      ? internUntrackedRoot(nodes.get(ref).getBlockRoot())
+                      : newIndex;
+            }
+            return nodeRefs[ref];
+          }
+          if (ref == NO_VOTE) {
+            return NO_VOTE;
+          }
+          final int untrackedIndex = toUntrackedIndex(ref);
+          if (untrackedRefs[untrackedIndex] == UNMAPPED) {
+            untrackedRefs[untrackedIndex] =
+                internUntrackedRoot(oldUntrackedRoots.get(untrackedIndex));
+          }
+          return untrackedRefs[untrackedIndex];
+        };
+    for (int i = 0; i < currentRefs.length; i++) {
+      currentRefs[i] = remapper.applyAsInt(currentRefs[i]);
+      nextRefs[i] = remapper.applyAsInt(nextRefs[i]);
+    }
+  }
+
+  private void ensureCapacity(final int validatorIndex) {
+    if (validatorIndex < getCapacity()) {
+      return;
+    }
+    final int oldCapacity = getCapacity();
+    final int newCapacity = validatorIndex + SPARE_CAPACITY;
+    currentRefs = Arrays.copyOf(currentRefs, newCapacity);
+    nextRefs = Arrays.copyOf(nextRefs, newCapacity);
+    nextEpochs = Arrays.copyOf(nextEpochs, newCapacity);
+    flags = Arrays.copyOf(flags, newCapacity);
+    Arrays.fill(currentRefs, oldCapacity, newCapacity, NO_VOTE);
+    Arrays.fill(nextRefs, oldCapacity, newCapacity, NO_VOTE);
+  }
+
+  private int toRef(final Bytes32 root) {
+    if (root.equals(Bytes32.ZERO)) {
+      return NO_VOTE;
+    }
+    final int nodeIndex = indices.getRootIndices().getOrDefault(root, NO_NODE);
+    return nodeIndex != NO_NODE ? nodeIndex : internUntrackedRoot(root);
+  }
+
+  private Bytes32 toRoot(final int ref) {
+    if (ref >= 0) {
+      return nodes.get(ref).getBlockRoot();
+    }
+    if (ref == NO_VOTE) {
+      return Bytes32.ZERO;
+    }
+    return untrackedRoots.get(toUntrackedIndex(ref));
+  }
+
+  private int internUntrackedRoot(final Bytes32 root) {
+    final int existingRef = untrackedRootRefs.getInt(root);
+    if (existingRef != UNMAPPED) {
+      return existingRef;
+    }
+    final int ref = -2 - untrackedRoots.size();
+    untrackedRoots.add(root);
+    untrackedRootRefs.put(root, ref);
+    return ref;
+  }
+
+  private static int toUntrackedIndex(final int ref) {
+    return -ref - 2;
+  }
+
+  private static Object2IntMap<Bytes32> createUntrackedRootRefs() {
+    final Object2IntMap<Bytes32> refs = new Object2IntOpenHashMap<>();
+    refs.defaultReturnValue(UNMAPPED);
+    return refs;
+  }
+}
@@ -18,8 +18,6 @@ import static com.google.common.base.Preconditions.checkState;
 import com.google.common.base.MoreObjects;
 import java.util.Objects;
 import java.util.Optional;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.logging.LogFormatter;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -33,8 +31,6 @@ public class ProtoNode {
   public static final UInt64 NO_EXECUTION_BLOCK_NUMBER = UInt64.ZERO;
   public static final Bytes32 NO_EXECUTION_BLOCK_HASH = Bytes32.ZERO;
 
-  private static final Logger LOG = LogManager.getLogger();
-
   private final UInt64 blockSlot;
   private final Bytes32 stateRoot;
 
@@ -59,68 +55,48 @@ public class ProtoNode {
    */
   private final Bytes32 executionBlockHash;
 
-  private UInt64 weight;
-  private Optional<Integer> parentIndex;
-  private Optional<Integer> bestChildIndex;
-  private Optional<Integer> bestDescendantIndex;
+  /** The columns holding this node's mutable state, shared with the rest of the proto-array. */
+  private ProtoNodeColumns columns;
 
-  private ProtoNodeValidationStatus validationStatus;
+  private int index;
 
   ProtoNode(
       final UInt64 blockSlot,
       final Bytes32 stateRoot,
       final Bytes32 blockRoot,
       final Bytes32 parentRoot,
-      final Optional<Integer> parentIndex,
       final BlockCheckpoints checkpoints,
       final UInt64 executionBlockNumber,
       final Bytes32 executionBlockHash,
-      final UInt64 weight,
-      final Optional<Integer> bestChildIndex,
-      final Optional<Integer> bestDescendantIndex,
-      final ProtoNodeValidationStatus validationStatus) {
+      final ProtoNodeColumns columns,
+      final int index) {
     this.blockSlot = blockSlot;
     this.stateRoot = stateRoot;
     this.blockRoot = blockRoot;
     this.parentRoot = parentRoot;
-    this.parentIndex = parentIndex;
     this.checkpoints = checkpoints;
     this.executionBlockNumber = executionBlockNumber;
     this.executionBlockHash = executionBlockHash;
-    this.weight = weight;
-    this.bestChildIndex = bestChildIndex;
-    this.bestDescendantIndex = bestDescendantIndex;
-    this.validationStatus = validationStatus;
+    this.columns = columns;
+    this.index = index;
   }
 
-  public void adjustWeight(final long delta) {
-    if (delta < 0) {
-      final long absoluteDelta = -delta;
-      try {
-        weight = weight.minus(absoluteDelta);
-      } catch (final ArithmeticException __) {
-        LOG.error(
-            "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be subtracted causes uint64 underflow for block {} ({}). Attempting to subtract {} from {}",
-            blockRoot,
-            blockSlot,
-            absoluteDelta,
-            weight);
-        weight = UInt64.ZERO;
-      }
-
-    } else {
-      try {
-        weight = weight.plus(delta);
-      } catch (final ArithmeticException __) {
-        LOG.error(
-            "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be added causes uint64 overflow for block {} ({}). Attempting to add {} to {}",
-            blockRoot,
-            blockSlot,
-            delta,
-            weight);
-        weight = UInt64.MAX_VALUE;
-      }
-    }
+  int getIndex() {
+    return index;
+  }
+
+  /** Updates the row this node refers to after the proto-array has been pruned. */
+  void setIndex(final int index) {
+    this.index = index;
+  }
+
+  /**
+   * Copies this node's state out of the shared columns so it remains readable once its row has
+   * been pruned from the proto-array.
+   */
+  void detach() {
+    columns = columns.copyRow(index);
+    index = 0;
   }
 
   public Bytes32 getParentRoot() {
@@ -128,7 +104,7 @@ public class ProtoNode {
   }
 
   public UInt64 getWeight() {
-    return weight;
+    return UInt64.fromLongBits(columns.getWeight(index));
   }
 
   public UInt64 getBlockSlot() {
@@ -144,7 +120,7 @@ public class ProtoNode {
   }
 
   public Optional<Integer> getParentIndex() {
-    return parentIndex;
+    return toOptionalIndex(columns.getParentIndex(index));
   }
 
   public Checkpoint getJustifiedCheckpoint() {
@@ -173,48 +149,44 @@ public class ProtoNode {
 
   public void pullUpCheckpoints() {
     checkpoints = checkpoints.realizeNextEpoch();
-  }
-
-  public void setParentIndex(final Optional<Integer> parentIndex) {
-    this.parentIndex = parentIndex;
+    columns.setCheckpointEpochs(
+        index,
+        checkpoints.getJustifiedCheckpoint().getEpoch().longValue(),
+        checkpoints.getFinalizedCheckpoint().getEpoch().longValue());
   }
 
   public Optional<Integer> getBestChildIndex() {
-    return bestChildIndex;
-  }
-
-  public void setBestChildIndex(final Optional<Integer> bestChildIndex) {
-    this.bestChildIndex = bestChildIndex;
+    return toOptionalIndex(columns.getBestChildIndex(index));
   }
 
   public Optional<Integer> getBestDescendantIndex() {
-    return bestDescendantIndex;
+    return toOptionalIndex(columns.getBestDescendantIndex(index));
   }
 
-  public void setBestDescendantIndex(final Optional<Integer> bestDescendantIndex) {
-    this.bestDescendantIndex = bestDescendantIndex;
+  public ProtoNodeValidationStatus getValidationStatus() {
+    return columns.getValidationStatus(index);
   }
 
   public boolean isFullyValidated() {
-    return validationStatus == ProtoNodeValidationStatus.VALID;
+    return getValidationStatus() == ProtoNodeValidationStatus.VALID;
   }
 
   public boolean isInvalid() {
-    return validationStatus == ProtoNodeValidationStatus.INVALID;
+    return columns.isInvalid(index);
   }
 
   public boolean isOptimistic() {
-    return validationStatus == ProtoNodeValidationStatus.OPTIMISTIC;
+    return getValidationStatus() == ProtoNodeValidationStatus.OPTIMISTIC;
   }
 
   public void setValidationStatus(final ProtoNodeValidationStatus validationStatus) {
+    final ProtoNodeValidationStatus currentStatus = getValidationStatus();
     checkState(
-        this.validationStatus == ProtoNodeValidationStatus.OPTIMISTIC
-            || this.validationStatus == validationStatus,
+        currentStatus == ProtoNodeValidationStatus.OPTIMISTIC || currentStatus == validationStatus,
         "Cannot change node validity from %s to %s",
-        this.validationStatus,
+        currentStatus,
         validationStatus);
-    this.validationStatus = validationStatus;
+    columns.setValidationStatus(index, validationStatus);
   }
 
   public ProtoNodeData getBlockData() {
@@ -225,9 +197,13 @@ public class ProtoNode {
         stateRoot,
         executionBlockNumber,
         executionBlockHash,
-        validationStatus,
+        getValidationStatus(),
         checkpoints,
-        weight);
+        getWeight());
+  }
+
+  private static Optional<Integer> toOptionalIndex(final int index) {
+    return index == ProtoNodeColumns.NONE ? Optional.empty() : Optional.of(index);
   }
 
   @Override
@@ -246,11 +222,11 @@ public class ProtoNode {
         && Objects.equals(checkpoints, protoNode.checkpoints)
         && Objects.equals(executionBlockNumber, protoNode.executionBlockNumber)
         && Objects.equals(executionBlockHash, protoNode.executionBlockHash)
-        && Objects.equals(weight, protoNode.weight)
-        && Objects.equals(parentIndex, protoNode.parentIndex)
-        && Objects.equals(bestChildIndex, protoNode.bestChildIndex)
-        && Objects.equals(bestDescendantIndex, protoNode.bestDescendantIndex)
-        && validationStatus == protoNode.validationStatus;
+        && Objects.equals(getWeight(), protoNode.getWeight())
+        && Objects.equals(getParentIndex(), protoNode.getParentIndex())
+        && Objects.equals(getBestChildIndex(), protoNode.getBestChildIndex())
+        && Objects.equals(getBestDescendantIndex(), protoNode.getBestDescendantIndex())
+        && getValidationStatus() == protoNode.getValidationStatus();
   }
 
   @Override
@@ -263,11 +239,11 @@ public class ProtoNode {
         checkpoints,
         executionBlockNumber,
         executionBlockHash,
-        weight,
-        parentIndex,
-        bestChildIndex,
-        bestDescendantIndex,
-        validationStatus);
+        getWeight(),
+        getParentIndex(),
+        getBestChildIndex(),
+        getBestDescendantIndex(),
+        getValidationStatus());
   }
 
   @Override
@@ -283,11 +259,11 @@ public class ProtoNode {
         .add("unrealizedFinalizedCheckpoint", getUnrealizedFinalizedCheckpoint())
         .add("executionBlockNumber", executionBlockNumber)
         .add("executionBlockHash", executionBlockHash)
-        .add("weight", weight)
-        .add("parentIndex", parentIndex)
-        .add("bestChildIndex", bestChildIndex)
-        .add("bestDescendantIndex", bestDescendantIndex)
-        .add("validationStatus", validationStatus)
+        .add("weight", getWeight())
+        .add("parentIndex", getParentIndex())
+        .add("bestChildIndex", getBestChildIndex())
+        .add("bestDescendantIndex", getBestDescendantIndex())
+        .add("validationStatus", getValidationStatus())
         .toString();
   }
 
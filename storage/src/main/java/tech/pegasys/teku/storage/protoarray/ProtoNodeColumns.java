@@ -0,0 +1,227 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Arrays;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus;
+
+/**
+ * Holds the mutable state of proto-array nodes, plus the fields read while computing the head, in
+ * parallel primitive arrays indexed by node index.
+ *
+ * <p>Weights are stored as the raw bits of an unsigned 64-bit value. Parent, best child and best
+ * descendant indices use {@link #NONE} when absent. The block roots and checkpoints stay on the
+ * {@link ProtoNode} instances, which are views onto a row of these columns.
+ *
+ * <p>Not thread safe, access is guarded by the owning {@link ProtoArray}.
+ */
+class ProtoNodeColumns {
+  static final int NONE = -1;
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final ProtoNodeValidationStatus[] VALIDATION_STATUSES =
+      ProtoNodeValidationStatus.values();
+
+  private int size;
+  private long[] slots;
+  private long[] weights;
+  private int[] parentIndices;
+  private int[] bestChildIndices;
+  private int[] bestDescendantIndices;
+  private long[] justifiedEpochs;
+  private long[] finalizedEpochs;
+  private byte[] validationStatuses;
+
+  ProtoNodeColumns() {
+    this(INITIAL_CAPACITY);
+  }
+
+  private ProtoNodeColumns(final int capacity) {
+    slots = new long[capacity];
+    weights = new long[capacity];
+    parentIndices = new int[capacity];
+    bestChildIndices = new int[capacity];
+    bestDescendantIndices = new int[capacity];
+    justifiedEpochs = new long[capacity];
+    finalizedEpochs = new long[capacity];
+    validationStatuses = new byte[capacity];
+  }
+
+  int size() {
+    return size;
+  }
+
+  int add(
+      final long slot,
+      final long weight,
+      final int parentIndex,
+      final int bestChildIndex,
+      final int bestDescendantIndex,
+      final long justifiedEpoch,
+      final long finalizedEpoch,
+      final ProtoNodeValidationStatus validationStatus) {
+    if (size == slots.length) {
+      grow(size * 2);
+    }
+    final int index = size++;
+    slots[index] = slot;
+    weights[index] = weight;
+    parentIndices[index] = parentIndex;
+    bestChildIndices[index] = bestChildIndex;
+    bestDescendantIndices[index] = bestDescendantIndex;
+    justifiedEpochs[index] = justifiedEpoch;
+    finalizedEpochs[index] = finalizedEpoch;
+    validationStatuses[index] = (byte) validationStatus.ordinal();
+    return index;
+  }
+
+  /** Copies a single row into a new, standalone set of columns at index 0. */
+  ProtoNodeColumns copyRow(final int index) {
+    final ProtoNodeColumns copy = new ProtoNodeColumns(1);
+    copy.add(
+        slots[index],
+        weights[index],
+        parentIndices[index],
+        bestChildIndices[index],
+        bestDescendantIndices[index],
+        justifiedEpochs[index],
+        finalizedEpochs[index],
+        getValidationStatus(index));
+    return copy;
+  }
+
+  /**
+   * Drops the first {@code count} rows, shifting the remaining rows down and offsetting the node
+   * indices they hold. Parent indices referring to a dropped row are cleared.
+   */
+  void removeFirst(final int count) {
+    final int remaining = size - count;
+    System.arraycopy(slots, count, slots, 0, remaining);
+    System.arraycopy(weights, count, weights, 0, remaining);
+    System.arraycopy(parentIndices, count, parentIndices, 0, remaining);
+    System.arraycopy(bestChildIndices, count, bestChildIndices, 0, remaining);
+    System.arraycopy(bestDescendantIndices, count, bestDescendantIndices, 0, remaining);
+    System.arraycopy(justifiedEpochs, count, justifiedEpochs, 0, remaining);
+    System.arraycopy(finalizedEpochs, count, finalizedEpochs, 0, remaining);
+    System.arraycopy(validationStatuses, count, validationStatuses, 0, remaining);
+    size = remaining;
+
+    for (int index = 0; index < size; index++) {
+      final int parentIndex = parentIndices[index];
+      if (parentIndex != NONE) {
+        parentIndices[index] = parentIndex < count ? NONE : parentIndex - count;
+      }
+      final int bestChildIndex = bestChildIndices[index];
+      if (bestChildIndex != NONE) {
+        checkState(bestChildIndex >= count, "ProtoArray: New best child index is less than 0");
+        bestChildIndices[index] = bestChildIndex - count;
+      }
+      final int bestDescendantIndex = bestDescendantIndices[index];
+      if (bestDescendantIndex != NONE) {
+        checkState(
+            bestDescendantIndex >= count, "ProtoArray: New best descendant index is less than 0");
+        bestDescendantIndices[index] = bestDescendantIndex - count;
+      }
+    }
+  }
+
+  long getSlot(final int index) {
+    return slots[index];
+  }
+
+  long getWeight(final int index) {
+    return weights[index];
+  }
+
+  /**
+   * Adjusts the unsigned weight of a node, saturating at zero and at the maximum unsigned value.
+   *
+   * @return false if the weight had to be saturated
+   */
+  boolean adjustWeight(final int index, final long delta) {
+    final long weight = weights[index];
+    if (delta < 0) {
+      final long absoluteDelta = -delta;
+      if (Long.compareUnsigned(weight, absoluteDelta) < 0) {
+        weights[index] = 0;
+        return false;
+      }
+      weights[index] = weight - absoluteDelta;
+    } else {
+      final long newWeight = weight + delta;
+      if (Long.compareUnsigned(newWeight, weight) < 0) {
+        weights[index] = -1L;
+        return false;
+      }
+      weights[index] = newWeight;
+    }
+    return true;
+  }
+
+  int getParentIndex(final int index) {
+    return parentIndices[index];
+  }
+
+  int getBestChildIndex(final int index) {
+    return bestChildIndices[index];
+  }
+
+  int getBestDescendantIndex(final int index) {
+    return bestDescendantIndices[index];
+  }
+
+  void setBestChildAndDescendant(
+      final int index, final int bestChildIndex, final int bestDescendantIndex) {
+    bestChildIndices[index] = bestChildIndex;
+    bestDescendantIndices[index] = bestDescendantIndex;
+  }
+
+  long getJustifiedEpoch(final int index) {
+    return justifiedEpochs[index];
+  }
+
+  long getFinalizedEpoch(final int index) {
+    return finalizedEpochs[index];
+  }
+
+  void setCheckpointEpochs(final int index, final long justifiedEpoch, final long finalizedEpoch) {
+    justifiedEpochs[index] = justifiedEpoch;
+    finalizedEpochs[index] = finalizedEpoch;
+  }
+
+  ProtoNodeValidationStatus getValidationStatus(final int index) {
+    return VALIDATION_STATUSES[validationStatuses[index]];
+  }
+
+  boolean isInvalid(final int index) {
+    return validationStatuses[index] == ProtoNodeValidationStatus.INVALID.ordinal();
+  }
+
+  void setValidationStatus(final int index, final ProtoNodeValidationStatus validationStatus) {
+    validationStatuses[index] = (byte) validationStatus.ordinal();
+  }
+
+  private void grow(final int newCapacity) {
+    slots = Arrays.copyOf(slots, newCapacity);
+    weights = Arrays.copyOf(weights, newCapacity);
+    parentIndices = Arrays.copyOf(parentIndices, newCapacity);
+    bestChildIndices = Arrays.copyOf(bestChildIndices, newCapacity);
+    bestDescendantIndices = Arrays.copyOf(bestDescendantIndices, newCapacity);
+    justifiedEpochs = Arrays.copyOf(justifiedEpochs, newCapacity);
+    finalizedEpochs = Arrays.copyOf(finalizedEpochs, newCapacity);
+    validationStatuses = Arrays.copyOf(validationStatuses, newCapacity);
+  }
+}
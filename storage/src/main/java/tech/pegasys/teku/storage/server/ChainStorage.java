@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -184,6 +185,11 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return SafeFuture.of(() -> database.getFinalizedBlockAtSlotAsSsz(slot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
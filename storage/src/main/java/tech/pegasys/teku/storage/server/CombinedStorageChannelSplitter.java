@@ -18,9 +18,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.kzg.KZGProof;
@@ -56,14 +59,28 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
   private final AsyncRunner asyncRunner;
   private final StorageQueryChannel queryDelegate;
   private final StorageUpdateChannel updateDelegate;
+  private final Supplier<SafeFuture<Void>> updateBarrier;
 
   public CombinedStorageChannelSplitter(
       final AsyncRunner asyncRunner,
       final StorageUpdateChannel updateDelegate,
       final StorageQueryChannel queryDelegate) {
+    this(asyncRunner, updateDelegate, queryDelegate, () -> SafeFuture.COMPLETE);
+  }
+
+  /**
+   * @param updateBarrier supplies a future that completes once all updates accepted so far have
+   *     been written, used when updates are written behind to keep queries ordered after them
+   */
+  public CombinedStorageChannelSplitter(
+      final AsyncRunner asyncRunner,
+      final StorageUpdateChannel updateDelegate,
+      final StorageQueryChannel queryDelegate,
+      final Supplier<SafeFuture<Void>> updateBarrier) {
     this.asyncRunner = asyncRunner;
     this.queryDelegate = queryDelegate;
     this.updateDelegate = updateDelegate;
+    this.updateBarrier = updateBarrier;
   }
 
   @Override
@@ -105,212 +122,218 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
 
   @Override
   public SafeFuture<Optional<OnDiskStoreData>> onStoreRequest() {
-    return asyncRunner.runAsync(queryDelegate::onStoreRequest);
+    return runQuery(queryDelegate::onStoreRequest);
   }
 
   @Override
   public SafeFuture<WeakSubjectivityState> getWeakSubjectivityState() {
-    return asyncRunner.runAsync(queryDelegate::getWeakSubjectivityState);
+    return runQuery(queryDelegate::getWeakSubjectivityState);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlockSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlockSlot);
+    return runQuery(queryDelegate::getEarliestAvailableBlockSlot);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getEarliestAvailableBlock() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlock);
+    return runQuery(queryDelegate::getEarliestAvailableBlock);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
+    return runQuery(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return runQuery(() -> queryDelegate.getFinalizedBlockAtSlotAsSsz(slot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
+    return runQuery(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<StateAndBlockSummary>> getHotStateAndBlockSummaryByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getHotStateAndBlockSummaryByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getHotStateAndBlockSummaryByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getHotBlocksByRoot(
       final Set<Bytes32> blockRoots) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
+    return runQuery(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getBlobSidecarsBySlotAndBlockRoot(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getBlobSidecarsBySlotAndBlockRoot(slotAndBlockRoot));
+    return runQuery(() -> queryDelegate.getBlobSidecarsBySlotAndBlockRoot(slotAndBlockRoot));
   }
 
   @Override
   public SafeFuture<Optional<SlotAndBlockRoot>> getSlotAndBlockRootByStateRoot(
       final Bytes32 stateRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getSlotAndBlockRootByStateRoot(stateRoot));
+    return runQuery(() -> queryDelegate.getSlotAndBlockRootByStateRoot(stateRoot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestFinalizedStateAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
+    return runQuery(() -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestAvailableFinalizedState(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestAvailableFinalizedState(slot));
+    return runQuery(() -> queryDelegate.getLatestAvailableFinalizedState(slot));
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFinalizedSlotByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedSlotByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getFinalizedSlotByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getFinalizedStateByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
+    return runQuery(() -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<Bytes32>> getLatestCanonicalBlockRoot() {
-    return asyncRunner.runAsync(queryDelegate::getLatestCanonicalBlockRoot);
+    return runQuery(queryDelegate::getLatestCanonicalBlockRoot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getCustodyGroupCount() {
-    return asyncRunner.runAsync(queryDelegate::getCustodyGroupCount);
+    return runQuery(queryDelegate::getCustodyGroupCount);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFinalizedSlotByStateRoot(final Bytes32 stateRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedSlotByStateRoot(stateRoot));
+    return runQuery(() -> queryDelegate.getFinalizedSlotByStateRoot(stateRoot));
   }
 
   @Override
   public SafeFuture<List<SignedBeaconBlock>> getNonCanonicalBlocksBySlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
+    return runQuery(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<Checkpoint>> getAnchor() {
-    return asyncRunner.runAsync(queryDelegate::getAnchor);
+    return runQuery(queryDelegate::getAnchor);
   }
 
   @Override
   public SafeFuture<Optional<DepositTreeSnapshot>> getFinalizedDepositSnapshot() {
-    return asyncRunner.runAsync(queryDelegate::getFinalizedDepositSnapshot);
+    return runQuery(queryDelegate::getFinalizedDepositSnapshot);
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlobSidecarSlot);
+    return runQuery(queryDelegate::getEarliestAvailableBlobSidecarSlot);
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
+    return runQuery(() -> queryDelegate.getBlobSidecar(key));
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
+    return runQuery(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slot));
+    return runQuery(() -> queryDelegate.getBlobSidecarKeys(slot));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getAllBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getAllBlobSidecarKeys(slot));
+    return runQuery(() -> queryDelegate.getAllBlobSidecarKeys(slot));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final long limit) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
+    return runQuery(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
+    return runQuery(() -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getArchivedBlobSidecars(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getArchivedBlobSidecars(slotAndBlockRoot));
+    return runQuery(() -> queryDelegate.getArchivedBlobSidecars(slotAndBlockRoot));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getArchivedBlobSidecars(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getArchivedBlobSidecars(slot));
+    return runQuery(() -> queryDelegate.getArchivedBlobSidecars(slot));
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getFirstCustodyIncompleteSlot() {
-    return asyncRunner.runAsync(queryDelegate::getFirstCustodyIncompleteSlot);
+    return runQuery(queryDelegate::getFirstCustodyIncompleteSlot);
   }
 
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getSidecar(
       final DataColumnSlotAndIdentifier identifier) {
-    return asyncRunner.runAsync(() -> queryDelegate.getSidecar(identifier));
+    return runQuery(() -> queryDelegate.getSidecar(identifier));
   }
 
   @Override
   public SafeFuture<Optional<DataColumnSidecar>> getNonCanonicalSidecar(
       final DataColumnSlotAndIdentifier identifier) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalSidecar(identifier));
+    return runQuery(() -> queryDelegate.getNonCanonicalSidecar(identifier));
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getDataColumnIdentifiers(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getDataColumnIdentifiers(slot));
+    return runQuery(() -> queryDelegate.getDataColumnIdentifiers(slot));
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getNonCanonicalDataColumnIdentifiers(
       final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalDataColumnIdentifiers(slot));
+    return runQuery(() -> queryDelegate.getNonCanonicalDataColumnIdentifiers(slot));
   }
 
   @Override
   public SafeFuture<List<DataColumnSlotAndIdentifier>> getDataColumnIdentifiers(
       final UInt64 startSlot, final UInt64 endSlot, final UInt64 limit) {
-    return asyncRunner.runAsync(
-        () -> queryDelegate.getDataColumnIdentifiers(startSlot, endSlot, limit));
+    return runQuery(() -> queryDelegate.getDataColumnIdentifiers(startSlot, endSlot, limit));
   }
 
   @Override
   public SafeFuture<Optional<UInt64>> getEarliestDataColumnSidecarSlot() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestDataColumnSidecarSlot);
+    return runQuery(queryDelegate::getEarliestDataColumnSidecarSlot);
   }
 
   @Override
   public SafeFuture<Optional<List<List<KZGProof>>>> getDataColumnSidecarsProofs(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getDataColumnSidecarsProofs(slot));
+    return runQuery(() -> queryDelegate.getDataColumnSidecarsProofs(slot));
+  }
+
+  private <T> SafeFuture<T> runQuery(final ExceptionThrowingFutureSupplier<T> query) {
+    return updateBarrier.get().thenCompose(__ -> asyncRunner.runAsync(query));
   }
 }
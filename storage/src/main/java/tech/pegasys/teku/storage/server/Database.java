@@ -133,6 +133,16 @@ public interface Database extends AutoCloseable {
    */
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Return the SSZ serialized finalized block at this slot if such a block exists, without
+   * deserializing it.
+   *
+   * @param slot The slot to query
+   * @return Returns the SSZ bytes of the finalized block proposed at this slot, if such a block
+   *     exists
+   */
+  Optional<Bytes> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
   /**
    * @return The earliest available finalized block's slot
    */
@@ -295,4 +305,10 @@ public interface Database extends AutoCloseable {
 
   // prunes both canonical and non canonical sidecars
   void pruneAllSidecars(UInt64 tillSlotInclusive, int pruneLimit);
+
+  /**
+   * @return true if the underlying database is currently throttling writes, or has done so since
+   *     the last call
+   */
+  boolean isWriteStalled();
 }
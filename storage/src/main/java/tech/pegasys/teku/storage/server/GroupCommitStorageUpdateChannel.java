@@ -0,0 +1,181 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
+
+/**
+ * Writes hot only storage updates behind, merging the updates that arrive within a short window
+ * into a single update so they are committed to the database together.
+ *
+ * <p>Updates are always passed to the delegate in the order they were received. Any other update,
+ * including a storage update that finalizes or removes data, first waits for the pending hot
+ * updates to be written. If writing a merged update fails, every update in it fails with the same
+ * error, just as the first of them would have if written on its own.
+ */
+public class GroupCommitStorageUpdateChannel implements StorageUpdateChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int MAX_BATCH_SIZE = 64;
+
+  private final StorageUpdateChannel delegate;
+  private final AsyncRunner asyncRunner;
+  private final Duration window;
+  private final Object commitLock = new Object();
+
+  private List<PendingUpdate> pendingUpdates = new ArrayList<>();
+  private SafeFuture<UpdateResult> lastQueuedUpdate = SafeFuture.completedFuture(null);
+
+  public GroupCommitStorageUpdateChannel(
+      final StorageUpdateChannel delegate, final AsyncRunner asyncRunner, final Duration window) {
+    this.delegate = delegate;
+    this.asyncRunner = asyncRunner;
+    this.window = window;
+  }
+
+  @Override
+  public SafeFuture<UpdateResult> onStorageUpdate(final StorageUpdate event) {
+    if (!event.isHotOnly()) {
+      return afterPendingUpdates(() -> delegate.onStorageUpdate(event));
+    }
+    final SafeFuture<UpdateResult> result = new SafeFuture<>();
+    final int batchSize;
+    synchronized (this) {
+      pendingUpdates.add(new PendingUpdate(event, result));
+      lastQueuedUpdate = result;
+      batchSize = pendingUpdates.size();
+    }
+    if (batchSize == 1) {
+      asyncRunner
+          .runAfterDelay(this::commitPendingUpdates, window)
+          .finish(error -> LOG.error("Failed to commit storage updates", error));
+    } else if (batchSize == MAX_BATCH_SIZE) {
+      asyncRunner
+          .runAsync(this::commitPendingUpdates)
+          .finish(error -> LOG.error("Failed to commit storage updates", error));
+    }
+    return result;
+  }
+
+  /**
+   * @return a future which completes once all hot updates received so far have been written,
+   *     whether or not they succeeded
+   */
+  public synchronized SafeFuture<Void> whenQueuedUpdatesCommitted() {
+    return lastQueuedUpdate.handle((__, ___) -> null);
+  }
+
+  @Override
+  public SafeFuture<Void> onFinalizedBlocks(
+      final Collection<SignedBeaconBlock> finalizedBlocks,
+      final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
+      final Optional<UInt64> maybeEarliestBlobSidecarSlot) {
+    return afterPendingUpdates(
+        () ->
+            delegate.onFinalizedBlocks(
+                finalizedBlocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot));
+  }
+
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedState(
+      final BeaconState finalizedState, final Bytes32 blockRoot) {
+    return afterPendingUpdates(
+        () -> delegate.onReconstructedFinalizedState(finalizedState, blockRoot));
+  }
+
+  @Override
+  public SafeFuture<Void> onWeakSubjectivityUpdate(
+      final WeakSubjectivityUpdate weakSubjectivityUpdate) {
+    return afterPendingUpdates(() -> delegate.onWeakSubjectivityUpdate(weakSubjectivityUpdate));
+  }
+
+  @Override
+  public SafeFuture<Void> onFinalizedDepositSnapshot(
+      final DepositTreeSnapshot depositTreeSnapshot) {
+    return afterPendingUpdates(() -> delegate.onFinalizedDepositSnapshot(depositTreeSnapshot));
+  }
+
+  @Override
+  public void onChainInitialized(final AnchorPoint initialAnchor) {
+    afterPendingUpdates(
+        () -> {
+          delegate.onChainInitialized(initialAnchor);
+          return SafeFuture.COMPLETE;
+        });
+  }
+
+  @VisibleForTesting
+  void commitPendingUpdates() {
+    synchronized (commitLock) {
+      doCommitPendingUpdates();
+    }
+  }
+
+  private <T> SafeFuture<T> afterPendingUpdates(final Supplier<SafeFuture<T>> action) {
+    synchronized (commitLock) {
+      doCommitPendingUpdates();
+      return action.get();
+    }
+  }
+
+  private void doCommitPendingUpdates() {
+    final List<PendingUpdate> batch;
+    synchronized (this) {
+      if (pendingUpdates.isEmpty()) {
+        return;
+      }
+      batch = pendingUpdates;
+      pendingUpdates = new ArrayList<>();
+    }
+    LOG.trace("Committing {} merged storage updates", batch.size());
+    try {
+      final UpdateResult result =
+          delegate
+              .onStorageUpdate(
+                  StorageUpdate.mergeHotOnly(batch.stream().map(PendingUpdate::update).toList()))
+              .join();
+      batch.forEach(pendingUpdate -> pendingUpdate.result().complete(result));
+    } catch (final Throwable t) {
+      final Throwable error =
+          t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+      batch.forEach(pendingUpdate -> pendingUpdate.result().completeExceptionally(error));
+    }
+  }
+
+  private record PendingUpdate(StorageUpdate update, SafeFuture<UpdateResult> result) {}
+}
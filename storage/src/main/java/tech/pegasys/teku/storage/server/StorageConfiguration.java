@@ -36,6 +36,10 @@ public class StorageConfiguration {
   public static final int DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS = 120;
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
+  public static final long DEFAULT_TREE_NODE_CACHE_SIZE_BYTES = 0; // disabled
+  public static final int DEFAULT_FULL_STATE_SNAPSHOT_INTERVAL = 1;
+  public static final Duration DEFAULT_STORAGE_UPDATE_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  public static final boolean DEFAULT_DATA_COLUMN_SIDECAR_SEGMENTS_ENABLED = false;
   public static final Duration DEFAULT_BLOCK_PRUNING_INTERVAL = Duration.ofMinutes(15);
   public static final int DEFAULT_BLOCK_PRUNING_LIMIT = 5000;
   public static final Duration DEFAULT_BLOBS_PRUNING_INTERVAL = Duration.ofMinutes(1);
@@ -61,6 +65,10 @@ public class StorageConfiguration {
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
   private final int maxKnownNodeCacheSize;
+  private final long treeNodeCacheSizeBytes;
+  private final int fullStateSnapshotInterval;
+  private final Duration storageUpdateGroupCommitWindow;
+  private final boolean dataColumnSidecarSegmentsEnabled;
   private final Duration blockPruningInterval;
   private final int blockPruningLimit;
   private final Duration statePruningInterval;
@@ -81,6 +89,10 @@ public class StorageConfiguration {
       final DatabaseVersion dataStorageCreateDbVersion,
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
+      final long treeNodeCacheSizeBytes,
+      final int fullStateSnapshotInterval,
+      final Duration storageUpdateGroupCommitWindow,
+      final boolean dataColumnSidecarSegmentsEnabled,
       final Duration blockPruningInterval,
       final int blockPruningLimit,
       final Duration blobsPruningInterval,
@@ -99,6 +111,10 @@ public class StorageConfiguration {
     this.dataStorageCreateDbVersion = dataStorageCreateDbVersion;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
+    this.treeNodeCacheSizeBytes = treeNodeCacheSizeBytes;
+    this.fullStateSnapshotInterval = fullStateSnapshotInterval;
+    this.storageUpdateGroupCommitWindow = storageUpdateGroupCommitWindow;
+    this.dataColumnSidecarSegmentsEnabled = dataColumnSidecarSegmentsEnabled;
     this.blockPruningInterval = blockPruningInterval;
     this.blockPruningLimit = blockPruningLimit;
     this.blobsPruningInterval = blobsPruningInterval;
@@ -145,6 +161,22 @@ public class StorageConfiguration {
     return maxKnownNodeCacheSize;
   }
 
+  public long getTreeNodeCacheSizeBytes() {
+    return treeNodeCacheSizeBytes;
+  }
+
+  public int getFullStateSnapshotInterval() {
+    return fullStateSnapshotInterval;
+  }
+
+  public Duration getStorageUpdateGroupCommitWindow() {
+    return storageUpdateGroupCommitWindow;
+  }
+
+  public boolean isDataColumnSidecarSegmentsEnabled() {
+    return dataColumnSidecarSegmentsEnabled;
+  }
+
   public Duration getBlockPruningInterval() {
     return blockPruningInterval;
   }
@@ -199,6 +231,10 @@ public class StorageConfiguration {
     private DataConfig dataConfig;
     private boolean storeNonCanonicalBlocks = DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
     private int maxKnownNodeCacheSize = DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
+    private long treeNodeCacheSizeBytes = DEFAULT_TREE_NODE_CACHE_SIZE_BYTES;
+    private int fullStateSnapshotInterval = DEFAULT_FULL_STATE_SNAPSHOT_INTERVAL;
+    private Duration storageUpdateGroupCommitWindow = DEFAULT_STORAGE_UPDATE_GROUP_COMMIT_WINDOW;
+    private boolean dataColumnSidecarSegmentsEnabled = DEFAULT_DATA_COLUMN_SIDECAR_SEGMENTS_ENABLED;
     private Duration blockPruningInterval = DEFAULT_BLOCK_PRUNING_INTERVAL;
     private int blockPruningLimit = DEFAULT_BLOCK_PRUNING_LIMIT;
     private Duration blobsPruningInterval = DEFAULT_BLOBS_PRUNING_INTERVAL;
@@ -268,6 +304,40 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder treeNodeCacheSizeBytes(final long treeNodeCacheSizeBytes) {
+      if (treeNodeCacheSizeBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid treeNodeCacheSizeBytes: %d", treeNodeCacheSizeBytes));
+      }
+      this.treeNodeCacheSizeBytes = treeNodeCacheSizeBytes;
+      return this;
+    }
+
+    public Builder fullStateSnapshotInterval(final int fullStateSnapshotInterval) {
+      if (fullStateSnapshotInterval < 1) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid fullStateSnapshotInterval: %d", fullStateSnapshotInterval));
+      }
+      this.fullStateSnapshotInterval = fullStateSnapshotInterval;
+      return this;
+    }
+
+    public Builder storageUpdateGroupCommitWindow(final Duration storageUpdateGroupCommitWindow) {
+      if (storageUpdateGroupCommitWindow.isNegative()) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid storageUpdateGroupCommitWindow: %s", storageUpdateGroupCommitWindow));
+      }
+      this.storageUpdateGroupCommitWindow = storageUpdateGroupCommitWindow;
+      return this;
+    }
+
+    public Builder dataColumnSidecarSegmentsEnabled(
+        final boolean dataColumnSidecarSegmentsEnabled) {
+      this.dataColumnSidecarSegmentsEnabled = dataColumnSidecarSegmentsEnabled;
+      return this;
+    }
+
     public Builder blockPruningInterval(final Duration blockPruningInterval) {
       if (blockPruningInterval.isNegative() || blockPruningInterval.isZero()) {
         throw new InvalidConfigurationException("Block pruning interval must be positive");
@@ -373,6 +443,10 @@ public class StorageConfiguration {
           dataStorageCreateDbVersion,
           storeNonCanonicalBlocks,
           maxKnownNodeCacheSize,
+          treeNodeCacheSizeBytes,
+          fullStateSnapshotInterval,
+          storageUpdateGroupCommitWindow,
+          dataColumnSidecarSegmentsEnabled,
           blockPruningInterval,
           blockPruningLimit,
           blobsPruningInterval,
@@ -43,6 +43,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
 
   @VisibleForTesting static final String DB_PATH = "db";
   @VisibleForTesting static final String ARCHIVE_PATH = "archive";
+  @VisibleForTesting static final String DATA_COLUMN_SIDECAR_SEGMENTS_PATH = "data-column-sidecars";
   @VisibleForTesting static final String DB_VERSION_PATH = "db.version";
 
   @VisibleForTesting static final String STORAGE_MODE_PATH = "data-storage-mode.txt";
@@ -51,6 +52,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final MetricsSystem metricsSystem;
   private final File dataDirectory;
   private final int maxKnownNodeCacheSize;
+  private final long treeNodeCacheSizeBytes;
   private final File dbDirectory;
   private final File v5ArchiveDirectory;
   private final File dbVersionFile;
@@ -58,6 +60,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final StateStorageMode stateStorageMode;
   private final DatabaseVersion createDatabaseVersion;
   private final long stateStorageFrequency;
+  private final int fullStateSnapshotInterval;
+  private final boolean dataColumnSidecarSegmentsEnabled;
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
@@ -76,7 +80,10 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
 
     this.createDatabaseVersion = config.getDataStorageCreateDbVersion();
     this.maxKnownNodeCacheSize = config.getMaxKnownNodeCacheSize();
+    this.treeNodeCacheSizeBytes = config.getTreeNodeCacheSizeBytes();
     this.stateStorageFrequency = config.getDataStorageFrequency();
+    this.fullStateSnapshotInterval = config.getFullStateSnapshotInterval();
+    this.dataColumnSidecarSegmentsEnabled = config.isDataColumnSidecarSegmentsEnabled();
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
     this.spec = config.getSpec();
@@ -229,6 +236,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           schema,
           stateStorageMode,
           stateStorageFrequency,
+          fullStateSnapshotInterval,
+          getDataColumnSidecarSegmentDirectory(),
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -273,6 +282,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          fullStateSnapshotInterval,
+          getDataColumnSidecarSegmentDirectory(),
           storeNonCanonicalBlocks,
           spec);
     } catch (final IOException e) {
@@ -290,12 +301,19 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           storeNonCanonicalBlocks,
           maxKnownNodeCacheSize,
+          treeNodeCacheSizeBytes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
     }
   }
 
+  private Optional<Path> getDataColumnSidecarSegmentDirectory() {
+    return dataColumnSidecarSegmentsEnabled
+        ? Optional.of(dataDirectory.toPath().resolve(DATA_COLUMN_SIDECAR_SEGMENTS_PATH))
+        : Optional.empty();
+  }
+
   private KvStoreConfiguration initV6Configuration() throws IOException {
     final V6DatabaseMetadata metaData =
         V6DatabaseMetadata.init(getMetadataFile(), V6DatabaseMetadata.singleDBDefault());
@@ -108,6 +108,26 @@ public interface KvStoreAccessor extends AutoCloseable {
   @MustBeClosed
   <K extends Comparable<K>, V> Stream<K> streamKeys(KvStoreColumn<K, V> column, K from, K to);
 
+  /**
+   * Delete all entries in a column from key {@code from} (inclusive) to key {@code to} (exclusive).
+   *
+   * <p>The delete is applied immediately rather than as part of a transaction. Where supported, a
+   * single range tombstone is written rather than a delete for every key in the range.
+   *
+   * @param column the column to delete entries from
+   * @param from the first key to delete
+   * @param to the key to stop deleting at, this key is not deleted
+   * @param <K> the key type of the column
+   * @param <V> the value type of the column
+   */
+  <K extends Comparable<K>, V> void deleteRange(KvStoreColumn<K, V> column, K from, K to);
+
+  /**
+   * @return true if the database is currently slowing down or stopping writes, or has done so
+   *     since the last time this was checked
+   */
+  boolean isWriteStalled();
+
   KvStoreTransaction startTransaction();
 
   interface KvStoreTransaction extends AutoCloseable {
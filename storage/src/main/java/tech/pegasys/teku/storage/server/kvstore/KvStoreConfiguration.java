@@ -53,6 +53,10 @@ public class KvStoreConfiguration {
   public static final int DEFAULT_BACKGROUND_THREAD_COUNT = 6;
   public static final long DEFAULT_CACHE_CAPACITY = 128 << 20; // 128MB
   public static final long DEFAULT_WRITE_BUFFER_CAPACITY = 128 << 20;
+  public static final long DEFAULT_SCAN_CACHE_CAPACITY = 32 << 20; // 32MB
+  public static final long DEFAULT_COLD_CACHE_CAPACITY = 16 << 20; // 16MB
+  public static final boolean DEFAULT_ENABLE_BLOB_FILES = true;
+  public static final long DEFAULT_MIN_BLOB_SIZE = 4096;
   private static final boolean DEFAULT_OPTIMISE_FOR_SMALL_DB = false;
 
   /** RocksDb number of log files to keep on disk */
@@ -69,6 +73,12 @@ public class KvStoreConfiguration {
 
   public static final long ROCKSDB_BLOCK_SIZE = 32_768;
 
+  /** Block size used for columns which are mostly read sequentially by slot */
+  public static final long ROCKSDB_SCAN_BLOCK_SIZE = 131_072;
+
+  /** Length of the big-endian slot prefix used by slot-prefixed keys */
+  public static final int ROCKSDB_SLOT_PREFIX_LENGTH = Long.BYTES;
+
   /* --------------- Safe to Change Properties ------------ */
 
   @JsonProperty(value = "maxOpenFiles", access = Access.WRITE_ONLY)
@@ -95,6 +105,18 @@ public class KvStoreConfiguration {
   @JsonProperty(value = "writeBufferCapacity", access = Access.WRITE_ONLY)
   private long writeBufferCapacity = DEFAULT_WRITE_BUFFER_CAPACITY;
 
+  @JsonProperty(value = "scanCacheCapacity", access = Access.WRITE_ONLY)
+  private long scanCacheCapacity = DEFAULT_SCAN_CACHE_CAPACITY;
+
+  @JsonProperty(value = "coldCacheCapacity", access = Access.WRITE_ONLY)
+  private long coldCacheCapacity = DEFAULT_COLD_CACHE_CAPACITY;
+
+  @JsonProperty(value = "enableBlobFiles", access = Access.WRITE_ONLY)
+  private boolean enableBlobFiles = DEFAULT_ENABLE_BLOB_FILES;
+
+  @JsonProperty(value = "minBlobSize", access = Access.WRITE_ONLY)
+  private long minBlobSize = DEFAULT_MIN_BLOB_SIZE;
+
   // Safe to change but written to file as we need different defaults for hot and finalized
   @JsonProperty(value = "optimizeForSmallDb")
   private boolean optimizeForSmallDb = DEFAULT_OPTIMISE_FOR_SMALL_DB;
@@ -168,6 +190,22 @@ public class KvStoreConfiguration {
     return writeBufferCapacity;
   }
 
+  public long getScanCacheCapacity() {
+    return scanCacheCapacity;
+  }
+
+  public long getColdCacheCapacity() {
+    return coldCacheCapacity;
+  }
+
+  public boolean isBlobFilesEnabled() {
+    return enableBlobFiles;
+  }
+
+  public long getMinBlobSize() {
+    return minBlobSize;
+  }
+
   public CompressionType getCompressionType() {
     return compressionType;
   }
@@ -188,6 +226,10 @@ public class KvStoreConfiguration {
         .add("backgroundThreadCount", backgroundThreadCount)
         .add("cacheCapacity", cacheCapacity)
         .add("writeBufferCapacity", writeBufferCapacity)
+        .add("scanCacheCapacity", scanCacheCapacity)
+        .add("coldCacheCapacity", coldCacheCapacity)
+        .add("enableBlobFiles", enableBlobFiles)
+        .add("minBlobSize", minBlobSize)
         .add("compressionType", compressionType)
         .add("bottomMostCompressionType", bottomMostCompressionType)
         .add("databaseDir", databaseDir)
@@ -21,6 +21,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,8 +30,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -78,12 +81,14 @@ import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.CombinedKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.DataColumnSidecarSegmentStore;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.CombinedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.FinalizedUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDaoAdapter;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateDeltaStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnapshotStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
@@ -142,13 +147,23 @@ public class KvStoreDatabase implements Database {
       final SchemaCombinedSnapshotState schema,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int fullStateSnapshotInterval,
+      final Optional<Path> dataColumnSidecarSegmentDirectory,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
-    final V4FinalizedStateSnapshotStorageLogic<SchemaCombinedSnapshotState>
-        finalizedStateStorageLogic =
-            new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
-    return create(
-        db, schema, stateStorageMode, storeNonCanonicalBlocks, spec, finalizedStateStorageLogic);
+    final V4FinalizedStateStorageLogic<SchemaCombinedSnapshotState> finalizedStateStorageLogic =
+        fullStateSnapshotInterval > 1
+            ? new V4FinalizedStateDeltaStorageLogic<>(
+                spec, stateStorageFrequency, fullStateSnapshotInterval)
+            : new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
+    final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore =
+        dataColumnSidecarSegmentDirectory.map(
+            directory ->
+                DataColumnSidecarSegmentStore.create(
+                    directory, spec.getGenesisSpecConfig().getSlotsPerEpoch()));
+    final CombinedKvStoreDao<SchemaCombinedSnapshotState> dao =
+        new CombinedKvStoreDao<>(db, schema, finalizedStateStorageLogic, sidecarSegmentStore);
+    return new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
   }
 
   public static Database createWithStateTree(
@@ -158,9 +173,11 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
+      final long treeNodeCacheSizeBytes,
       final Spec spec) {
     final V4FinalizedStateStorageLogic<SchemaCombinedTreeState> finalizedStateStorageLogic =
-        new V4FinalizedStateTreeStorageLogic(metricsSystem, spec, maxKnownNodeCacheSize);
+        new V4FinalizedStateTreeStorageLogic(
+            metricsSystem, spec, maxKnownNodeCacheSize, treeNodeCacheSizeBytes);
     return create(
         db, schema, stateStorageMode, storeNonCanonicalBlocks, spec, finalizedStateStorageLogic);
   }
@@ -217,6 +234,11 @@ public class KvStoreDatabase implements Database {
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return dao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestFinalizedBlockSlot();
@@ -995,7 +1017,6 @@ public class KvStoreDatabase implements Database {
       final boolean nonCanonicalBlobSidecars) {
 
     int pruned = 0;
-    Optional<UInt64> earliestBlobSidecarSlot = Optional.empty();
 
     // Group the BlobSidecars by slot. Potential for higher memory usage
     // if it hasn't been pruned in a while
@@ -1004,48 +1025,49 @@ public class KvStoreDatabase implements Database {
 
     // pruneLimit is the number of slots to prune, not the number of BlobSidecars
     final List<UInt64> slots = prunableMap.keySet().stream().sorted().limit(pruneLimit).toList();
-    try (final FinalizedUpdater updater = finalizedUpdater()) {
-      for (final UInt64 slot : slots) {
-        final List<SlotAndBlockRootAndBlobIndex> keys = prunableMap.get(slot);
-
-        // Retrieve the BlobSidecars for archiving.
-        final List<BlobSidecar> blobSidecars =
-            keys.stream()
-                .map(
-                    nonCanonicalBlobSidecars
-                        ? this::getNonCanonicalBlobSidecar
-                        : this::getBlobSidecar)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
-
-        // Just warn if we failed to find all the BlobSidecars.
-        if (keys.size() != blobSidecars.size()) {
-          LOG.warn("Failed to retrieve BlobSidecars for keys: {}", keys);
-        }
+    for (final UInt64 slot : slots) {
+      final List<SlotAndBlockRootAndBlobIndex> keys = prunableMap.get(slot);
 
-        if (!keys.isEmpty()) {
-          final SlotAndBlockRoot slotAndBlockRoot = keys.getFirst().getSlotAndBlockRoot();
-          blobSidecarsArchiver.archive(slotAndBlockRoot, blobSidecars);
-        }
+      // Retrieve the BlobSidecars for archiving.
+      final List<BlobSidecar> blobSidecars =
+          keys.stream()
+              .map(
+                  nonCanonicalBlobSidecars
+                      ? this::getNonCanonicalBlobSidecar
+                      : this::getBlobSidecar)
+              .filter(Optional::isPresent)
+              .map(Optional::get)
+              .toList();
 
-        // Remove the BlobSidecars from the database.
-        for (final SlotAndBlockRootAndBlobIndex key : keys) {
-          if (nonCanonicalBlobSidecars) {
-            updater.removeNonCanonicalBlobSidecar(key);
-          } else {
-            updater.removeBlobSidecar(key);
-            earliestBlobSidecarSlot = Optional.of(slot.plus(1));
-          }
-        }
+      // Just warn if we failed to find all the BlobSidecars.
+      if (keys.size() != blobSidecars.size()) {
+        LOG.warn("Failed to retrieve BlobSidecars for keys: {}", keys);
+      }
 
-        ++pruned;
+      if (!keys.isEmpty()) {
+        final SlotAndBlockRoot slotAndBlockRoot = keys.getFirst().getSlotAndBlockRoot();
+        blobSidecarsArchiver.archive(slotAndBlockRoot, blobSidecars);
       }
 
-      if (!nonCanonicalBlobSidecars) {
-        earliestBlobSidecarSlot.ifPresent(updater::setEarliestBlobSidecarSlot);
+      ++pruned;
+    }
+
+    // Every key in the archived slots was streamed, so the BlobSidecars are removed with a single
+    // range delete rather than a tombstone per sidecar
+    if (!slots.isEmpty()) {
+      final UInt64 endSlot = slots.getLast().increment();
+      if (nonCanonicalBlobSidecars) {
+        dao.deleteNonCanonicalBlobSidecarsInSlotRange(slots.getFirst(), endSlot);
+      } else {
+        // The range delete isn't part of the update, so the earliest slot is committed first. A
+        // crash in between can only leave archived sidecars below it, which the next range
+        // delete removes as it starts from slot zero
+        try (final FinalizedUpdater updater = finalizedUpdater()) {
+          updater.setEarliestBlobSidecarSlot(endSlot);
+          updater.commit();
+        }
+        dao.deleteBlobSidecarsInSlotRange(UInt64.ZERO, endSlot);
       }
-      updater.commit();
     }
     LOG.debug("Pruned {} BlobSidecars", pruned);
     // `pruned` will be greater when we reach pruneLimit not on the latest BlobSidecar in a slot
@@ -1213,43 +1235,32 @@ public class KvStoreDatabase implements Database {
       final Stream<DataColumnSlotAndIdentifier> dataColumnSlotAndIdentifierStream,
       final boolean nonCanonicalBlobSidecars) {
 
-    int prunedSlots = 0;
-
-    final Map<UInt64, List<DataColumnSlotAndIdentifier>> prunableMap = new HashMap<>();
-
+    // Only the slots are needed, the sidecars themselves are removed with a single range delete
+    // which avoids writing a tombstone per sidecar
+    final NavigableSet<UInt64> slots = new TreeSet<>();
     dataColumnSlotAndIdentifierStream
-        .takeWhile(
-            item -> prunableMap.size() < pruneSlotLimit || prunableMap.containsKey(item.slot()))
-        .forEach(
-            item -> prunableMap.computeIfAbsent(item.slot(), k -> new ArrayList<>()).add(item));
-
-    final List<UInt64> slots = prunableMap.keySet().stream().sorted().toList();
+        .map(DataColumnSlotAndIdentifier::slot)
+        .takeWhile(slot -> slots.size() < pruneSlotLimit || slots.contains(slot))
+        .forEach(slots::add);
 
     if (!slots.isEmpty()) {
-      LOG.debug(
-          "Pruning data column sidecars from slots {} to {}", slots.getFirst(), slots.getLast());
-      try (final FinalizedUpdater updater = finalizedUpdater()) {
-        for (final UInt64 slot : slots) {
-          final List<DataColumnSlotAndIdentifier> keys = prunableMap.get(slot);
-
-          for (final DataColumnSlotAndIdentifier key : keys) {
-            if (nonCanonicalBlobSidecars) {
-              updater.removeNonCanonicalSidecar(key);
-            } else {
-              updater.removeSidecar(key);
-            }
-          }
-
-          ++prunedSlots;
-        }
-        updater.commit();
+      final UInt64 firstSlot = slots.first();
+      final UInt64 lastSlot = slots.last();
+      LOG.debug("Pruning data column sidecars from slots {} to {}", firstSlot, lastSlot);
+      if (nonCanonicalBlobSidecars) {
+        dao.deleteNonCanonicalSidecarsInSlotRange(firstSlot, lastSlot.increment());
+      } else {
+        dao.deleteSidecarsInSlotRange(firstSlot, lastSlot.increment());
       }
-      LOG.debug("Pruned data column sidecars in {} slots", prunedSlots);
+      LOG.debug("Pruned data column sidecars in {} slots", slots.size());
     }
 
-    // `pruned` will be greater when we reach pruneLimit not on the latest DataColumnSidecar in a
-    // slot
-    return prunedSlots >= pruneSlotLimit;
+    return slots.size() >= pruneSlotLimit;
+  }
+
+  @Override
+  public boolean isWriteStalled() {
+    return dao.isWriteStalled();
   }
 
   @Override
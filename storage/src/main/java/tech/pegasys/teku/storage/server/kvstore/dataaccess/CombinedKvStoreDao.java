@@ -60,14 +60,24 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   private final KvStoreAccessor db;
   private final S schema;
   private final V4FinalizedStateStorageLogic<S> stateStorageLogic;
+  private final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore;
 
   public CombinedKvStoreDao(
       final KvStoreAccessor db,
       final S schema,
       final V4FinalizedStateStorageLogic<S> stateStorageLogic) {
+    this(db, schema, stateStorageLogic, Optional.empty());
+  }
+
+  public CombinedKvStoreDao(
+      final KvStoreAccessor db,
+      final S schema,
+      final V4FinalizedStateStorageLogic<S> stateStorageLogic,
+      final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore) {
     this.db = db;
     this.schema = schema;
     this.stateStorageLogic = stateStorageLogic;
+    this.sidecarSegmentStore = sidecarSegmentStore;
   }
 
   @Override
@@ -190,7 +200,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @Override
   @MustBeClosed
   public CombinedUpdater combinedUpdater() {
-    return new V4CombinedUpdater<>(db, schema, stateStorageLogic.updater());
+    return new V4CombinedUpdater<>(db, schema, stateStorageLogic.updater(), sidecarSegmentStore);
   }
 
   @Override
@@ -263,6 +273,9 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @Override
   public void close() throws Exception {
     db.close();
+    if (sidecarSegmentStore.isPresent()) {
+      sidecarSegmentStore.get().close();
+    }
   }
 
   @Override
@@ -270,6 +283,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.get(schema.getVariableEarliestBlockSlot())
@@ -574,6 +592,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       final V4MigratableSourceDao dao) {
     switch (key) {
       case "FINALIZED_STATES_BY_SLOT",
+          "FINALIZED_STATE_DELTAS_BY_SLOT",
           "SLOTS_BY_FINALIZED_STATE_ROOT",
           "SLOTS_BY_FINALIZED_ROOT" -> {
         return getEntityCountFromColumn(oldColumns.get(key), dao);
@@ -611,7 +630,22 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
   @Override
   public Optional<Bytes> getSidecar(final DataColumnSlotAndIdentifier identifier) {
-    return db.get(schema.getColumnSidecarByColumnSlotAndIdentifier(), identifier);
+    return db.get(schema.getColumnSidecarByColumnSlotAndIdentifier(), identifier)
+        .flatMap(value -> resolveSidecar(identifier.slot(), value));
+  }
+
+  private Optional<Bytes> resolveSidecar(final UInt64 slot, final Bytes value) {
+    if (!DataColumnSidecarSegmentStore.isLocation(value)) {
+      // Stored before the segment store was enabled
+      return Optional.of(value);
+    }
+    return sidecarSegmentStore
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    "Data column sidecars are stored in segment files "
+                        + "but the segment store is not enabled"))
+        .read(slot, value);
   }
 
   @Override
@@ -639,6 +673,49 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         new DataColumnSlotAndIdentifier(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
   }
 
+  @Override
+  public void deleteSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnSidecarByColumnSlotAndIdentifier(),
+        new DataColumnSlotAndIdentifier(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new DataColumnSlotAndIdentifier(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    // Segments can only be dropped once no remaining pointer refers to them
+    sidecarSegmentStore.ifPresent(
+        segmentStore ->
+            segmentStore.deleteSegmentsBefore(
+                getEarliestDataSidecarColumnSlot().map(slot -> slot.min(toSlot)).orElse(toSlot)));
+  }
+
+  @Override
+  public void deleteNonCanonicalSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(),
+        new DataColumnSlotAndIdentifier(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new DataColumnSlotAndIdentifier(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  @Override
+  public void deleteBlobSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  @Override
+  public void deleteNonCanonicalBlobSidecarsInSlotRange(
+      final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  @Override
+  public boolean isWriteStalled() {
+    return db.isWriteStalled();
+  }
+
   @Override
   public List<DataColumnSlotAndIdentifier> getDataColumnIdentifiers(
       final SlotAndBlockRoot slotAndBlockRoot) {
@@ -676,15 +753,19 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     private final KvStoreAccessor db;
     private final S schema;
     private final FinalizedStateUpdater<S> stateStorageUpdater;
+    private final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore;
+    private boolean sidecarSegmentsModified = false;
 
     V4CombinedUpdater(
         final KvStoreAccessor db,
         final S schema,
-        final FinalizedStateUpdater<S> stateStorageUpdater) {
+        final FinalizedStateUpdater<S> stateStorageUpdater,
+        final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore) {
       this.transaction = db.startTransaction();
       this.db = db;
       this.schema = schema;
       this.stateStorageUpdater = stateStorageUpdater;
+      this.sidecarSegmentStore = sidecarSegmentStore;
     }
 
     @Override
@@ -825,6 +906,10 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void commit() {
+      // Sidecar data must be durable before the pointers to it are committed
+      if (sidecarSegmentsModified) {
+        sidecarSegmentStore.orElseThrow().sync();
+      }
       // Commit db updates
       transaction.commit();
       stateStorageUpdater.commit();
@@ -892,7 +977,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void deleteFinalizedState(final UInt64 slot) {
-      stateStorageUpdater.deleteFinalizedState(transaction, schema, slot);
+      stateStorageUpdater.deleteFinalizedState(db, transaction, schema, slot);
     }
 
     @Override
@@ -968,11 +1053,19 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void addSidecar(final DataColumnSidecar sidecar) {
+      final Bytes sidecarBytes = sidecar.sszSerialize();
+      final Bytes value;
+      if (sidecarSegmentStore.isPresent()) {
+        value = sidecarSegmentStore.get().append(sidecar.getSlot(), sidecarBytes);
+        sidecarSegmentsModified = true;
+      } else {
+        value = sidecarBytes;
+      }
       transaction.put(
           schema.getColumnSidecarByColumnSlotAndIdentifier(),
           new DataColumnSlotAndIdentifier(
               sidecar.getSlot(), sidecar.getBeaconBlockRoot(), sidecar.getIndex()),
-          sidecar.sszSerialize());
+          value);
     }
 
     @Override
@@ -0,0 +1,247 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+
+/**
+ * Append-only segment files holding serialized data column sidecars outside the key value store.
+ *
+ * <p>Each segment covers a fixed range of slots. Sidecars are appended to the segment for their
+ * slot and the key value store only keeps a small location pointer, so the sidecar bytes never go
+ * through compaction. Pruning drops whole segment files once no pointer can reference them any
+ * more. Data written by a cancelled update is left in place and reclaimed with its segment.
+ */
+public class DataColumnSidecarSegmentStore implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int LOCATION_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int LOCATION_MAGIC = 0x5345474d; // "SEGM"
+  private static final int MAX_OPEN_WRITERS = 4;
+  private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("segment-(\\d+)\\.dat");
+
+  private final Path directory;
+  private final int slotsPerSegment;
+
+  // Segments being written to, least recently used first
+  private final Map<Long, FileChannel> writers = new LinkedHashMap<>(16, 0.75f, true);
+  private final Set<Long> unsyncedSegments = new HashSet<>();
+
+  DataColumnSidecarSegmentStore(final Path directory, final int slotsPerSegment) {
+    checkArgument(slotsPerSegment > 0, "Slots per segment must be positive");
+    this.directory = directory;
+    this.slotsPerSegment = slotsPerSegment;
+  }
+
+  public static DataColumnSidecarSegmentStore create(
+      final Path directory, final int slotsPerSegment) {
+    try {
+      Files.createDirectories(directory);
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to create data column sidecar segment directory " + directory, e);
+    }
+    return new DataColumnSidecarSegmentStore(directory, slotsPerSegment);
+  }
+
+  /** Returns true if a stored value is a pointer into a segment rather than the sidecar itself. */
+  static boolean isLocation(final Bytes value) {
+    return value.size() == LOCATION_SIZE && value.getInt(0) == LOCATION_MAGIC;
+  }
+
+  /**
+   * Appends a serialized sidecar to the segment covering {@code slot}. The data is not durable
+   * until {@link #sync()} is called.
+   *
+   * @return the location pointer to store in place of the sidecar
+   */
+  public synchronized Bytes append(final UInt64 slot, final Bytes sidecarBytes) {
+    final long segment = getSegment(slot);
+    try {
+      final FileChannel channel = getWriter(segment);
+      final long offset = channel.size();
+      final ByteBuffer buffer = ByteBuffer.wrap(sidecarBytes.toArrayUnsafe());
+      long position = offset;
+      while (buffer.hasRemaining()) {
+        position += channel.write(buffer, position);
+      }
+      unsyncedSegments.add(segment);
+      return encodeLocation(offset, sidecarBytes.size());
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to write data column sidecar to segment " + segment, e);
+    }
+  }
+
+  /** Forces all appended data to disk so pointers to it can be committed. */
+  public synchronized void sync() {
+    for (final Long segment : unsyncedSegments) {
+      final FileChannel channel = writers.get(segment);
+      if (channel != null) {
+        force(segment, channel);
+      }
+    }
+    unsyncedSegments.clear();
+  }
+
+  /** Reads the sidecar a location pointer for {@code slot} refers to. */
+  public Optional<Bytes> read(final UInt64 slot, final Bytes location) {
+    checkArgument(isLocation(location), "Not a segment location");
+    final long offset = location.getLong(Integer.BYTES);
+    final int length = location.getInt(Integer.BYTES + Long.BYTES);
+    final long segment = getSegment(slot);
+    try (final FileChannel channel =
+        FileChannel.open(getSegmentPath(segment), StandardOpenOption.READ)) {
+      final ByteBuffer buffer = ByteBuffer.allocate(length);
+      long position = offset;
+      while (buffer.hasRemaining()) {
+        final int read = channel.read(buffer, position);
+        if (read < 0) {
+          LOG.warn("Data column sidecar in segment {} is truncated", segment);
+          return Optional.empty();
+        }
+        position += read;
+      }
+      return Optional.of(Bytes.wrap(buffer.array()));
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to read data column sidecar from segment " + segment, e);
+    }
+  }
+
+  /**
+   * Deletes every segment whose slots are all before {@code slot}.
+   *
+   * @return the number of segment files deleted
+   */
+  public synchronized int deleteSegmentsBefore(final UInt64 slot) {
+    final long firstRetainedSegment = getSegment(slot);
+    int deleted = 0;
+    for (final long segment : listSegments()) {
+      if (segment >= firstRetainedSegment) {
+        continue;
+      }
+      final FileChannel channel = writers.remove(segment);
+      unsyncedSegments.remove(segment);
+      try {
+        if (channel != null) {
+          channel.close();
+        }
+        Files.deleteIfExists(getSegmentPath(segment));
+        deleted++;
+      } catch (final IOException e) {
+        LOG.warn("Failed to delete data column sidecar segment {}", segment, e);
+      }
+    }
+    return deleted;
+  }
+
+  @Override
+  public synchronized void close() {
+    sync();
+    for (final FileChannel channel : writers.values()) {
+      try {
+        channel.close();
+      } catch (final IOException e) {
+        LOG.warn("Failed to close data column sidecar segment", e);
+      }
+    }
+    writers.clear();
+  }
+
+  List<Long> listSegments() {
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(file -> SEGMENT_FILE_NAME.matcher(file.getFileName().toString()))
+          .filter(Matcher::matches)
+          .map(matcher -> Long.parseLong(matcher.group(1)))
+          .sorted()
+          .toList();
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to list data column sidecar segments in " + directory, e);
+    }
+  }
+
+  private FileChannel getWriter(final long segment) throws IOException {
+    final FileChannel existing = writers.get(segment);
+    if (existing != null) {
+      return existing;
+    }
+    final FileChannel channel =
+        FileChannel.open(
+            getSegmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    writers.put(segment, channel);
+    final Iterator<Map.Entry<Long, FileChannel>> iterator = writers.entrySet().iterator();
+    while (writers.size() > MAX_OPEN_WRITERS) {
+      final Map.Entry<Long, FileChannel> eldest = iterator.next();
+      if (unsyncedSegments.remove(eldest.getKey())) {
+        force(eldest.getKey(), eldest.getValue());
+      }
+      eldest.getValue().close();
+      iterator.remove();
+    }
+    return channel;
+  }
+
+  private void force(final long segment, final FileChannel channel) {
+    try {
+      channel.force(false);
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to sync data column sidecar segment " + segment, e);
+    }
+  }
+
+  private long getSegment(final UInt64 slot) {
+    return slot.longValue() / slotsPerSegment;
+  }
+
+  private Path getSegmentPath(final long segment) {
+    return directory.resolve(String.format("segment-%d.dat", segment));
+  }
+
+  private static Bytes encodeLocation(final long offset, final int length) {
+    final ByteBuffer buffer = ByteBuffer.allocate(LOCATION_SIZE);
+    buffer.putInt(LOCATION_MAGIC);
+    buffer.putLong(offset);
+    buffer.putInt(length);
+    return Bytes.wrap(buffer.array());
+  }
+}
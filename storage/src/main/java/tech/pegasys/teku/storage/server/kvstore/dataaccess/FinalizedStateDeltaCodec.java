@@ -0,0 +1,344 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntToLongFunction;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+
+/**
+ * Encodes a finalized state relative to an earlier full snapshot (the base state) from the same
+ * milestone.
+ *
+ * <p>The per-validator lists make up the bulk of a state but change very little between snapshots,
+ * so they are stored column by column: only validators that differ from the base are written, and
+ * balances are written as zigzag varint differences from the base balance which are usually only a
+ * few bytes. From Altair the participation flags and inactivity scores are written the same way
+ * but only for the entries that changed. The remaining fields are stored as plain SSZ with those
+ * lists emptied.
+ *
+ * <p>Decoding starts from the base state's lists, so unchanged parts of the tree are shared with
+ * the base rather than rebuilt.
+ *
+ * <p>Layout: base slot (8 bytes), remainder length (4 bytes), remainder SSZ, validator count (4
+ * bytes), changed validator count (4 bytes), changed validators as (index, SSZ) pairs in index
+ * order, balance count (4 bytes) and the balance differences. From Altair this is followed by the
+ * previous and current epoch participation and inactivity score changes, each as list size (4
+ * bytes), changed entry count (4 bytes) and (index gap, difference) varint pairs.
+ */
+public class FinalizedStateDeltaCodec {
+  private static final int MAX_VARINT_SIZE = 10;
+
+  private final Spec spec;
+
+  public FinalizedStateDeltaCodec(final Spec spec) {
+    this.spec = spec;
+  }
+
+  public boolean canEncode(final BeaconState baseState, final BeaconState state) {
+    return state.getSlot().isGreaterThanOrEqualTo(baseState.getSlot())
+        && spec.atSlot(baseState.getSlot())
+            .getMilestone()
+            .equals(spec.atSlot(state.getSlot()).getMilestone());
+  }
+
+  public Bytes encode(final BeaconState baseState, final BeaconState state) {
+    checkArgument(
+        canEncode(baseState, state),
+        "Base state must be from the same milestone and not after the state being encoded");
+    final Bytes remainder =
+        state
+            .updated(
+                mutableState -> {
+                  mutableState.getValidators().clear();
+                  mutableState.getBalances().clear();
+                  mutableState
+                      .toMutableVersionAltair()
+                      .ifPresent(
+                          altairState -> {
+                            altairState.getPreviousEpochParticipation().clear();
+                            altairState.getCurrentEpochParticipation().clear();
+                            altairState.getInactivityScores().clear();
+                          });
+                })
+            .sszSerialize();
+
+    final SszList<Validator> baseValidators = baseState.getValidators();
+    final SszList<Validator> validators = state.getValidators();
+    int changedValidatorCount = 0;
+    for (int i = 0; i < validators.size(); i++) {
+      if (isValidatorChanged(baseValidators, validators, i)) {
+        changedValidatorCount++;
+      }
+    }
+
+    final Optional<byte[]> altairChanges =
+        state.toVersionAltair().map(altairState -> encodeAltairChanges(baseState, altairState));
+
+    final SszUInt64List baseBalances = baseState.getBalances();
+    final SszUInt64List balances = state.getBalances();
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(
+            Long.BYTES
+                + Integer.BYTES * 4
+                + remainder.size()
+                + changedValidatorCount
+                    * (Integer.BYTES + Validator.SSZ_SCHEMA.getSszFixedPartSize())
+                + balances.size() * MAX_VARINT_SIZE
+                + altairChanges.map(changes -> changes.length).orElse(0));
+    buffer.putLong(baseState.getSlot().longValue());
+    buffer.putInt(remainder.size());
+    buffer.put(remainder.toArrayUnsafe());
+    buffer.putInt(validators.size());
+    buffer.putInt(changedValidatorCount);
+    for (int i = 0; i < validators.size(); i++) {
+      if (isValidatorChanged(baseValidators, validators, i)) {
+        buffer.putInt(i);
+        buffer.put(validators.get(i).sszSerialize().toArrayUnsafe());
+      }
+    }
+    buffer.putInt(balances.size());
+    for (int i = 0; i < balances.size(); i++) {
+      final long baseBalance = i < baseBalances.size() ? baseBalances.getElement(i).longValue() : 0;
+      writeVarLong(buffer, balances.getElement(i).longValue() - baseBalance);
+    }
+    altairChanges.ifPresent(buffer::put);
+    return Bytes.wrap(buffer.array(), 0, buffer.position());
+  }
+
+  public UInt64 getBaseSlot(final Bytes delta) {
+    return UInt64.fromLongBits(delta.getLong(0));
+  }
+
+  public BeaconState decode(final BeaconState baseState, final Bytes delta) {
+    final ByteBuffer buffer = ByteBuffer.wrap(delta.toArrayUnsafe());
+    final UInt64 baseSlot = UInt64.fromLongBits(buffer.getLong());
+    checkArgument(
+        baseSlot.equals(baseState.getSlot()),
+        "Delta requires base state at slot %s but got %s",
+        baseSlot,
+        baseState.getSlot());
+    final BeaconState remainder = spec.deserializeBeaconState(Bytes.wrap(readBytes(buffer)));
+
+    return remainder.updated(
+        state -> {
+          state.setValidators(baseState.getValidators());
+          final SszMutableList<Validator> validators = state.getValidators();
+          buffer.getInt(); // validator count, implied by the changed validators
+          final int changedValidatorCount = buffer.getInt();
+          for (int i = 0; i < changedValidatorCount; i++) {
+            final int index = buffer.getInt();
+            final byte[] validatorData = new byte[Validator.SSZ_SCHEMA.getSszFixedPartSize()];
+            buffer.get(validatorData);
+            final Validator validator =
+                Validator.SSZ_SCHEMA.sszDeserialize(Bytes.wrap(validatorData));
+            if (index < validators.size()) {
+              validators.set(index, validator);
+            } else {
+              validators.append(validator);
+            }
+          }
+
+          state.setBalances(baseState.getBalances());
+          final SszMutableUInt64List balances = state.getBalances();
+          final int balanceCount = buffer.getInt();
+          for (int i = 0; i < balanceCount; i++) {
+            final long difference = readVarLong(buffer);
+            if (i >= balances.size()) {
+              balances.appendElement(UInt64.fromLongBits(difference));
+            } else if (difference != 0) {
+              balances.setElement(
+                  i, UInt64.fromLongBits(balances.getElement(i).longValue() + difference));
+            }
+          }
+
+          state
+              .toMutableVersionAltair()
+              .ifPresent(altairState -> decodeAltairChanges(baseState, altairState, buffer));
+        });
+  }
+
+  private static boolean isValidatorChanged(
+      final SszList<Validator> baseValidators,
+      final SszList<Validator> validators,
+      final int index) {
+    return index >= baseValidators.size()
+        || !validators.get(index).hashTreeRoot().equals(baseValidators.get(index).hashTreeRoot());
+  }
+
+  private static byte[] encodeAltairChanges(
+      final BeaconState baseState, final BeaconStateAltair state) {
+    final BeaconStateAltair baseAltairState = BeaconStateAltair.required(baseState);
+    final byte[] previousParticipation =
+        encodeChanges(
+            participationValues(baseAltairState.getPreviousEpochParticipation()),
+            participationValues(state.getPreviousEpochParticipation()));
+    final byte[] currentParticipation =
+        encodeChanges(
+            participationValues(baseAltairState.getCurrentEpochParticipation()),
+            participationValues(state.getCurrentEpochParticipation()));
+    final byte[] inactivityScores =
+        encodeChanges(
+            uint64Values(baseAltairState.getInactivityScores()),
+            uint64Values(state.getInactivityScores()));
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(
+            previousParticipation.length + currentParticipation.length + inactivityScores.length);
+    buffer.put(previousParticipation);
+    buffer.put(currentParticipation);
+    buffer.put(inactivityScores);
+    return buffer.array();
+  }
+
+  private static void decodeAltairChanges(
+      final BeaconState baseState,
+      final MutableBeaconStateAltair state,
+      final ByteBuffer buffer) {
+    final BeaconStateAltair baseAltairState = BeaconStateAltair.required(baseState);
+    state.setPreviousEpochParticipation(baseAltairState.getPreviousEpochParticipation());
+    decodeParticipationChanges(state.getPreviousEpochParticipation(), buffer);
+    state.setCurrentEpochParticipation(baseAltairState.getCurrentEpochParticipation());
+    decodeParticipationChanges(state.getCurrentEpochParticipation(), buffer);
+
+    state.setInactivityScores(baseAltairState.getInactivityScores());
+    final SszMutableUInt64List inactivityScores = state.getInactivityScores();
+    decodeChanges(
+        buffer,
+        (index, difference) -> {
+          if (index < inactivityScores.size()) {
+            inactivityScores.setElement(
+                index,
+                UInt64.fromLongBits(inactivityScores.getElement(index).longValue() + difference));
+          } else {
+            inactivityScores.appendElement(UInt64.fromLongBits(difference));
+          }
+        });
+  }
+
+  private static void decodeParticipationChanges(
+      final SszMutableList<SszByte> participation, final ByteBuffer buffer) {
+    decodeChanges(
+        buffer,
+        (index, difference) -> {
+          if (index < participation.size()) {
+            participation.set(
+                index, SszByte.of((byte) (participation.get(index).get() + difference)));
+          } else {
+            participation.append(SszByte.of((byte) difference));
+          }
+        });
+  }
+
+  private static ListValues participationValues(final SszList<SszByte> list) {
+    return new ListValues(list.size(), index -> Byte.toUnsignedLong(list.get(index).get()));
+  }
+
+  private static ListValues uint64Values(final SszUInt64List list) {
+    return new ListValues(list.size(), index -> list.getElement(index).longValue());
+  }
+
+  /**
+   * Writes the entries of {@code values} that differ from {@code baseValues} as varint pairs of
+   * the gap from the previous changed index and the difference from the base value. Entries beyond
+   * the end of the base list are always written, with a base value of 0.
+   */
+  private static byte[] encodeChanges(final ListValues baseValues, final ListValues values) {
+    int changedCount = 0;
+    for (int i = 0; i < values.size(); i++) {
+      if (values.get(i) != baseValues.getOrZero(i)) {
+        changedCount++;
+      }
+    }
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(Integer.BYTES * 2 + changedCount * 2 * MAX_VARINT_SIZE);
+    buffer.putInt(values.size());
+    buffer.putInt(changedCount);
+    int lastChangedIndex = 0;
+    for (int i = 0; i < values.size(); i++) {
+      final long difference = values.get(i) - baseValues.getOrZero(i);
+      if (difference != 0) {
+        writeVarLong(buffer, i - lastChangedIndex);
+        writeVarLong(buffer, difference);
+        lastChangedIndex = i;
+      }
+    }
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  private static void decodeChanges(final ByteBuffer buffer, final ChangeHandler handler) {
+    buffer.getInt(); // list size, implied by the changes
+    final int changedCount = buffer.getInt();
+    int index = 0;
+    for (int i = 0; i < changedCount; i++) {
+      index += (int) readVarLong(buffer);
+      handler.onChange(index, readVarLong(buffer));
+    }
+  }
+
+  private static byte[] readBytes(final ByteBuffer buffer) {
+    final byte[] data = new byte[buffer.getInt()];
+    buffer.get(data);
+    return data;
+  }
+
+  private static void writeVarLong(final ByteBuffer buffer, final long value) {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7FL) != 0) {
+      buffer.put((byte) ((zigzag & 0x7F) | 0x80));
+      zigzag >>>= 7;
+    }
+    buffer.put((byte) zigzag);
+  }
+
+  private static long readVarLong(final ByteBuffer buffer) {
+    long zigzag = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = buffer.get();
+      zigzag |= (long) (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return (zigzag >>> 1) ^ -(zigzag & 1);
+  }
+
+  private record ListValues(int size, IntToLongFunction values) {
+    long get(final int index) {
+      return values.applyAsLong(index);
+    }
+
+    long getOrZero(final int index) {
+      return index < size ? values.applyAsLong(index) : 0;
+    }
+  }
+
+  private interface ChangeHandler {
+    void onChange(int index, long difference);
+  }
+}
@@ -66,6 +66,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  Optional<Bytes> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
   Optional<UInt64> getEarliestFinalizedBlockSlot();
 
   Optional<SignedBeaconBlock> getEarliestFinalizedBlock();
@@ -189,6 +191,27 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   List<DataColumnSlotAndIdentifier> getDataColumnIdentifiers(SlotAndBlockRoot slotAndBlockRoot);
 
+  /**
+   * Delete all data column sidecars from {@code fromSlot} (inclusive) to {@code toSlot}
+   * (exclusive) with a single range delete. The delete is applied immediately rather than as part
+   * of an update.
+   */
+  void deleteSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
+  /** Non-canonical equivalent of {@link #deleteSidecarsInSlotRange(UInt64, UInt64)}. */
+  void deleteNonCanonicalSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
+  /**
+   * Delete all blob sidecars from {@code fromSlot} (inclusive) to {@code toSlot} (exclusive) with a
+   * single range delete. The delete is applied immediately rather than as part of an update.
+   */
+  void deleteBlobSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
+  /** Non-canonical equivalent of {@link #deleteBlobSidecarsInSlotRange(UInt64, UInt64)}. */
+  void deleteNonCanonicalBlobSidecarsInSlotRange(UInt64 fromSlot, UInt64 toSlot);
+
+  boolean isWriteStalled();
+
   Optional<UInt64> getEarliestDataSidecarColumnSlot();
 
   Optional<UInt64> getLastDataColumnSidecarsProofsSlot();
@@ -170,6 +170,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return finalizedDao.getFinalizedBlockAtSlotRaw(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return finalizedDao.getEarliestFinalizedBlockSlot();
@@ -360,6 +365,32 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.streamNonCanonicalDataColumnIdentifiers(startSlot, endSlot);
   }
 
+  @Override
+  public void deleteSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    finalizedDao.deleteSidecarsInSlotRange(fromSlot, toSlot);
+  }
+
+  @Override
+  public void deleteNonCanonicalSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    finalizedDao.deleteNonCanonicalSidecarsInSlotRange(fromSlot, toSlot);
+  }
+
+  @Override
+  public void deleteBlobSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    finalizedDao.deleteBlobSidecarsInSlotRange(fromSlot, toSlot);
+  }
+
+  @Override
+  public void deleteNonCanonicalBlobSidecarsInSlotRange(
+      final UInt64 fromSlot, final UInt64 toSlot) {
+    finalizedDao.deleteNonCanonicalBlobSidecarsInSlotRange(fromSlot, toSlot);
+  }
+
+  @Override
+  public boolean isWriteStalled() {
+    return hotDao.isWriteStalled() || finalizedDao.isWriteStalled();
+  }
+
   @Override
   public List<DataColumnSlotAndIdentifier> getDataColumnIdentifiers(
       final SlotAndBlockRoot slotAndBlockRoot) {
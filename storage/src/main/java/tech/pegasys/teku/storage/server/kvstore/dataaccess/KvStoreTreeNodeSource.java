@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
@@ -23,22 +24,44 @@ class KvStoreTreeNodeSource implements TreeNodeSource {
 
   private final KvStoreAccessor db;
   private final SchemaCombinedTreeState schema;
+  private final Optional<OffHeapTreeNodeCache> nodeCache;
 
-  public KvStoreTreeNodeSource(final KvStoreAccessor db, final SchemaCombinedTreeState schema) {
+  public KvStoreTreeNodeSource(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final Optional<OffHeapTreeNodeCache> nodeCache) {
     this.db = db;
     this.schema = schema;
+    this.nodeCache = nodeCache;
   }
 
   @Override
   public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
-        .orElseThrow(
-            () ->
-                new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex));
+    final Optional<CompressedBranchInfo> cachedBranch =
+        nodeCache.flatMap(cache -> cache.getBranchNode(rootHash, gIndex));
+    if (cachedBranch.isPresent()) {
+      return cachedBranch.get();
+    }
+    final CompressedBranchInfo branchInfo =
+        db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Unknown branch node: " + rootHash + " at " + gIndex));
+    nodeCache.ifPresent(cache -> cache.putBranchNode(rootHash, gIndex, branchInfo));
+    return branchInfo;
   }
 
   @Override
   public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash).orElse(rootHash);
+    final Optional<Bytes> cachedLeaf =
+        nodeCache.flatMap(cache -> cache.getLeafNode(rootHash, gIndex));
+    if (cachedLeaf.isPresent()) {
+      return cachedLeaf.get();
+    }
+    final Bytes leafData =
+        db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash).orElse(rootHash);
+    nodeCache.ifPresent(cache -> cache.putLeafNode(rootHash, gIndex, leafData));
+    return leafData;
   }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+
+/**
+ * A byte-bounded cache of finalized state tree nodes, keyed by node hash and shared by all states
+ * loaded from the database. Both the node data and the hash index are held in direct buffers so a
+ * large cache doesn't add to GC pressure.
+ *
+ * <p>Nodes close to the state root are shared by almost every state and are admitted into a
+ * separate resident region so that scanning through many deep nodes (e.g. individual validators)
+ * can't evict them. Each region is split into stripes by node hash, each with its own lock, so
+ * concurrent state loads rarely contend.
+ */
+public class OffHeapTreeNodeCache {
+  public static final int DEFAULT_RESIDENT_DEPTH = 24;
+
+  private static final int STRIPES_PER_REGION = 8;
+  private static final int SEGMENTS_PER_STRIPE = 16;
+  private static final byte BRANCH_NODE = 1;
+  private static final byte LEAF_NODE = 2;
+  // type (1 byte) + payload length (4 bytes) + node hash (32 bytes)
+  private static final int ENTRY_HEADER_SIZE = Byte.BYTES + Integer.BYTES + Bytes32.SIZE;
+
+  private final Stripe[] residentStripes;
+  private final Stripe[] generalStripes;
+  private final int residentDepth;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public OffHeapTreeNodeCache(
+      final MetricsSystem metricsSystem, final long maxSizeBytes, final int residentDepth) {
+    this.residentDepth = residentDepth;
+    final long residentSize = maxSizeBytes / 4;
+    this.residentStripes = Stripe.createAll(residentSize);
+    this.generalStripes = Stripe.createAll(maxSizeBytes - residentSize);
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            "state_tree_node_cache_requests_total",
+            "Number of finalized state tree node lookups served from or missing the node cache",
+            "result");
+    this.hitCounter = requestCounter.labels("hit");
+    this.missCounter = requestCounter.labels("miss");
+  }
+
+  public Optional<CompressedBranchInfo> getBranchNode(final Bytes32 rootHash, final long gIndex) {
+    return stripeFor(rootHash, gIndex)
+        .flatMap(stripe -> recordResult(stripe.get(rootHash, BRANCH_NODE)))
+        .map(OffHeapTreeNodeCache::decodeBranch);
+  }
+
+  public void putBranchNode(
+      final Bytes32 rootHash, final long gIndex, final CompressedBranchInfo branchInfo) {
+    stripeFor(rootHash, gIndex)
+        .ifPresent(stripe -> stripe.put(rootHash, BRANCH_NODE, encode(branchInfo)));
+  }
+
+  public Optional<Bytes> getLeafNode(final Bytes32 rootHash, final long gIndex) {
+    return stripeFor(rootHash, gIndex)
+        .flatMap(stripe -> recordResult(stripe.get(rootHash, LEAF_NODE)))
+        .map(Bytes::wrap);
+  }
+
+  public void putLeafNode(final Bytes32 rootHash, final long gIndex, final Bytes data) {
+    stripeFor(rootHash, gIndex)
+        .ifPresent(stripe -> stripe.put(rootHash, LEAF_NODE, data.toArrayUnsafe()));
+  }
+
+  private Optional<Stripe> stripeFor(final Bytes32 rootHash, final long gIndex) {
+    final Stripe[] stripes =
+        GIndexUtil.gIdxGetDepth(gIndex) <= residentDepth ? residentStripes : generalStripes;
+    if (stripes.length == 0) {
+      return Optional.empty();
+    }
+    // The index slot is picked from the first 8 bytes of the hash so use different bytes here
+    return Optional.of(stripes[rootHash.getInt(Long.BYTES) & (STRIPES_PER_REGION - 1)]);
+  }
+
+  private <T> Optional<T> recordResult(final Optional<T> result) {
+    if (result.isPresent()) {
+      hitCounter.inc();
+    } else {
+      missCounter.inc();
+    }
+    return result;
+  }
+
+  private static byte[] encode(final CompressedBranchInfo branchInfo) {
+    final Bytes32[] children = branchInfo.getChildren();
+    final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + children.length * Bytes32.SIZE);
+    buffer.putInt(branchInfo.getDepth());
+    for (Bytes32 child : children) {
+      buffer.put(child.toArrayUnsafe());
+    }
+    return buffer.array();
+  }
+
+  private static CompressedBranchInfo decodeBranch(final byte[] data) {
+    final ByteBuffer buffer = ByteBuffer.wrap(data);
+    final int depth = buffer.getInt();
+    final Bytes32[] children = new Bytes32[buffer.remaining() / Bytes32.SIZE];
+    for (int i = 0; i < children.length; i++) {
+      final byte[] child = new byte[Bytes32.SIZE];
+      buffer.get(child);
+      children[i] = Bytes32.wrap(child);
+    }
+    return new CompressedBranchInfo(depth, children);
+  }
+
+  /**
+   * A log-structured set of fixed size direct buffer segments with an open-addressing hash index.
+   * Entries are appended to the current segment and when the ring wraps around, the oldest segment
+   * is dropped as a whole. As nodes are immutable and addressed by hash, entries never need to be
+   * updated in place.
+   *
+   * <p>Each index slot holds the first 8 bytes of the node hash and the entry location, tagged with
+   * the sequence number of the segment it was written to. Slots pointing into a segment that has
+   * since been reused are stale and simply overwritten by later inserts, so dropping a segment
+   * doesn't need to touch the index. The full hash is stored with the entry and checked on lookup.
+   */
+  private static class Stripe {
+    // key prefix (8 bytes) + location (8 bytes)
+    private static final int SLOT_SIZE = 2 * Long.BYTES;
+    // One slot per 48 bytes gives the index a third of the stripe, keeping it under half full even
+    // when the segments are filled with the smallest (32 byte leaf) entries
+    private static final int BYTES_PER_SLOT = 48;
+    private static final int MAX_PROBES = 16;
+    // A location of 0 (sequence 0) marks a slot that has never been used
+    private static final long EMPTY_SLOT = 0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int segmentSize;
+    private final int slotCount;
+    private final ByteBuffer[] segments = new ByteBuffer[SEGMENTS_PER_STRIPE];
+    private ByteBuffer index;
+    private int currentSequence = 1;
+    private int writeOffset = 0;
+
+    private Stripe(final int segmentSize, final int slotCount) {
+      this.segmentSize = segmentSize;
+      this.slotCount = slotCount;
+    }
+
+    static Stripe[] createAll(final long regionSizeBytes) {
+      final long sizeBytes = regionSizeBytes / STRIPES_PER_REGION;
+      final int slotCount =
+          (int) Math.min(sizeBytes / BYTES_PER_SLOT, Integer.MAX_VALUE / SLOT_SIZE);
+      final long segmentSize =
+          Math.min(
+              (sizeBytes - (long) slotCount * SLOT_SIZE) / SEGMENTS_PER_STRIPE, Integer.MAX_VALUE);
+      if (slotCount == 0 || segmentSize <= ENTRY_HEADER_SIZE) {
+        return new Stripe[0];
+      }
+      final Stripe[] stripes = new Stripe[STRIPES_PER_REGION];
+      for (int i = 0; i < stripes.length; i++) {
+        stripes[i] = new Stripe((int) segmentSize, slotCount);
+      }
+      return stripes;
+    }
+
+    Optional<byte[]> get(final Bytes32 key, final byte type) {
+      lock.readLock().lock();
+      try {
+        if (index == null) {
+          return Optional.empty();
+        }
+        final long keyPrefix = key.getLong(0);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+          final int slotOffset = slotOffset(keyPrefix, probe);
+          final long location = index.getLong(slotOffset + Long.BYTES);
+          if (location == EMPTY_SLOT) {
+            return Optional.empty();
+          }
+          if (index.getLong(slotOffset) == keyPrefix && isLive(location)) {
+            final ByteBuffer segment = segments[segmentIndex(location)];
+            final int offset = (int) location;
+            if (entryKeyMatches(segment, offset, key)) {
+              return segment.get(offset) == type
+                  ? Optional.of(readData(segment, offset))
+                  : Optional.empty();
+            }
+          }
+        }
+        return Optional.empty();
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    void put(final Bytes32 key, final byte type, final byte[] data) {
+      final int entrySize = ENTRY_HEADER_SIZE + data.length;
+      if (entrySize > segmentSize) {
+        return;
+      }
+      lock.writeLock().lock();
+      try {
+        if (index == null) {
+          index = ByteBuffer.allocateDirect(slotCount * SLOT_SIZE);
+        }
+        final long keyPrefix = key.getLong(0);
+        int freeSlotOffset = -1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+          final int slotOffset = slotOffset(keyPrefix, probe);
+          final long location = index.getLong(slotOffset + Long.BYTES);
+          if (location == EMPTY_SLOT || !isLive(location)) {
+            if (freeSlotOffset < 0) {
+              freeSlotOffset = slotOffset;
+            }
+            if (location == EMPTY_SLOT) {
+              break;
+            }
+          } else if (index.getLong(slotOffset) == keyPrefix
+              && entryKeyMatches(segments[segmentIndex(location)], (int) location, key)) {
+            return;
+          }
+        }
+        if (freeSlotOffset < 0) {
+          // Probe sequence is full of live entries, drop the first rather than probe further
+          freeSlotOffset = slotOffset(keyPrefix, 0);
+        }
+
+        if (writeOffset + entrySize > segmentSize) {
+          advanceSegment();
+        }
+        final ByteBuffer segment =
+            getOrAllocateSegment(Math.floorMod(currentSequence, SEGMENTS_PER_STRIPE));
+        segment.put(writeOffset, type);
+        segment.putInt(writeOffset + Byte.BYTES, data.length);
+        segment.put(writeOffset + Byte.BYTES + Integer.BYTES, key.toArrayUnsafe());
+        segment.put(writeOffset + ENTRY_HEADER_SIZE, data);
+        index.putLong(freeSlotOffset, keyPrefix);
+        index.putLong(
+            freeSlotOffset + Long.BYTES,
+            ((long) currentSequence << 32) | (writeOffset & 0xFFFFFFFFL));
+        writeOffset += entrySize;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private int slotOffset(final long keyPrefix, final int probe) {
+      return (int) Long.remainderUnsigned(keyPrefix + probe, slotCount) * SLOT_SIZE;
+    }
+
+    private boolean isLive(final long location) {
+      final int age = currentSequence - (int) (location >>> 32);
+      return age >= 0 && age < SEGMENTS_PER_STRIPE;
+    }
+
+    private static int segmentIndex(final long location) {
+      return Math.floorMod((int) (location >>> 32), SEGMENTS_PER_STRIPE);
+    }
+
+    private static boolean entryKeyMatches(
+        final ByteBuffer segment, final int offset, final Bytes32 key) {
+      final int keyOffset = offset + Byte.BYTES + Integer.BYTES;
+      for (int i = 0; i < Bytes32.SIZE; i += Long.BYTES) {
+        if (segment.getLong(keyOffset + i) != key.getLong(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static byte[] readData(final ByteBuffer segment, final int offset) {
+      final byte[] data = new byte[segment.getInt(offset + Byte.BYTES)];
+      segment.get(offset + ENTRY_HEADER_SIZE, data);
+      return data;
+    }
+
+    private void advanceSegment() {
+      currentSequence++;
+      if (currentSequence == 0) {
+        // Sequence 0 is reserved for empty slots
+        currentSequence++;
+      }
+      writeOffset = 0;
+    }
+
+    private ByteBuffer getOrAllocateSegment(final int segmentIndex) {
+      if (segments[segmentIndex] == null) {
+        segments[segmentIndex] = ByteBuffer.allocateDirect(segmentSize);
+      }
+      return segments[segmentIndex];
+    }
+  }
+}
@@ -67,6 +67,10 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  public Optional<Bytes> getFinalizedBlockAtSlotRaw(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.get(schema.getVariableEarliestBlockSlot())
         .or(
@@ -232,6 +236,39 @@ public class V4FinalizedKvStoreDao {
         new DataColumnSlotAndIdentifier(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
   }
 
+  public void deleteSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnSidecarByColumnSlotAndIdentifier(),
+        new DataColumnSlotAndIdentifier(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new DataColumnSlotAndIdentifier(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  public void deleteNonCanonicalSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(),
+        new DataColumnSlotAndIdentifier(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new DataColumnSlotAndIdentifier(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  public void deleteBlobSidecarsInSlotRange(final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  public void deleteNonCanonicalBlobSidecarsInSlotRange(
+      final UInt64 fromSlot, final UInt64 toSlot) {
+    db.deleteRange(
+        schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(fromSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(toSlot, MIN_BLOCK_ROOT, UInt64.ZERO));
+  }
+
+  public boolean isWriteStalled() {
+    return db.isWriteStalled();
+  }
+
   public List<DataColumnSlotAndIdentifier> getDataColumnIdentifiers(
       final SlotAndBlockRoot slotAndBlockRoot) {
     try (final Stream<DataColumnSlotAndIdentifier> identifierStream =
@@ -0,0 +1,297 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotState;
+
+/**
+ * Stores finalized state snapshots with the same frequency as {@link
+ * V4FinalizedStateSnapshotStorageLogic} but only every {@code fullSnapshotInterval}th snapshot is
+ * stored as a full state. The snapshots in between are stored as a delta against the last full
+ * snapshot using {@link FinalizedStateDeltaCodec}.
+ *
+ * <p>The last full snapshot is kept in memory so writing a delta doesn't require loading it. After
+ * a restart the first snapshot is always written in full. Deltas can't be loaded without their
+ * base so a full snapshot is kept until the last delta stored against it is pruned.
+ */
+public class V4FinalizedStateDeltaStorageLogic<S extends SchemaFinalizedSnapshotState>
+    implements V4FinalizedStateStorageLogic<S> {
+
+  private final UInt64 stateStorageFrequency;
+  private final int fullSnapshotInterval;
+  private final FinalizedStateDeltaCodec codec;
+
+  private volatile Optional<BaseSnapshot> finalizedBase = Optional.empty();
+  private volatile Optional<BaseSnapshot> reconstructedBase = Optional.empty();
+
+  public V4FinalizedStateDeltaStorageLogic(
+      final Spec spec, final long stateStorageFrequency, final int fullSnapshotInterval) {
+    checkArgument(fullSnapshotInterval > 0, "Full snapshot interval must be positive");
+    this.stateStorageFrequency = UInt64.valueOf(stateStorageFrequency);
+    this.fullSnapshotInterval = fullSnapshotInterval;
+    this.codec = new FinalizedStateDeltaCodec(spec);
+  }
+
+  @Override
+  public Optional<BeaconState> getLatestAvailableFinalizedState(
+      final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema, final UInt64 maxSlot) {
+    final Optional<ColumnEntry<UInt64, BeaconState>> fullSnapshot =
+        db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), maxSlot);
+    final Optional<ColumnEntry<UInt64, Bytes>> deltaSnapshot =
+        db.getFloorEntry(schema.getColumnFinalizedStateDeltasBySlot(), maxSlot);
+    if (deltaSnapshot.isPresent()
+        && (fullSnapshot.isEmpty()
+            || deltaSnapshot.get().getKey().isGreaterThan(fullSnapshot.get().getKey()))) {
+      final UInt64 deltaSlot = deltaSnapshot.get().getKey();
+      final Bytes delta = deltaSnapshot.get().getValue();
+      final UInt64 baseSlot = codec.getBaseSlot(delta);
+      final BeaconState baseState =
+          fullSnapshot
+              .filter(entry -> entry.getKey().equals(baseSlot))
+              .map(ColumnEntry::getValue)
+              .or(() -> db.get(schema.getColumnFinalizedStatesBySlot(), baseSlot))
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          String.format(
+                              "State delta at slot %s refers to missing base state at slot %s",
+                              deltaSlot, baseSlot)));
+      return Optional.of(codec.decode(baseState, delta));
+    }
+    return fullSnapshot.map(ColumnEntry::getValue);
+  }
+
+  @Override
+  public Optional<UInt64> getEarliestAvailableFinalizedStateSlot(
+      final KvStoreAccessor db, final S schema) {
+    return db.getFirstEntry(schema.getColumnFinalizedStatesBySlot()).map(ColumnEntry::getKey);
+  }
+
+  @Override
+  public FinalizedStateUpdater<S> updater() {
+    return new FinalizedStateDeltaUpdater();
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<UInt64> streamFinalizedStateSlots(
+      final KvStoreAccessor db,
+      final SchemaFinalizedSnapshotState schema,
+      final UInt64 startSlot,
+      final UInt64 endSlot) {
+    return Stream.concat(
+            db.stream(schema.getColumnFinalizedStatesBySlot(), startSlot, endSlot)
+                .map(ColumnEntry::getKey),
+            db.stream(schema.getColumnFinalizedStateDeltasBySlot(), startSlot, endSlot)
+                .map(ColumnEntry::getKey))
+        .sorted();
+  }
+
+  private static Optional<UInt64> getLastStoredSlot(
+      final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema) {
+    return max(
+        db.getLastKey(schema.getColumnFinalizedStatesBySlot()),
+        db.getLastKey(schema.getColumnFinalizedStateDeltasBySlot()));
+  }
+
+  private static Optional<UInt64> getFloorStoredSlot(
+      final KvStoreAccessor db, final SchemaFinalizedSnapshotState schema, final UInt64 slot) {
+    return max(
+        db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), slot).map(ColumnEntry::getKey),
+        db.getFloorEntry(schema.getColumnFinalizedStateDeltasBySlot(), slot)
+            .map(ColumnEntry::getKey));
+  }
+
+  private static Optional<UInt64> max(final Optional<UInt64> a, final Optional<UInt64> b) {
+    if (a.isEmpty()) {
+      return b;
+    }
+    return b.map(bValue -> bValue.max(a.get())).or(() -> a);
+  }
+
+  private class FinalizedStateDeltaUpdater implements FinalizedStateUpdater<S> {
+    private Optional<UInt64> lastStateStoredSlot = Optional.empty();
+    private boolean loadedLastStoreState = false;
+    private Optional<BaseSnapshot> pendingFinalizedBase = finalizedBase;
+
+    private Optional<UInt64> lastReconstructedStateStoredSlot = Optional.empty();
+    private boolean loadedLastReconstructedStoreState = false;
+    private Optional<BaseSnapshot> pendingReconstructedBase = reconstructedBase;
+
+    // Deltas not yet deleted by this updater, by the slot of their base
+    private final Map<UInt64, NavigableSet<UInt64>> remainingDeltasByBase = new HashMap<>();
+
+    @Override
+    public void addFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      if (!loadedLastStoreState) {
+        lastStateStoredSlot = getLastStoredSlot(db, schema);
+        loadedLastStoreState = true;
+      }
+      if (isStorageDue(lastStateStoredSlot, state)) {
+        pendingFinalizedBase = storeState(transaction, schema, pendingFinalizedBase, state);
+        lastStateStoredSlot = Optional.of(state.getSlot());
+      }
+    }
+
+    @Override
+    public void addReconstructedFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      if (!loadedLastReconstructedStoreState) {
+        lastReconstructedStateStoredSlot = getFloorStoredSlot(db, schema, state.getSlot());
+        loadedLastReconstructedStoreState = true;
+      }
+      if (isStorageDue(lastReconstructedStateStoredSlot, state)) {
+        pendingReconstructedBase =
+            storeState(transaction, schema, pendingReconstructedBase, state);
+        lastReconstructedStateStoredSlot = Optional.of(state.getSlot());
+      }
+    }
+
+    @Override
+    public void deleteFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final UInt64 slot) {
+      final Optional<Bytes> delta = db.get(schema.getColumnFinalizedStateDeltasBySlot(), slot);
+      if (delta.isPresent()) {
+        transaction.delete(schema.getColumnFinalizedStateDeltasBySlot(), slot);
+        // Slots are pruned in order so a base left behind for this delta can now go with it
+        final UInt64 baseSlot = codec.getBaseSlot(delta.get());
+        final NavigableSet<UInt64> remainingDeltas = getRemainingDeltas(db, schema, baseSlot);
+        remainingDeltas.remove(slot);
+        if (remainingDeltas.isEmpty()) {
+          deleteFullSnapshot(transaction, schema, baseSlot);
+        }
+      } else if (getRemainingDeltas(db, schema, slot).isEmpty()) {
+        deleteFullSnapshot(transaction, schema, slot);
+      }
+      // Otherwise the full snapshot is still needed to load the deltas stored against it
+    }
+
+    @Override
+    public void commit() {
+      finalizedBase = pendingFinalizedBase;
+      reconstructedBase = pendingReconstructedBase;
+    }
+
+    private void deleteFullSnapshot(
+        final KvStoreTransaction transaction, final S schema, final UInt64 slot) {
+      transaction.delete(schema.getColumnFinalizedStatesBySlot(), slot);
+      pendingFinalizedBase = pendingFinalizedBase.filter(base -> !base.isAtSlot(slot));
+      pendingReconstructedBase = pendingReconstructedBase.filter(base -> !base.isAtSlot(slot));
+    }
+
+    private NavigableSet<UInt64> getRemainingDeltas(
+        final KvStoreAccessor db, final S schema, final UInt64 baseSlot) {
+      return remainingDeltasByBase.computeIfAbsent(
+          baseSlot, __ -> loadDeltasWithBase(db, schema, baseSlot));
+    }
+
+    private NavigableSet<UInt64> loadDeltasWithBase(
+        final KvStoreAccessor db, final S schema, final UInt64 baseSlot) {
+      // Deltas are always written after their base and before the next full snapshot
+      final UInt64 firstDeltaSlot = baseSlot.plus(1);
+      final UInt64 lastDeltaSlot;
+      try (final Stream<UInt64> laterFullSnapshots =
+          db.streamKeys(
+              schema.getColumnFinalizedStatesBySlot(), firstDeltaSlot, UInt64.MAX_VALUE)) {
+        lastDeltaSlot =
+            laterFullSnapshots.findFirst().map(UInt64::decrement).orElse(UInt64.MAX_VALUE);
+      }
+      try (final Stream<ColumnEntry<UInt64, Bytes>> deltas =
+          db.stream(schema.getColumnFinalizedStateDeltasBySlot(), firstDeltaSlot, lastDeltaSlot)) {
+        return deltas
+            .filter(entry -> codec.getBaseSlot(entry.getValue()).equals(baseSlot))
+            .map(ColumnEntry::getKey)
+            .collect(Collectors.toCollection(TreeSet::new));
+      }
+    }
+
+    private boolean isStorageDue(final Optional<UInt64> lastStoredSlot, final BeaconState state) {
+      return lastStoredSlot
+          .map(slot -> state.getSlot().isGreaterThanOrEqualTo(slot.plus(stateStorageFrequency)))
+          .orElse(true);
+    }
+
+    private Optional<BaseSnapshot> storeState(
+        final KvStoreTransaction transaction,
+        final S schema,
+        final Optional<BaseSnapshot> maybeBase,
+        final BeaconState state) {
+      final Optional<BaseSnapshot> usableBase =
+          maybeBase.filter(
+              base ->
+                  base.canBeBaseFor(state, fullSnapshotInterval)
+                      && codec.canEncode(base.state, state));
+      if (usableBase.isPresent()) {
+        final BaseSnapshot base = usableBase.get();
+        transaction.put(
+            schema.getColumnFinalizedStateDeltasBySlot(),
+            state.getSlot(),
+            codec.encode(base.state, state));
+        return Optional.of(base.withAdditionalDelta());
+      }
+      transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+      return Optional.of(new BaseSnapshot(state, 0));
+    }
+  }
+
+  private static class BaseSnapshot {
+    private final BeaconState state;
+    private final int deltaCount;
+
+    private BaseSnapshot(final BeaconState state, final int deltaCount) {
+      this.state = state;
+      this.deltaCount = deltaCount;
+    }
+
+    boolean canBeBaseFor(final BeaconState newState, final int fullSnapshotInterval) {
+      return deltaCount + 1 < fullSnapshotInterval
+          && newState.getSlot().isGreaterThan(state.getSlot());
+    }
+
+    boolean isAtSlot(final UInt64 slot) {
+      return state.getSlot().equals(slot);
+    }
+
+    BaseSnapshot withAdditionalDelta() {
+      return new BaseSnapshot(state, deltaCount + 1);
+    }
+  }
+}
@@ -41,11 +41,23 @@ public class V4FinalizedStateTreeStorageLogic
   private final Set<Bytes32> knownStoredBranchesCache;
   private final Spec spec;
   private final Counter leafNodeStoredCounter;
+  private final Optional<OffHeapTreeNodeCache> nodeCache;
 
   public V4FinalizedStateTreeStorageLogic(
-      final MetricsSystem metricsSystem, final Spec spec, final int maxKnownNodeCacheSize) {
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final int maxKnownNodeCacheSize,
+      final long treeNodeCacheSizeBytes) {
     this.spec = spec;
     this.knownStoredBranchesCache = LimitedSet.createSynchronized(maxKnownNodeCacheSize);
+    this.nodeCache =
+        treeNodeCacheSizeBytes > 0
+            ? Optional.of(
+                new OffHeapTreeNodeCache(
+                    metricsSystem,
+                    treeNodeCacheSizeBytes,
+                    OffHeapTreeNodeCache.DEFAULT_RESIDENT_DEPTH))
+            : Optional.empty();
     this.branchNodeStoredCounter =
         metricsSystem.createLabelledCounter(
             TekuMetricCategory.STORAGE_FINALIZED_DB,
@@ -74,7 +86,7 @@ public class V4FinalizedStateTreeStorageLogic
                     .getSchemaDefinitions()
                     .getBeaconStateSchema()
                     .load(
-                        new KvStoreTreeNodeSource(db, dbSchema),
+                        new KvStoreTreeNodeSource(db, dbSchema, nodeCache),
                         entry.getValue(),
                         GIndexUtil.SELF_G_INDEX));
   }
@@ -157,6 +169,7 @@ public class V4FinalizedStateTreeStorageLogic
 
     @Override
     public void deleteFinalizedState(
+        final KvStoreAccessor db,
         final KvStoreTransaction transaction,
         final SchemaCombinedTreeState schema,
         final UInt64 slot) {
@@ -51,6 +51,10 @@ public class V4HotKvStoreDao {
     this.schema = schema;
   }
 
+  public boolean isWriteStalled() {
+    return db.isWriteStalled();
+  }
+
   public Optional<UInt64> getGenesisTime() {
     return db.get(schema.getVariableGenesisTime());
   }
@@ -0,0 +1,33 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+/**
+ * Describes the access pattern of a column so that the underlying storage can tune it accordingly.
+ * Profiles only affect performance characteristics, never the stored data format, so it is safe to
+ * change the profile of an existing column.
+ */
+public enum KvStoreColumnProfile {
+  /** No particular access pattern, uses the database wide defaults. */
+  DEFAULT,
+  /** Small, frequently read values that are looked up by their exact key (usually a root). */
+  POINT_LOOKUP,
+  /** Values keyed by slot that are mostly read by iterating or seeking through key ranges. */
+  SEQUENTIAL_SCAN,
+  /**
+   * Large values keyed with a slot prefix that are written once, rarely read and deleted in slot
+   * order when pruned (e.g. sidecars).
+   */
+  WRITE_ONCE_COLD
+}
@@ -14,6 +14,9 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asColumnId;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.SEQUENTIAL_SCAN;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.WRITE_ONCE_COLD;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -47,6 +50,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   private final KvStoreColumn<Bytes32, UInt64> slotsByFinalizedStateRoot;
   private final KvStoreColumn<UInt64, Set<Bytes32>> nonCanonicalBlockRootsBySlot;
   private final KvStoreColumn<UInt64, BeaconState> finalizedStatesBySlot;
+  private final KvStoreColumn<UInt64, Bytes> finalizedStateDeltasBySlot;
 
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecarBySlotRootBlobIndex;
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
@@ -60,47 +64,70 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   private V6SchemaCombinedSnapshot(final Spec spec, final int finalizedOffset) {
     super(spec, finalizedOffset);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             finalizedOffset + 2,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            SEQUENTIAL_SCAN);
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            finalizedOffset + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            finalizedOffset + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec),
+            SEQUENTIAL_SCAN);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             finalizedOffset + 5,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            POINT_LOOKUP);
     nonCanonicalBlockRootsBySlot =
-        KvStoreColumn.create(finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER, SEQUENTIAL_SCAN);
     blobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 12,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            WRITE_ONCE_COLD);
 
     nonCanonicalBlobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 13,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            WRITE_ONCE_COLD);
 
     sidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 14, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 14,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            WRITE_ONCE_COLD);
 
     nonCanonicalSidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 15, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 15,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            WRITE_ONCE_COLD);
 
     dataColumnSidecarsProofsBySlot =
         KvStoreColumn.create(
-            finalizedOffset + 17, UINT64_SERIALIZER, DATA_COLUMN_SIDECARS_PROOFS_SERIALIZER);
+            finalizedOffset + 17,
+            UINT64_SERIALIZER,
+            DATA_COLUMN_SIDECARS_PROOFS_SERIALIZER,
+            SEQUENTIAL_SCAN);
+
+    finalizedStateDeltasBySlot =
+        KvStoreColumn.create(
+            finalizedOffset + 18, UINT64_SERIALIZER, BYTES_SERIALIZER, SEQUENTIAL_SCAN);
 
     deletedColumnIds =
         List.of(
@@ -125,6 +152,11 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
     return finalizedStatesBySlot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDeltasBySlot() {
+    return finalizedStateDeltasBySlot;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot() {
     return slotsByFinalizedRoot;
@@ -192,6 +224,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
+        .put("FINALIZED_STATE_DELTAS_BY_SLOT", getColumnFinalizedStateDeltasBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
@@ -17,6 +17,8 @@ import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAG
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE_FINALIZED_DB;
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE_HOT_DB;
 
+import java.nio.file.Path;
+import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.storage.server.Database;
@@ -76,6 +78,8 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int fullStateSnapshotInterval,
+      final Optional<Path> dataColumnSidecarSegmentDirectory,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
     final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
@@ -90,7 +94,14 @@ public class LevelDbDatabaseFactory {
             schema.getDeletedVariableIds());
 
     return KvStoreDatabase.createWithStateSnapshots(
-        db, schema, stateStorageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+        db,
+        schema,
+        stateStorageMode,
+        stateStorageFrequency,
+        fullStateSnapshotInterval,
+        dataColumnSidecarSegmentDirectory,
+        storeNonCanonicalBlocks,
+        spec);
   }
 
   public static Database createLevelDbTree(
@@ -99,6 +110,7 @@ public class LevelDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
       final int maxKnownNodeCacheSize,
+      final long treeNodeCacheSizeBytes,
       final Spec spec) {
 
     final V6SchemaCombinedTreeState schema = new V6SchemaCombinedTreeState(spec);
@@ -118,6 +130,7 @@ public class LevelDbDatabaseFactory {
         stateStorageMode,
         storeNonCanonicalBlocks,
         maxKnownNodeCacheSize,
+        treeNodeCacheSizeBytes,
         spec);
   }
 }
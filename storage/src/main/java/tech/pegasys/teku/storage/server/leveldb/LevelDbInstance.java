@@ -314,6 +314,25 @@ public class LevelDbInstance implements KvStoreAccessor {
         .onClose(() -> closeIterator(iterator));
   }
 
+  @Override
+  public <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    // LevelDB doesn't support range deletes so delete each key individually
+    final List<K> keys;
+    try (final Stream<K> stream = streamKeys(column, from, to)) {
+      keys = stream.filter(key -> key.compareTo(to) < 0).toList();
+    }
+    try (final KvStoreTransaction transaction = startTransaction()) {
+      keys.forEach(key -> transaction.delete(column, key));
+      transaction.commit();
+    }
+  }
+
+  @Override
+  public boolean isWriteStalled() {
+    return false;
+  }
+
   @Override
   @MustBeClosed
   public synchronized KvStoreTransaction startTransaction() {
@@ -111,6 +111,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return Optional.empty();
@@ -418,6 +423,11 @@ public class NoOpDatabase implements Database {
   @Override
   public void pruneAllSidecars(final UInt64 tillSlotInclusive, final int pruneLimit) {}
 
+  @Override
+  public boolean isWriteStalled() {
+    return false;
+  }
+
   @Override
   public void close() {}
 }
@@ -21,7 +21,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Cancellable;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -40,7 +39,7 @@ public class BlobSidecarPruner extends Service {
 
   private final Spec spec;
   private final Database database;
-  private final AsyncRunner asyncRunner;
+  private final PruningScheduler pruningScheduler;
   private final Duration pruneInterval;
   private final int pruneLimit;
   private final TimeProvider timeProvider;
@@ -62,7 +61,7 @@ public class BlobSidecarPruner extends Service {
       final Database database,
       final BlobSidecarsArchiver blobSidecarsArchiver,
       final MetricsSystem metricsSystem,
-      final AsyncRunner asyncRunner,
+      final PruningScheduler pruningScheduler,
       final TimeProvider timeProvider,
       final Duration pruneInterval,
       final int pruneLimit,
@@ -74,7 +73,7 @@ public class BlobSidecarPruner extends Service {
     this.spec = spec;
     this.database = database;
     this.blobSidecarsArchiver = blobSidecarsArchiver;
-    this.asyncRunner = asyncRunner;
+    this.pruningScheduler = pruningScheduler;
     this.pruneInterval = pruneInterval;
     this.pruneLimit = pruneLimit;
     this.timeProvider = timeProvider;
@@ -101,10 +100,10 @@ public class BlobSidecarPruner extends Service {
   protected synchronized SafeFuture<?> doStart() {
     scheduledPruner =
         Optional.of(
-            asyncRunner.runWithFixedDelay(
-                this::pruneBlobs,
-                Duration.ZERO,
+            pruningScheduler.schedule(
+                PruningScheduler.Priority.BLOB_SIDECARS,
                 pruneInterval,
+                this::pruneBlobs,
                 error -> LOG.error("Failed to prune old blobs", error)));
     return SafeFuture.COMPLETE;
   }
@@ -18,7 +18,6 @@ import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Cancellable;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -34,7 +33,7 @@ public class BlockPruner extends Service {
 
   private final Spec spec;
   private final Database database;
-  private final AsyncRunner asyncRunner;
+  private final PruningScheduler pruningScheduler;
   private final Duration pruneInterval;
   private final int pruneLimit;
   private final SettableLabelledGauge pruningTimingsLabelledGauge;
@@ -46,7 +45,7 @@ public class BlockPruner extends Service {
   public BlockPruner(
       final Spec spec,
       final Database database,
-      final AsyncRunner asyncRunner,
+      final PruningScheduler pruningScheduler,
       final Duration pruneInterval,
       final int pruneLimit,
       final String pruningMetricsType,
@@ -54,7 +53,7 @@ public class BlockPruner extends Service {
       final SettableLabelledGauge pruningActiveLabelledGauge) {
     this.spec = spec;
     this.database = database;
-    this.asyncRunner = asyncRunner;
+    this.pruningScheduler = pruningScheduler;
     this.pruneInterval = pruneInterval;
     this.pruningMetricsType = pruningMetricsType;
     this.pruningTimingsLabelledGauge = pruningTimingsLabelledGauge;
@@ -66,7 +65,9 @@ public class BlockPruner extends Service {
   protected synchronized SafeFuture<?> doStart() {
     scheduledPruner =
         Optional.of(
-            asyncRunner.runWithFixedDelay(
+            pruningScheduler.schedule(
+                PruningScheduler.Priority.BLOCKS,
+                pruneInterval,
                 () -> {
                   pruningActiveLabelledGauge.set(1, pruningMetricsType);
                   final long start = System.currentTimeMillis();
@@ -75,8 +76,6 @@ public class BlockPruner extends Service {
                       System.currentTimeMillis() - start, pruningMetricsType);
                   pruningActiveLabelledGauge.set(0, pruningMetricsType);
                 },
-                Duration.ZERO,
-                pruneInterval,
                 error -> LOG.error("Failed to prune old blocks", error)));
     return SafeFuture.COMPLETE;
   }
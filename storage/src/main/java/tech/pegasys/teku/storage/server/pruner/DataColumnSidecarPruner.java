@@ -20,7 +20,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Cancellable;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -38,7 +37,7 @@ public class DataColumnSidecarPruner extends Service {
 
   private final Spec spec;
   private final Database database;
-  private final AsyncRunner asyncRunner;
+  private final PruningScheduler pruningScheduler;
   private final Duration pruneInterval;
   private final int pruneLimit;
   private final TimeProvider timeProvider;
@@ -57,7 +56,7 @@ public class DataColumnSidecarPruner extends Service {
       final Spec spec,
       final Database database,
       final MetricsSystem metricsSystem,
-      final AsyncRunner asyncRunner,
+      final PruningScheduler pruningScheduler,
       final TimeProvider timeProvider,
       final Duration pruneInterval,
       final int pruneLimit,
@@ -67,7 +66,7 @@ public class DataColumnSidecarPruner extends Service {
       final SettableLabelledGauge pruningActiveLabelledGauge) {
     this.spec = spec;
     this.database = database;
-    this.asyncRunner = asyncRunner;
+    this.pruningScheduler = pruningScheduler;
     this.pruneInterval = pruneInterval;
     this.pruneLimit = pruneLimit;
     this.timeProvider = timeProvider;
@@ -92,10 +91,10 @@ public class DataColumnSidecarPruner extends Service {
   protected SafeFuture<?> doStart() {
     scheduledPruner =
         Optional.of(
-            asyncRunner.runWithFixedDelay(
-                this::pruneDataColumnSidecars,
-                Duration.ZERO,
+            pruningScheduler.schedule(
+                PruningScheduler.Priority.DATA_COLUMN_SIDECARS,
                 pruneInterval,
+                this::pruneDataColumnSidecars,
                 error -> LOG.error("Failed to prune old data column sidecars", error)));
     return SafeFuture.COMPLETE;
   }
@@ -0,0 +1,27 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.pruner;
+
+import java.util.Optional;
+
+/** Decides whether pruning may write to the database right now. */
+public interface PruningGate {
+
+  PruningGate ALWAYS_OPEN = Optional::empty;
+
+  /**
+   * @return the reason pruning should be deferred, or empty if pruning may proceed
+   */
+  Optional<String> getDeferralReason();
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.pruner;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.Cancellable;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Runs all pruners through a single queue so that they never write concurrently with each other.
+ *
+ * <p>Each pruner still has its own interval, but when it becomes due it is queued and the queue is
+ * drained in priority order. Before each task the {@link PruningGate} is consulted and, if it asks
+ * to defer, the remaining tasks are retried shortly after. To make sure pruning can't be starved
+ * indefinitely the gate is ignored after {@link #MAX_CONSECUTIVE_DEFERRALS} deferrals in a row.
+ *
+ * <p>Only one thread drains the queue at a time and the pruners run outside the scheduler lock, so
+ * a task becoming due while another is running is queued without waiting for it.
+ */
+public class PruningScheduler {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final Duration DEFERRAL_RETRY_DELAY = Duration.ofSeconds(1);
+  static final int MAX_CONSECUTIVE_DEFERRALS = 30;
+
+  /** Pruning priorities, highest first. */
+  public enum Priority {
+    DATA_COLUMN_SIDECARS,
+    BLOB_SIDECARS,
+    BLOCKS,
+    STATES
+  }
+
+  private final AsyncRunner asyncRunner;
+  private final PruningGate gate;
+  private final LabelledMetric<Counter> deferralCounter;
+
+  private final PriorityQueue<PruningTask> dueTasks =
+      new PriorityQueue<>(Comparator.comparing(task -> task.priority));
+  private boolean retryScheduled = false;
+  private boolean running = false;
+  private int consecutiveDeferrals = 0;
+
+  public PruningScheduler(
+      final AsyncRunner asyncRunner, final PruningGate gate, final MetricsSystem metricsSystem) {
+    this.asyncRunner = asyncRunner;
+    this.gate = gate;
+    this.deferralCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            "pruning_deferrals_total",
+            "Number of times pruning was deferred",
+            "reason");
+  }
+
+  public Cancellable schedule(
+      final Priority priority,
+      final Duration interval,
+      final Runnable action,
+      final Consumer<Throwable> errorHandler) {
+    final PruningTask task = new PruningTask(priority, action, errorHandler);
+    final Cancellable scheduledTask =
+        asyncRunner.runWithFixedDelay(
+            () -> {
+              enqueue(task);
+              runDueTasks();
+            },
+            Duration.ZERO,
+            interval,
+            errorHandler);
+    return new Cancellable() {
+      @Override
+      public void cancel() {
+        task.cancelled = true;
+        scheduledTask.cancel();
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return scheduledTask.isCancelled();
+      }
+    };
+  }
+
+  private synchronized void enqueue(final PruningTask task) {
+    if (!task.cancelled && !dueTasks.contains(task)) {
+      dueTasks.add(task);
+    }
+  }
+
+  private void runDueTasks() {
+    synchronized (this) {
+      if (running) {
+        // The thread already draining the queue will pick up any newly queued tasks
+        return;
+      }
+      running = true;
+    }
+    boolean drained = false;
+    try {
+      Optional<PruningTask> task = takeNextTask();
+      while (task.isPresent()) {
+        try {
+          task.get().action.run();
+        } catch (final Throwable t) {
+          task.get().errorHandler.accept(t);
+        }
+        task = takeNextTask();
+      }
+      drained = true;
+    } finally {
+      if (!drained) {
+        synchronized (this) {
+          running = false;
+        }
+      }
+    }
+  }
+
+  /**
+   * Takes the next task to run, or clears {@code running} and returns empty if the queue is empty
+   * or the gate asks to defer.
+   */
+  private synchronized Optional<PruningTask> takeNextTask() {
+    while (!dueTasks.isEmpty()) {
+      final Optional<String> deferralReason = gate.getDeferralReason();
+      if (deferralReason.isPresent() && consecutiveDeferrals < MAX_CONSECUTIVE_DEFERRALS) {
+        consecutiveDeferrals++;
+        deferralCounter.labels(deferralReason.get()).inc();
+        LOG.trace("Deferring {} pruning tasks: {}", dueTasks.size(), deferralReason.get());
+        scheduleRetry();
+        break;
+      }
+      consecutiveDeferrals = 0;
+      final PruningTask task = dueTasks.poll();
+      if (!task.cancelled) {
+        return Optional.of(task);
+      }
+    }
+    running = false;
+    return Optional.empty();
+  }
+
+  private void scheduleRetry() {
+    if (retryScheduled) {
+      return;
+    }
+    retryScheduled = true;
+    asyncRunner
+        .runAfterDelay(
+            () -> {
+              synchronized (this) {
+                retryScheduled = false;
+              }
+              runDueTasks();
+            },
+            DEFERRAL_RETRY_DELAY)
+        .finish(error -> LOG.error("Failed to run deferred pruning tasks", error));
+  }
+
+  private static class PruningTask {
+    private final Priority priority;
+    private final Runnable action;
+    private final Consumer<Throwable> errorHandler;
+    private volatile boolean cancelled = false;
+
+    private PruningTask(
+        final Priority priority, final Runnable action, final Consumer<Throwable> errorHandler) {
+      this.priority = priority;
+      this.action = action;
+      this.errorHandler = errorHandler;
+    }
+  }
+}
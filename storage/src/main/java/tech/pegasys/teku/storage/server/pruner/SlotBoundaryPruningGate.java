@@ -0,0 +1,84 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.pruner;
+
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeUtilities;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.storage.server.Database;
+
+/**
+ * Defers pruning while blocks are likely being imported, from just before the start of a slot until
+ * the attestation due time, and while the database is throttling writes.
+ */
+public class SlotBoundaryPruningGate implements PruningGate {
+  static final String SLOT_BOUNDARY = "slot_boundary";
+  static final String WRITE_STALL = "write_stall";
+
+  private static final long MILLIS_BEFORE_SLOT_START = 500;
+
+  private final Spec spec;
+  private final Database database;
+  private final TimeProvider timeProvider;
+
+  private Optional<UInt64> genesisTimeMillis = Optional.empty();
+
+  public SlotBoundaryPruningGate(
+      final Spec spec, final Database database, final TimeProvider timeProvider) {
+    this.spec = spec;
+    this.database = database;
+    this.timeProvider = timeProvider;
+  }
+
+  @Override
+  public Optional<String> getDeferralReason() {
+    if (isNearSlotBoundary()) {
+      return Optional.of(SLOT_BOUNDARY);
+    }
+    if (database.isWriteStalled()) {
+      return Optional.of(WRITE_STALL);
+    }
+    return Optional.empty();
+  }
+
+  private boolean isNearSlotBoundary() {
+    final Optional<UInt64> maybeGenesisTimeMillis = getGenesisTimeMillis();
+    if (maybeGenesisTimeMillis.isEmpty()) {
+      return false;
+    }
+    final UInt64 genesisTimeMillis = maybeGenesisTimeMillis.get();
+    final UInt64 currentTimeMillis = timeProvider.getTimeInMillis();
+    if (currentTimeMillis.isLessThan(genesisTimeMillis)) {
+      return false;
+    }
+    final UInt64 currentSlot =
+        spec.getCurrentSlotFromTimeMillis(currentTimeMillis, genesisTimeMillis);
+    final long millisIntoSlot =
+        currentTimeMillis
+            .minus(spec.computeTimeMillisAtSlot(currentSlot, genesisTimeMillis))
+            .longValue();
+    final int slotDurationMillis = spec.getSlotDurationMillis(currentSlot);
+    return millisIntoSlot < slotDurationMillis / 3
+        || millisIntoSlot >= slotDurationMillis - MILLIS_BEFORE_SLOT_START;
+  }
+
+  private Optional<UInt64> getGenesisTimeMillis() {
+    if (genesisTimeMillis.isEmpty()) {
+      genesisTimeMillis = database.getGenesisTime().map(TimeUtilities::secondsToMillis);
+    }
+    return genesisTimeMillis;
+  }
+}
@@ -19,7 +19,6 @@ import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.Cancellable;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
@@ -35,7 +34,7 @@ public class StatePruner extends Service {
 
   private final Spec spec;
   private final Database database;
-  private final AsyncRunner asyncRunner;
+  private final PruningScheduler pruningScheduler;
   private final Duration pruneInterval;
   private final long pruneLimit;
   private final long slotsToRetain;
@@ -50,7 +49,7 @@ public class StatePruner extends Service {
   public StatePruner(
       final Spec spec,
       final Database database,
-      final AsyncRunner asyncRunner,
+      final PruningScheduler pruningScheduler,
       final Duration pruneInterval,
       final long slotsToRetain,
       final long pruneLimit,
@@ -59,7 +58,7 @@ public class StatePruner extends Service {
       final SettableLabelledGauge pruningActiveLabelledGauge) {
     this.spec = spec;
     this.database = database;
-    this.asyncRunner = asyncRunner;
+    this.pruningScheduler = pruningScheduler;
     this.pruneInterval = pruneInterval;
     this.pruningMetricsType = pruningMetricsType;
     this.pruningTimingsLabelledGauge = pruningTimingsLabelledGauge;
@@ -72,7 +71,9 @@ public class StatePruner extends Service {
   protected synchronized SafeFuture<?> doStart() {
     scheduledPruner =
         Optional.of(
-            asyncRunner.runWithFixedDelay(
+            pruningScheduler.schedule(
+                PruningScheduler.Priority.STATES,
+                pruneInterval,
                 () -> {
                   pruningActiveLabelledGauge.set(1, pruningMetricsType);
                   final long start = System.currentTimeMillis();
@@ -81,8 +82,6 @@ public class StatePruner extends Service {
                       System.currentTimeMillis() - start, pruningMetricsType);
                   pruningActiveLabelledGauge.set(0, pruningMetricsType);
                 },
-                Duration.ZERO,
-                pruneInterval,
                 error -> LOG.error("Failed to prune old states", error)));
     return SafeFuture.COMPLETE;
   }
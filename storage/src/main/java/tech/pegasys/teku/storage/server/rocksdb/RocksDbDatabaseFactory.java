@@ -17,6 +17,8 @@ import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAG
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE_FINALIZED_DB;
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE_HOT_DB;
 
+import java.nio.file.Path;
+import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.storage.server.Database;
@@ -78,6 +80,8 @@ public class RocksDbDatabaseFactory {
       final SchemaCombinedSnapshotState schema,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final int fullStateSnapshotInterval,
+      final Optional<Path> dataColumnSidecarSegmentDirectory,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
 
@@ -92,6 +96,13 @@ public class RocksDbDatabaseFactory {
             schema.getDeletedVariableIds());
 
     return KvStoreDatabase.createWithStateSnapshots(
-        db, schema, stateStorageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+        db,
+        schema,
+        stateStorageMode,
+        stateStorageFrequency,
+        fullStateSnapshotInterval,
+        dataColumnSidecarSegmentDirectory,
+        storeNonCanonicalBlocks,
+        spec);
   }
 }
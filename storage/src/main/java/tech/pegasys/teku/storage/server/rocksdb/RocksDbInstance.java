@@ -28,8 +28,10 @@ import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.AbstractRocksIterator;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Status;
 import org.rocksdb.TransactionDB;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
@@ -43,7 +45,10 @@ public class RocksDbInstance implements KvStoreAccessor {
   private final ColumnFamilyHandle defaultHandle;
   private final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles;
   private final List<AutoCloseable> resources;
+  private final RocksDbStats stats;
   private final Set<RocksDbTransaction> openTransactions = new HashSet<>();
+  // Some columns use a prefix extractor, iterators must still see keys across all prefixes
+  private final ReadOptions iteratorReadOptions = new ReadOptions().setTotalOrderSeek(true);
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -51,11 +56,13 @@ public class RocksDbInstance implements KvStoreAccessor {
       final TransactionDB db,
       final ColumnFamilyHandle defaultHandle,
       final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles,
-      final List<AutoCloseable> resources) {
+      final List<AutoCloseable> resources,
+      final RocksDbStats stats) {
     this.db = db;
     this.defaultHandle = defaultHandle;
     this.columnHandles = columnHandles;
     this.resources = resources;
+    this.stats = stats;
   }
 
   @Override
@@ -127,7 +134,7 @@ public class RocksDbInstance implements KvStoreAccessor {
   public <K, V> Optional<K> getLastKey(final KvStoreColumn<K, V> column) {
     assertOpen();
     final ColumnFamilyHandle handle = columnHandles.get(column);
-    try (final RocksIterator rocksDbIterator = db.newIterator(handle)) {
+    try (final RocksIterator rocksDbIterator = db.newIterator(handle, iteratorReadOptions)) {
       rocksDbIterator.seekToLast();
       return rocksDbIterator.isValid()
           ? Optional.of(column.getKeySerializer().deserialize(rocksDbIterator.key()))
@@ -197,6 +204,37 @@ public class RocksDbInstance implements KvStoreAccessor {
         key -> key.compareTo(to) <= 0);
   }
 
+  @Override
+  public <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    final ColumnFamilyHandle handle = columnHandles.get(column);
+    try {
+      db.deleteRange(
+          handle,
+          column.getKeySerializer().serialize(from),
+          column.getKeySerializer().serialize(to));
+    } catch (RocksDBException e) {
+      if (e.getStatus() == null || e.getStatus().getCode() != Status.Code.NotSupported) {
+        throw RocksDbExceptionUtil.wrapException("Failed to delete key range", e);
+      }
+      // Older TransactionDB versions don't support range deletes so delete each key instead
+      final List<K> keys;
+      try (final Stream<K> stream = streamKeys(column, from, to)) {
+        keys = stream.filter(key -> key.compareTo(to) < 0).toList();
+      }
+      try (final KvStoreTransaction transaction = startTransaction()) {
+        keys.forEach(key -> transaction.delete(column, key));
+        transaction.commit();
+      }
+    }
+  }
+
+  @Override
+  public boolean isWriteStalled() {
+    return !closed.get() && stats.isWriteStalled(db);
+  }
+
   @Override
   @MustBeClosed
   public synchronized KvStoreTransaction startTransaction() {
@@ -251,7 +289,7 @@ public class RocksDbInstance implements KvStoreAccessor {
       final Predicate<K> continueTest) {
     assertOpen();
     final ColumnFamilyHandle handle = columnHandles.get(column);
-    final RocksIterator rocksDbIterator = db.newIterator(handle);
+    final RocksIterator rocksDbIterator = db.newIterator(handle, iteratorReadOptions);
     setupIterator.accept(rocksDbIterator);
     return RocksDbIterator.create(column, rocksDbIterator, continueTest, closed::get).toStream();
   }
@@ -264,7 +302,7 @@ public class RocksDbInstance implements KvStoreAccessor {
       final Predicate<K> continueTest) {
     assertOpen();
     final ColumnFamilyHandle handle = columnHandles.get(column);
-    final RocksIterator rocksDbIterator = db.newIterator(handle);
+    final RocksIterator rocksDbIterator = db.newIterator(handle, iteratorReadOptions);
     setupIterator.accept(rocksDbIterator);
     return RocksDbKeyIterator.create(column, rocksDbIterator, continueTest, closed::get).toStream();
   }
@@ -279,6 +317,7 @@ public class RocksDbInstance implements KvStoreAccessor {
       for (final AutoCloseable resource : resources) {
         resource.close();
       }
+      iteratorReadOptions.close();
     }
   }
 
@@ -17,13 +17,17 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.EXPECTED_WAL_FILE_SIZE;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.NUMBER_OF_LOG_FILES_TO_KEEP;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_BLOCK_SIZE;
+import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_SCAN_BLOCK_SIZE;
+import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_SLOT_PREFIX_LENGTH;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.TIME_TO_ROLL_LOG_FILE;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.WAL_MAX_TOTAL_SIZE;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,7 +43,9 @@ import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
+import org.rocksdb.Filter;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
@@ -49,6 +55,7 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
@@ -85,12 +92,10 @@ public class RocksDbInstanceFactory {
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
-    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats));
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
+        createColumnFamilyOptionsByProfile(configuration, resources);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptions);
@@ -126,7 +131,7 @@ public class RocksDbInstanceFactory {
 
       rocksDbStats.registerMetrics(db);
 
-      return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
+      return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources, rocksDbStats);
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException(
           "Failed to open database at path: " + configuration.getDatabaseDir(), e);
@@ -148,6 +153,38 @@ public class RocksDbInstanceFactory {
         .orElseThrow(() -> DatabaseStorageException.unrecoverable("No default column defined"));
   }
 
+  /**
+   * Creates the column family options for each {@link KvStoreColumnProfile}. The options and the
+   * native caches and filter they share are added to {@code resources} to be closed with the
+   * database.
+   */
+  @VisibleForTesting
+  static Map<KvStoreColumnProfile, ColumnFamilyOptions> createColumnFamilyOptionsByProfile(
+      final KvStoreConfiguration configuration, final List<AutoCloseable> resources) {
+    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
+    // Scans and cold sidecar reads get their own caches so they can't evict hot lookups
+    final LRUCache scanBlockCache = new LRUCache(configuration.getScanCacheCapacity());
+    final LRUCache coldBlockCache = new LRUCache(configuration.getColdCacheCapacity());
+    final BloomFilter bloomFilter = new BloomFilter(10, false);
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
+        new EnumMap<>(KvStoreColumnProfile.class);
+    columnFamilyOptions.put(
+        KvStoreColumnProfile.DEFAULT,
+        createColumnFamilyOptions(configuration, blockCache, bloomFilter));
+    columnFamilyOptions.put(
+        KvStoreColumnProfile.POINT_LOOKUP,
+        createPointLookupColumnFamilyOptions(configuration, blockCache, bloomFilter));
+    columnFamilyOptions.put(
+        KvStoreColumnProfile.SEQUENTIAL_SCAN,
+        createSequentialScanColumnFamilyOptions(configuration, scanBlockCache));
+    columnFamilyOptions.put(
+        KvStoreColumnProfile.WRITE_ONCE_COLD,
+        createWriteOnceColdColumnFamilyOptions(configuration, coldBlockCache, bloomFilter));
+    resources.addAll(columnFamilyOptions.values());
+    resources.addAll(List.of(blockCache, scanBlockCache, coldBlockCache, bloomFilter));
+    return columnFamilyOptions;
+  }
+
   private static DBOptions createDBOptions(
       final KvStoreConfiguration configuration, final Statistics stats) {
     final DBOptions options =
@@ -174,32 +211,110 @@ public class RocksDbInstanceFactory {
   }
 
   private static ColumnFamilyOptions createColumnFamilyOptions(
+      final KvStoreConfiguration configuration, final Cache cache, final Filter filter) {
+    return new ColumnFamilyOptions()
+        .setCompressionType(configuration.getCompressionType())
+        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+        .setLevelCompactionDynamicLevelBytes(true)
+        .setTableFormatConfig(createBlockBasedTableConfig(cache, filter));
+  }
+
+  /** Small values read by exact key, keep their index and filter blocks hot in the cache. */
+  private static ColumnFamilyOptions createPointLookupColumnFamilyOptions(
+      final KvStoreConfiguration configuration, final Cache cache, final Filter filter) {
+    return new ColumnFamilyOptions()
+        .setCompressionType(configuration.getCompressionType())
+        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+        .setLevelCompactionDynamicLevelBytes(true)
+        .setTableFormatConfig(
+            new BlockBasedTableConfig()
+                .setFormatVersion(5)
+                .setBlockCache(cache)
+                .setFilterPolicy(filter)
+                .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+                .setCacheIndexAndFilterBlocks(true)
+                .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                .setPinL0FilterAndIndexBlocksInCache(true)
+                .setBlockSize(ROCKSDB_BLOCK_SIZE));
+  }
+
+  /**
+   * Slot keyed values read by iterating ranges. Bloom filters are never consulted by seeks so they
+   * are skipped, and larger blocks reduce the number of reads per scan.
+   */
+  private static ColumnFamilyOptions createSequentialScanColumnFamilyOptions(
       final KvStoreConfiguration configuration, final Cache cache) {
     return new ColumnFamilyOptions()
         .setCompressionType(configuration.getCompressionType())
         .setBottommostCompressionType(configuration.getBottomMostCompressionType())
         .setLevelCompactionDynamicLevelBytes(true)
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+        .setTableFormatConfig(
+            new BlockBasedTableConfig()
+                .setFormatVersion(5)
+                .setBlockCache(cache)
+                .setCacheIndexAndFilterBlocks(false)
+                .setBlockSize(ROCKSDB_SCAN_BLOCK_SIZE));
+  }
+
+  /**
+   * Large slot-prefixed values that are written once and deleted in slot order. Values are moved
+   * into blob files so compaction only has to rewrite the small keys, and the slot prefix is used
+   * to build prefix bloom filters.
+   */
+  private static ColumnFamilyOptions createWriteOnceColdColumnFamilyOptions(
+      final KvStoreConfiguration configuration, final Cache cache, final Filter filter) {
+    final ColumnFamilyOptions options =
+        new ColumnFamilyOptions()
+            .setCompressionType(configuration.getCompressionType())
+            .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+            .setLevelCompactionDynamicLevelBytes(true)
+            .useFixedLengthPrefixExtractor(ROCKSDB_SLOT_PREFIX_LENGTH)
+            .setTableFormatConfig(
+                new BlockBasedTableConfig()
+                    .setFormatVersion(5)
+                    .setBlockCache(cache)
+                    .setFilterPolicy(filter)
+                    .setWholeKeyFiltering(true)
+                    .setCacheIndexAndFilterBlocks(true)
+                    .setBlockSize(ROCKSDB_BLOCK_SIZE));
+    if (configuration.isBlobFilesEnabled()) {
+      options
+          .setEnableBlobFiles(true)
+          .setMinBlobSize(configuration.getMinBlobSize())
+          .setBlobCompressionType(configuration.getCompressionType())
+          .setEnableBlobGarbageCollection(true);
+    }
+    return options;
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
       final Collection<Bytes> deletedColumns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions) {
+    final ColumnFamilyOptions defaultOptions =
+        columnFamilyOptions.get(KvStoreColumnProfile.DEFAULT);
     final List<ColumnFamilyDescriptor> columnDescriptors =
-        Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
-            .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), columnFamilyOptions))
+        Stream.concat(
+                columns.stream()
+                    .map(
+                        column ->
+                            new ColumnFamilyDescriptor(
+                                column.getId().toArrayUnsafe(),
+                                columnFamilyOptions.get(column.getProfile()))),
+                deletedColumns.stream()
+                    .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), defaultOptions)))
             .collect(Collectors.toCollection(ArrayList::new));
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), defaultOptions));
     return Collections.unmodifiableList(columnDescriptors);
   }
 
-  private static BlockBasedTableConfig createBlockBasedTableConfig(final Cache cache) {
+  private static BlockBasedTableConfig createBlockBasedTableConfig(
+      final Cache cache, final Filter filter) {
     return new BlockBasedTableConfig()
         .setFormatVersion(5)
         .setBlockCache(cache)
-        .setFilterPolicy(new BloomFilter(10, false))
+        .setFilterPolicy(filter)
         .setPartitionFilters(true)
         .setCacheIndexAndFilterBlocks(false)
         .setBlockSize(ROCKSDB_BLOCK_SIZE);
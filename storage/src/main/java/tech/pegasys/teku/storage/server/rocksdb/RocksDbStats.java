@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.server.rocksdb;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -152,6 +153,7 @@ public class RocksDbStats implements AutoCloseable {
   };
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final AtomicLong lastStallMicros = new AtomicLong(0);
   private final Statistics stats;
   private final MetricsSystem metricsSystem;
   private final MetricCategory category;
@@ -201,6 +203,19 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  public boolean isWriteStalled(final RocksDB database) {
+    return ifOpen(
+        () -> {
+          final long stallMicros = stats.getTickerCount(TickerType.STALL_MICROS);
+          final boolean stalledSinceLastCheck =
+              stallMicros > lastStallMicros.getAndSet(stallMicros);
+          return stalledSinceLastCheck
+              || getLongProperty(database, "rocksdb.is-write-stopped") > 0
+              || getLongProperty(database, "rocksdb.actual-delayed-write-rate") > 0;
+        },
+        false);
+  }
+
   private ExternalSummary provideExternalSummary(final HistogramType histogramType) {
     return ifOpen(
         () -> {
@@ -14,14 +14,19 @@
 package tech.pegasys.teku.storage.server.state;
 
 import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalCause;
 import com.google.common.cache.RemovalNotification;
 import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -30,6 +35,7 @@ import tech.pegasys.teku.storage.server.Database;
 public class FinalizedStateCache {
 
   private static final long MAX_REGENERATE_LOTS = 10_000L;
+  private static final int MAX_ANCHOR_STATES = StateCacheLoader.ANCHOR_EPOCHS;
 
   /**
    * Note this is a best effort basis to track what states are cached. Slots are added here slightly
@@ -38,8 +44,23 @@ public class FinalizedStateCache {
    */
   private final NavigableSet<UInt64> availableSlots = new ConcurrentSkipListSet<>();
 
+  /**
+   * Regenerations currently in progress, keyed by requested slot. Regenerations for later slots can
+   * wait on these rather than replaying the same blocks again in parallel.
+   */
+  private final NavigableMap<UInt64, SafeFuture<BeaconState>> inFlightRegenerations =
+      new ConcurrentSkipListMap<>();
+
   private final LoadingCache<UInt64, BeaconState> stateCache;
 
+  /**
+   * States recorded part way through regenerating a later state. Held apart from {@link
+   * #stateCache} so they can't evict states that were actually requested.
+   */
+  private final Cache<UInt64, BeaconState> anchorStates;
+
+  private final NavigableSet<UInt64> anchorSlots = new ConcurrentSkipListSet<>();
+
   public FinalizedStateCache(
       final Spec spec,
       final Database database,
@@ -73,6 +94,15 @@ public class FinalizedStateCache {
         cacheBuilder.build(
             new StateCacheLoader(
                 spec, database, stateRebuildTimeoutSeconds, maxRegenerateSlots, this));
+
+    final CacheBuilder<UInt64, BeaconState> anchorCacheBuilder =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_ANCHOR_STATES)
+            .removalListener(this::onRemovedFromAnchors);
+    if (useSoftReferences) {
+      anchorCacheBuilder.softValues();
+    }
+    this.anchorStates = anchorCacheBuilder.build();
   }
 
   private void onRemovedFromCache(
@@ -82,6 +112,13 @@ public class FinalizedStateCache {
     }
   }
 
+  private void onRemovedFromAnchors(
+      final RemovalNotification<UInt64, BeaconState> removalNotification) {
+    if (removalNotification.getCause() != RemovalCause.REPLACED) {
+      anchorSlots.remove(removalNotification.getKey());
+    }
+  }
+
   public Optional<BeaconState> getFinalizedState(final UInt64 slot) {
     try {
       return Optional.of(stateCache.getUnchecked(slot));
@@ -94,13 +131,50 @@ public class FinalizedStateCache {
   }
 
   Optional<BeaconState> getLatestStateFromCache(final UInt64 slot) {
-    return Optional.ofNullable(availableSlots.floor(slot)).map(stateCache::getIfPresent);
+    final Optional<BeaconState> cachedState =
+        Optional.ofNullable(availableSlots.floor(slot)).map(stateCache::getIfPresent);
+    final Optional<BeaconState> anchorState =
+        Optional.ofNullable(anchorSlots.floor(slot)).map(anchorStates::getIfPresent);
+    if (anchorState.isEmpty()) {
+      return cachedState;
+    }
+    return cachedState
+        .filter(state -> state.getSlot().isGreaterThanOrEqualTo(anchorState.get().getSlot()))
+        .or(() -> anchorState);
   }
 
   NavigableSet<UInt64> getAvailableSlots() {
     return availableSlots;
   }
 
+  /**
+   * Adds a state produced part way through regenerating a later state, so that requests for nearby
+   * slots can start from it. Only a small number of recently used anchors are kept.
+   */
+  void addAnchorState(final BeaconState state) {
+    anchorSlots.add(state.getSlot());
+    anchorStates.put(state.getSlot(), state);
+  }
+
+  /** Finds the latest in progress regeneration strictly between the two slots. */
+  Optional<SafeFuture<BeaconState>> getLatestInFlightRegeneration(
+      final UInt64 afterSlot, final UInt64 beforeSlot) {
+    if (afterSlot.isGreaterThanOrEqualTo(beforeSlot)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(
+            inFlightRegenerations.subMap(afterSlot, false, beforeSlot, false).lastEntry())
+        .map(Map.Entry::getValue);
+  }
+
+  void addInFlightRegeneration(final UInt64 slot, final SafeFuture<BeaconState> regeneration) {
+    inFlightRegenerations.put(slot, regeneration);
+  }
+
+  void removeInFlightRegeneration(final UInt64 slot, final SafeFuture<BeaconState> regeneration) {
+    inFlightRegenerations.remove(slot, regeneration);
+  }
+
   /**
    * Cache doesn't allow returning null but we may not be able to regenerate a state so throw this
    * exception and catch it in {@link #getFinalizedState(UInt64)}
@@ -17,9 +17,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import com.google.common.cache.CacheLoader;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,6 +31,13 @@ import tech.pegasys.teku.storage.server.Database;
 
 class StateCacheLoader extends CacheLoader<UInt64, BeaconState> {
   private static final Logger LOG = LogManager.getLogger();
+
+  /**
+   * Number of epochs before the requested slot in which the first state of each epoch is kept as
+   * an anchor for requests of nearby slots.
+   */
+  static final int ANCHOR_EPOCHS = 8;
+
   private final int stateRebuildTimeoutSeconds;
   private final Database database;
   private final long maxRegenerateSlots;
@@ -62,49 +67,102 @@ class StateCacheLoader extends CacheLoader<UInt64, BeaconState> {
     if (maybeState.isEmpty()) {
       return Optional.empty();
     }
-    final BeaconState state = maybeState.get();
+    final BeaconState stateFromDisk = maybeState.get();
+
+    // Registered before selecting a pre-state so requests for later slots can chain onto this one
+    final SafeFuture<BeaconState> regeneration = new SafeFuture<>();
+    finalizedStateCache.addInFlightRegeneration(slot, regeneration);
     try {
-      return Optional.of(
-          regenerateStateWithinReasonableTime(slot, state)
-              .get(stateRebuildTimeoutSeconds, TimeUnit.SECONDS));
-    } catch (ExecutionException | InterruptedException e) {
-      LOG.warn("Failed to regenerate state for slot {}", slot, e);
-      return Optional.empty();
-    } catch (TimeoutException e) {
-      LOG.error(
-          "Timed out trying to regenerate state at slot {} starting from slot {} within {} seconds",
-          slot,
-          state.getSlot(),
-          stateRebuildTimeoutSeconds);
-      return Optional.empty();
+      final BeaconState preState = selectPreState(slot, stateFromDisk).join();
+      final long regenerateSlotCount = slot.minusMinZero(preState.getSlot()).longValue();
+      LOG.trace("Slots to regenerate state from: {}", regenerateSlotCount);
+      if (regenerateSlotCount > maxRegenerateSlots) {
+        LOG.error(
+            "Refusing to regenerate a state that is {} slots from what we have stored",
+            regenerateSlotCount);
+        regeneration.completeExceptionally(new FinalizedStateCache.StateUnavailableException());
+        return Optional.empty();
+      }
+      final BeaconState state = regenerateFrom(slot, preState);
+      finalizedStateCache.getAvailableSlots().add(state.getSlot());
+      regeneration.complete(state);
+      return Optional.of(state);
+    } catch (final RuntimeException e) {
+      regeneration.completeExceptionally(e);
+      throw e;
+    } finally {
+      finalizedStateCache.removeInFlightRegeneration(slot, regeneration);
+    }
+  }
+
+  private BeaconState regenerateFrom(final UInt64 slot, final BeaconState preState) {
+    if (preState.getSlot().equals(slot)) {
+      return preState;
+    }
+    try (final Stream<SignedBeaconBlock> blocks =
+        database.streamFinalizedBlocks(preState.getSlot().plus(ONE), slot)) {
+      final AnchorRecorder anchorRecorder = new AnchorRecorder(preState, slot);
+      return StreamingStateRegenerator.regenerate(spec, preState, blocks, anchorRecorder::onState);
     }
   }
 
-  private SafeFuture<BeaconState> regenerateStateWithinReasonableTime(
+  /**
+   * Selects the closest state to start regenerating from, preferring states already in the cache
+   * and the result of any regeneration for an earlier slot that is currently in progress over the
+   * state loaded from disk.
+   *
+   * <p>An in progress regeneration is chained rather than waited on, falling back to the closest
+   * available state if it fails or doesn't complete within the rebuild timeout. The returned future
+   * therefore always completes successfully.
+   */
+  private SafeFuture<BeaconState> selectPreState(
       final UInt64 slot, final BeaconState stateFromDisk) {
-    final Optional<BeaconState> latestStateFromCache =
-        finalizedStateCache.getLatestStateFromCache(slot);
-    final BeaconState preState =
-        latestStateFromCache
+    final BeaconState latestAvailableState =
+        finalizedStateCache
+            .getLatestStateFromCache(slot)
             .filter(
                 stateFromCache -> stateFromCache.getSlot().compareTo(stateFromDisk.getSlot()) >= 0)
             .orElse(stateFromDisk);
-    if (preState.getSlot().equals(slot)) {
-      return SafeFuture.completedFuture(preState);
-    }
-    final long regenerateSlotCount = slot.minusMinZero(stateFromDisk.getSlot()).longValue();
-    LOG.trace("Slots to regenerate state from: {}", regenerateSlotCount);
-    if (regenerateSlotCount > maxRegenerateSlots) {
-      LOG.error(
-          "Refusing to regenerate a state that is {} slots from what we have stored",
-          regenerateSlotCount);
-      return SafeFuture.failedFuture(new FinalizedStateCache.StateUnavailableException());
+    return finalizedStateCache
+        .getLatestInFlightRegeneration(latestAvailableState.getSlot(), slot)
+        .map(
+            inFlightRegeneration ->
+                inFlightRegeneration
+                    .thenApply(
+                        inFlightState ->
+                            inFlightState.getSlot().isGreaterThan(latestAvailableState.getSlot())
+                                ? inFlightState
+                                : latestAvailableState)
+                    .orTimeout(stateRebuildTimeoutSeconds, TimeUnit.SECONDS)
+                    .exceptionally(
+                        error -> {
+                          LOG.debug(
+                              "Unable to reuse in progress regeneration for slot {}", slot, error);
+                          return latestAvailableState;
+                        }))
+        .orElseGet(() -> SafeFuture.completedFuture(latestAvailableState));
+  }
+
+  /** Records the first state of each epoch close to the target slot as an anchor. */
+  private class AnchorRecorder {
+    private final UInt64 firstAnchorEpoch;
+    private final UInt64 targetSlot;
+    private UInt64 lastEpoch;
+
+    private AnchorRecorder(final BeaconState preState, final UInt64 targetSlot) {
+      this.targetSlot = targetSlot;
+      this.lastEpoch = spec.computeEpochAtSlot(preState.getSlot());
+      this.firstAnchorEpoch = spec.computeEpochAtSlot(targetSlot).minusMinZero(ANCHOR_EPOCHS);
     }
-    try (final Stream<SignedBeaconBlock> blocks =
-        database.streamFinalizedBlocks(preState.getSlot().plus(ONE), slot)) {
-      final BeaconState state = StreamingStateRegenerator.regenerate(spec, preState, blocks);
-      finalizedStateCache.getAvailableSlots().add(state.getSlot());
-      return SafeFuture.completedFuture(state);
+
+    private void onState(final BeaconState state) {
+      final UInt64 epoch = spec.computeEpochAtSlot(state.getSlot());
+      if (epoch.isGreaterThan(lastEpoch)
+          && epoch.isGreaterThanOrEqualTo(firstAnchorEpoch)
+          && state.getSlot().isLessThan(targetSlot)) {
+        finalizedStateCache.addAnchorState(state);
+      }
+      lastEpoch = epoch;
     }
   }
 }
@@ -49,5 +49,5 @@ public abstract class CacheableStore implements UpdatableStore {
 
   abstract void setHighestVotedValidatorIndex(UInt64 highestVotedValidatorIndex);
 
-  abstract void setVote(int index, VoteTracker voteTracker);
+  abstract void setVotes(Map<UInt64, VoteTracker> votes);
 }
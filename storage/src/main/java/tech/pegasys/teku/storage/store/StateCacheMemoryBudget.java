@@ -0,0 +1,260 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * A memory budget shared by several state caches. Eviction is least recently used across all the
+ * caches and is driven by the estimated heap used by the cached states rather than their number.
+ * States share most of their tree nodes so the estimate only counts each node once, see {@link
+ * TreeNodeMemoryTracker}.
+ *
+ * <p>The most recently used entry is never evicted, even if it alone exceeds the budget.
+ */
+class StateCacheMemoryBudget {
+  private final long maxBytes;
+  private final MetricsSystem metricsSystem;
+  private final TreeNodeMemoryTracker tracker = new TreeNodeMemoryTracker();
+  // Access ordered so the first entry is the least recently used
+  private final LinkedHashMap<BudgetedEntry<?>, TreeNode> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final LabelledMetric<Counter> requestCounter;
+  private final LabelledMetric<Counter> evictionCounter;
+
+  StateCacheMemoryBudget(final MetricsSystem metricsSystem, final long maxBytes) {
+    checkArgument(maxBytes > 0, "State cache memory budget must be positive");
+    this.maxBytes = maxBytes;
+    this.metricsSystem = metricsSystem;
+    this.requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            "memory_state_cache_requests_total",
+            "Number of lookups in the memory budgeted state caches",
+            "cache",
+            "result");
+    this.evictionCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            "memory_state_cache_evictions_total",
+            "Number of states evicted from the memory budgeted state caches",
+            "cache");
+  }
+
+  void startMetrics() {
+    metricsSystem.createGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_state_cache_bytes",
+        "Estimated heap used by cached states, counting shared tree nodes once",
+        this::getTotalBytes);
+    metricsSystem.createGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_state_cache_max_bytes",
+        "Memory budget for cached states",
+        () -> maxBytes);
+  }
+
+  synchronized long getTotalBytes() {
+    return tracker.getTotalBytes();
+  }
+
+  /**
+   * Creates a cache whose entries are accounted against this budget.
+   *
+   * @param name the name used to label metrics for this cache
+   * @param stateExtractor returns the state held by a cached value
+   */
+  <K, V> Map<K, V> createCache(final String name, final Function<V, BeaconState> stateExtractor) {
+    return new BudgetedCache<>(name, stateExtractor);
+  }
+
+  private void add(final BudgetedEntry<?> entry, final TreeNode root) {
+    final TreeNode previous = entries.put(entry, root);
+    tracker.retain(root);
+    if (previous != null) {
+      tracker.release(previous);
+    }
+    evictIfRequired();
+  }
+
+  private void touch(final BudgetedEntry<?> entry) {
+    entries.get(entry);
+  }
+
+  private void remove(final BudgetedEntry<?> entry) {
+    final TreeNode root = entries.remove(entry);
+    if (root != null) {
+      tracker.release(root);
+    }
+  }
+
+  private void evictIfRequired() {
+    final Iterator<Map.Entry<BudgetedEntry<?>, TreeNode>> iterator = entries.entrySet().iterator();
+    while (tracker.getTotalBytes() > maxBytes && entries.size() > 1) {
+      final Map.Entry<BudgetedEntry<?>, TreeNode> eldest = iterator.next();
+      iterator.remove();
+      tracker.release(eldest.getValue());
+      eldest.getKey().evict();
+    }
+  }
+
+  private record BudgetedEntry<K>(BudgetedCache<K, ?> cache, K key) {
+    void evict() {
+      cache.evict(key);
+    }
+  }
+
+  private class BudgetedCache<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> values = new HashMap<>();
+    private final String name;
+    private final Function<V, BeaconState> stateExtractor;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictedCounter;
+
+    private BudgetedCache(final String name, final Function<V, BeaconState> stateExtractor) {
+      this.name = name;
+      this.stateExtractor = stateExtractor;
+      this.hitCounter = requestCounter.labels(name, "hit");
+      this.missCounter = requestCounter.labels(name, "miss");
+      this.evictedCounter = evictionCounter.labels(name);
+    }
+
+    @Override
+    public V get(final Object key) {
+      synchronized (StateCacheMemoryBudget.this) {
+        final V value = values.get(key);
+        if (value == null) {
+          missCounter.inc();
+          return null;
+        }
+        hitCounter.inc();
+        @SuppressWarnings("unchecked")
+        final K typedKey = (K) key;
+        touch(new BudgetedEntry<>(this, typedKey));
+        return value;
+      }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      synchronized (StateCacheMemoryBudget.this) {
+        return values.containsKey(key);
+      }
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+      synchronized (StateCacheMemoryBudget.this) {
+        final V previous = values.put(key, value);
+        add(new BudgetedEntry<>(this, key), stateExtractor.apply(value).getBackingNode());
+        return previous;
+      }
+    }
+
+    @Override
+    public V remove(final Object key) {
+      synchronized (StateCacheMemoryBudget.this) {
+        if (!values.containsKey(key)) {
+          return null;
+        }
+        @SuppressWarnings("unchecked")
+        final K typedKey = (K) key;
+        StateCacheMemoryBudget.this.remove(new BudgetedEntry<>(this, typedKey));
+        return values.remove(key);
+      }
+    }
+
+    @Override
+    public int size() {
+      synchronized (StateCacheMemoryBudget.this) {
+        return values.size();
+      }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+          // Iterate over a snapshot so callers don't need to hold the lock
+          final Iterator<Entry<K, V>> snapshot;
+          synchronized (StateCacheMemoryBudget.this) {
+            snapshot = Map.copyOf(values).entrySet().iterator();
+          }
+          return new Iterator<>() {
+            private Entry<K, V> current;
+
+            @Override
+            public boolean hasNext() {
+              return snapshot.hasNext();
+            }
+
+            @Override
+            public Entry<K, V> next() {
+              current = snapshot.next();
+              return current;
+            }
+
+            @Override
+            public void remove() {
+              BudgetedCache.this.remove(current.getKey());
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return BudgetedCache.this.size();
+        }
+      };
+    }
+
+    private void evict(final K key) {
+      values.remove(key);
+      evictedCounter.inc();
+    }
+
+    // Used as part of the LRU key so must not depend on the cache contents
+    @Override
+    public boolean equals(final Object o) {
+      return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+      return "BudgetedCache{" + name + ", size=" + size() + "}";
+    }
+  }
+}
@@ -20,7 +20,6 @@ import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMilli
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -79,7 +78,6 @@ import tech.pegasys.teku.storage.protoarray.ProtoNode;
 
 class Store extends CacheableStore {
   private static final Logger LOG = LogManager.getLogger();
-  public static final int VOTE_TRACKER_SPARE_CAPACITY = 1000;
 
   private final int hotStatePersistenceFrequencyInEpochs;
 
@@ -94,6 +92,7 @@ class Store extends CacheableStore {
   private Optional<SettableGauge> blobSidecarsBlocksCountGauge = Optional.empty();
 
   private final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates;
+  private final Optional<StateCacheMemoryBudget> stateCacheMemoryBudget;
 
   private final Spec spec;
   private final StateAndBlockSummaryProvider stateProvider;
@@ -113,7 +112,6 @@ class Store extends CacheableStore {
   private Checkpoint bestJustifiedCheckpoint;
   private Optional<SlotAndExecutionPayloadSummary> finalizedOptimisticTransitionPayload;
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
-  private VoteTracker[] votes;
   private UInt64 highestVotedValidatorIndex;
   private Optional<UInt64> custodyGroupCount = Optional.empty();
 
@@ -141,6 +139,7 @@ class Store extends CacheableStore {
       final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates,
       final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates,
       final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars,
+      final Optional<StateCacheMemoryBudget> stateCacheMemoryBudget,
       final Optional<UInt64> custodyGroupCount) {
     checkArgument(
         time.isGreaterThanOrEqualTo(genesisTime),
@@ -168,13 +167,12 @@ class Store extends CacheableStore {
     this.blobSidecars = blobSidecars;
     this.highestVotedValidatorIndex =
         votes.keySet().stream().max(Comparator.naturalOrder()).orElse(UInt64.ZERO);
-    this.votes =
-        new VoteTracker[this.highestVotedValidatorIndex.intValue() + VOTE_TRACKER_SPARE_CAPACITY];
-    votes.forEach((key, value) -> this.votes[key.intValue()] = value);
+    forkChoiceStrategy.putVotes(votes);
 
     // Track latest finalized block
     this.finalizedAnchor = finalizedAnchor;
     this.maybeEpochStates = maybeEpochStates;
+    this.stateCacheMemoryBudget = stateCacheMemoryBudget;
     states.cache(finalizedAnchor.getRoot(), finalizedAnchor);
     this.finalizedOptimisticTransitionPayload = finalizedOptimisticTransitionPayload;
 
@@ -230,19 +228,46 @@ class Store extends CacheableStore {
       final Optional<UInt64> custodyGroupCount) {
     final Map<Bytes32, SignedBeaconBlock> blocks =
         LimitedMap.createSynchronizedNatural(config.getBlockCacheSize());
-    final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner,
-            metricsSystem,
-            "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
-    final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
-    final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates =
-        config.getEpochStateCacheSize() > 0
-            ? Optional.of(LimitedMap.createSynchronizedLRU(config.getEpochStateCacheSize()))
-            : Optional.empty();
+    final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue;
+    final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue;
+    final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates;
+    final Optional<StateCacheMemoryBudget> stateCacheMemoryBudget;
+    if (config.getStateCacheMemorySizeBytes() > 0) {
+      final StateCacheMemoryBudget budget =
+          new StateCacheMemoryBudget(metricsSystem, config.getStateCacheMemorySizeBytes());
+      checkpointStateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner,
+              metricsSystem,
+              "memory_checkpoint_states",
+              budget.createCache("checkpoint_states", Function.identity()));
+      stateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner,
+              metricsSystem,
+              "memory_states",
+              budget.createCache("states", StateAndBlockSummary::getState));
+      maybeEpochStates =
+          config.getEpochStateCacheSize() > 0
+              ? Optional.of(budget.createCache("epoch_states", StateAndBlockSummary::getState))
+              : Optional.empty();
+      stateCacheMemoryBudget = Optional.of(budget);
+    } else {
+      checkpointStateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner,
+              metricsSystem,
+              "memory_checkpoint_states",
+              config.getCheckpointStateCacheSize());
+      stateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+      maybeEpochStates =
+          config.getEpochStateCacheSize() > 0
+              ? Optional.of(LimitedMap.createSynchronizedLRU(config.getEpochStateCacheSize()))
+              : Optional.empty();
+      stateCacheMemoryBudget = Optional.empty();
+    }
     final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars =
         LimitedMap.createSynchronizedNatural(config.getBlockCacheSize());
 
@@ -267,6 +292,7 @@ class Store extends CacheableStore {
         checkpointStateTaskQueue,
         maybeEpochStates,
         blobSidecars,
+        stateCacheMemoryBudget,
         custodyGroupCount);
   }
 
@@ -413,6 +439,7 @@ class Store extends CacheableStore {
       }
       states.startMetrics();
       checkpointStates.startMetrics();
+      stateCacheMemoryBudget.ifPresent(StateCacheMemoryBudget::startMetrics);
     } finally {
       votesLock.writeLock().unlock();
       lock.writeLock().unlock();
@@ -705,6 +732,11 @@ class Store extends CacheableStore {
         new StateAtSlotTask(spec, checkpoint.toSlotAndBlockRoot(spec), this::retrieveBlockState));
   }
 
+  @Override
+  public Optional<BeaconState> getCheckpointStateIfAvailable(final Checkpoint checkpoint) {
+    return checkpointStates.getIfAvailable(checkpoint.toSlotAndBlockRoot(spec));
+  }
+
   @Override
   public SafeFuture<Optional<BeaconState>> retrieveStateAtSlot(
       final SlotAndBlockRoot slotAndBlockRoot) {
@@ -824,19 +856,12 @@ class Store extends CacheableStore {
   @Override
   void setHighestVotedValidatorIndex(final UInt64 highestVotedValidatorIndex) {
     this.highestVotedValidatorIndex = highestVotedValidatorIndex;
-
-    // Expand votes array if needed
-    if (highestVotedValidatorIndex.isGreaterThanOrEqualTo(votes.length)) {
-      this.votes =
-          Arrays.copyOf(
-              votes, highestVotedValidatorIndex.plus(VOTE_TRACKER_SPARE_CAPACITY).intValue());
-    }
   }
 
   /** Non-synchronized, no lock, unsafe if Store is not locked externally */
   @Override
-  void setVote(final int index, final VoteTracker voteTracker) {
-    votes[index] = voteTracker;
+  void setVotes(final Map<UInt64, VoteTracker> votes) {
+    forkChoiceStrategy.putVotes(votes);
   }
 
   UInt64 getHighestVotedValidatorIndex() {
@@ -851,10 +876,7 @@ class Store extends CacheableStore {
   VoteTracker getVote(final UInt64 validatorIndex) {
     readVotesLock.lock();
     try {
-      if (validatorIndex.intValue() >= votes.length) {
-        return null;
-      }
-      return votes[validatorIndex.intValue()];
+      return forkChoiceStrategy.getVote(validatorIndex);
     } finally {
       readVotesLock.unlock();
     }
@@ -29,6 +29,7 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = 32;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  public static final long DEFAULT_STATE_CACHE_MEMORY_SIZE_BYTES = 0;
 
   private final int stateCacheSize;
 
@@ -37,6 +38,7 @@ public class StoreConfig {
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
   private final Optional<Bytes32> initialCanonicalBlockRoot;
+  private final long stateCacheMemorySizeBytes;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -44,13 +46,15 @@ public class StoreConfig {
       final int checkpointStateCacheSize,
       final int hotStatePersistenceFrequencyInEpochs,
       final int epochStateCacheSize,
-      final Optional<Bytes32> initialCanonicalBlockRoot) {
+      final Optional<Bytes32> initialCanonicalBlockRoot,
+      final long stateCacheMemorySizeBytes) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
     this.epochStateCacheSize = epochStateCacheSize;
     this.initialCanonicalBlockRoot = initialCanonicalBlockRoot;
+    this.stateCacheMemorySizeBytes = stateCacheMemorySizeBytes;
   }
 
   public static Builder builder() {
@@ -85,6 +89,14 @@ public class StoreConfig {
     return initialCanonicalBlockRoot;
   }
 
+  /**
+   * The memory budget shared by the state, epoch state and checkpoint state caches. When zero the
+   * caches are limited by their entry counts instead.
+   */
+  public long getStateCacheMemorySizeBytes() {
+    return stateCacheMemorySizeBytes;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -99,6 +111,7 @@ public class StoreConfig {
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
         && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && stateCacheMemorySizeBytes == that.stateCacheMemorySizeBytes
         && Objects.equals(initialCanonicalBlockRoot, that.initialCanonicalBlockRoot);
   }
 
@@ -110,7 +123,8 @@ public class StoreConfig {
         blockCacheSize,
         checkpointStateCacheSize,
         hotStatePersistenceFrequencyInEpochs,
-        initialCanonicalBlockRoot);
+        initialCanonicalBlockRoot,
+        stateCacheMemorySizeBytes);
   }
 
   public static class Builder {
@@ -122,6 +136,7 @@ public class StoreConfig {
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private Optional<Bytes32> initialCanonicalBlockRoot = Optional.empty();
+    private long stateCacheMemorySizeBytes = DEFAULT_STATE_CACHE_MEMORY_SIZE_BYTES;
 
     private Builder() {}
 
@@ -132,7 +147,8 @@ public class StoreConfig {
           checkpointStateCacheSize,
           hotStatePersistenceFrequencyInEpochs,
           epochStateCacheSize,
-          initialCanonicalBlockRoot);
+          initialCanonicalBlockRoot,
+          stateCacheMemorySizeBytes);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -159,6 +175,12 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder stateCacheMemorySizeBytes(final long stateCacheMemorySizeBytes) {
+      checkArgument(stateCacheMemorySizeBytes >= 0, "State cache memory size cannot be negative");
+      this.stateCacheMemorySizeBytes = stateCacheMemorySizeBytes;
+      return this;
+    }
+
     public Builder initialCanonicalBlockRoot(final String initialCanonicalBlockRoot) {
       if (initialCanonicalBlockRoot != null) {
         this.initialCanonicalBlockRoot =
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.store;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,8 @@ public class StoreVoteUpdater implements VoteUpdater {
   private final ReadWriteLock lock;
   private final VoteUpdateChannel voteUpdateChannel;
   private final Map<UInt64, VoteTracker> votes = new HashMap<>();
+  // Validators whose votes were applied to the store before commit and still need persisting
+  private final IntSet appliedVoteIndices = new IntOpenHashSet();
   private UInt64 highestVotedValidatorIndex = UInt64.ZERO;
 
   StoreVoteUpdater(
@@ -46,8 +50,7 @@ public class StoreVoteUpdater implements VoteUpdater {
     if (txVote != null) {
       return txVote;
     } else {
-      VoteTracker storeVote = store.getVote(validatorIndex);
-      return storeVote != null ? storeVote : VoteTracker.DEFAULT;
+      return store.getVote(validatorIndex);
     }
   }
 
@@ -76,16 +79,20 @@ public class StoreVoteUpdater implements VoteUpdater {
     // store lock.
     lock.writeLock().lock();
     try {
+      // Score changes are computed from the votes held by the ProtoArray, so pending votes have to
+      // be applied first. Like the ProtoArray changes this can't be rolled back.
+      applyVotesToStore();
       return store
           .getForkChoiceStrategy()
-          .applyPendingVotes(
-              this,
+          .applyVotes(
+              getHighestVotedValidatorIndex(),
               proposerBoostRoot,
               currentEpoch,
               finalizedCheckpoint,
               justifiedCheckpoint,
               justifiedCheckpointEffectiveBalances,
-              proposerBoostAmount);
+              proposerBoostAmount,
+              appliedVoteIndices::add);
     } finally {
       lock.writeLock().unlock();
     }
@@ -95,9 +102,19 @@ public class StoreVoteUpdater implements VoteUpdater {
   public void commit() {
     // Votes are applied to the store immediately since the changes to the in-memory ProtoArray
     // can't be rolled back.
-    store.setHighestVotedValidatorIndex(getHighestVotedValidatorIndex());
-    votes.forEach((key, value) -> store.setVote(key.intValue(), value));
+    final Map<UInt64, VoteTracker> updatedVotes = new HashMap<>(votes);
+    applyVotesToStore();
+    appliedVoteIndices.forEach(
+        validatorIndex ->
+            updatedVotes.computeIfAbsent(UInt64.valueOf(validatorIndex), store::getVote));
+
+    voteUpdateChannel.onVotesUpdated(updatedVotes);
+  }
 
-    voteUpdateChannel.onVotesUpdated(votes);
+  private void applyVotesToStore() {
+    store.setHighestVotedValidatorIndex(getHighestVotedValidatorIndex());
+    store.setVotes(votes);
+    votes.keySet().forEach(validatorIndex -> appliedVoteIndices.add(validatorIndex.intValue()));
+    votes.clear();
   }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LazyBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+
+/**
+ * Estimates the heap used by a set of SSZ trees, counting nodes shared between trees only once.
+ *
+ * <p>States of the same chain share most of their tree nodes, so the cost of caching one more state
+ * is only the nodes it doesn't share with states that are already cached. Nodes down to {@link
+ * #TRACKED_DEPTH} are reference counted by identity. Subtrees below that depth are treated as a
+ * single unit whose size is measured once when it's first seen, which keeps the number of tracked
+ * nodes small (one unit covers 64 validators or 64 balances) at the cost of over counting a unit
+ * when only part of it changes.
+ *
+ * <p>Lazily loaded branches are not descended into so that estimating doesn't load them.
+ *
+ * <p>Not thread safe.
+ */
+class TreeNodeMemoryTracker {
+  static final int TRACKED_DEPTH = 40;
+
+  // Approximate retained size of each node type including object headers and cached hashes
+  static final long BRANCH_NODE_BYTES = 72;
+  static final long LEAF_NODE_BYTES = 48;
+
+  private final Map<TreeNode, TrackedNode> trackedNodes = new IdentityHashMap<>();
+  private long totalBytes;
+
+  /**
+   * Adds a reference to the tree with the given root.
+   *
+   * @return the number of bytes this tree adds that weren't already accounted for
+   */
+  long retain(final TreeNode root) {
+    final long addedBytes = retain(root, 0);
+    totalBytes += addedBytes;
+    return addedBytes;
+  }
+
+  /**
+   * Removes a reference previously added with {@link #retain(TreeNode)}.
+   *
+   * @return the number of bytes no longer referenced by any tree
+   */
+  long release(final TreeNode root) {
+    final long releasedBytes = releaseNode(root);
+    totalBytes -= releasedBytes;
+    return releasedBytes;
+  }
+
+  long getTotalBytes() {
+    return totalBytes;
+  }
+
+  int getTrackedNodeCount() {
+    return trackedNodes.size();
+  }
+
+  private long retain(final TreeNode node, final int depth) {
+    final TrackedNode existing = trackedNodes.get(node);
+    if (existing != null) {
+      existing.referenceCount++;
+      return 0;
+    }
+    if (isTrackedBranch(node, depth)) {
+      final BranchNode branch = (BranchNode) node;
+      trackedNodes.put(node, new TrackedNode(BRANCH_NODE_BYTES, true));
+      return BRANCH_NODE_BYTES
+          + retain(branch.left(), depth + 1)
+          + retain(branch.right(), depth + 1);
+    }
+    final long size = estimateSubtreeBytes(node);
+    trackedNodes.put(node, new TrackedNode(size, false));
+    return size;
+  }
+
+  private long releaseNode(final TreeNode node) {
+    final TrackedNode tracked = trackedNodes.get(node);
+    if (tracked == null) {
+      return 0;
+    }
+    tracked.referenceCount--;
+    if (tracked.referenceCount > 0) {
+      return 0;
+    }
+    trackedNodes.remove(node);
+    if (tracked.childrenRetained) {
+      // The same node can appear at different depths so rely on how it was tracked
+      final BranchNode branch = (BranchNode) node;
+      return tracked.bytes + releaseNode(branch.left()) + releaseNode(branch.right());
+    }
+    return tracked.bytes;
+  }
+
+  private static boolean isTrackedBranch(final TreeNode node, final int depth) {
+    return depth < TRACKED_DEPTH && node instanceof BranchNode && !(node instanceof LazyBranchNode);
+  }
+
+  static long estimateSubtreeBytes(final TreeNode root) {
+    // Default subtrees are made of the same node repeated so visit each node once
+    final Set<TreeNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    final Deque<TreeNode> remaining = new ArrayDeque<>();
+    remaining.push(root);
+    long bytes = 0;
+    while (!remaining.isEmpty()) {
+      final TreeNode node = remaining.pop();
+      if (!visited.add(node)) {
+        continue;
+      }
+      if (node instanceof LazyBranchNode) {
+        bytes += BRANCH_NODE_BYTES;
+      } else if (node instanceof BranchNode branch) {
+        bytes += BRANCH_NODE_BYTES;
+        remaining.push(branch.left());
+        remaining.push(branch.right());
+      } else if (node instanceof LeafDataNode leaf) {
+        bytes += LEAF_NODE_BYTES + leaf.getData().size();
+      } else {
+        bytes += LEAF_NODE_BYTES;
+      }
+    }
+    return bytes;
+  }
+
+  private static class TrackedNode {
+    private final long bytes;
+    private final boolean childrenRetained;
+    private int referenceCount = 1;
+
+    private TrackedNode(final long bytes, final boolean childrenRetained) {
+      this.bytes = bytes;
+      this.childrenRetained = childrenRetained;
+    }
+  }
+}
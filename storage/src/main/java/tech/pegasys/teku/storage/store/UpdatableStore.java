@@ -13,12 +13,14 @@
 
 package tech.pegasys.teku.storage.store;
 
+import java.util.Optional;
 import java.util.function.Consumer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.spec.datastructures.forkchoice.MutableStore;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.protoarray.ForkChoiceStrategy;
@@ -34,6 +36,15 @@ public interface UpdatableStore extends ReadOnlyStore {
 
   void startMetrics();
 
+  /**
+   * Returns the state for a checkpoint only if it has already been generated and is held in the
+   * checkpoint state cache. Never triggers regeneration.
+   *
+   * @param checkpoint The checkpoint to get the state for
+   * @return The checkpoint state if available.
+   */
+  Optional<BeaconState> getCheckpointStateIfAvailable(Checkpoint checkpoint);
+
   @Override
   ForkChoiceStrategy getForkChoiceStrategy();
 
@@ -552,6 +552,41 @@ class ProtoArrayTest {
     assertHead(block2a);
   }
 
+  @Test
+  void findOptimisticHead_shouldBreakTiesByComparingRootsAsUnsignedBytes() {
+    final Bytes32 lowerRoot = Bytes32.fromHexString("0x7f" + "ff".repeat(31));
+    final Bytes32 higherRoot = Bytes32.fromHexString("0x80" + "00".repeat(31));
+    addValidBlock(1, higherRoot, GENESIS_CHECKPOINT.getRoot());
+    addValidBlock(1, lowerRoot, GENESIS_CHECKPOINT.getRoot());
+
+    assertHead(higherRoot);
+  }
+
+  @Test
+  void maybePrune_shouldRemapIndicesAndKeepPrunedNodesReadable() {
+    protoArray.setPruneThreshold(0);
+    addValidBlock(1, block1a, GENESIS_CHECKPOINT.getRoot());
+    addValidBlock(2, block2a, block1a);
+    addValidBlock(3, block3a, block2a);
+    protoArray.setInitialCanonicalBlockRoot(block3a);
+    final ProtoNode prunedNode = protoArray.getProtoNode(block1a).orElseThrow();
+
+    protoArray.maybePrune(block2a);
+
+    assertThat(protoArray.contains(block1a)).isFalse();
+    final ProtoNode finalizedNode = protoArray.getProtoNode(block2a).orElseThrow();
+    final ProtoNode headNode = protoArray.getProtoNode(block3a).orElseThrow();
+    assertThat(finalizedNode.getParentIndex()).isEmpty();
+    assertThat(finalizedNode.getBestChildIndex()).contains(1);
+    assertThat(finalizedNode.getBestDescendantIndex()).contains(1);
+    assertThat(headNode.getParentIndex()).contains(0);
+    assertThat(headNode.getWeight()).isEqualTo(UInt64.ONE);
+
+    assertThat(prunedNode.getBlockRoot()).isEqualTo(block1a);
+    assertThat(prunedNode.getWeight()).isEqualTo(UInt64.ONE);
+    assertThat(prunedNode.isFullyValidated()).isTrue();
+  }
+
   private void assertHead(final Bytes32 expectedBlockHash) {
     final ProtoNode node = protoArray.getProtoNode(expectedBlockHash).orElseThrow();
     assertThat(
@@ -0,0 +1,257 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.datastructures.forkchoice.StubVoteUpdater;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ProtoArrayVotesTest {
+  private static final Checkpoint GENESIS_CHECKPOINT = new Checkpoint(UInt64.ZERO, Bytes32.ZERO);
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+
+  private final Bytes32 genesis = dataStructureUtil.randomBytes32();
+  private final Bytes32 block1 = dataStructureUtil.randomBytes32();
+  private final Bytes32 block2 = dataStructureUtil.randomBytes32();
+  private final Bytes32 block3 = dataStructureUtil.randomBytes32();
+
+  private final ProtoArray protoArray =
+      new ProtoArrayBuilder()
+          .spec(dataStructureUtil.getSpec())
+          .pruneThreshold(0)
+          .currentEpoch(ZERO)
+          .justifiedCheckpoint(GENESIS_CHECKPOINT)
+          .finalizedCheckpoint(GENESIS_CHECKPOINT)
+          .build();
+  private final ProtoArrayVotes votes = protoArray.getVotes();
+
+  @BeforeEach
+  void setUp() {
+    addBlock(0, genesis, Bytes32.ZERO);
+    addBlock(1, block1, genesis);
+    addBlock(2, block2, block1);
+    addBlock(3, block3, block2);
+  }
+
+  @Test
+  void shouldReturnDefaultVoteForValidatorsThatHaveNotVoted() {
+    assertThat(votes.getVote(0)).isEqualTo(VoteTracker.DEFAULT);
+    votes.putVote(5, new VoteTracker(block1, block2, UInt64.ONE));
+
+    assertThat(votes.getVote(4)).isEqualTo(VoteTracker.DEFAULT);
+    assertThat(votes.getVote(votes.getCapacity() + 1)).isEqualTo(VoteTracker.DEFAULT);
+  }
+
+  @Test
+  void shouldReferToTrackedBlocksByNodeIndex() {
+    final VoteTracker vote = new VoteTracker(block1, block3, UInt64.valueOf(3), true, false);
+    votes.putVote(1, vote);
+
+    assertThat(votes.getCurrentRef(1)).isEqualTo(1);
+    assertThat(votes.getNextRef(1)).isEqualTo(3);
+    assertThat(votes.isNextEquivocating(1)).isTrue();
+    assertThat(votes.isCurrentEquivocating(1)).isFalse();
+    assertThat(votes.getVote(1)).isEqualTo(vote);
+  }
+
+  @Test
+  void shouldKeepRootsOfUntrackedBlocks() {
+    final Bytes32 unknownRoot = dataStructureUtil.randomBytes32();
+    final VoteTracker vote = new VoteTracker(unknownRoot, unknownRoot, UInt64.MAX_VALUE);
+    votes.putVote(0, vote);
+    votes.putVote(1, vote);
+
+    assertThat(votes.getCurrentRef(0)).isLessThan(ProtoArrayVotes.NO_VOTE);
+    assertThat(votes.getCurrentRef(1)).isEqualTo(votes.getCurrentRef(0));
+    assertThat(votes.getNodeIndex(votes.getCurrentRef(0))).isEqualTo(ProtoArrayVotes.NO_NODE);
+    assertThat(votes.getVote(0)).isEqualTo(vote);
+  }
+
+  @Test
+  void shouldResolveUntrackedRootsAddedToProtoArrayLater() {
+    final Bytes32 block4 = dataStructureUtil.randomBytes32();
+    votes.putVote(0, new VoteTracker(Bytes32.ZERO, block4, UInt64.ONE));
+
+    addBlock(4, block4, block3);
+
+    assertThat(votes.getNodeIndex(votes.getNextRef(0))).isEqualTo(4);
+  }
+
+  @Test
+  void shouldRemapNodeIndicesWhenPruned() {
+    final VoteTracker prunedVote = new VoteTracker(Bytes32.ZERO, block1, UInt64.ONE);
+    final VoteTracker retainedVote = new VoteTracker(block1, block3, UInt64.valueOf(2));
+    votes.putVote(0, prunedVote);
+    votes.putVote(1, retainedVote);
+
+    protoArray.maybePrune(block2);
+
+    assertThat(votes.getNodeIndex(votes.getNextRef(0))).isEqualTo(ProtoArrayVotes.NO_NODE);
+    assertThat(votes.getNodeIndex(votes.getNextRef(1)))
+        .isEqualTo(protoArray.getIndexByRoot(block3).orElseThrow());
+    assertThat(votes.getVote(0)).isEqualTo(prunedVote);
+    assertThat(votes.getVote(1)).isEqualTo(retainedVote);
+  }
+
+  @Test
+  void shouldStopReferringToRemovedBlockRoots() {
+    final VoteTracker vote = new VoteTracker(block2, block3, UInt64.ONE);
+    votes.putVote(0, vote);
+
+    protoArray.removeBlockRoots(List.of(block3));
+
+    assertThat(votes.getNodeIndex(votes.getCurrentRef(0))).isEqualTo(2);
+    assertThat(votes.getNodeIndex(votes.getNextRef(0))).isEqualTo(ProtoArrayVotes.NO_NODE);
+    assertThat(votes.getVote(0)).isEqualTo(vote);
+  }
+
+  @Test
+  void computeDeltas_shouldMatchDeltasComputedFromVoteTrackers() {
+    final StubVoteUpdater voteUpdater = new StubVoteUpdater();
+    final Bytes32 unknownRoot = dataStructureUtil.randomBytes32();
+    final List<Bytes32> roots = List.of(Bytes32.ZERO, block1, block2, block3, unknownRoot);
+    for (int i = 0; i < 50; i++) {
+      final VoteTracker vote =
+          new VoteTracker(
+              roots.get(i % roots.size()),
+              roots.get((i / roots.size()) % roots.size()),
+              UInt64.valueOf(i),
+              i % 7 == 0,
+              i % 11 == 0);
+      voteUpdater.putVote(UInt64.valueOf(i), vote);
+      votes.putVote(i, vote);
+    }
+    final List<UInt64> oldBalances = Collections.nCopies(40, UInt64.valueOf(10));
+    final List<UInt64> newBalances = Collections.nCopies(45, UInt64.valueOf(12));
+
+    final LongList expectedDeltas =
+        ProtoArrayScoreCalculator.computeDeltas(
+            voteUpdater,
+            protoArray.getTotalTrackedNodeCount(),
+            protoArray::getIndexByRoot,
+            oldBalances,
+            newBalances,
+            Optional.of(block1),
+            Optional.of(block2),
+            UInt64.valueOf(5),
+            UInt64.valueOf(6));
+    final IntList updatedVotes = new IntArrayList();
+    final LongList deltas =
+        ProtoArrayScoreCalculator.computeDeltas(
+            votes,
+            voteUpdater.getHighestVotedValidatorIndex().intValue(),
+            protoArray.getTotalTrackedNodeCount(),
+            protoArray::getIndexByRoot,
+            oldBalances,
+            newBalances,
+            true,
+            Optional.of(block1),
+            Optional.of(block2),
+            UInt64.valueOf(5),
+            UInt64.valueOf(6),
+            updatedVotes::add);
+
+    assertThat(deltas).isEqualTo(expectedDeltas);
+    assertThat(updatedVotes).isNotEmpty();
+    for (int i = 0; i < 50; i++) {
+      assertThat(votes.getVote(i)).isEqualTo(voteUpdater.getVote(UInt64.valueOf(i)));
+    }
+  }
+
+  @Test
+  void computeDeltas_shouldOnlyRecomputeUpdatedVotesWhenBalancesUnchanged() {
+    final List<UInt64> balances = Collections.nCopies(10, UInt64.valueOf(10));
+    for (int i = 0; i < 10; i++) {
+      votes.putVote(i, new VoteTracker(Bytes32.ZERO, block2, UInt64.ONE));
+    }
+    computeDeltas(balances, balances, true, new IntArrayList());
+
+    votes.putVote(3, new VoteTracker(block2, block3, UInt64.valueOf(2)));
+    final IntList updatedVotes = new IntArrayList();
+    final LongList deltas = computeDeltas(balances, balances, false, updatedVotes);
+
+    assertThat(deltas).containsExactly(0L, 0L, -10L, 10L);
+    assertThat(updatedVotes).containsExactly(3);
+  }
+
+  @Test
+  void computeDeltas_shouldRecomputeAllVotesWhenBalancesChanged() {
+    final int validatorCount = ProtoArrayScoreCalculator.MIN_VALIDATORS_PER_TASK * 3 + 5;
+    for (int i = 0; i < validatorCount; i++) {
+      votes.putVote(i, new VoteTracker(Bytes32.ZERO, i % 2 == 0 ? block2 : block3, UInt64.ONE));
+    }
+    final List<UInt64> oldBalances = Collections.nCopies(validatorCount, UInt64.valueOf(10));
+    computeDeltas(oldBalances, oldBalances, true, new IntArrayList());
+
+    final List<UInt64> newBalances = Collections.nCopies(validatorCount, UInt64.valueOf(12));
+    final IntList updatedVotes = new IntArrayList();
+    final LongList deltas = computeDeltas(oldBalances, newBalances, true, updatedVotes);
+
+    final long block2Voters = Math.ceilDiv(validatorCount, 2);
+    final long block3Voters = validatorCount - block2Voters;
+    assertThat(deltas).containsExactly(0L, 0L, block2Voters * 2, block3Voters * 2);
+    assertThat(updatedVotes).hasSize(validatorCount);
+  }
+
+  private LongList computeDeltas(
+      final List<UInt64> oldBalances,
+      final List<UInt64> newBalances,
+      final boolean balancesChanged,
+      final IntList updatedVotes) {
+    return ProtoArrayScoreCalculator.computeDeltas(
+        votes,
+        votes.getCapacity() - 1,
+        protoArray.getTotalTrackedNodeCount(),
+        protoArray::getIndexByRoot,
+        oldBalances,
+        newBalances,
+        balancesChanged,
+        Optional.empty(),
+        Optional.empty(),
+        ZERO,
+        ZERO,
+        updatedVotes::add);
+  }
+
+  private void addBlock(final long slot, final Bytes32 blockRoot, final Bytes32 parentRoot) {
+    protoArray.onBlock(
+        UInt64.valueOf(slot),
+        blockRoot,
+        parentRoot,
+        dataStructureUtil.randomBytes32(),
+        new BlockCheckpoints(
+            GENESIS_CHECKPOINT, GENESIS_CHECKPOINT, GENESIS_CHECKPOINT, GENESIS_CHECKPOINT),
+        ZERO,
+        dataStructureUtil.randomBytes32(),
+        true);
+  }
+}
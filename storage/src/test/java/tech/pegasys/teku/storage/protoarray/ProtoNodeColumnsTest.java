@@ -0,0 +1,96 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.INVALID;
+import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.OPTIMISTIC;
+import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.VALID;
+import static tech.pegasys.teku.storage.protoarray.ProtoNodeColumns.NONE;
+
+import org.junit.jupiter.api.Test;
+
+public class ProtoNodeColumnsTest {
+  private final ProtoNodeColumns columns = new ProtoNodeColumns();
+
+  @Test
+  void shouldGrowWhenAddingNodes() {
+    for (int i = 0; i < 200; i++) {
+      assertThat(columns.add(i, i * 10L, i - 1, NONE, NONE, 1, 0, VALID)).isEqualTo(i);
+    }
+    assertThat(columns.size()).isEqualTo(200);
+    assertThat(columns.getSlot(150)).isEqualTo(150);
+    assertThat(columns.getWeight(150)).isEqualTo(1500);
+    assertThat(columns.getParentIndex(150)).isEqualTo(149);
+    assertThat(columns.getParentIndex(0)).isEqualTo(NONE);
+  }
+
+  @Test
+  void shouldSaturateWeightOnUnderflow() {
+    columns.add(0, 5, NONE, NONE, NONE, 0, 0, VALID);
+    assertThat(columns.adjustWeight(0, -3)).isTrue();
+    assertThat(columns.getWeight(0)).isEqualTo(2);
+    assertThat(columns.adjustWeight(0, -3)).isFalse();
+    assertThat(columns.getWeight(0)).isZero();
+  }
+
+  @Test
+  void shouldTreatWeightsAsUnsigned() {
+    columns.add(0, Long.MAX_VALUE, NONE, NONE, NONE, 0, 0, VALID);
+    assertThat(columns.adjustWeight(0, 1)).isTrue();
+    assertThat(columns.getWeight(0)).isEqualTo(Long.MIN_VALUE);
+    assertThat(columns.adjustWeight(0, Long.MAX_VALUE)).isTrue();
+    assertThat(columns.getWeight(0)).isEqualTo(-1L);
+    assertThat(columns.adjustWeight(0, 1)).isFalse();
+    assertThat(columns.getWeight(0)).isEqualTo(-1L);
+  }
+
+  @Test
+  void shouldOffsetIndicesWhenRemovingFirstNodes() {
+    columns.add(0, 0, NONE, 1, 3, 0, 0, VALID);
+    columns.add(1, 0, 0, 2, 3, 0, 0, VALID);
+    columns.add(2, 0, 1, 3, 3, 0, 0, OPTIMISTIC);
+    columns.add(3, 0, 2, NONE, NONE, 1, 0, INVALID);
+
+    columns.removeFirst(2);
+
+    assertThat(columns.size()).isEqualTo(2);
+    assertThat(columns.getSlot(0)).isEqualTo(2);
+    assertThat(columns.getParentIndex(0)).isEqualTo(NONE);
+    assertThat(columns.getBestChildIndex(0)).isEqualTo(1);
+    assertThat(columns.getBestDescendantIndex(0)).isEqualTo(1);
+    assertThat(columns.getValidationStatus(0)).isEqualTo(OPTIMISTIC);
+    assertThat(columns.getParentIndex(1)).isZero();
+    assertThat(columns.getBestChildIndex(1)).isEqualTo(NONE);
+    assertThat(columns.getJustifiedEpoch(1)).isEqualTo(1);
+    assertThat(columns.isInvalid(1)).isTrue();
+  }
+
+  @Test
+  void shouldCopyRowIntoStandaloneColumns() {
+    columns.add(0, 0, NONE, NONE, NONE, 0, 0, VALID);
+    columns.add(7, 42, 0, NONE, NONE, 2, 1, OPTIMISTIC);
+
+    final ProtoNodeColumns copy = columns.copyRow(1);
+    columns.adjustWeight(1, 10);
+
+    assertThat(copy.size()).isEqualTo(1);
+    assertThat(copy.getSlot(0)).isEqualTo(7);
+    assertThat(copy.getWeight(0)).isEqualTo(42);
+    assertThat(copy.getParentIndex(0)).isZero();
+    assertThat(copy.getJustifiedEpoch(0)).isEqualTo(2);
+    assertThat(copy.getFinalizedEpoch(0)).isEqualTo(1);
+    assertThat(copy.getValidationStatus(0)).isEqualTo(OPTIMISTIC);
+  }
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Named;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
@@ -61,6 +62,25 @@ class CombinedStorageChannelSplitterTest {
     method.invoke(verify(storageQueryChannel), args);
   }
 
+  @ParameterizedTest
+  @MethodSource("queryChannelMethods")
+  void shouldRunQueryMethodsAfterUpdateBarrier(final Method method) throws Exception {
+    final SafeFuture<Void> updateBarrier = new SafeFuture<>();
+    final CombinedStorageChannelSplitter splitterWithBarrier =
+        new CombinedStorageChannelSplitter(
+            asyncRunner, storageUpdateChannel, storageQueryChannel, () -> updateBarrier);
+    final Object[] args = prepareArgs(method);
+
+    method.invoke(splitterWithBarrier, args);
+
+    asyncRunner.executeQueuedActions();
+    method.invoke(verify(storageQueryChannel, never()), args);
+
+    updateBarrier.complete(null);
+    asyncRunner.executeQueuedActions();
+    method.invoke(verify(storageQueryChannel), args);
+  }
+
   private Object[] prepareArgs(final Method method) {
     return Arrays.stream(method.getParameters())
         .map(
@@ -0,0 +1,180 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.storage.api.StorageUpdate;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.api.UpdateResult;
+
+class GroupCommitStorageUpdateChannelTest {
+  private static final Duration WINDOW = Duration.ofMillis(20);
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(100);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final StorageUpdateChannel delegate = mock(StorageUpdateChannel.class);
+
+  private final GroupCommitStorageUpdateChannel channel =
+      new GroupCommitStorageUpdateChannel(delegate, asyncRunner, WINDOW);
+
+  private int nextSlot = 0;
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.onStorageUpdate(any()))
+        .thenReturn(SafeFuture.completedFuture(UpdateResult.EMPTY));
+  }
+
+  @Test
+  void shouldMergeHotUpdatesReceivedWithinWindow() {
+    final StorageUpdate update1 = createHotUpdate();
+    final StorageUpdate update2 = createHotUpdate();
+    final SafeFuture<UpdateResult> result1 = channel.onStorageUpdate(update1);
+    final SafeFuture<UpdateResult> result2 = channel.onStorageUpdate(update2);
+
+    verify(delegate, never()).onStorageUpdate(any());
+    assertThatSafeFuture(result1).isNotDone();
+
+    timeProvider.advanceTimeBy(WINDOW);
+    asyncRunner.executeDueActions();
+
+    final ArgumentCaptor<StorageUpdate> captor = ArgumentCaptor.forClass(StorageUpdate.class);
+    verify(delegate).onStorageUpdate(captor.capture());
+    assertThat(captor.getValue().getStateRoots())
+        .containsAllEntriesOf(update1.getStateRoots())
+        .containsAllEntriesOf(update2.getStateRoots());
+    assertThatSafeFuture(result1).isCompletedWithValue(UpdateResult.EMPTY);
+    assertThatSafeFuture(result2).isCompletedWithValue(UpdateResult.EMPTY);
+  }
+
+  @Test
+  void shouldCommitPendingUpdatesBeforeOtherUpdates() {
+    final StorageUpdate hotUpdate = createHotUpdate();
+    final StorageUpdate finalizingUpdate = createNonHotUpdate();
+    final SafeFuture<UpdateResult> hotResult = channel.onStorageUpdate(hotUpdate);
+    final SafeFuture<UpdateResult> finalizingResult = channel.onStorageUpdate(finalizingUpdate);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).onStorageUpdate(hotUpdate);
+    inOrder.verify(delegate).onStorageUpdate(finalizingUpdate);
+    assertThatSafeFuture(hotResult).isCompleted();
+    assertThatSafeFuture(finalizingResult).isCompleted();
+  }
+
+  @Test
+  void shouldCommitPendingUpdatesBeforeChainInitialized() {
+    final StorageUpdate hotUpdate = createHotUpdate();
+    final AnchorPoint anchor = mock(AnchorPoint.class);
+    channel.onStorageUpdate(hotUpdate);
+    channel.onChainInitialized(anchor);
+
+    final InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).onStorageUpdate(hotUpdate);
+    inOrder.verify(delegate).onChainInitialized(anchor);
+  }
+
+  @Test
+  void shouldFailAllMergedUpdatesWhenCommitFails() {
+    final RuntimeException error = new RuntimeException("Nope");
+    when(delegate.onStorageUpdate(any())).thenReturn(SafeFuture.failedFuture(error));
+    final SafeFuture<UpdateResult> result1 = channel.onStorageUpdate(createHotUpdate());
+    final SafeFuture<UpdateResult> result2 = channel.onStorageUpdate(createHotUpdate());
+
+    timeProvider.advanceTimeBy(WINDOW);
+    asyncRunner.executeDueActions();
+
+    assertThatSafeFuture(result1).isCompletedExceptionallyWith(error);
+    assertThatSafeFuture(result2).isCompletedExceptionallyWith(error);
+  }
+
+  @Test
+  void shouldCommitImmediatelyWhenBatchIsFull() {
+    final List<SafeFuture<UpdateResult>> results = new ArrayList<>();
+    for (int i = 0; i < GroupCommitStorageUpdateChannel.MAX_BATCH_SIZE; i++) {
+      results.add(channel.onStorageUpdate(createHotUpdate()));
+    }
+
+    asyncRunner.executeDueActions();
+
+    verify(delegate).onStorageUpdate(any());
+    assertThat(results).allMatch(SafeFuture::isDone);
+  }
+
+  @Test
+  void shouldCompleteBarrierWhenQueuedUpdatesAreCommitted() {
+    assertThatSafeFuture(channel.whenQueuedUpdatesCommitted()).isCompleted();
+
+    channel.onStorageUpdate(createHotUpdate());
+    final SafeFuture<Void> barrier = channel.whenQueuedUpdatesCommitted();
+    assertThatSafeFuture(barrier).isNotDone();
+
+    timeProvider.advanceTimeBy(WINDOW);
+    asyncRunner.executeDueActions();
+    assertThatSafeFuture(barrier).isCompleted();
+  }
+
+  private StorageUpdate createHotUpdate() {
+    return createUpdate(Collections.emptyMap());
+  }
+
+  private StorageUpdate createNonHotUpdate() {
+    return createUpdate(Map.of(Bytes32.random(), UInt64.valueOf(nextSlot)));
+  }
+
+  private StorageUpdate createUpdate(final Map<Bytes32, UInt64> deletedHotBlocks) {
+    final UInt64 slot = UInt64.valueOf(nextSlot++);
+    return new StorageUpdate(
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        Collections.emptyMap(),
+        Optional.empty(),
+        deletedHotBlocks,
+        Map.of(Bytes32.random(), new SlotAndBlockRoot(slot, Bytes32.random())),
+        false,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        false,
+        false);
+  }
+}
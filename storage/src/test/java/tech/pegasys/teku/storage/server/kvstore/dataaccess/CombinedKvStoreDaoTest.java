@@ -0,0 +1,122 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class CombinedKvStoreDaoTest {
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  @TempDir Path tempDir;
+
+  private DataColumnSidecarSegmentStore segmentStore;
+  private CombinedKvStoreDao<SchemaCombinedSnapshotState> dao;
+
+  @BeforeEach
+  void setUp() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, slotsPerEpoch);
+    dao =
+        new CombinedKvStoreDao<>(
+            db, schema, new V4FinalizedStateSnapshotStorageLogic<>(1), Optional.of(segmentStore));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    dao.close();
+  }
+
+  @Test
+  void shouldStoreSidecarInSegmentAndOnlyPointerInDatabase() {
+    final DataColumnSidecar sidecar = createSidecar(UInt64.valueOf(3));
+    addSidecar(sidecar);
+
+    final DataColumnSlotAndIdentifier identifier =
+        DataColumnSlotAndIdentifier.fromDataColumn(sidecar);
+    final Optional<Bytes> storedValue =
+        db.get(schema.getColumnSidecarByColumnSlotAndIdentifier(), identifier);
+    assertThat(storedValue).isPresent();
+    assertThat(DataColumnSidecarSegmentStore.isLocation(storedValue.get())).isTrue();
+
+    assertThat(dao.getSidecar(identifier)).contains(sidecar.sszSerialize());
+    assertThat(segmentStore.listSegments()).containsExactly(0L);
+  }
+
+  @Test
+  void shouldReadSidecarsStoredBeforeSegmentsWereEnabled() {
+    final DataColumnSidecar sidecar = createSidecar(UInt64.valueOf(3));
+    final DataColumnSlotAndIdentifier identifier =
+        DataColumnSlotAndIdentifier.fromDataColumn(sidecar);
+    try (final KvStoreAccessor.KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.put(
+          schema.getColumnSidecarByColumnSlotAndIdentifier(), identifier, sidecar.sszSerialize());
+      transaction.commit();
+    }
+
+    assertThat(dao.getSidecar(identifier)).contains(sidecar.sszSerialize());
+  }
+
+  @Test
+  void shouldDropSegmentsWhenAllTheirSidecarsArePruned() {
+    final DataColumnSidecar epoch0Sidecar = createSidecar(UInt64.valueOf(1));
+    final DataColumnSidecar epoch1Sidecar = createSidecar(UInt64.valueOf(slotsPerEpoch + 1));
+    final DataColumnSidecar epoch2Sidecar = createSidecar(UInt64.valueOf(2L * slotsPerEpoch));
+    addSidecar(epoch0Sidecar);
+    addSidecar(epoch1Sidecar);
+    addSidecar(epoch2Sidecar);
+
+    // Prune part way into epoch 1, so its segment is still referenced
+    dao.deleteSidecarsInSlotRange(UInt64.ZERO, UInt64.valueOf(slotsPerEpoch + 1));
+    assertThat(segmentStore.listSegments()).containsExactly(1L, 2L);
+
+    dao.deleteSidecarsInSlotRange(UInt64.ZERO, UInt64.valueOf(slotsPerEpoch + 2));
+    assertThat(segmentStore.listSegments()).containsExactly(2L);
+    assertThat(dao.getSidecar(DataColumnSlotAndIdentifier.fromDataColumn(epoch2Sidecar)))
+        .contains(epoch2Sidecar.sszSerialize());
+  }
+
+  private DataColumnSidecar createSidecar(final UInt64 slot) {
+    return dataStructureUtil.randomDataColumnSidecar(
+        dataStructureUtil.randomSignedBeaconBlockHeader(slot), UInt64.ZERO);
+  }
+
+  private void addSidecar(final DataColumnSidecar sidecar) {
+    try (final KvStoreCombinedDao.FinalizedUpdater updater = dao.finalizedUpdater()) {
+      updater.addSidecar(sidecar);
+      updater.commit();
+    }
+  }
+}
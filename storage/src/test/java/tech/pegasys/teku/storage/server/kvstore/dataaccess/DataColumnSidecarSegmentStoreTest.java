@@ -0,0 +1,136 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class DataColumnSidecarSegmentStoreTest {
+  private static final int SLOTS_PER_SEGMENT = 8;
+
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @TempDir Path tempDir;
+
+  private DataColumnSidecarSegmentStore segmentStore;
+
+  @AfterEach
+  void tearDown() {
+    if (segmentStore != null) {
+      segmentStore.close();
+    }
+  }
+
+  @Test
+  void shouldReadAppendedSidecars() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    final Bytes first = dataStructureUtil.randomBytes(100);
+    final Bytes second = dataStructureUtil.randomBytes(200);
+
+    final Bytes firstLocation = segmentStore.append(UInt64.valueOf(3), first);
+    final Bytes secondLocation = segmentStore.append(UInt64.valueOf(4), second);
+    segmentStore.sync();
+
+    assertThat(DataColumnSidecarSegmentStore.isLocation(firstLocation)).isTrue();
+    assertThat(segmentStore.read(UInt64.valueOf(3), firstLocation)).contains(first);
+    assertThat(segmentStore.read(UInt64.valueOf(4), secondLocation)).contains(second);
+  }
+
+  @Test
+  void shouldNotTreatSidecarBytesAsLocation() {
+    assertThat(DataColumnSidecarSegmentStore.isLocation(dataStructureUtil.randomBytes(16)))
+        .isFalse();
+    assertThat(
+            DataColumnSidecarSegmentStore.isLocation(
+                dataStructureUtil.randomDataColumnSidecar().sszSerialize()))
+        .isFalse();
+  }
+
+  @Test
+  void shouldWriteOneSegmentPerSlotRange() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    segmentStore.append(UInt64.valueOf(1), dataStructureUtil.randomBytes(10));
+    segmentStore.append(UInt64.valueOf(7), dataStructureUtil.randomBytes(10));
+    segmentStore.append(UInt64.valueOf(8), dataStructureUtil.randomBytes(10));
+    segmentStore.append(UInt64.valueOf(25), dataStructureUtil.randomBytes(10));
+
+    assertThat(segmentStore.listSegments()).containsExactly(0L, 1L, 3L);
+  }
+
+  @Test
+  void shouldDeleteOnlySegmentsEntirelyBeforeSlot() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    segmentStore.append(UInt64.valueOf(1), dataStructureUtil.randomBytes(10));
+    final Bytes retained = dataStructureUtil.randomBytes(10);
+    final Bytes retainedLocation = segmentStore.append(UInt64.valueOf(9), retained);
+    segmentStore.append(UInt64.valueOf(17), dataStructureUtil.randomBytes(10));
+
+    // Slot 12 is part way through segment 1, so only segment 0 can go
+    assertThat(segmentStore.deleteSegmentsBefore(UInt64.valueOf(12))).isEqualTo(1);
+
+    assertThat(segmentStore.listSegments()).containsExactly(1L, 2L);
+    assertThat(segmentStore.read(UInt64.valueOf(9), retainedLocation)).contains(retained);
+  }
+
+  @Test
+  void shouldReturnEmptyWhenSegmentWasDeleted() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    final Bytes location = segmentStore.append(UInt64.ONE, dataStructureUtil.randomBytes(10));
+    segmentStore.deleteSegmentsBefore(UInt64.valueOf(SLOTS_PER_SEGMENT));
+
+    assertThat(segmentStore.read(UInt64.ONE, location)).isEmpty();
+  }
+
+  @Test
+  void shouldAppendToExistingSegmentsAfterReopening() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    final Bytes first = dataStructureUtil.randomBytes(50);
+    final Bytes firstLocation = segmentStore.append(UInt64.ONE, first);
+    segmentStore.close();
+
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    final Bytes second = dataStructureUtil.randomBytes(60);
+    final Bytes secondLocation = segmentStore.append(UInt64.valueOf(2), second);
+
+    assertThat(segmentStore.read(UInt64.ONE, firstLocation)).contains(first);
+    assertThat(segmentStore.read(UInt64.valueOf(2), secondLocation)).contains(second);
+  }
+
+  @Test
+  void shouldKeepWritingAfterClosingLeastRecentlyUsedSegments() {
+    segmentStore = DataColumnSidecarSegmentStore.create(tempDir, SLOTS_PER_SEGMENT);
+    final Bytes first = dataStructureUtil.randomBytes(10);
+    final Bytes firstLocation = segmentStore.append(UInt64.ONE, first);
+    for (int segment = 1; segment < 10; segment++) {
+      segmentStore.append(
+          UInt64.valueOf((long) segment * SLOTS_PER_SEGMENT), dataStructureUtil.randomBytes(10));
+    }
+    final Bytes second = dataStructureUtil.randomBytes(10);
+    final Bytes secondLocation = segmentStore.append(UInt64.valueOf(2), second);
+    segmentStore.sync();
+
+    assertThat(segmentStore.read(UInt64.ONE, firstLocation)).contains(first);
+    assertThat(segmentStore.read(UInt64.valueOf(2), secondLocation)).contains(second);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class FinalizedStateDeltaCodecTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final FinalizedStateDeltaCodec codec = new FinalizedStateDeltaCodec(spec);
+
+  private final BeaconState baseState = dataStructureUtil.randomBeaconState(64);
+
+  @Test
+  void shouldRoundTripUnchangedRegistry() {
+    final BeaconState state = baseState.updated(s -> s.setSlot(s.getSlot().plus(32)));
+
+    assertRoundTrip(state);
+  }
+
+  @Test
+  void shouldRoundTripChangedValidatorsAndBalances() {
+    final BeaconState state =
+        baseState.updated(
+            s -> {
+              s.setSlot(s.getSlot().plus(32));
+              s.getValidators().set(3, s.getValidators().get(3).withSlashed(true));
+              s.getBalances().setElement(5, s.getBalances().getElement(5).plus(1_000_000));
+              s.getBalances().setElement(7, s.getBalances().getElement(7).minusMinZero(12));
+            });
+
+    assertRoundTrip(state);
+  }
+
+  @Test
+  void shouldRoundTripAppendedValidators() {
+    final BeaconState state =
+        baseState.updated(
+            s -> {
+              s.setSlot(s.getSlot().plus(32));
+              s.getValidators().append(dataStructureUtil.randomValidator());
+              s.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+            });
+
+    assertRoundTrip(state);
+  }
+
+  @Test
+  void shouldShareUnchangedListsWithBaseState() {
+    final BeaconState state = baseState.updated(s -> s.setSlot(s.getSlot().plus(32)));
+
+    final BeaconState decoded = codec.decode(baseState, codec.encode(baseState, state));
+    assertThat(decoded.getValidators().getBackingNode())
+        .isSameAs(baseState.getValidators().getBackingNode());
+    assertThat(decoded.getBalances().getBackingNode())
+        .isSameAs(baseState.getBalances().getBackingNode());
+  }
+
+  @Test
+  void shouldRoundTripChangedParticipationAndInactivityScores() {
+    final Spec altairSpec = TestSpecFactory.createMinimalAltair();
+    final DataStructureUtil altairDataStructureUtil = new DataStructureUtil(altairSpec);
+    final FinalizedStateDeltaCodec altairCodec = new FinalizedStateDeltaCodec(altairSpec);
+    final BeaconState altairBaseState = altairDataStructureUtil.randomBeaconState(64);
+    final BeaconState state =
+        altairBaseState.updated(
+            s -> {
+              s.setSlot(s.getSlot().plus(32));
+              final MutableBeaconStateAltair altairState = MutableBeaconStateAltair.required(s);
+              altairState.getPreviousEpochParticipation().set(2, SszByte.of(0b111));
+              altairState.getCurrentEpochParticipation().set(9, SszByte.of(0b011));
+              altairState.getInactivityScores().setElement(4, UInt64.valueOf(16));
+              s.getValidators().append(altairDataStructureUtil.randomValidator());
+              s.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+              altairState.getPreviousEpochParticipation().append(SszByte.ZERO);
+              altairState.getCurrentEpochParticipation().append(SszByte.of(0b001));
+              altairState.getInactivityScores().appendElement(UInt64.ZERO);
+            });
+
+    final Bytes delta = altairCodec.encode(altairBaseState, state);
+    assertThat(altairCodec.decode(altairBaseState, delta)).isEqualTo(state);
+  }
+
+  @Test
+  void shouldNotEncodeAgainstLaterBaseState() {
+    final BeaconState state = baseState.updated(s -> s.setSlot(s.getSlot().plus(32)));
+
+    assertThat(codec.canEncode(state, baseState)).isFalse();
+    assertThatThrownBy(() -> codec.encode(state, baseState))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldEncodeUnchangedRegistryCompactly() {
+    final BeaconState state = baseState.updated(s -> s.setSlot(s.getSlot().plus(32)));
+
+    assertThat(codec.encode(baseState, state).size())
+        .isLessThan(state.sszSerialize().size() - baseState.getValidators().sszSerialize().size());
+  }
+
+  @Test
+  void shouldRejectIncorrectBaseState() {
+    final BeaconState state = baseState.updated(s -> s.setSlot(s.getSlot().plus(32)));
+    final Bytes delta = codec.encode(baseState, state);
+
+    assertThatThrownBy(() -> codec.decode(state, delta))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void assertRoundTrip(final BeaconState state) {
+    final Bytes delta = codec.encode(baseState, state);
+
+    assertThat(codec.getBaseSlot(delta)).isEqualTo(baseState.getSlot());
+    assertThat(codec.decode(baseState, delta)).isEqualTo(state);
+  }
+}
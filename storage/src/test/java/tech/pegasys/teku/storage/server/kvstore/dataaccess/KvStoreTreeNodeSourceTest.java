@@ -16,8 +16,10 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.spec.Spec;
@@ -36,7 +38,12 @@ class KvStoreTreeNodeSourceTest {
   private final KvStoreAccessor accessor =
       MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
 
-  private final KvStoreTreeNodeSource nodeSource = new KvStoreTreeNodeSource(accessor, schema);
+  private final OffHeapTreeNodeCache nodeCache =
+      new OffHeapTreeNodeCache(
+          new NoOpMetricsSystem(), 1 << 20, OffHeapTreeNodeCache.DEFAULT_RESIDENT_DEPTH);
+
+  private final KvStoreTreeNodeSource nodeSource =
+      new KvStoreTreeNodeSource(accessor, schema, Optional.of(nodeCache));
 
   @Test
   void loadBranchNode_shouldLoadBranchNode() {
@@ -85,6 +92,44 @@ class KvStoreTreeNodeSourceTest {
     assertThat(nodeSource.loadLeafNode(root, 23)).isEqualTo(root);
   }
 
+  @Test
+  void loadBranchNode_shouldServeSubsequentLoadsFromCache() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        storeBranch(root, 2, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32());
+    assertThat(nodeSource.loadBranchNode(root, 4298)).isEqualTo(branchInfo);
+
+    deleteBranch(root);
+
+    assertThat(nodeSource.loadBranchNode(root, 4298)).isEqualTo(branchInfo);
+  }
+
+  @Test
+  void loadLeafNode_shouldServeSubsequentLoadsFromCache() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final Bytes value = dataStructureUtil.randomBytes(78);
+    storeLeaf(root, value);
+    assertThat(nodeSource.loadLeafNode(root, 428)).isEqualTo(value);
+
+    deleteLeaf(root);
+
+    assertThat(nodeSource.loadLeafNode(root, 428)).isEqualTo(value);
+  }
+
+  private void deleteLeaf(final Bytes32 root) {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStateMerkleTreeLeaves(), root);
+      transaction.commit();
+    }
+  }
+
+  private void deleteBranch(final Bytes32 root) {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+      transaction.commit();
+    }
+  }
+
   private void storeLeaf(final Bytes32 root, final Bytes value) {
     try (final KvStoreTransaction transaction = accessor.startTransaction()) {
       transaction.put(schema.getColumnFinalizedStateMerkleTreeLeaves(), root, value);
@@ -0,0 +1,155 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class OffHeapTreeNodeCacheTest {
+  private static final int RESIDENT_DEPTH = 4;
+  // gIndex 2 is at depth 1, 1L << 40 is at depth 40
+  private static final long SHALLOW_G_INDEX = 2;
+  private static final long DEEP_G_INDEX = 1L << 40;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final OffHeapTreeNodeCache cache =
+      new OffHeapTreeNodeCache(metricsSystem, 1024 * 1024, RESIDENT_DEPTH);
+
+  @Test
+  void shouldRoundTripBranchNode() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        new CompressedBranchInfo(
+            3,
+            new Bytes32[] {
+              dataStructureUtil.randomBytes32(),
+              dataStructureUtil.randomBytes32(),
+              dataStructureUtil.randomBytes32()
+            });
+    cache.putBranchNode(root, DEEP_G_INDEX, branchInfo);
+
+    assertThat(cache.getBranchNode(root, DEEP_G_INDEX)).contains(branchInfo);
+  }
+
+  @Test
+  void shouldRoundTripLeafNode() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final Bytes data = dataStructureUtil.randomBytes(100);
+    cache.putLeafNode(root, DEEP_G_INDEX, data);
+
+    assertThat(cache.getLeafNode(root, DEEP_G_INDEX)).contains(data);
+  }
+
+  @Test
+  void shouldNotReturnLeafDataAsBranch() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    cache.putLeafNode(root, DEEP_G_INDEX, dataStructureUtil.randomBytes(64));
+
+    assertThat(cache.getBranchNode(root, DEEP_G_INDEX)).isEmpty();
+  }
+
+  @Test
+  void shouldEvictOldestDeepNodesWhenFull() {
+    final Bytes32 firstRoot = dataStructureUtil.randomBytes32();
+    final Bytes data = dataStructureUtil.randomBytes(1000);
+    cache.putLeafNode(firstRoot, DEEP_G_INDEX, data);
+
+    // Fill well past the budget
+    for (int i = 0; i < 2000; i++) {
+      cache.putLeafNode(dataStructureUtil.randomBytes32(), DEEP_G_INDEX, data);
+    }
+
+    assertThat(cache.getLeafNode(firstRoot, DEEP_G_INDEX)).isEmpty();
+  }
+
+  @Test
+  void shouldKeepShallowNodesWhenDeepNodesAreEvicted() {
+    final Bytes32 shallowRoot = dataStructureUtil.randomBytes32();
+    final Bytes shallowData = dataStructureUtil.randomBytes(64);
+    cache.putLeafNode(shallowRoot, SHALLOW_G_INDEX, shallowData);
+
+    final Bytes data = dataStructureUtil.randomBytes(1000);
+    for (int i = 0; i < 2000; i++) {
+      cache.putLeafNode(dataStructureUtil.randomBytes32(), DEEP_G_INDEX, data);
+    }
+
+    assertThat(cache.getLeafNode(shallowRoot, SHALLOW_G_INDEX)).contains(shallowData);
+  }
+
+  @Test
+  void shouldFindEveryNodeWhileWithinBudget() {
+    final List<Bytes32> roots = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      final Bytes32 root = dataStructureUtil.randomBytes32();
+      roots.add(root);
+      cache.putLeafNode(root, DEEP_G_INDEX, root);
+    }
+
+    assertThat(roots)
+        .allSatisfy(root -> assertThat(cache.getLeafNode(root, DEEP_G_INDEX)).contains(root));
+  }
+
+  @Test
+  void shouldNotMatchDifferentHashWithSamePrefix() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final Bytes32 otherRoot =
+        Bytes32.wrap(Bytes.concatenate(root.slice(0, 16), dataStructureUtil.randomBytes(16)));
+    cache.putLeafNode(root, DEEP_G_INDEX, dataStructureUtil.randomBytes(32));
+
+    assertThat(cache.getLeafNode(otherRoot, DEEP_G_INDEX)).isEmpty();
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    cache.putLeafNode(root, DEEP_G_INDEX, dataStructureUtil.randomBytes(32));
+
+    cache.getLeafNode(root, DEEP_G_INDEX);
+    cache.getLeafNode(dataStructureUtil.randomBytes32(), DEEP_G_INDEX);
+    cache.getLeafNode(dataStructureUtil.randomBytes32(), DEEP_G_INDEX);
+
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+    assertThat(getRequestCount("miss")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheAnythingWhenSizeIsZero() {
+    final OffHeapTreeNodeCache disabledCache =
+        new OffHeapTreeNodeCache(new NoOpMetricsSystem(), 0, RESIDENT_DEPTH);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    disabledCache.putLeafNode(root, SHALLOW_G_INDEX, dataStructureUtil.randomBytes(64));
+
+    assertThat(disabledCache.getLeafNode(root, SHALLOW_G_INDEX)).isEmpty();
+  }
+
+  private long getRequestCount(final String result) {
+    return metricsSystem.getLabelledCounterValue(
+        TekuMetricCategory.STORAGE_FINALIZED_DB, "state_tree_node_cache_requests_total", result);
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class V4FinalizedStateDeltaStorageLogicTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  private final V4FinalizedStateDeltaStorageLogic<SchemaCombinedSnapshotState> logic =
+      new V4FinalizedStateDeltaStorageLogic<>(spec, 1, 3);
+
+  private final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+  private final BeaconState state2 = withSlotAndBalanceChange(state1, 5);
+  private final BeaconState state3 = withSlotAndBalanceChange(state2, 7);
+  private final BeaconState state4 = withSlotAndBalanceChange(state3, 10);
+
+  @Test
+  void shouldStoreDeltasBetweenFullSnapshots() {
+    storeStates(state1, state2, state3, state4);
+
+    assertThat(db.getLastKey(schema.getColumnFinalizedStatesBySlot())).contains(state4.getSlot());
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), state2.getSlot())).isEmpty();
+    assertThat(db.get(schema.getColumnFinalizedStateDeltasBySlot(), state2.getSlot()))
+        .isPresent();
+    assertThat(db.get(schema.getColumnFinalizedStateDeltasBySlot(), state3.getSlot()))
+        .isPresent();
+  }
+
+  @Test
+  void shouldLoadStatesStoredAsDeltas() {
+    storeStates(state1, state2, state3, state4);
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state1.getSlot()))
+        .contains(state1);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state2.getSlot()))
+        .contains(state2);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state3.getSlot().plus(1)))
+        .contains(state3);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state4.getSlot()))
+        .contains(state4);
+  }
+
+  @Test
+  void shouldStreamSlotsFromFullAndDeltaSnapshots() {
+    storeStates(state1, state2, state3, state4);
+
+    try (final Stream<UInt64> slots =
+        logic.streamFinalizedStateSlots(db, schema, UInt64.ZERO, state4.getSlot())) {
+      assertThat(slots)
+          .containsExactly(state1.getSlot(), state2.getSlot(), state3.getSlot(), state4.getSlot());
+    }
+  }
+
+  @Test
+  void shouldKeepBaseStateWhileDeltasStoredAgainstItAreRetained() {
+    storeStates(state1, state2, state3, state4);
+    deleteStates(state1, state2);
+
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), state1.getSlot())).isPresent();
+    assertThat(db.get(schema.getColumnFinalizedStateDeltasBySlot(), state2.getSlot())).isEmpty();
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state3.getSlot()))
+        .contains(state3);
+  }
+
+  @Test
+  void shouldDeleteBaseStateWithItsLastDelta() {
+    storeStates(state1, state2, state3, state4);
+    deleteStates(state1, state2);
+    deleteStates(state3);
+
+    assertThat(db.getFirstEntry(schema.getColumnFinalizedStateDeltasBySlot())).isEmpty();
+    assertThat(db.getFirstEntry(schema.getColumnFinalizedStatesBySlot()))
+        .map(ColumnEntry::getKey)
+        .contains(state4.getSlot());
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state4.getSlot()))
+        .contains(state4);
+  }
+
+  @Test
+  void shouldDeleteBaseStateAndDeltasPrunedTogether() {
+    storeStates(state1, state2, state3, state4);
+    deleteStates(state1, state2, state3);
+
+    assertThat(db.getFirstEntry(schema.getColumnFinalizedStateDeltasBySlot())).isEmpty();
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state3.getSlot())).isEmpty();
+  }
+
+  @Test
+  void shouldKeepDeltasOfOtherBaseStates() {
+    final BeaconState state5 = withSlotAndBalanceChange(state4, 12);
+    storeStates(state1, state2, state3, state4, state5);
+    deleteStates(state1, state2, state3);
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state5.getSlot()))
+        .contains(state5);
+  }
+
+  @Test
+  void shouldFailWhenBaseStateOfDeltaIsMissing() {
+    storeStates(state1, state2);
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStatesBySlot(), state1.getSlot());
+      transaction.commit();
+    }
+
+    assertThatThrownBy(() -> logic.getLatestAvailableFinalizedState(db, schema, state2.getSlot()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("missing base state");
+  }
+
+  @Test
+  void shouldStoreFullSnapshotAfterRestart() {
+    storeStates(state1, state2);
+
+    final V4FinalizedStateDeltaStorageLogic<SchemaCombinedSnapshotState> restartedLogic =
+        new V4FinalizedStateDeltaStorageLogic<>(spec, 1, 3);
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = restartedLogic.updater();
+      updater.addFinalizedState(db, transaction, schema, state3);
+      updater.commit();
+      transaction.commit();
+    }
+
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), state3.getSlot())).isPresent();
+  }
+
+  private void storeStates(final BeaconState... states) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = logic.updater();
+      List.of(states).forEach(state -> updater.addFinalizedState(db, transaction, schema, state));
+      updater.commit();
+      transaction.commit();
+    }
+  }
+
+  private void deleteStates(final BeaconState... states) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = logic.updater();
+      List.of(states)
+          .forEach(state -> updater.deleteFinalizedState(db, transaction, schema, state.getSlot()));
+      updater.commit();
+      transaction.commit();
+    }
+  }
+
+  private static BeaconState withSlotAndBalanceChange(final BeaconState state, final long slot) {
+    return state.updated(
+        mutableState -> {
+          mutableState.setSlot(UInt64.valueOf(slot));
+          mutableState
+              .getBalances()
+              .setElement(0, mutableState.getBalances().getElement(0).plus(slot));
+        });
+  }
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Optional;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
@@ -53,6 +54,8 @@ public class BlobSidecarPrunerTest {
 
   private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(0);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final PruningScheduler pruningScheduler =
+      new PruningScheduler(asyncRunner, PruningGate.ALWAYS_OPEN, new NoOpMetricsSystem());
   private final Database database = mock(Database.class);
   private final StubMetricsSystem stubMetricsSystem = new StubMetricsSystem();
   private final BlobSidecarsArchiver blobSidecarsArchiver = mock(BlobSidecarsArchiver.class);
@@ -63,7 +66,7 @@ public class BlobSidecarPrunerTest {
           database,
           blobSidecarsArchiver,
           stubMetricsSystem,
-          asyncRunner,
+          pruningScheduler,
           timeProvider,
           PRUNE_INTERVAL,
           PRUNE_LIMIT,
@@ -160,7 +163,7 @@ public class BlobSidecarPrunerTest {
             databaseOverride,
             blobSidecarsArchiver,
             stubMetricsSystem,
-            asyncRunner,
+            pruningScheduler,
             timeProvider,
             PRUNE_INTERVAL,
             PRUNE_LIMIT,
@@ -220,7 +223,7 @@ public class BlobSidecarPrunerTest {
             databaseOverride,
             blobSidecarsArchiver,
             stubMetricsSystem,
-            asyncRunner,
+            pruningScheduler,
             timeProvider,
             PRUNE_INTERVAL,
             PRUNE_LIMIT,
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Optional;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
@@ -53,6 +54,8 @@ class BlockPrunerTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
   private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final PruningScheduler pruningScheduler =
+      new PruningScheduler(asyncRunner, PruningGate.ALWAYS_OPEN, new NoOpMetricsSystem());
   private final Database database = mock(Database.class);
   private final SettableLabelledGauge pruningActiveLabelledGauge =
       mock(SettableLabelledGauge.class);
@@ -61,7 +64,7 @@ class BlockPrunerTest {
       new BlockPruner(
           spec,
           database,
-          asyncRunner,
+          pruningScheduler,
           PRUNE_INTERVAL,
           PRUNE_SLOTS,
           "test",
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.Optional;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
@@ -49,6 +50,8 @@ public class DataColumnSidecarPrunerTest {
 
   private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(0);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final PruningScheduler pruningScheduler =
+      new PruningScheduler(asyncRunner, PruningGate.ALWAYS_OPEN, new NoOpMetricsSystem());
   private final Database database = mock(Database.class);
   private final StubMetricsSystem stubMetricsSystem = new StubMetricsSystem();
 
@@ -57,7 +60,7 @@ public class DataColumnSidecarPrunerTest {
           spec,
           database,
           stubMetricsSystem,
-          asyncRunner,
+          pruningScheduler,
           timeProvider,
           PRUNE_INTERVAL,
           PRUNE_LIMIT,
@@ -0,0 +1,172 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.pruner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.Cancellable;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.storage.server.pruner.PruningScheduler.Priority;
+
+class PruningSchedulerTest {
+  private static final Duration INTERVAL = Duration.ofMinutes(1);
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final AtomicReference<Optional<String>> deferralReason =
+      new AtomicReference<>(Optional.empty());
+  private final List<Priority> executed = new ArrayList<>();
+
+  private final PruningScheduler scheduler =
+      new PruningScheduler(asyncRunner, deferralReason::get, metricsSystem);
+
+  @Test
+  void shouldRunTasksWhenGateIsOpen() {
+    schedule(Priority.BLOCKS);
+    asyncRunner.executeDueActions();
+
+    assertThat(executed).containsExactly(Priority.BLOCKS);
+  }
+
+  @Test
+  void shouldRunDeferredTasksInPriorityOrder() {
+    deferralReason.set(Optional.of("test"));
+    schedule(Priority.STATES);
+    schedule(Priority.BLOCKS);
+    schedule(Priority.DATA_COLUMN_SIDECARS);
+    asyncRunner.executeDueActions();
+    assertThat(executed).isEmpty();
+
+    deferralReason.set(Optional.empty());
+    timeProvider.advanceTimeBy(PruningScheduler.DEFERRAL_RETRY_DELAY);
+    asyncRunner.executeDueActions();
+
+    assertThat(executed)
+        .containsExactly(Priority.DATA_COLUMN_SIDECARS, Priority.BLOCKS, Priority.STATES);
+  }
+
+  @Test
+  void shouldCountDeferralsByReason() {
+    deferralReason.set(Optional.of(SlotBoundaryPruningGate.WRITE_STALL));
+    schedule(Priority.BLOCKS);
+    asyncRunner.executeDueActions();
+    timeProvider.advanceTimeBy(PruningScheduler.DEFERRAL_RETRY_DELAY);
+    asyncRunner.executeDueActions();
+
+    assertThat(executed).isEmpty();
+    assertThat(
+            metricsSystem.getLabelledCounterValue(
+                TekuMetricCategory.STORAGE,
+                "pruning_deferrals_total",
+                SlotBoundaryPruningGate.WRITE_STALL))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldRunTasksAnywayAfterMaxDeferrals() {
+    deferralReason.set(Optional.of("test"));
+    schedule(Priority.BLOCKS);
+    asyncRunner.executeDueActions();
+    for (int i = 1; i < PruningScheduler.MAX_CONSECUTIVE_DEFERRALS; i++) {
+      timeProvider.advanceTimeBy(PruningScheduler.DEFERRAL_RETRY_DELAY);
+      asyncRunner.executeDueActions();
+    }
+    assertThat(executed).isEmpty();
+
+    timeProvider.advanceTimeBy(PruningScheduler.DEFERRAL_RETRY_DELAY);
+    asyncRunner.executeDueActions();
+    assertThat(executed).containsExactly(Priority.BLOCKS);
+  }
+
+  @Test
+  void shouldNotRunCancelledTasks() {
+    deferralReason.set(Optional.of("test"));
+    final Cancellable cancellable = schedule(Priority.BLOCKS);
+    asyncRunner.executeDueActions();
+    cancellable.cancel();
+
+    deferralReason.set(Optional.empty());
+    timeProvider.advanceTimeBy(PruningScheduler.DEFERRAL_RETRY_DELAY);
+    asyncRunner.executeDueActions();
+
+    assertThat(executed).isEmpty();
+  }
+
+  @Test
+  void shouldContinueWithOtherTasksWhenOneFails() {
+    final List<Throwable> errors = new ArrayList<>();
+    deferralReason.set(Optional.of("test"));
+    scheduler.schedule(
+        Priority.DATA_COLUMN_SIDECARS,
+        INTERVAL,
+        () -> {
+          throw new IllegalStateException("Failed");
+        },
+        errors::add);
+    schedule(Priority.STATES);
+    asyncRunner.executeDueActions();
+
+    deferralReason.set(Optional.empty());
+    timeProvider.advanceTimeBy(PruningScheduler.DEFERRAL_RETRY_DELAY);
+    asyncRunner.executeDueActions();
+
+    assertThat(errors).hasSize(1);
+    assertThat(executed).containsExactly(Priority.STATES);
+  }
+
+  @Test
+  void shouldNotHoldLockWhileRunningTasks() {
+    scheduler.schedule(
+        Priority.BLOCKS,
+        INTERVAL,
+        () -> {
+          executed.add(Priority.BLOCKS);
+          schedule(Priority.STATES);
+          // Would deadlock if the scheduler lock was held while this task runs
+          CompletableFuture.runAsync(asyncRunner::executeDueActions)
+              .orTimeout(5, TimeUnit.SECONDS)
+              .join();
+          // The newly due task is queued rather than run concurrently
+          assertThat(executed).containsExactly(Priority.BLOCKS);
+        },
+        error -> {
+          throw new AssertionError("Unexpected error", error);
+        });
+    asyncRunner.executeDueActions();
+
+    assertThat(executed).containsExactly(Priority.BLOCKS, Priority.STATES);
+  }
+
+  private Cancellable schedule(final Priority priority) {
+    return scheduler.schedule(
+        priority,
+        INTERVAL,
+        () -> executed.add(priority),
+        error -> {
+          throw new AssertionError("Unexpected error", error);
+        });
+  }
+}
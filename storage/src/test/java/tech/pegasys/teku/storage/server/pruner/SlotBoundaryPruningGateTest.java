@@ -0,0 +1,75 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.pruner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.storage.server.Database;
+
+class SlotBoundaryPruningGateTest {
+  private static final UInt64 GENESIS_TIME = UInt64.valueOf(1000);
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final int slotDurationMillis = spec.getSlotDurationMillis(UInt64.ZERO);
+  private final StubTimeProvider timeProvider =
+      StubTimeProvider.withTimeInSeconds(GENESIS_TIME.plus(60));
+  private final Database database = mock(Database.class);
+
+  private final SlotBoundaryPruningGate gate =
+      new SlotBoundaryPruningGate(spec, database, timeProvider);
+
+  @BeforeEach
+  void setUp() {
+    when(database.getGenesisTime()).thenReturn(Optional.of(GENESIS_TIME));
+  }
+
+  @Test
+  void shouldDeferAtStartOfSlot() {
+    assertThat(gate.getDeferralReason()).contains(SlotBoundaryPruningGate.SLOT_BOUNDARY);
+  }
+
+  @Test
+  void shouldDeferJustBeforeStartOfSlot() {
+    timeProvider.advanceTimeByMillis(slotDurationMillis - 100);
+    assertThat(gate.getDeferralReason()).contains(SlotBoundaryPruningGate.SLOT_BOUNDARY);
+  }
+
+  @Test
+  void shouldAllowPruningMidSlot() {
+    timeProvider.advanceTimeByMillis(slotDurationMillis / 2);
+    assertThat(gate.getDeferralReason()).isEmpty();
+  }
+
+  @Test
+  void shouldDeferWhenWritesAreStalled() {
+    timeProvider.advanceTimeByMillis(slotDurationMillis / 2);
+    when(database.isWriteStalled()).thenReturn(true);
+    assertThat(gate.getDeferralReason()).contains(SlotBoundaryPruningGate.WRITE_STALL);
+  }
+
+  @Test
+  void shouldNotDeferForSlotBoundaryBeforeGenesisTimeIsKnown() {
+    when(database.getGenesisTime()).thenReturn(Optional.empty());
+    assertThat(gate.getDeferralReason()).isEmpty();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.RocksObject;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
+
+class RocksDbInstanceFactoryTest {
+
+  private static final List<KvStoreColumn<UInt64, Bytes>> COLUMNS =
+      List.of(
+          KvStoreColumn.create(1, UINT64_SERIALIZER, BYTES_SERIALIZER),
+          KvStoreColumn.create(
+              2, UINT64_SERIALIZER, BYTES_SERIALIZER, KvStoreColumnProfile.POINT_LOOKUP),
+          KvStoreColumn.create(
+              3, UINT64_SERIALIZER, BYTES_SERIALIZER, KvStoreColumnProfile.SEQUENTIAL_SCAN),
+          KvStoreColumn.create(
+              4, UINT64_SERIALIZER, BYTES_SERIALIZER, KvStoreColumnProfile.WRITE_ONCE_COLD));
+
+  @TempDir Path dataDir;
+
+  @BeforeAll
+  static void setUp() {
+    assumeThat(DatabaseVersion.isRocksDbSupported())
+        .describedAs("RocksDB support required")
+        .isTrue();
+  }
+
+  @Test
+  void shouldShareOneBloomFilterAndCloseItWithTheOptions() throws Exception {
+    final List<AutoCloseable> resources = new ArrayList<>();
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> options =
+        RocksDbInstanceFactory.createColumnFamilyOptionsByProfile(
+            KvStoreConfiguration.v6SingleDefaults(), resources);
+
+    assertThat(options).containsOnlyKeys(KvStoreColumnProfile.values());
+    final List<BloomFilter> filters =
+        resources.stream()
+            .filter(BloomFilter.class::isInstance)
+            .map(BloomFilter.class::cast)
+            .toList();
+    assertThat(filters).hasSize(1);
+    final BloomFilter filter = filters.get(0);
+    assertThat(getTableConfig(options, KvStoreColumnProfile.DEFAULT).filterPolicy())
+        .isSameAs(filter);
+    assertThat(getTableConfig(options, KvStoreColumnProfile.POINT_LOOKUP).filterPolicy())
+        .isSameAs(filter);
+    assertThat(getTableConfig(options, KvStoreColumnProfile.WRITE_ONCE_COLD).filterPolicy())
+        .isSameAs(filter);
+    assertThat(getTableConfig(options, KvStoreColumnProfile.SEQUENTIAL_SCAN).filterPolicy())
+        .isNull();
+    assertThat(resources).containsAll(options.values());
+
+    for (AutoCloseable resource : resources) {
+      resource.close();
+    }
+    assertThat(resources)
+        .allSatisfy(resource -> assertThat(((RocksObject) resource).isOwningHandle()).isFalse());
+  }
+
+  @Test
+  void shouldStoreAndReadValuesInEveryColumnProfile() throws Exception {
+    try (KvStoreAccessor db = createDatabase()) {
+      try (KvStoreTransaction transaction = db.startTransaction()) {
+        for (KvStoreColumn<UInt64, Bytes> column : COLUMNS) {
+          for (int i = 0; i < 10; i++) {
+            transaction.put(column, UInt64.valueOf(i), Bytes.of(i));
+          }
+        }
+        transaction.commit();
+      }
+    }
+
+    try (KvStoreAccessor db = createDatabase()) {
+      for (KvStoreColumn<UInt64, Bytes> column : COLUMNS) {
+        assertThat(db.get(column, UInt64.valueOf(3))).contains(Bytes.of(3));
+        assertThat(db.get(column, UInt64.valueOf(10))).isEmpty();
+        assertThat(db.streamKeys(column, UInt64.valueOf(2), UInt64.valueOf(5)))
+            .containsExactly(
+                UInt64.valueOf(2), UInt64.valueOf(3), UInt64.valueOf(4), UInt64.valueOf(5));
+      }
+    }
+  }
+
+  private KvStoreAccessor createDatabase() throws Exception {
+    return RocksDbInstanceFactory.create(
+        new NoOpMetricsSystem(),
+        TekuMetricCategory.STORAGE_HOT_DB,
+        KvStoreConfiguration.v6SingleDefaults().withDatabaseDir(dataDir),
+        List.copyOf(COLUMNS),
+        Collections.emptyList(),
+        Collections.emptyList(),
+        Collections.emptyList());
+  }
+
+  private static BlockBasedTableConfig getTableConfig(
+      final Map<KvStoreColumnProfile, ColumnFamilyOptions> options,
+      final KvStoreColumnProfile profile) {
+    return (BlockBasedTableConfig) options.get(profile).tableFormatConfig();
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.server.state;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -24,6 +25,11 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
@@ -105,6 +111,90 @@ class FinalizedStateCacheTest {
     verify(database, times(2)).streamFinalizedBlocks(ONE, ONE);
   }
 
+  @Test
+  void shouldRegenerateFromAnchorStateRecordedDuringEarlierRegeneration() {
+    final int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
+    final UInt64 firstRequestedSlot = UInt64.valueOf(slotsPerEpoch * 3L);
+    final UInt64 anchorSlot = UInt64.valueOf(slotsPerEpoch * 2L);
+    final UInt64 secondRequestedSlot = anchorSlot.plus(4);
+    chainBuilder.generateBlocksUpToSlot(firstRequestedSlot);
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    allowStreamingBlocks();
+
+    assertThat(cache.getFinalizedState(firstRequestedSlot))
+        .contains(chainBuilder.getStateAtSlot(firstRequestedSlot));
+
+    // The first state of each epoch replayed is kept as an anchor
+    assertThat(cache.getFinalizedState(secondRequestedSlot))
+        .contains(chainBuilder.getStateAtSlot(secondRequestedSlot));
+    verify(database).streamFinalizedBlocks(anchorSlot.plus(ONE), secondRequestedSlot);
+  }
+
+  @Test
+  void shouldNotEvictRequestedStatesWhenRecordingAnchors() {
+    final int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
+    final UInt64 requestedSlot = UInt64.valueOf(slotsPerEpoch * (MAXIMUM_CACHE_SIZE + 2L));
+    chainBuilder.generateBlocksUpToSlot(requestedSlot);
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    allowStreamingBlocks();
+
+    assertThat(cache.getFinalizedState(ONE)).contains(chainBuilder.getStateAtSlot(ONE));
+    // Records more anchors than the state cache can hold
+    assertThat(cache.getFinalizedState(requestedSlot))
+        .contains(chainBuilder.getStateAtSlot(requestedSlot));
+
+    assertThat(cache.getFinalizedState(ONE)).contains(chainBuilder.getStateAtSlot(ONE));
+    verify(database, times(1)).streamFinalizedBlocks(ONE, ONE);
+  }
+
+  @Test
+  void shouldShareInFlightRegenerationWithConcurrentRequestForLaterSlot() throws Exception {
+    final UInt64 firstRequestedSlot = UInt64.valueOf(5);
+    final UInt64 secondRequestedSlot = UInt64.valueOf(7);
+    chainBuilder.generateBlocksUpToSlot(secondRequestedSlot);
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    allowStreamingBlocks();
+
+    // Hold the first regeneration until the second request has registered its own
+    final CountDownLatch firstRegenerationStarted = new CountDownLatch(1);
+    final CountDownLatch secondRequestStarted = new CountDownLatch(1);
+    when(database.streamFinalizedBlocks(ONE, firstRequestedSlot))
+        .thenAnswer(
+            invocation -> {
+              firstRegenerationStarted.countDown();
+              assertThat(secondRequestStarted.await(10, TimeUnit.SECONDS)).isTrue();
+              return chainBuilder
+                  .streamBlocksAndStates(ONE, firstRequestedSlot)
+                  .map(SignedBlockAndState::getBlock);
+            });
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<Optional<BeaconState>> firstResult =
+          executor.submit(() -> cache.getFinalizedState(firstRequestedSlot));
+      assertThat(firstRegenerationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+      final Future<Optional<BeaconState>> secondResult =
+          executor.submit(() -> cache.getFinalizedState(secondRequestedSlot));
+      waitForInFlightRegeneration(secondRequestedSlot);
+      secondRequestStarted.countDown();
+
+      assertThat(firstResult.get(10, TimeUnit.SECONDS))
+          .contains(chainBuilder.getStateAtSlot(firstRequestedSlot));
+      assertThat(secondResult.get(10, TimeUnit.SECONDS))
+          .contains(chainBuilder.getStateAtSlot(secondRequestedSlot));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // The second request only replays the blocks after the first requested slot
+    verify(database).streamFinalizedBlocks(ONE, firstRequestedSlot);
+    verify(database).streamFinalizedBlocks(firstRequestedSlot.plus(ONE), secondRequestedSlot);
+    verify(database, never()).streamFinalizedBlocks(ONE, secondRequestedSlot);
+  }
+
   @Test
   void shouldReturnEmptyWhenStateIsNotAvailable() {
     when(database.getLatestAvailableFinalizedState(any())).thenReturn(Optional.empty());
@@ -112,6 +202,14 @@ class FinalizedStateCacheTest {
     assertThat(cache.getFinalizedState(ONE)).isEmpty();
   }
 
+  private void waitForInFlightRegeneration(final UInt64 slot) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10_000;
+    while (cache.getLatestInFlightRegeneration(slot.minus(ONE), slot.plus(ONE)).isEmpty()) {
+      assertThat(System.currentTimeMillis()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
   private void allowStreamingBlocks() {
     when(database.streamFinalizedBlocks(any(), any()))
         .thenAnswer(
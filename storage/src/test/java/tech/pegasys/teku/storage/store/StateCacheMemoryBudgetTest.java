@@ -0,0 +1,163 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateCacheMemoryBudgetTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final BeaconState state1 = dataStructureUtil.randomBeaconState(32);
+  private final BeaconState state2 = dataStructureUtil.randomBeaconState(32);
+  private final BeaconState state3 = dataStructureUtil.randomBeaconState(32);
+  private final long stateSize = estimateSize(state1);
+
+  @Test
+  void shouldEvictLeastRecentlyUsedStateAcrossCaches() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 3 / 2);
+    final Map<Integer, BeaconState> cacheA = budget.createCache("a", Function.identity());
+    final Map<Integer, BeaconState> cacheB = budget.createCache("b", Function.identity());
+
+    cacheA.put(1, state1);
+    cacheB.put(2, state2);
+
+    assertThat(cacheA).isEmpty();
+    assertThat(cacheB).containsEntry(2, state2);
+    assertThat(getEvictions("a")).isEqualTo(1);
+    assertThat(getEvictions("b")).isZero();
+  }
+
+  @Test
+  void shouldKeepRecentlyAccessedStates() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 5 / 2);
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+    cache.put(1, state1);
+    cache.put(2, state2);
+
+    assertThat(cache.get(1)).isEqualTo(state1);
+    cache.put(3, state3);
+
+    assertThat(cache).containsOnlyKeys(1, 3);
+  }
+
+  @Test
+  void shouldOnlyCountSharedNodesOnce() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 3 / 2);
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+    final BeaconState childState =
+        state1.updated(mutableState -> mutableState.setSlot(state1.getSlot().plus(1)));
+
+    cache.put(1, state1);
+    cache.put(2, childState);
+
+    assertThat(cache).containsOnlyKeys(1, 2);
+    assertThat(budget.getTotalBytes()).isLessThan(stateSize * 3 / 2);
+  }
+
+  @Test
+  void shouldKeepMostRecentStateWhenItExceedsBudget() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize / 2);
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+
+    cache.put(1, state1);
+
+    assertThat(cache).containsOnlyKeys(1);
+  }
+
+  @Test
+  void shouldReleaseBytesWhenStatesAreRemoved() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 10);
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+    cache.put(1, state1);
+    cache.put(2, state2);
+    cache.put(3, state3);
+
+    cache.remove(1);
+    cache.keySet().removeIf(key -> key == 2);
+    assertThat(cache).containsOnlyKeys(3);
+    assertThat(budget.getTotalBytes()).isEqualTo(estimateSize(state3));
+
+    cache.clear();
+    assertThat(budget.getTotalBytes()).isZero();
+  }
+
+  @Test
+  void shouldReplaceExistingEntry() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 10);
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+    cache.put(1, state1);
+    cache.put(1, state2);
+
+    assertThat(cache).containsOnly(Map.entry(1, state2));
+    assertThat(budget.getTotalBytes()).isEqualTo(estimateSize(state2));
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 10);
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+    cache.put(1, state1);
+
+    cache.get(1);
+    cache.get(1);
+    cache.get(2);
+
+    assertThat(getRequests("hit")).isEqualTo(2);
+    assertThat(getRequests("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReportBytesMetric() {
+    final StateCacheMemoryBudget budget = createBudget(stateSize * 10);
+    budget.startMetrics();
+    final Map<Integer, BeaconState> cache = budget.createCache("a", Function.identity());
+    cache.put(1, state1);
+
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.STORAGE, "memory_state_cache_bytes")
+                .getValue())
+        .isEqualTo(stateSize);
+  }
+
+  private StateCacheMemoryBudget createBudget(final long maxBytes) {
+    return new StateCacheMemoryBudget(metricsSystem, maxBytes);
+  }
+
+  private long estimateSize(final BeaconState state) {
+    return new TreeNodeMemoryTracker().retain(state.getBackingNode());
+  }
+
+  private long getEvictions(final String cache) {
+    return metricsSystem.getLabelledCounterValue(
+        TekuMetricCategory.STORAGE, "memory_state_cache_evictions_total", cache);
+  }
+
+  private long getRequests(final String result) {
+    return metricsSystem.getLabelledCounterValue(
+        TekuMetricCategory.STORAGE, "memory_state_cache_requests_total", "a", result);
+  }
+}
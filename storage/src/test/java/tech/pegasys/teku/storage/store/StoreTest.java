@@ -585,6 +585,19 @@ class StoreTest extends AbstractStoreTest {
         .isEqualTo(checkpoint.getRoot());
   }
 
+  @Test
+  public void getCheckpointStateIfAvailable_shouldOnlyReturnGeneratedStates() {
+    final UpdatableStore store = createGenesisStore();
+    final SignedBlockAndState genesisBlockAndState = chainBuilder.getLatestBlockAndState();
+    final Checkpoint checkpoint = new Checkpoint(UInt64.ONE, genesisBlockAndState.getRoot());
+
+    assertThat(store.getCheckpointStateIfAvailable(checkpoint)).isEmpty();
+
+    final BeaconState checkpointState =
+        safeJoin(store.retrieveCheckpointState(checkpoint)).orElseThrow();
+    assertThat(store.getCheckpointStateIfAvailable(checkpoint)).contains(checkpointState);
+  }
+
   @Test
   public void retrieveCheckpointState_forGenesis() {
     final UpdatableStore store = createGenesisStore();
@@ -0,0 +1,86 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class TreeNodeMemoryTrackerTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final TreeNodeMemoryTracker tracker = new TreeNodeMemoryTracker();
+
+  private final BeaconState state = dataStructureUtil.randomBeaconState(64);
+  private final BeaconState childState =
+      state.updated(mutableState -> mutableState.setSlot(state.getSlot().plus(1)));
+
+  @Test
+  void shouldOnlyCountSharedNodesOnce() {
+    final long stateBytes = tracker.retain(state.getBackingNode());
+    final long childStateBytes = tracker.retain(childState.getBackingNode());
+
+    assertThat(stateBytes).isPositive();
+    assertThat(childStateBytes).isPositive().isLessThan(stateBytes / 10);
+    assertThat(tracker.getTotalBytes()).isEqualTo(stateBytes + childStateBytes);
+  }
+
+  @Test
+  void shouldNotCountSameTreeTwice() {
+    final long stateBytes = tracker.retain(state.getBackingNode());
+
+    assertThat(tracker.retain(state.getBackingNode())).isZero();
+    assertThat(tracker.release(state.getBackingNode())).isZero();
+    assertThat(tracker.getTotalBytes()).isEqualTo(stateBytes);
+  }
+
+  @Test
+  void shouldKeepSharedNodesWhenOneTreeIsReleased() {
+    tracker.retain(state.getBackingNode());
+    tracker.retain(childState.getBackingNode());
+
+    tracker.release(state.getBackingNode());
+
+    final TreeNodeMemoryTracker childOnlyTracker = new TreeNodeMemoryTracker();
+    assertThat(tracker.getTotalBytes())
+        .isEqualTo(childOnlyTracker.retain(childState.getBackingNode()));
+  }
+
+  @Test
+  void shouldReleaseEverythingWhenAllTreesAreReleased() {
+    tracker.retain(state.getBackingNode());
+    tracker.retain(childState.getBackingNode());
+
+    tracker.release(childState.getBackingNode());
+    tracker.release(state.getBackingNode());
+
+    assertThat(tracker.getTotalBytes()).isZero();
+    assertThat(tracker.getTrackedNodeCount()).isZero();
+  }
+
+  @Test
+  void shouldIgnoreReleaseOfUnknownTree() {
+    tracker.retain(state.getBackingNode());
+    final long totalBytes = tracker.getTotalBytes();
+
+    final BeaconState otherState = dataStructureUtil.randomBeaconState(UInt64.ONE);
+    assertThat(tracker.release(otherState.getBackingNode())).isZero();
+    assertThat(tracker.getTotalBytes()).isEqualTo(totalBytes);
+  }
+}
@@ -13,10 +13,12 @@
 
 package tech.pegasys.teku.storage.server.kvstore;
 
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotStateAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
@@ -51,9 +53,32 @@ public class InMemoryKvStoreDatabaseFactory {
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
+    return createV6(
+        db,
+        storageMode,
+        stateStorageFrequency,
+        StorageConfiguration.DEFAULT_FULL_STATE_SNAPSHOT_INTERVAL,
+        storeNonCanonicalBlocks,
+        spec);
+  }
+
+  public static Database createV6(
+      final MockKvStoreInstance db,
+      final StateStorageMode storageMode,
+      final long stateStorageFrequency,
+      final int fullStateSnapshotInterval,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec) {
     final V6SchemaCombinedSnapshot combinedSchema = V6SchemaCombinedSnapshot.createV6(spec);
     return KvStoreDatabase.createWithStateSnapshots(
-        db, combinedSchema, storageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+        db,
+        combinedSchema,
+        storageMode,
+        stateStorageFrequency,
+        fullStateSnapshotInterval,
+        Optional.empty(),
+        storeNonCanonicalBlocks,
+        spec);
   }
 
   public static Database createTree(
@@ -63,6 +88,13 @@ public class InMemoryKvStoreDatabaseFactory {
       final Spec spec) {
     final V6SchemaCombinedTreeState schema = new V6SchemaCombinedTreeState(spec);
     return KvStoreDatabase.createWithStateTree(
-        new StubMetricsSystem(), db, schema, storageMode, storeNonCanonicalBlocks, 1000, spec);
+        new StubMetricsSystem(),
+        db,
+        schema,
+        storageMode,
+        storeNonCanonicalBlocks,
+        1000,
+        StorageConfiguration.DEFAULT_TREE_NODE_CACHE_SIZE_BYTES,
+        spec);
   }
 }
@@ -202,6 +202,21 @@ public class MockKvStoreInstance implements KvStoreAccessor {
         .map(e -> columnKey(column, e));
   }
 
+  @Override
+  public <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    columnData
+        .get(column)
+        .subMap(keyToBytes(column, from), true, keyToBytes(column, to), false)
+        .clear();
+  }
+
+  @Override
+  public boolean isWriteStalled() {
+    return false;
+  }
+
   @Override
   public KvStoreTransaction startTransaction() {
     assertOpen();
@@ -17,12 +17,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.StorageConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
@@ -167,6 +169,8 @@ public class FileBackedStorageSystemBuilder {
         schema,
         storageMode,
         stateStorageFrequency,
+        StorageConfiguration.DEFAULT_FULL_STATE_SNAPSHOT_INTERVAL,
+        Optional.empty(),
         storeNonCanonicalBlocks,
         spec);
   }
@@ -178,6 +182,8 @@ public class FileBackedStorageSystemBuilder {
         configDefault.withDatabaseDir(hotDir),
         storageMode,
         stateStorageFrequency,
+        StorageConfiguration.DEFAULT_FULL_STATE_SNAPSHOT_INTERVAL,
+        Optional.empty(),
         storeNonCanonicalBlocks,
         spec);
   }
@@ -190,6 +196,7 @@ public class FileBackedStorageSystemBuilder {
         storageMode,
         storeNonCanonicalBlocks,
         10_000,
+        StorageConfiguration.DEFAULT_TREE_NODE_CACHE_SIZE_BYTES,
         spec);
   }
 
@@ -118,6 +118,60 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       hidden = true)
   private int maxKnownNodeCacheSize = StorageConfiguration.DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-tree-node-cache-size"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum size in bytes of the off-heap cache of finalized state tree nodes used when"
+              + " loading states in tree storage mode. Disabled (0) by default",
+      arity = "1",
+      hidden = true)
+  private long treeNodeCacheSizeBytes = StorageConfiguration.DEFAULT_TREE_NODE_CACHE_SIZE_BYTES;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-full-state-snapshot-interval"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of finalized state snapshots per full snapshot in snapshot storage mode. The"
+              + " snapshots in between are stored as deltas against the last full snapshot."
+              + " Set to 1 to store every snapshot in full",
+      arity = "1",
+      hidden = true)
+  private int fullStateSnapshotInterval = StorageConfiguration.DEFAULT_FULL_STATE_SNAPSHOT_INTERVAL;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-data-column-sidecar-segments-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Store data column sidecars in per-epoch segment files next to the database, which are"
+              + " deleted whole when pruned. Must stay enabled once data has been stored this way",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean dataColumnSidecarSegmentsEnabled =
+      StorageConfiguration.DEFAULT_DATA_COLUMN_SIDECAR_SEGMENTS_ENABLED;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-group-commit-window-ms"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Time in milliseconds to collect hot storage updates before writing them to the database"
+              + " together. Set to 0 to write each update as it arrives",
+      arity = "1",
+      hidden = true)
+  private long storageUpdateGroupCommitWindowMillis =
+      StorageConfiguration.DEFAULT_STORAGE_UPDATE_GROUP_COMMIT_WINDOW.toMillis();
+
+  @CommandLine.Option(
+      names = {"--Xdata-era-directory"},
+      paramLabel = "<DIRECTORY>",
+      description =
+          "Directory of ERA files to import historical blocks from before requesting them from"
+              + " peers",
+      arity = "1",
+      hidden = true)
+  private Path eraDirectory;
+
   @CommandLine.Option(
       names = {"--reconstruct-historic-states"},
       paramLabel = "<BOOLEAN>",
@@ -240,6 +294,11 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
                 .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
                 .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
+                .treeNodeCacheSizeBytes(treeNodeCacheSizeBytes)
+                .fullStateSnapshotInterval(fullStateSnapshotInterval)
+                .dataColumnSidecarSegmentsEnabled(dataColumnSidecarSegmentsEnabled)
+                .storageUpdateGroupCommitWindow(
+                    Duration.ofMillis(storageUpdateGroupCommitWindowMillis))
                 .blockPruningInterval(Duration.ofSeconds(blockPruningIntervalSeconds))
                 .blockPruningLimit(blockPruningLimit)
                 .stateRebuildTimeoutSeconds(stateRebuildTimeoutSeconds)
@@ -254,7 +313,8 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
     builder.sync(
         b ->
             b.fetchAllHistoricBlocks(dataStorageMode.storesAllBlocks())
-                .reconstructHistoricStatesEnabled(reconstructHistoricStates));
+                .reconstructHistoricStatesEnabled(reconstructHistoricStates)
+                .historicalSyncEraDirectory(eraDirectory));
   }
 
   public DatabaseVersion parseDatabaseVersion() {
@@ -153,6 +153,28 @@ public class Eth2NetworkOptions {
   private boolean prepareBlockProductionEnabled =
       Eth2NetworkConfiguration.DEFAULT_PREPARE_BLOCK_PRODUCTION_ENABLED;
 
+  @Option(
+      names = {"--Xnext-slot-state-advance-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Advance the head state into the next slot ahead of time, near the slot end.",
+      arity = "0..1",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private boolean nextSlotStateAdvanceEnabled =
+      Eth2NetworkConfiguration.DEFAULT_NEXT_SLOT_STATE_ADVANCE_ENABLED;
+
+  @Option(
+      names = {"--Xparallel-epoch-processing-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Calculate epoch rewards and penalties for validators in parallel.",
+      arity = "0..1",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private boolean parallelEpochProcessingEnabled =
+      Eth2NetworkConfiguration.DEFAULT_PARALLEL_EPOCH_PROCESSING_ENABLED;
+
   @Option(
       names = {"--Xfork-choice-updated-always-send-payload-attributes"},
       paramLabel = "<BOOLEAN>",
@@ -503,6 +525,8 @@ public class Eth2NetworkOptions {
         .asyncBeaconChainMaxThreads(asyncBeaconChainMaxThreads)
         .forkChoiceLateBlockReorgEnabled(forkChoiceLateBlockReorgEnabled)
         .prepareBlockProductionEnabled(prepareBlockProductionEnabled)
+        .nextSlotStateAdvanceEnabled(nextSlotStateAdvanceEnabled)
+        .parallelEpochProcessingEnabled(parallelEpochProcessingEnabled)
         .aggregatingAttestationPoolV2Enabled(aggregatingAttestationPoolV2Enabled)
         .aggregatingAttestationPoolProfilingEnabled(aggregatingAttestationPoolProfilingEnabled)
         .aggregatingAttestationPoolV2BlockAggregationTimeLimit(
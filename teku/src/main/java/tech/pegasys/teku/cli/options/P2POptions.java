@@ -298,6 +298,19 @@ public class P2POptions {
   private Integer forwardSyncMaxPendingBatches =
       SyncConfig.DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
 
+  @Option(
+      names = {"--Xp2p-sync-batch-import-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Import each sync batch together, verifying the signatures of all its blocks at once and "
+              + "updating the head only once per batch.",
+      hidden = true,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean forwardSyncBatchImportEnabled =
+      SyncConfig.DEFAULT_FORWARD_SYNC_BATCH_IMPORT_ENABLED;
+
   @Option(
       names = {"--Xp2p-sync-blocks-rate-limit"},
       paramLabel = "<NUMBER>",
@@ -482,6 +495,114 @@ public class P2POptions {
   private boolean batchVerifyStrictThreadLimitEnabled =
       P2PConfig.DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-batch-verify-signatures-same-message-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "When enabled, single signatures over the same message, such as unaggregated "
+              + "attestations, are batch verified with one pairing",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean batchVerifySameMessageEnabled =
+      P2PConfig.DEFAULT_BATCH_VERIFY_SAME_MESSAGE_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-batch-verify-signatures-max-delay-ms"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum time in milliseconds a signature waits for others to batch with when same "
+              + "message batching is enabled",
+      arity = "1",
+      hidden = true)
+  private int batchVerifyMaxDelayMs = P2PConfig.DEFAULT_BATCH_VERIFY_MAX_DELAY_MS;
+
+  @Option(
+      names = {"--Xp2p-encoded-block-serving-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Serve finalized blocks to blocks by range requests straight from their stored SSZ bytes",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean encodedBlockServingEnabled = P2PConfig.DEFAULT_ENCODED_BLOCK_SERVING_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-encoded-block-cache-size"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Number of compressed finalized blocks to cache for serving blocks by range requests",
+      arity = "1",
+      hidden = true)
+  private int encodedBlockCacheSize = P2PConfig.DEFAULT_ENCODED_BLOCK_CACHE_SIZE;
+
+  @Option(
+      names = {"--Xp2p-gossip-validation-scheduler-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Validate gossip messages in per-topic queues which favor blocks over attestations",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean gossipValidationSchedulerEnabled =
+      P2PConfig.DEFAULT_GOSSIP_VALIDATION_SCHEDULER_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-gossip-validation-max-concurrent-tasks"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description = "Maximum number of gossip messages validated concurrently by the scheduler",
+      arity = "1",
+      hidden = true)
+  private int gossipValidationMaxConcurrentTasks =
+      P2PConfig.DEFAULT_GOSSIP_VALIDATION_MAX_CONCURRENT_TASKS;
+
+  @Option(
+      names = {"--Xp2p-gossip-validation-stale-message-age-ms"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Milliseconds after which queued attestation and sync committee messages are dropped",
+      arity = "1",
+      hidden = true)
+  private int gossipValidationStaleMessageAgeMs =
+      P2PConfig.DEFAULT_GOSSIP_VALIDATION_STALE_MESSAGE_AGE_MS;
+
+  @Option(
+      names = {"--Xp2p-gossip-decoding-pool-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description = "Decode gossip messages on dedicated threads instead of the network threads",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean gossipDecodingPoolEnabled = P2PConfig.DEFAULT_GOSSIP_DECODING_POOL_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-gossip-decoding-threads"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description = "Number of threads decoding large and small gossip messages, respectively",
+      arity = "1",
+      hidden = true)
+  private int gossipDecodingThreads = P2PConfig.DEFAULT_GOSSIP_DECODING_THREADS;
+
+  @Option(
+      names = {"--Xp2p-gossip-decoding-large-message-threshold"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Compressed size in bytes at which gossip messages go to the large message decoders",
+      arity = "1",
+      hidden = true)
+  private int gossipDecodingLargeMessageThreshold =
+      P2PConfig.DEFAULT_GOSSIP_DECODING_LARGE_MESSAGE_THRESHOLD;
+
   @Option(
       names = {"--p2p-discovery-site-local-addresses-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -625,6 +746,8 @@ public class P2POptions {
                   .batchVerifyMaxThreads(batchVerifyMaxThreads)
                   .batchVerifyMaxBatchSize(batchVerifyMaxBatchSize)
                   .batchVerifyStrictThreadLimitEnabled(batchVerifyStrictThreadLimitEnabled)
+                  .batchVerifySameMessageEnabled(batchVerifySameMessageEnabled)
+                  .batchVerifyMaxDelayMs(batchVerifyMaxDelayMs)
                   .targetSubnetSubscriberCount(p2pTargetSubnetSubscriberCount)
                   .isGossipScoringEnabled(gossipScoringEnabled)
                   .peerBlocksRateLimit(peerBlocksRateLimit)
@@ -639,7 +762,15 @@ public class P2POptions {
                   .executionProofTopicEnabled(executionProofTopicEnabled)
                   .reworkedSidecarRecoveryTimeout(sidecarCancelTimeoutMs)
                   .reworkedSidecarDownloadTimeout(sidecarDownloadTimeoutMs)
-                  .reworkedSidecarRecoveryEnabled(reworkedSidecarRecoveryEnabled);
+                  .reworkedSidecarRecoveryEnabled(reworkedSidecarRecoveryEnabled)
+                  .encodedBlockServingEnabled(encodedBlockServingEnabled)
+                  .encodedBlockCacheSize(encodedBlockCacheSize)
+                  .gossipValidationSchedulerEnabled(gossipValidationSchedulerEnabled)
+                  .gossipValidationMaxConcurrentTasks(gossipValidationMaxConcurrentTasks)
+                  .gossipValidationStaleMessageAgeMs(gossipValidationStaleMessageAgeMs)
+                  .gossipDecodingPoolEnabled(gossipDecodingPoolEnabled)
+                  .gossipDecodingThreads(gossipDecodingThreads)
+                  .gossipDecodingLargeMessageThreshold(gossipDecodingLargeMessageThreshold);
               batchVerifyQueueCapacity.ifPresent(b::batchVerifyQueueCapacity);
             })
         .discovery(
@@ -718,7 +849,8 @@ public class P2POptions {
                     .forwardSyncMaxBlobSidecarsPerMinute(forwardSyncBlobSidecarsRateLimit)
                     .forwardSyncBatchSize(forwardSyncBatchSize)
                     .forwardSyncMaxPendingBatches(forwardSyncMaxPendingBatches)
-                    .forwardSyncMaxDistanceFromHead(forwardSyncMaxDistanceFromHead));
+                    .forwardSyncMaxDistanceFromHead(forwardSyncMaxDistanceFromHead)
+                    .forwardSyncBatchImportEnabled(forwardSyncBatchImportEnabled));
 
     if (subscribeAllSubnetsEnabled) {
       builder
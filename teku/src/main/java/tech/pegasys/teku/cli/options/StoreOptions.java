@@ -60,6 +60,17 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-memory-size"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum estimated size in bytes of the state, epoch state and checkpoint state caches"
+              + " combined. Tree nodes shared between states are only counted once. Set to 0 to"
+              + " limit the caches by their number of states instead",
+      arity = "1")
+  private long stateCacheMemorySizeBytes = StoreConfig.DEFAULT_STATE_CACHE_MEMORY_SIZE_BYTES;
+
   @Option(
       names = {"--Xstore-initial-canonical-block-root"},
       hidden = true,
@@ -76,6 +87,7 @@ public class StoreOptions {
                 .stateCacheSize(stateCacheSize)
                 .epochStateCacheSize(epochStateCacheSize)
                 .checkpointStateCacheSize(checkpointStateCacheSize)
+                .stateCacheMemorySizeBytes(stateCacheMemorySizeBytes)
                 .initialCanonicalBlockRoot(initialCanonicalBlockRoot));
   }
 }
@@ -227,4 +227,37 @@ public class BeaconNodeDataOptionsTest extends AbstractBeaconNodeCommandTest {
         getTekuConfigurationFromArguments("--Xdebug-data-dumping-enabled=true");
     assertThat(tekuConfig.dataConfig().isDebugDataDumpingEnabled()).isEqualTo(true);
   }
+
+  @Test
+  void treeNodeCacheSize_shouldDefaultToDisabled() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().getTreeNodeCacheSizeBytes()).isZero();
+  }
+
+  @Test
+  void shouldSetTreeNodeCacheSize() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-tree-node-cache-size=1048576");
+    assertThat(tekuConfig.storageConfiguration().getTreeNodeCacheSizeBytes()).isEqualTo(1048576);
+  }
+
+  @Test
+  void shouldSetHistoricalSyncEraDirectory() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-era-directory=/tmp/era");
+    assertThat(tekuConfig.sync().getHistoricalSyncEraDirectory()).contains(Path.of("/tmp/era"));
+  }
+
+  @Test
+  void dataColumnSidecarSegmentsEnabled_shouldDefaultFalse() {
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments();
+    assertThat(tekuConfig.storageConfiguration().isDataColumnSidecarSegmentsEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldSetDataColumnSidecarSegmentsEnabled() {
+    final TekuConfiguration tekuConfig =
+        getTekuConfigurationFromArguments("--Xdata-storage-data-column-sidecar-segments-enabled");
+    assertThat(tekuConfig.storageConfiguration().isDataColumnSidecarSegmentsEnabled()).isTrue();
+  }
 }
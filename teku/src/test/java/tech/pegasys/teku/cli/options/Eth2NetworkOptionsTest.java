@@ -101,6 +101,23 @@ class Eth2NetworkOptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(256);
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"true", "false"})
+  void shouldSetParallelEpochProcessingEnabled(final String value) {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments("--Xparallel-epoch-processing-enabled", value);
+    final Spec spec = config.eth2NetworkConfiguration().getSpec();
+    assertThat(spec.getGenesisSpec().getConfig().isParallelEpochProcessingEnabled())
+        .isEqualTo(Boolean.valueOf(value));
+  }
+
+  @Test
+  void shouldDisableParallelEpochProcessingByDefault() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    final Spec spec = config.eth2NetworkConfiguration().getSpec();
+    assertThat(spec.getGenesisSpec().getConfig().isParallelEpochProcessingEnabled()).isFalse();
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"true", "false"})
   void shouldSetLateBlockImportEnabled(final String value) {
@@ -475,6 +475,19 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfiguration.sync().getForwardSyncMaxPendingBatches()).isEqualTo(10);
   }
 
+  @Test
+  public void forwardSyncBatchImportEnabled_shouldDefaultToFalse() {
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.sync().isForwardSyncBatchImportEnabled()).isFalse();
+  }
+
+  @Test
+  public void forwardSyncBatchImportEnabled_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-sync-batch-import-enabled");
+    assertThat(tekuConfiguration.sync().isForwardSyncBatchImportEnabled()).isTrue();
+  }
+
   @Test
   public void forwardSyncBlocksRateLimit_shouldBeSettable() {
     TekuConfiguration tekuConfiguration =
@@ -639,6 +652,130 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.p2p().isGossipBlobsAfterBlockEnabled()).isFalse();
   }
 
+  @Test
+  public void encodedBlockServing_defaultsAreSetCorrectly() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.p2p().isEncodedBlockServingEnabled())
+        .isEqualTo(P2PConfig.DEFAULT_ENCODED_BLOCK_SERVING_ENABLED);
+    assertThat(config.p2p().getEncodedBlockCacheSize())
+        .isEqualTo(P2PConfig.DEFAULT_ENCODED_BLOCK_CACHE_SIZE);
+  }
+
+  @Test
+  public void encodedBlockServing_shouldBeSettable() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-encoded-block-serving-enabled", "--Xp2p-encoded-block-cache-size", "512");
+    assertThat(config.p2p().isEncodedBlockServingEnabled()).isTrue();
+    assertThat(config.p2p().getEncodedBlockCacheSize()).isEqualTo(512);
+  }
+
+  @Test
+  public void encodedBlockCacheSize_mustNotBeNegative() {
+    assertThatThrownBy(
+            () -> getTekuConfigurationFromArguments("--Xp2p-encoded-block-cache-size", "-1"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Invalid encodedBlockCacheSize");
+  }
+
+  @Test
+  public void batchVerifySameMessage_defaultsAreSetCorrectly() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.p2p().isBatchVerifySameMessageEnabled())
+        .isEqualTo(P2PConfig.DEFAULT_BATCH_VERIFY_SAME_MESSAGE_ENABLED);
+    assertThat(config.p2p().getBatchVerifyMaxDelayMs())
+        .isEqualTo(P2PConfig.DEFAULT_BATCH_VERIFY_MAX_DELAY_MS);
+  }
+
+  @Test
+  public void batchVerifySameMessage_shouldBeSettable() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-batch-verify-signatures-same-message-enabled",
+            "--Xp2p-batch-verify-signatures-max-delay-ms",
+            "50");
+    assertThat(config.p2p().isBatchVerifySameMessageEnabled()).isTrue();
+    assertThat(config.p2p().getBatchVerifyMaxDelayMs()).isEqualTo(50);
+  }
+
+  @Test
+  public void batchVerifyMaxDelayMs_mustNotBeNegative() {
+    assertThatThrownBy(
+            () ->
+                getTekuConfigurationFromArguments(
+                    "--Xp2p-batch-verify-signatures-max-delay-ms", "-1"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Invalid batchVerifyMaxDelayMs");
+  }
+
+  @Test
+  public void gossipValidationScheduler_defaultsAreSetCorrectly() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.p2p().isGossipValidationSchedulerEnabled())
+        .isEqualTo(P2PConfig.DEFAULT_GOSSIP_VALIDATION_SCHEDULER_ENABLED);
+    assertThat(config.p2p().getGossipValidationMaxConcurrentTasks())
+        .isEqualTo(P2PConfig.DEFAULT_GOSSIP_VALIDATION_MAX_CONCURRENT_TASKS);
+    assertThat(config.p2p().getGossipValidationStaleMessageAgeMs())
+        .isEqualTo(P2PConfig.DEFAULT_GOSSIP_VALIDATION_STALE_MESSAGE_AGE_MS);
+  }
+
+  @Test
+  public void gossipValidationScheduler_shouldBeSettable() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-gossip-validation-scheduler-enabled",
+            "--Xp2p-gossip-validation-max-concurrent-tasks",
+            "4",
+            "--Xp2p-gossip-validation-stale-message-age-ms",
+            "2000");
+    assertThat(config.p2p().isGossipValidationSchedulerEnabled()).isTrue();
+    assertThat(config.p2p().getGossipValidationMaxConcurrentTasks()).isEqualTo(4);
+    assertThat(config.p2p().getGossipValidationStaleMessageAgeMs()).isEqualTo(2000);
+  }
+
+  @Test
+  public void gossipValidationMaxConcurrentTasks_mustBePositive() {
+    assertThatThrownBy(
+            () ->
+                getTekuConfigurationFromArguments(
+                    "--Xp2p-gossip-validation-max-concurrent-tasks", "0"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Invalid gossipValidationMaxConcurrentTasks");
+  }
+
+  @Test
+  public void gossipDecodingPool_defaultsAreSetCorrectly() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.p2p().isGossipDecodingPoolEnabled())
+        .isEqualTo(P2PConfig.DEFAULT_GOSSIP_DECODING_POOL_ENABLED);
+    assertThat(config.p2p().getGossipDecodingThreads())
+        .isEqualTo(P2PConfig.DEFAULT_GOSSIP_DECODING_THREADS);
+    assertThat(config.p2p().getGossipDecodingLargeMessageThreshold())
+        .isEqualTo(P2PConfig.DEFAULT_GOSSIP_DECODING_LARGE_MESSAGE_THRESHOLD);
+  }
+
+  @Test
+  public void gossipDecodingPool_shouldBeSettable() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-gossip-decoding-pool-enabled",
+            "--Xp2p-gossip-decoding-threads",
+            "3",
+            "--Xp2p-gossip-decoding-large-message-threshold",
+            "4096");
+    assertThat(config.p2p().isGossipDecodingPoolEnabled()).isTrue();
+    assertThat(config.p2p().getGossipDecodingThreads()).isEqualTo(3);
+    assertThat(config.p2p().getGossipDecodingLargeMessageThreshold()).isEqualTo(4096);
+  }
+
+  @Test
+  public void gossipDecodingThreads_mustBePositive() {
+    assertThatThrownBy(
+            () -> getTekuConfigurationFromArguments("--Xp2p-gossip-decoding-threads", "0"))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Invalid gossipDecodingThreads");
+  }
+
   @Test
   public void defaultPortsAreSetCorrectly() {
     final TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
@@ -62,4 +62,20 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void stateCacheMemorySize_shouldRespectCLIArg() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments("--Xstore-state-cache-memory-size", "1073741824")
+            .beaconChain()
+            .storeConfig();
+    assertThat(globalConfiguration.getStateCacheMemorySizeBytes()).isEqualTo(1073741824L);
+  }
+
+  @Test
+  public void stateCacheMemorySize_shouldBeDisabledByDefault() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getStateCacheMemorySizeBytes()).isZero();
+  }
 }